@@ -34,9 +34,19 @@ public class ErrorConstant {
     public static final String CORRUPT_ERROR = "File is corrupted!" +
             System.lineSeparator() + "Deleting 'pulsepilot_data.txt' and 'pulsepilot_hash.txt'. Try running again!" +
             System.lineSeparator() + UiConstant.PARTITION_LINE;
-    public static final String DATA_INTEGRITY_ERROR = "Data file integrity compromised. Exiting.";
+    public static final String DATA_INTEGRITY_ERROR = "Data file integrity compromised. Checking each entry.";
+    public static final String MISSING_HASH_ERROR = "Hash file missing. Checking each entry.";
     public static final String MISSING_INTEGRITY_ERROR = "Key files for integrity missing. Exiting.";
     public static final String HASH_ERROR = "Error occurred while processing file hash.";
+    public static final String CHECKSUM_ERROR = "Checksum of entry does not match.";
+    public static final String QUARANTINE_ERROR = " corrupted entries could not be loaded and were moved to "
+            + "'pulsepilot_quarantine.txt'.";
+    public static final String JOURNAL_OPEN_ERROR = "Unable to open journal. Data will only be saved on exit.";
+    public static final String BINARY_FORMAT_ERROR = "Data file is not a PulsePilot binary data file.";
+    public static final String BINARY_VERSION_ERROR = "Unsupported binary data file version: ";
+    public static final String BINARY_HEADER_ERROR = "Header of binary data file is corrupted.";
+    public static final String INVALID_STORAGE_FORMAT_ERROR = "Storage format must be either 'text' or 'binary'.";
+    public static final String LOAD_DATA_TYPE_ERROR = LOAD_ERROR + "Type of entry is incorrect/corrupted";
 
     // Storage Error for Gym
     public static final String LOAD_GYM_FORMAT_ERROR = LOAD_ERROR + "Format of gym entry is incorrect/corrupted";
@@ -81,6 +91,16 @@ public class ErrorConstant {
             "appointment first!";
     public static final String BMI_EMPTY_ERROR = "No BMI entries found! You need to add a BMI entry first!";
     public static final String PERIOD_EMPTY_ERROR = "No periods found! You need to add a period entry first!";
+    public static final String INVALID_HISTORY_RANGE_ERROR = "The '/from:' date cannot be after the '/to:' date!";
+    public static final String INVALID_HISTORY_EXERCISE_FILTER_ERROR = "The '/exercise:' flag can only be used "
+            + "with the 'gym' filter!";
+    public static final String INSUFFICIENT_HISTORY_EXERCISE_ERROR = "Exercise name cannot be empty!";
+
+    // STATS ERRORS
+    public static final String INVALID_STATS_WINDOW_ERROR = "Window is invalid! Use one of the following options: "
+            + "day, week, month or year.";
+    public static final String INVALID_STATS_FLAGS_ERROR = "The '/window:' flag cannot be used with the '/from:' "
+            + "or '/to:' flags!";
 
     // RUN ERRORS
     public static final String INSUFFICIENT_RUN_PARAMETERS_ERROR = "Insufficient parameters for run! "
@@ -184,6 +204,8 @@ public class ErrorConstant {
     public static final String PERIOD_LIST_UNCLEARED_ERROR = "Period list is not cleared.";
     public static final String DATE_IN_FUTURE_ERROR = "Date specified cannot be later than today's date.";
     public static final String PERIOD_END_BEFORE_START_ERROR = "Start date of period must be before end date.";
+    public static final String INVALID_PREDICTION_MODE_ERROR = "Prediction mode is invalid! Use '/mode:history' "
+            + "to predict from your whole cycle history.";
     public static final String UNABLE_TO_MAKE_PREDICTIONS_ERROR = "Insufficient period cycles to make prediction."
             + System.lineSeparator()
             + "Enter at least four period inputs for prediction of the next period's start date.";
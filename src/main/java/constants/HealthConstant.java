@@ -79,6 +79,19 @@ public class HealthConstant {
     public static final String PERIOD_IS_LATE = ". Your period is late by ";
     public static final String PREDICTED_DATE_IS_TODAY_MESSAGE = ", which is today! ";
     public static final String DAYS_MESSAGE = "day(s)";
+    public static final String PREDICTION_MODE_FLAG = "/mode:";
+    public static final String HISTORY_PREDICTION_MODE = "history";
+    public static final int HISTORY_WEIGHT_HALF_LIFE_DAYS = 180;
+    public static final double NINETY_FIVE_PERCENT_Z_SCORE = 1.96;
+    public static final String HISTORY_PREDICTION_HEADER = "Prediction from your whole cycle history, weighted "
+            + "towards recent cycles:";
+    public static final String HISTORY_CYCLE_LENGTH_FORMAT = "Cycle length: %.1f day(s) on average, give or take "
+            + "%.1f day(s)";
+    public static final String HISTORY_PERIOD_LENGTH_FORMAT = "Period length: %.1f day(s) on average, give or take "
+            + "%.1f day(s)";
+    public static final String HISTORY_NO_PERIOD_LENGTH_MESSAGE = "Period length: NA (no periods with an end date)";
+    public static final String HISTORY_START_DATE_RANGE_FORMAT = "Your next period is likely to start between %s "
+            + "and %s.";
 
     // APPOINTMENT
     public static final String PRINT_APPOINTMENT_FORMAT = "On %s at %s: %s";
@@ -98,6 +111,20 @@ public class HealthConstant {
     public static final int APPOINTMENT_TIME_INDEX = 1;
     public static final int APPOINTMENT_DESCRIPTION_INDEX = 2;
 
+    // FILE INDEX
+    public static final int BMI_HEIGHT_FILE_INDEX = 1;
+    public static final int BMI_WEIGHT_FILE_INDEX = 2;
+    public static final int BMI_DATE_FILE_INDEX = 4;
+    public static final int BMI_FILE_FIELD_COUNT = 5;
+    public static final int PERIOD_START_DATE_FILE_INDEX = 1;
+    public static final int PERIOD_END_DATE_FILE_INDEX = 2;
+    public static final int PERIOD_FILE_FIELD_COUNT = 3;
+    public static final int APPOINTMENT_DATE_FILE_INDEX = 1;
+    public static final int APPOINTMENT_TIME_FILE_INDEX = 2;
+    public static final int APPOINTMENT_DESCRIPTION_FILE_INDEX = 3;
+    public static final int APPOINTMENT_FILE_FIELD_COUNT = 4;
+    public static final int APPOINTMENT_TIME_PARTS = 2;
+
     public static final int NUM_OF_SLASHES_FOR_PERIOD = 3;
     public static final int NUM_OF_SLASHES_FOR_BMI = 4;
     public static final int NUM_OF_SLASHES_FOR_APPOINTMENT = 4;
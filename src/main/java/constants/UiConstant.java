@@ -2,6 +2,8 @@ package constants;
 
 import java.io.File;
 
+import utility.Filters.StorageFormat;
+
 /**
  * UiConstants class contains constants related to user-interaction-related functionalities in the application.
  * It includes constants for special characters, regular expressions, UI replies, storage paths,
@@ -39,9 +41,18 @@ public class UiConstant {
     public static final int DATA_TYPE_INDEX = 0;
     public static final int NAME_INDEX = 1;
     public static final String NAME_LABEL = "NAME";
-    public static final String LOG_FILE_PATH = "./pulsepilot_log.txt";
-    public static String dataFilePath = "./pulsepilot_data.txt";
+    public static final String LOG_FILE_PATH = "./pulsepilot_log.bin";
+    public static final String LOG_MESSAGES_FILE_PATH = "./pulsepilot_log_messages.txt";
+    public static final String TEXT_DATA_FILE_PATH = "./pulsepilot_data.txt";
+    public static final String BINARY_DATA_FILE_PATH = "./pulsepilot_data.bin";
+    public static String dataFilePath = TEXT_DATA_FILE_PATH;
+    public static StorageFormat storageFormat = StorageFormat.TEXT;
     public static String hashFilePath = "./pulsepilot_hash.txt";
+    public static String journalFilePath = "./pulsepilot_journal.txt";
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+    public static String quarantineFilePath = "./pulsepilot_quarantine.txt";
+    public static final String CHECKSUM_SEPARATOR = "#";
+    public static final int CHECKSUM_LENGTH = 8;
     public static File saveFile = new File(UiConstant.dataFilePath);
     public static final int FILE_FOUND = 0;
     public static final int FILE_NOT_FOUND = 1;
@@ -49,9 +60,92 @@ public class UiConstant {
     public static final String FILE_MISSING_MESSAGE = "What is your name, voyager?";
     public static final String SUCCESSFUL_LOAD = "Prior data found. Orbit has been synchronised.";
 
+    // Hash
+    public static final String HASH_ALGORITHM = "SHA-256";
+    public static final String HASH_BLOCK_SIZE_LABEL = "BLOCK_SIZE";
+    public static final int HASH_BLOCK_SIZE = 4096;
+    public static final int HASH_ROOT_INDEX = 0;
+    public static final int HASH_BLOCK_SIZE_INDEX = 1;
+    public static final int HASH_FILE_HEADER_LINES = 2;
+
+    // Loader
+    public static final long LOADER_MMAP_THRESHOLD = 8L * 1024 * 1024;
+    public static final long LOADER_MIN_RANGE_SIZE = 256L * 1024;
+    public static final long LOADER_MAX_RANGE_SIZE = Integer.MAX_VALUE;
+    public static final int LOADER_RANGES_PER_THREAD = 4;
+    public static final int LOADER_BOUNDARY_SCAN_SIZE = 256;
+
+    // Tokenizer
+    public static final int TOKENIZER_INITIAL_FIELD_CAPACITY = 16;
+    public static final int TOKENIZER_MAX_INTEGER_DIGITS = 9;
+    public static final int TOKENIZER_MAX_DECIMAL_DIGITS = 13;
+    public static final char TOKENIZER_TIME_SEPARATOR = '.';
+    public static final int TOKENIZER_TIME_PART_LENGTH = 2;
+    public static final int TOKENIZER_DATE_LENGTH = 10;
+    public static final int MIN_YEAR = 1967;
+    public static final long DAYS_FROM_YEAR_ZERO_TO_EPOCH = 719528L;
+
+    // Binary storage
+    public static final String STORAGE_FORMAT_PROPERTY = "pulsepilot.storage";
+    public static final int BINARY_MAGIC = 0x50504442;
+    public static final short BINARY_VERSION = 1;
+    public static final int BINARY_NO_DATE = Integer.MIN_VALUE;
+    public static final int BINARY_TWO_DECIMAL_SCALE = 100;
+    public static final int BINARY_WEIGHT_SCALE = 1000;
+    public static final int BITS_PER_BYTE = 8;
+    public static final String STORAGE_CONVERTED_MESSAGE = "Data file converted to %s format.";
+    public static final String STORAGE_CONVERTER_USAGE = "Usage: java -cp pulsepilot.jar storage.StorageConverter "
+            + "text|binary";
+
+    // Autosave
+    public static final String AUTOSAVE_INTERVAL_PROPERTY = "pulsepilot.autosave.interval";
+    public static final String AUTOSAVE_MUTATIONS_PROPERTY = "pulsepilot.autosave.mutations";
+    public static final int DEFAULT_AUTOSAVE_INTERVAL_SECONDS = 60;
+    public static final int DEFAULT_AUTOSAVE_MUTATION_THRESHOLD = 20;
+    public static final long AUTOSAVE_COALESCE_DELAY_MILLISECONDS = 500;
+    public static final long AUTOSAVE_SHUTDOWN_WAIT_SECONDS = 10;
+    public static final String AUTOSAVE_THREAD_NAME = "pulsepilot-autosave";
+
+    // Logging
+    public static final String LOG_LEVEL_PROPERTY = "pulsepilot.log.level";
+    public static final String LOG_BUFFER_PROPERTY = "pulsepilot.log.buffer";
+    public static final String LOG_OVERFLOW_PROPERTY = "pulsepilot.log.overflow";
+    public static final int DEFAULT_LOG_BUFFER_CAPACITY = 1024;
+    public static final int LOG_BATCH_SIZE = 256;
+    public static final long LOG_FULL_BUFFER_WAIT_MICROSECONDS = 50;
+    public static final long LOG_SHUTDOWN_TIMEOUT_SECONDS = 5;
+    public static final String LOG_WRITER_THREAD_NAME = "pulsepilot-log-writer";
+    public static final String LOG_MAX_SIZE_PROPERTY = "pulsepilot.log.maxsize";
+    public static final String LOG_FILES_PROPERTY = "pulsepilot.log.files";
+    public static final long DEFAULT_LOG_MAX_FILE_BYTES = 1024 * 1024;
+    public static final long LOG_MIN_FILE_BYTES = 4096;
+    public static final int DEFAULT_LOG_FILE_COUNT = 5;
+    public static final int LOG_MAX_INTERNED_MESSAGES = 1024;
+    public static final int LOG_MAX_PARAMETERS = 255;
+    public static final int DEFAULT_LOG_TAIL_ENTRIES = 200;
+    public static final String LOG_READER_USAGE = "Usage: java -cp pulsepilot.jar storage.LogFile [number of logs]";
+
+    // Journal
+    public static final int JOURNAL_OPERATION_INDEX = 0;
+    public static final int JOURNAL_DATA_TYPE_INDEX = 1;
+    public static final int JOURNAL_RECORD_INDEX = 2;
+    public static final int JOURNAL_UPDATE_VALUE_INDEX = 3;
+    public static final int JOURNAL_COMPACTION_THRESHOLD = 500;
+
 
     // History
     public static final String ITEM_FLAG = "/item:";
+    public static final String FROM_FLAG = "/from:";
+    public static final String TO_FLAG = "/to:";
+    public static final String EXERCISE_HISTORY_FLAG = "/exercise:";
+    public static final String HISTORY_RANGE_EMPTY_MESSAGE = "No entries found in this date range.";
+    public static final String EXERCISE_HISTORY_EMPTY_MESSAGE = "No gym sessions found with this exercise.";
+
+    // Stats
+    public static final String WINDOW_FLAG = "/window:";
+    public static final String STATS_ALL_TIME_HEADER = "Your training stats for all time:";
+    public static final String STATS_RANGE_HEADER_FORMAT = "Your training stats from %s to %s:";
+    public static final String STATS_OPEN_END = "any date";
 
     // Delete
     public static final String INDEX_FLAG = "/index:";
@@ -59,6 +153,7 @@ public class UiConstant {
 
     // Numerical values
     public static final int NUM_SECONDS_IN_MINUTE = 60;
+    public static final int NUM_MINUTES_IN_HOUR = 60;
     public static final int NUM_SECONDS_IN_HOUR = 3600;
     public static final int MIN_MINUTES = 0;
     public static final int MAX_MINUTES = 59;
@@ -72,10 +167,17 @@ public class UiConstant {
     public static final int MIN_SECONDS = 0;
     public static final int NUM_OF_SLASHES_FOR_DELETE = 2;
     public static final int NUM_OF_SLASHES_FOR_LATEST_AND_HISTORY = 1;
+    public static final int NUM_OF_SLASHES_FOR_HISTORY_WITH_RANGE = 3;
+    public static final int NUM_OF_SLASHES_FOR_HISTORY_WITH_EXERCISE = 4;
+    public static final int NUM_OF_SLASHES_FOR_STATS = 2;
+    public static final int NUM_OF_SLASHES_FOR_PB = 1;
 
     // SPLIT INDEX
     public static final int DELETE_ITEM_STRING_INDEX = 0;
     public static final int DELETE_ITEM_NUMBER_INDEX = 1;
+    public static final int HISTORY_FROM_INDEX = 0;
+    public static final int HISTORY_TO_INDEX = 1;
+    public static final int NUM_HISTORY_RANGE_PARAMETERS = 2;
     public static final int SPLIT_TIME_HOUR_INDEX = 0;
     public static final int SPLIT_TIME_MINUTES_INDEX = 1;
 
@@ -24,6 +24,7 @@ public class WorkoutConstant {
     public static final int NUMBER_OF_PARTS_FOR_RUN_TIME = 2;
     public static final int NUMBER_OF_PARTS_FOR_RUN_TIME_WITH_HOURS = 3;
     public static final int MAX_GYM_STATION_NAME_LENGTH = 25;
+    public static final int NO_EXERCISE_ID = -1;
     public static final double MIN_GYM_WEIGHT = 0.000;
     public static final double MAX_RUN_DISTANCE = 5000.00;
     public static final double MIN_RUN_DISTANCE = 0;
@@ -75,6 +76,12 @@ public class WorkoutConstant {
     public static final int WEIGHTS_OFFSET = 3;
     public static final int INCREMENT_OFFSET = 4;
 
+    // RUN FILE LOADING CONSTANTS
+    public static final int RUN_DISTANCE_FILE_INDEX = 1;
+    public static final int RUN_TIME_FILE_INDEX = 2;
+    public static final int RUN_DATE_FILE_INDEX = 3;
+    public static final int RUN_FILE_FIELD_COUNT = 4;
+
     // HISTORY (ALL WORKOUTS) CONSTANTS
     public static final String HISTORY_WORKOUTS_HEADER = "Showing all workouts (runs and gyms):";
     public static final String HISTORY_WORKOUTS_DATA_FORMAT = "%-5s\t%-12s\t%-25s\t%-20s\t%-8s";
@@ -85,6 +92,19 @@ public class WorkoutConstant {
 
     // Formatted Strings/Messages
     public static final String RUN_DATA_FORMAT = "%-6s\t%-10s\t%-10s\t%-10s\t%-12s";
+    // Column widths of RUN_DATA_FORMAT and HISTORY_WORKOUTS_DATA_FORMAT, used when rendering a run without a format
+    public static final int RUN_TYPE_COLUMN_WIDTH = 6;
+    public static final int RUN_VALUE_COLUMN_WIDTH = 10;
+    public static final int RUN_DATE_COLUMN_WIDTH = 12;
+    public static final int HISTORY_TYPE_COLUMN_WIDTH = 5;
+    public static final int HISTORY_DATE_COLUMN_WIDTH = 12;
+    public static final int HISTORY_DISTANCE_COLUMN_WIDTH = 25;
+    public static final int HISTORY_DURATION_COLUMN_WIDTH = 20;
+    public static final int HISTORY_PACE_COLUMN_WIDTH = 8;
+    public static final int RUN_DISTANCE_SCALE = 100;
+    public static final long NO_DATE_EPOCH_DAY = Long.MIN_VALUE;
+    public static final long NO_WORKOUT_ID = 0;
+    public static final String RUN_PACE_UNIT = "/km";
     public static final String RUN_DATA_INDEX_FORMAT = "%-6d\t%-6s";
     public static final String RUN_HEADER_INDEX_FORMAT = String.format("%-6s\t%-6s\t%-10s\t%-10s\t%-10s\t%-12s",
             "Index", "Type", "Time", "Distance", "Pace", "Date");
@@ -117,4 +137,52 @@ public class WorkoutConstant {
     public static final int NUM_OF_SLASHES_FOR_RUN_WITH_DATE = 4;
     public static final int NUM_OF_SLASHES_FOR_RUN_WITHOUT_DATE = 3;
 
+    // STATS CONSTANTS
+    public static final String STATS_RUN_COUNT_FORMAT = "Runs: %d";
+    public static final String STATS_DISTANCE_FORMAT = "Total distance: %.2f km";
+    public static final String STATS_RUN_TIME_FORMAT = "Total run time: %d:%02d:%02d";
+    public static final String STATS_GYM_COUNT_FORMAT = "Gym sessions: %d";
+    public static final String STATS_VOLUME_FORMAT = "Total gym volume: %.3f KG";
+
+    // PERSONAL BEST CONSTANTS
+    // Minimum distance of each bracket in hundredths of a km. A half marathon is 21.0975 km and a marathon 42.195 km.
+    public static final int[] PB_BRACKET_MIN_DISTANCES = {500, 1000, 2110, 4220};
+    public static final String[] PB_BRACKET_NAMES = {"5K", "10K", "Half Marathon", "Marathon"};
+    public static final int NO_PB_BRACKET = -1;
+    public static final String PB_HEADER = "Your personal bests:";
+    public static final String PB_FASTEST_PACE = "Fastest pace";
+    public static final String PB_LONGEST_RUN = "Longest run";
+    public static final String PB_BRACKET_FORMAT = "Fastest %s";
+    public static final String PB_RUN_FORMAT = "%-22s Run %d: %s km in %s at %s (Date: %s)";
+    public static final String PB_EMPTY_FORMAT = "%-22s No runs yet.";
+    public static final int TOP_LIFTS_COUNT = 5;
+    public static final int EPLEY_REPETITION_DIVISOR = 30;
+    public static final int BRZYCKI_MAX_REPETITIONS = 37;
+    public static final double NO_ONE_REP_MAX = -1;
+    public static final String TOP_LIFTS_HEADER_FORMAT = "Your top %s lifts by estimated one-rep max:";
+    public static final String TOP_LIFT_FORMAT = "%d. %s, est. 1RM %.3f KG (Epley) / %s (Brzycki) in Gym Session %d "
+            + "(Date: %s)";
+    public static final String ONE_REP_MAX_FORMAT = "%.3f KG";
+    public static final String NO_ONE_REP_MAX_STRING = "NA";
+    public static final String TOP_LIFTS_EMPTY_MESSAGE = "No sets found with this exercise.";
+
+    // TRAINING LOAD CONSTANTS
+    public static final int ACUTE_LOAD_DAYS = 7;
+    public static final int CHRONIC_LOAD_DAYS = 28;
+    public static final int RUN_LOAD_REFERENCE_PACE_SECONDS = 360;
+    public static final double ACWR_SPIKE_THRESHOLD = 1.5;
+    public static final double ACWR_LOW_THRESHOLD = 0.8;
+    public static final String LOAD_HEADER = "Your training load for the last 7 days against the last 28 days:";
+    public static final String LOAD_RUN_FORMAT = "Run load: %.2f this week, %.2f per week on average "
+            + "(km at 6:00/km)";
+    public static final String LOAD_GYM_FORMAT = "Gym load: %.3f KG this week, %.3f KG per week on average";
+    public static final String LOAD_RATIO_FORMAT = "Acute:chronic ratio: %.2f (%s)";
+    public static final String LOAD_NO_RATIO_MESSAGE = "Acute:chronic ratio: NA (no training in the 3 weeks "
+            + "before this one)";
+    public static final String LOAD_SPIKE = "spike";
+    public static final String LOAD_LOW = "low";
+    public static final String LOAD_IN_RANGE = "within range";
+    public static final String LOAD_SPIKE_WARNING_FORMAT = "Warning: your %s load this week is %.2f times your "
+            + "weekly average over the last 28 days!";
+
 }
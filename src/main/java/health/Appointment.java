@@ -54,6 +54,20 @@ public class Appointment extends Health {
         healthList.addAppointment(this);
     }
 
+    /**
+     * Overloaded constructor for {@code Appointment} object that takes values already decoded from the data file.
+     *
+     * @param date        The date of the appointment.
+     * @param time        The time of the appointment.
+     * @param description A string describing the appointment.
+     */
+    public Appointment(LocalDate date, LocalTime time, String description) {
+        this.date = date;
+        this.time = time;
+        this.description = description;
+        healthList.addAppointment(this);
+    }
+
     /**
      * Retrieves the date of the appointment of {@code LocalDate} type.
      *
@@ -72,6 +72,45 @@ public class Bmi extends Health {
 
     }
 
+    /**
+     * Overloaded constructor for {@code Bmi} object that takes values already decoded from the data file.
+     *
+     * @param height The user's height.
+     * @param weight The user's weight.
+     * @param date   The date of the BMI entry.
+     * @throws AssertionError If height or weight values are not positive.
+     */
+    public Bmi(double height, double weight, LocalDate date) {
+        this.height = height;
+        this.weight = weight;
+
+        assert this.height > HealthConstant.MIN_HEIGHT && this.weight > HealthConstant.MIN_WEIGHT
+                : ErrorConstant.NEGATIVE_VALUE_ERROR;
+
+        this.date = date;
+        this.bmiValue = calculateBmiValue();
+        this.bmiCategory = getBmiCategory(bmiValue);
+        healthList.addBmi(this);
+    }
+
+    /**
+     * Retrieves height recorded in {@code Bmi} object as a number.
+     *
+     * @return The height recorded in the {@code Bmi} object.
+     */
+    public double getHeightValue() {
+        return height;
+    }
+
+    /**
+     * Retrieves weight recorded in {@code Bmi} object as a number.
+     *
+     * @return The weight recorded in the {@code Bmi} object.
+     */
+    public double getWeightValue() {
+        return weight;
+    }
+
     /**
      * Retrieves height recorded in {@code Bmi} object of {@code String} type.
      *
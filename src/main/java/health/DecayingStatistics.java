@@ -0,0 +1,125 @@
+package health;
+
+import constants.HealthConstant;
+import constants.UiConstant;
+
+import java.time.LocalDate;
+
+/**
+ * Represents the exponentially weighted mean and variance of values recorded on dates, weighted towards recent
+ * dates. The weight of a value halves for every {@code HealthConstant.HISTORY_WEIGHT_HALF_LIFE_DAYS} days before the
+ * latest date, so it depends only on its own date. Adding or removing a value anywhere in the history therefore
+ * updates the weighted sums in O(1) without reweighting the other values.
+ */
+public class DecayingStatistics {
+    private static final long FIRST_EPOCH_DAY = LocalDate.of(UiConstant.MIN_YEAR, 1, 1).toEpochDay();
+
+    private int count = 0;
+    private double weightSum = 0;
+    private double weightedValueSum = 0;
+    private double weightedSquareSum = 0;
+
+    /**
+     * Adds a value recorded on a date.
+     *
+     * @param date  The date of the value.
+     * @param value The value.
+     */
+    protected void add(LocalDate date, long value) {
+        update(date, value, 1);
+    }
+
+    /**
+     * Removes a value recorded on a date, which must have been added before.
+     *
+     * @param date  The date of the value.
+     * @param value The value.
+     */
+    protected void remove(LocalDate date, long value) {
+        update(date, value, -1);
+    }
+
+    /**
+     * Removes every value.
+     */
+    protected void clear() {
+        count = 0;
+        weightSum = 0;
+        weightedValueSum = 0;
+        weightedSquareSum = 0;
+    }
+
+    /**
+     * Retrieves the number of values.
+     *
+     * @return The number of values.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Retrieves the exponentially weighted mean of the values.
+     *
+     * @return The weighted mean, or 0 if there are no values.
+     */
+    public double getMean() {
+        if (count == 0) {
+            return 0;
+        }
+        return weightedValueSum / weightSum;
+    }
+
+    /**
+     * Retrieves the exponentially weighted variance of the values.
+     *
+     * @return The weighted population variance, or 0 if there are no values.
+     */
+    public double getVariance() {
+        if (count == 0) {
+            return 0;
+        }
+        double mean = getMean();
+        return Math.max(0, weightedSquareSum / weightSum - mean * mean);
+    }
+
+    /**
+     * Retrieves the half-width of the 95% range of the values, assuming they are normally distributed.
+     *
+     * @return The number of standard deviations covering 95% of the values times the weighted standard deviation.
+     */
+    public double getRangeHalfWidth() {
+        return HealthConstant.NINETY_FIVE_PERCENT_Z_SCORE * Math.sqrt(getVariance());
+    }
+
+    /**
+     * Adds a value to the weighted sums, or removes it if {@code sign} is -1. The sums are reset to exactly zero when
+     * the last value is removed, so rounding errors do not build up.
+     *
+     * @param date  The date of the value.
+     * @param value The value.
+     * @param sign  1 to add the value, or -1 to remove it.
+     */
+    private void update(LocalDate date, long value, int sign) {
+        count += sign;
+        if (count == 0) {
+            clear();
+            return;
+        }
+        double weight = sign * getWeight(date);
+        weightSum += weight;
+        weightedValueSum += weight * value;
+        weightedSquareSum += weight * value * value;
+    }
+
+    /**
+     * Returns the weight of a date, which doubles every half-life after the earliest valid date.
+     *
+     * @param date The date.
+     * @return The weight.
+     */
+    private static double getWeight(LocalDate date) {
+        return Math.pow(2, (double) (date.toEpochDay() - FIRST_EPOCH_DAY)
+                / HealthConstant.HISTORY_WEIGHT_HALF_LIFE_DAYS);
+    }
+}
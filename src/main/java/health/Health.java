@@ -2,10 +2,17 @@ package health;
 
 import java.time.LocalDate;
 
+import utility.RecordIds;
+
 /**
  * The Health class represents a Health object to track user's health information.
  */
 public class Health {
+    /**
+     * The id of Health object, which stays the same while the object is in its list but is not saved.
+     */
+    private final long id = RecordIds.next();
+
     /**
      * The date of Health object.
      */
@@ -17,6 +24,15 @@ public class Health {
     public Health() {
     }
 
+    /**
+     * Retrieves the id of Health object.
+     *
+     * @return The id of the Health object.
+     */
+    public long getId() {
+        return id;
+    }
+
     /**
      * Retrieves the date of Health object of {@code LocalDate} type.
      *
@@ -1,13 +1,22 @@
 package health;
 
 import constants.UiConstant;
+import storage.JournalFile;
 import storage.LogFile;
+import storage.SegmentStore;
 import utility.CustomExceptions;
+import utility.Filters.DataType;
 import constants.ErrorConstant;
 import constants.HealthConstant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 import ui.Output;
 
 /**
@@ -37,6 +46,62 @@ public class HealthList extends ArrayList<Health> {
      */
     private static final ArrayList<Appointment> APPOINTMENTS = new ArrayList<>();
 
+    /**
+     * The {@code Bmi}, {@code Period} and {@code Appointment} objects in the lists, by their ids.
+     */
+    private static final Map<Long, Health> RECORDS_BY_ID = new HashMap<>();
+
+    /**
+     * The order of {@code BMIS}, from latest to earliest date.
+     */
+    private static final Comparator<Bmi> BMI_ORDER = Comparator.comparing(Bmi::getDate).reversed();
+
+    /**
+     * The order of {@code PERIODS}, from latest to earliest start date.
+     */
+    private static final Comparator<Period> PERIOD_ORDER = Comparator.comparing(Period::getStartDate).reversed();
+
+    /**
+     * The order of {@code APPOINTMENTS}, from earliest to latest date and time.
+     */
+    private static final Comparator<Appointment> APPOINTMENT_ORDER =
+            Comparator.comparing(Appointment::getDate).thenComparing(Appointment::getTime);
+
+    /**
+     * The dates of the {@code Bmi} objects in {@code BMIS} while a bulk load is in progress and it is not sorted.
+     */
+    private static final Set<LocalDate> BULK_LOAD_BMI_DATES = new HashSet<>();
+
+    /**
+     * The sum of the cycle lengths of every {@code Period} object in {@code PERIODS}.
+     */
+    private static long cycleLengthSum = 0;
+
+    /**
+     * The sum of the squares of the cycle lengths of every {@code Period} object in {@code PERIODS}.
+     */
+    private static long cycleLengthSquareSum = 0;
+
+    /**
+     * The sum of the cycle lengths of the latest three complete cycles in {@code PERIODS}.
+     */
+    private static long lastThreeCycleLengthSum = 0;
+
+    /**
+     * The exponentially weighted statistics of the cycle lengths of every complete cycle in {@code PERIODS}.
+     */
+    private static final DecayingStatistics CYCLE_LENGTHS = new DecayingStatistics();
+
+    /**
+     * The exponentially weighted statistics of the lengths of every {@code Period} object with an end date.
+     */
+    private static final DecayingStatistics PERIOD_LENGTHS = new DecayingStatistics();
+
+    /**
+     * The number of bulk loads in progress. While it is above 0, new objects are appended without sorting.
+     */
+    private static int bulkLoadDepth = 0;
+
     protected HealthList() {
 
     }
@@ -50,10 +115,16 @@ public class HealthList extends ArrayList<Health> {
      * @throws AssertionError If {@code Bmi} object is null.
      */
     protected void addBmi(Bmi bmi) {
+        SegmentStore.hydrate(DataType.BMI);
         assert bmi != null : ErrorConstant.NULL_BMI_ERROR;
-        BMIS.add(bmi);
+        RECORDS_BY_ID.put(bmi.getId(), bmi);
+        if (bulkLoadDepth > 0) {
+            BMIS.add(bmi);
+            BULK_LOAD_BMI_DATES.add(bmi.getDate());
+            return;
+        }
         // bmi sorted from latest to earliest date
-        BMIS.sort(Comparator.comparing(Bmi::getDate).reversed());
+        insertSorted(BMIS, bmi, BMI_ORDER);
     }
 
     //@@author syj02
@@ -65,20 +136,129 @@ public class HealthList extends ArrayList<Health> {
      * @throws AssertionError If {@code Period} object is null.
      */
     protected void addPeriod(Period period) {
+        SegmentStore.hydrate(DataType.PERIOD);
         assert period != null : ErrorConstant.NULL_PERIOD_ERROR;
+        RECORDS_BY_ID.put(period.getId(), period);
+        if (bulkLoadDepth > 0) {
+            PERIODS.add(period);
+            return;
+        }
 
-        PERIODS.add(period);
-
-        PERIODS.sort(Comparator.comparing(Period::getStartDate).reversed());
+        addPeriodLength(period);
+        int index = insertSorted(PERIODS, period, PERIOD_ORDER);
+        // only the new period and the period before it in date order have a new cycle length
+        updateCycleLength(index);
+        updateCycleLength(index + 1);
+        updateLastThreeCycleLengthSum();
+    }
 
+    /**
+     * Sets the cycle length of every {@code Period} object from the start date of the period after it, and the
+     * cycle length summary from the cycle lengths.
+     */
+    private static void updateCycleLengths() {
+        cycleLengthSum = 0;
+        cycleLengthSquareSum = 0;
+        CYCLE_LENGTHS.clear();
+        PERIOD_LENGTHS.clear();
         int size = PERIODS.size();
         if (size > HealthConstant.MIN_SIZE_FOR_COMPARISON) {
             for (int i = size - 1; i > HealthConstant.FIRST_ITEM; i--) {
                 Period newerPeriod = PERIODS.get(i -  1);
                 Period olderPeriod = PERIODS.get(i);
                 olderPeriod.setCycleLength(newerPeriod.getStartDate());
+                addToCycleLengthSummary(olderPeriod);
             }
         }
+        for (Period period : PERIODS) {
+            addPeriodLength(period);
+        }
+        updateLastThreeCycleLengthSum();
+    }
+
+    /**
+     * Sets the cycle length of the {@code Period} object at an index from the start date of the period after it,
+     * or to 0 if it is the latest period, and updates the cycle length summary.
+     *
+     * @param index The index of the {@code Period} object, which is ignored if it is out of bounds.
+     */
+    private static void updateCycleLength(int index) {
+        if (index < HealthConstant.FIRST_ITEM || index >= PERIODS.size()) {
+            return;
+        }
+        Period period = PERIODS.get(index);
+        removeFromCycleLengthSummary(period);
+        if (index == HealthConstant.FIRST_ITEM) {
+            period.resetCycleLength();
+        } else {
+            period.setCycleLength(PERIODS.get(index - 1).getStartDate());
+        }
+        addToCycleLengthSummary(period);
+    }
+
+    /**
+     * Adds the cycle length of a {@code Period} object to the sums used for the mean and variance of the cycle
+     * lengths, and to the weighted statistics if its cycle is complete.
+     *
+     * @param period The {@code Period} object.
+     */
+    private static void addToCycleLengthSummary(Period period) {
+        long cycleLength = period.getCycleLength();
+        cycleLengthSum += cycleLength;
+        cycleLengthSquareSum += cycleLength * cycleLength;
+        if (cycleLength > HealthConstant.MIN_LENGTH) {
+            CYCLE_LENGTHS.add(period.getStartDate(), cycleLength);
+        }
+    }
+
+    /**
+     * Removes the cycle length of a {@code Period} object from the sums used for the mean and variance of the cycle
+     * lengths, and from the weighted statistics if its cycle is complete.
+     *
+     * @param period The {@code Period} object.
+     */
+    private static void removeFromCycleLengthSummary(Period period) {
+        long cycleLength = period.getCycleLength();
+        cycleLengthSum -= cycleLength;
+        cycleLengthSquareSum -= cycleLength * cycleLength;
+        if (cycleLength > HealthConstant.MIN_LENGTH) {
+            CYCLE_LENGTHS.remove(period.getStartDate(), cycleLength);
+        }
+    }
+
+    /**
+     * Adds the length of a {@code Period} object to the weighted statistics of period lengths if it has an end date.
+     *
+     * @param period The {@code Period} object.
+     */
+    protected static void addPeriodLength(Period period) {
+        if (period.getEndDate() != null && bulkLoadDepth == 0) {
+            PERIOD_LENGTHS.add(period.getStartDate(), period.getPeriodLength());
+        }
+    }
+
+    /**
+     * Removes the length of a {@code Period} object from the weighted statistics of period lengths if it has an end
+     * date.
+     *
+     * @param period The {@code Period} object.
+     */
+    protected static void removePeriodLength(Period period) {
+        if (period.getEndDate() != null && bulkLoadDepth == 0) {
+            PERIOD_LENGTHS.remove(period.getStartDate(), period.getPeriodLength());
+        }
+    }
+
+    /**
+     * Sets the sum of the cycle lengths of the latest three complete cycles, which are the cycles of the
+     * {@code Period} objects after the latest period.
+     */
+    private static void updateLastThreeCycleLengthSum() {
+        lastThreeCycleLengthSum = 0;
+        int endIndex = Math.min(HealthConstant.FIRST_CYCLE_INDEX, PERIODS.size() - 1);
+        for (int i = HealthConstant.LAST_CYCLE_INDEX; i <= endIndex; i++) {
+            lastThreeCycleLengthSum += PERIODS.get(i).getCycleLength();
+        }
     }
 
     /**
@@ -90,9 +270,98 @@ public class HealthList extends ArrayList<Health> {
      * @throws AssertionError If {@code Appointment} object is null.
      */
     protected void addAppointment(Appointment appointment) {
+        SegmentStore.hydrate(DataType.APPOINTMENT);
         assert appointment != null : ErrorConstant.NULL_APPOINTMENT_ERROR;
-        APPOINTMENTS.add(appointment);
-        APPOINTMENTS.sort(Comparator.comparing(Appointment::getDate).thenComparing(Appointment::getTime));
+        RECORDS_BY_ID.put(appointment.getId(), appointment);
+        if (bulkLoadDepth > 0) {
+            APPOINTMENTS.add(appointment);
+            return;
+        }
+        insertSorted(APPOINTMENTS, appointment, APPOINTMENT_ORDER);
+    }
+
+    /**
+     * Inserts an object into a sorted list at the position found by binary search, after any objects that are equal
+     * in order, so the list stays sorted without sorting it again.
+     *
+     * @param list  The sorted list.
+     * @param item  The object to insert.
+     * @param order The order of the list.
+     * @param <T>   The type of object in the list.
+     * @return The index the object is inserted at.
+     */
+    private static <T> int insertSorted(List<T> list, T item, Comparator<? super T> order) {
+        int low = 0;
+        int high = list.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (order.compare(list.get(middle), item) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        list.add(low, item);
+        return low;
+    }
+
+    /**
+     * Starts a bulk load, during which new {@code Bmi}, {@code Period} and {@code Appointment} objects are appended
+     * to their lists without sorting. Used when loading the entries of the data file, which are then sorted once by
+     * {@code finishBulkLoad()}. Bulk loads may be nested.
+     */
+    public static void startBulkLoad() {
+        if (bulkLoadDepth == 0) {
+            for (Bmi bmi : BMIS) {
+                BULK_LOAD_BMI_DATES.add(bmi.getDate());
+            }
+        }
+        bulkLoadDepth += 1;
+    }
+
+    /**
+     * Finishes a bulk load, sorting each list once and setting the cycle length of every {@code Period} object.
+     */
+    public static void finishBulkLoad() {
+        assert bulkLoadDepth > 0 : "No bulk load in progress";
+        bulkLoadDepth -= 1;
+        if (bulkLoadDepth > 0) {
+            return;
+        }
+        BULK_LOAD_BMI_DATES.clear();
+        // stable sorts keep objects that are equal in order in the order they were added, as insertSorted does
+        BMIS.sort(BMI_ORDER);
+        APPOINTMENTS.sort(APPOINTMENT_ORDER);
+        PERIODS.sort(PERIOD_ORDER);
+        updateCycleLengths();
+    }
+
+    /**
+     * Checks whether a {@code Bmi} object with a date has been recorded, by binary search on {@code BMIS}.
+     *
+     * @param date The date to check.
+     * @return True if a {@code Bmi} object with the date is recorded, otherwise false.
+     */
+    public static boolean hasBmiOn(LocalDate date) {
+        SegmentStore.hydrate(DataType.BMI);
+        if (bulkLoadDepth > 0) {
+            return BULK_LOAD_BMI_DATES.contains(date);
+        }
+        int low = 0;
+        int high = BMIS.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            // BMIS is sorted from latest to earliest date
+            int comparison = date.compareTo(BMIS.get(middle).getDate());
+            if (comparison == 0) {
+                return true;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return false;
     }
 
     //@@author j013n3
@@ -103,6 +372,7 @@ public class HealthList extends ArrayList<Health> {
      * @return The {@code BMIS} array list.
      */
     public static ArrayList<Bmi> getBmis() {
+        SegmentStore.hydrate(DataType.BMI);
         return BMIS;
     }
 
@@ -112,6 +382,7 @@ public class HealthList extends ArrayList<Health> {
      * @return The {@code PERIODS} array list.
      */
     public static ArrayList<Period> getPeriods() {
+        SegmentStore.hydrate(DataType.PERIOD);
         return PERIODS;
     }
 
@@ -121,9 +392,21 @@ public class HealthList extends ArrayList<Health> {
      * @return The {@code APPOINTMENTS} array list.
      */
     public static ArrayList<Appointment> getAppointments() {
+        SegmentStore.hydrate(DataType.APPOINTMENT);
         return APPOINTMENTS;
     }
 
+    /**
+     * Retrieves the {@code Bmi}, {@code Period} or {@code Appointment} object with an id.
+     * Ids are only handed out by objects already in their lists, so no segment needs to be loaded.
+     *
+     * @param id The id of the object.
+     * @return The object with the id, or null if it has been deleted.
+     */
+    public static Health getHealthById(long id) {
+        return RECORDS_BY_ID.get(id);
+    }
+
     /**
      * Retrieves the {@code Period} object at a specified index.
      *
@@ -131,6 +414,7 @@ public class HealthList extends ArrayList<Health> {
      * @return The {@code Period} object at the specified index, or null if the index is out of bounds.
      */
     public static Period getPeriod(int index) {
+        SegmentStore.hydrate(DataType.PERIOD);
         if (index < HealthConstant.FIRST_ITEM || index >= PERIODS.size()) {
             return null;
         }
@@ -143,6 +427,7 @@ public class HealthList extends ArrayList<Health> {
      * @return The number of {@code Period} objects recorded.
      */
     public static int getPeriodSize() {
+        SegmentStore.hydrate(DataType.PERIOD);
         return PERIODS.size();
     }
 
@@ -154,6 +439,7 @@ public class HealthList extends ArrayList<Health> {
      * @return Size of {@code BMIS} list.
      */
     public static int getBmisSize() {
+        SegmentStore.hydrate(DataType.BMI);
         return BMIS.size();
     }
 
@@ -163,6 +449,7 @@ public class HealthList extends ArrayList<Health> {
      * @return Size of {@code PERIODS} list.
      */
     public static int getPeriodsSize() {
+        SegmentStore.hydrate(DataType.PERIOD);
         return PERIODS.size();
     }
 
@@ -175,6 +462,7 @@ public class HealthList extends ArrayList<Health> {
      * @throws CustomExceptions.OutOfBounds If the index of the {@code Bmi} object given does not exist.
      */
     public static void deleteBmi(int index) throws CustomExceptions.OutOfBounds {
+        SegmentStore.hydrate(DataType.BMI);
         if (index < HealthConstant.FIRST_ITEM) {
             throw new CustomExceptions.OutOfBounds(ErrorConstant.BMI_EMPTY_ERROR);
         } else if (index >= BMIS.size()) {
@@ -187,7 +475,8 @@ public class HealthList extends ArrayList<Health> {
                 deletedBmi.bmiValue,
                 deletedBmi.date);
         Output.printLine();
-        BMIS.remove(index);
+        removeBmi(index);
+        JournalFile.recordDelete(DataType.BMI, index);
         LogFile.writeLog(HealthConstant.BMI_REMOVED_MESSAGE_PREFIX + index, false);
     }
 
@@ -198,6 +487,7 @@ public class HealthList extends ArrayList<Health> {
      * @throws CustomExceptions.OutOfBounds If the index of the {@code Period} object given does not exist.
      */
     public static void deletePeriod(int index) throws CustomExceptions.OutOfBounds {
+        SegmentStore.hydrate(DataType.PERIOD);
         if (index < HealthConstant.FIRST_ITEM) {
             throw new CustomExceptions.OutOfBounds(ErrorConstant.PERIOD_EMPTY_ERROR);
         } else if(index >= PERIODS.size()) {
@@ -211,7 +501,8 @@ public class HealthList extends ArrayList<Health> {
         System.out.printf((HealthConstant.LOG_DELETE_PERIOD_FORMAT) + System.lineSeparator(),
                 deletedPeriod.getStartDate(),
                 endDateUnit);
-        PERIODS.remove(index);
+        removePeriod(index);
+        JournalFile.recordDelete(DataType.PERIOD, index);
         Output.printLine();
         LogFile.writeLog(HealthConstant.PERIOD_REMOVED_MESSAGE_PREFIX + index, false);
     }
@@ -225,6 +516,7 @@ public class HealthList extends ArrayList<Health> {
      * @throws CustomExceptions.OutOfBounds If the index of the {@code Appointment} object given does not exist.
      */
     public static void deleteAppointment(int index) throws CustomExceptions.OutOfBounds {
+        SegmentStore.hydrate(DataType.APPOINTMENT);
         if (index < HealthConstant.FIRST_ITEM) {
             throw new CustomExceptions.OutOfBounds(ErrorConstant.APPOINTMENT_EMPTY_ERROR);
         } else if (index >= APPOINTMENTS.size()) {
@@ -238,19 +530,72 @@ public class HealthList extends ArrayList<Health> {
                 deletedAppointment.time,
                 deletedAppointment.description);
         Output.printLine();
-        APPOINTMENTS.remove(index);
+        removeAppointment(index);
+        JournalFile.recordDelete(DataType.APPOINTMENT, index);
         LogFile.writeLog(HealthConstant.APPOINTMENT_REMOVED_MESSAGE_PREFIX + index, false);
         if (!APPOINTMENTS.isEmpty()) {
             printAppointmentHistory();
         }
     }
 
+    /**
+     * Removes the {@code Bmi} object at a specified index without printing any message.
+     * Used when replaying deletions recorded in the journal.
+     *
+     * @param index Index of the {@code Bmi} object to be removed.
+     * @throws CustomExceptions.OutOfBounds If the index of the {@code Bmi} object given does not exist.
+     */
+    public static void removeBmi(int index) throws CustomExceptions.OutOfBounds {
+        SegmentStore.hydrate(DataType.BMI);
+        if (index < HealthConstant.FIRST_ITEM || index >= BMIS.size()) {
+            throw new CustomExceptions.OutOfBounds(ErrorConstant.INVALID_INDEX_DELETE_ERROR);
+        }
+        RECORDS_BY_ID.remove(BMIS.remove(index).getId());
+    }
+
+    /**
+     * Removes the {@code Period} object at a specified index without printing any message.
+     * Used when replaying deletions recorded in the journal.
+     *
+     * @param index Index of the {@code Period} object to be removed.
+     * @throws CustomExceptions.OutOfBounds If the index of the {@code Period} object given does not exist.
+     */
+    public static void removePeriod(int index) throws CustomExceptions.OutOfBounds {
+        SegmentStore.hydrate(DataType.PERIOD);
+        if (index < HealthConstant.FIRST_ITEM || index >= PERIODS.size()) {
+            throw new CustomExceptions.OutOfBounds(ErrorConstant.INVALID_INDEX_DELETE_ERROR);
+        }
+        Period removedPeriod = PERIODS.remove(index);
+        RECORDS_BY_ID.remove(removedPeriod.getId());
+        removeFromCycleLengthSummary(removedPeriod);
+        removePeriodLength(removedPeriod);
+        // the period before the removed one in date order now ends at the start of the period after it
+        updateCycleLength(index);
+        updateLastThreeCycleLengthSum();
+    }
+
+    /**
+     * Removes the {@code Appointment} object at a specified index without printing any message.
+     * Used when replaying deletions recorded in the journal.
+     *
+     * @param index Index of the {@code Appointment} object to be removed.
+     * @throws CustomExceptions.OutOfBounds If the index of the {@code Appointment} object given does not exist.
+     */
+    public static void removeAppointment(int index) throws CustomExceptions.OutOfBounds {
+        SegmentStore.hydrate(DataType.APPOINTMENT);
+        if (index < HealthConstant.FIRST_ITEM || index >= APPOINTMENTS.size()) {
+            throw new CustomExceptions.OutOfBounds(ErrorConstant.INVALID_INDEX_DELETE_ERROR);
+        }
+        RECORDS_BY_ID.remove(APPOINTMENTS.remove(index).getId());
+    }
+
     /**
      * Prints the latest {@code Bmi} object added.
      *
      * @throws AssertionError If {@code BMIS} is empty.
      */
     public static void printLatestBmi() throws CustomExceptions.OutOfBounds {
+        SegmentStore.hydrate(DataType.BMI);
         if (BMIS.isEmpty()) {
             throw new CustomExceptions.OutOfBounds(ErrorConstant.BMI_EMPTY_ERROR);
         }
@@ -264,6 +609,7 @@ public class HealthList extends ArrayList<Health> {
      * @throws AssertionError If {@code PERIODS} is empty.
      */
     public static void printLatestPeriod() throws CustomExceptions.OutOfBounds {
+        SegmentStore.hydrate(DataType.PERIOD);
         if (PERIODS.isEmpty()) {
             throw new CustomExceptions.OutOfBounds(ErrorConstant.PERIOD_EMPTY_ERROR);
         }
@@ -277,6 +623,7 @@ public class HealthList extends ArrayList<Health> {
      * @throws AssertionError If {@code APPOINTMENTS} is empty.
      */
     public static void printLatestAppointment() throws CustomExceptions.OutOfBounds {
+        SegmentStore.hydrate(DataType.APPOINTMENT);
         if (APPOINTMENTS.isEmpty()) {
             throw new CustomExceptions.OutOfBounds(ErrorConstant.APPOINTMENT_EMPTY_ERROR);
         }
@@ -291,6 +638,7 @@ public class HealthList extends ArrayList<Health> {
      * @throws AssertionError If {@code BMIS} list is empty.
      */
     public static void printBmiHistory() throws CustomExceptions.OutOfBounds {
+        SegmentStore.hydrate(DataType.BMI);
         if (BMIS.isEmpty()) {
             throw new CustomExceptions.OutOfBounds(ErrorConstant.BMI_EMPTY_ERROR);
         }
@@ -313,6 +661,7 @@ public class HealthList extends ArrayList<Health> {
      * @throws AssertionError If {@code PERIODS} list is empty.
      */
     public static void printPeriodHistory() throws CustomExceptions.OutOfBounds {
+        SegmentStore.hydrate(DataType.PERIOD);
         if (PERIODS.isEmpty()) {
             throw new CustomExceptions.OutOfBounds(ErrorConstant.PERIOD_EMPTY_ERROR);
         }
@@ -334,6 +683,7 @@ public class HealthList extends ArrayList<Health> {
      * @throws AssertionError If {@code APPOINTMENTS} list is empty.
      */
     public static void printAppointmentHistory() throws CustomExceptions.OutOfBounds {
+        SegmentStore.hydrate(DataType.APPOINTMENT);
         if (APPOINTMENTS.isEmpty()) {
             throw new CustomExceptions.OutOfBounds(ErrorConstant.APPOINTMENT_EMPTY_ERROR);
         }
@@ -347,6 +697,104 @@ public class HealthList extends ArrayList<Health> {
         }
     }
 
+    /**
+     * Prints the {@code Bmi} objects recorded within a date range, with their indexes in the full history.
+     *
+     * @param from The earliest date of the range.
+     * @param to   The latest date of the range.
+     * @throws CustomExceptions.OutOfBounds If {@code BMIS} is empty.
+     */
+    public static void printBmiHistory(LocalDate from, LocalDate to) throws CustomExceptions.OutOfBounds {
+        SegmentStore.hydrate(DataType.BMI);
+        if (BMIS.isEmpty()) {
+            throw new CustomExceptions.OutOfBounds(ErrorConstant.BMI_EMPTY_ERROR);
+        }
+        // BMIS is sorted from latest to earliest date
+        int startIndex = findFirstIndex(BMIS, bmi -> !bmi.getDate().isAfter(to));
+        int endIndex = findFirstIndex(BMIS, bmi -> bmi.getDate().isBefore(from));
+        System.out.println(HealthConstant.BMI_HISTORY_HEADER);
+        printRange(BMIS, startIndex, endIndex);
+    }
+
+    /**
+     * Prints the {@code Period} objects starting within a date range, with their indexes in the full history.
+     *
+     * @param from The earliest start date of the range.
+     * @param to   The latest start date of the range.
+     * @throws CustomExceptions.OutOfBounds If {@code PERIODS} is empty.
+     */
+    public static void printPeriodHistory(LocalDate from, LocalDate to) throws CustomExceptions.OutOfBounds {
+        SegmentStore.hydrate(DataType.PERIOD);
+        if (PERIODS.isEmpty()) {
+            throw new CustomExceptions.OutOfBounds(ErrorConstant.PERIOD_EMPTY_ERROR);
+        }
+        // PERIODS is sorted from latest to earliest start date
+        int startIndex = findFirstIndex(PERIODS, period -> !period.getStartDate().isAfter(to));
+        int endIndex = findFirstIndex(PERIODS, period -> period.getStartDate().isBefore(from));
+        System.out.println(HealthConstant.PERIOD_HISTORY_HEADER);
+        printRange(PERIODS, startIndex, endIndex);
+    }
+
+    /**
+     * Prints the {@code Appointment} objects within a date range, with their indexes in the full history.
+     *
+     * @param from The earliest date of the range.
+     * @param to   The latest date of the range.
+     * @throws CustomExceptions.OutOfBounds If {@code APPOINTMENTS} is empty.
+     */
+    public static void printAppointmentHistory(LocalDate from, LocalDate to) throws CustomExceptions.OutOfBounds {
+        SegmentStore.hydrate(DataType.APPOINTMENT);
+        if (APPOINTMENTS.isEmpty()) {
+            throw new CustomExceptions.OutOfBounds(ErrorConstant.APPOINTMENT_EMPTY_ERROR);
+        }
+        // APPOINTMENTS is sorted from earliest to latest date
+        int startIndex = findFirstIndex(APPOINTMENTS, appointment -> !appointment.getDate().isBefore(from));
+        int endIndex = findFirstIndex(APPOINTMENTS, appointment -> appointment.getDate().isAfter(to));
+        System.out.println(HealthConstant.APPOINTMENT_HISTORY_HEADER);
+        printRange(APPOINTMENTS, startIndex, endIndex);
+    }
+
+    /**
+     * Finds the first index of a sorted list at which a condition holds, by binary search. The condition must be
+     * false for every object before that index and true for every object from it.
+     *
+     * @param list      The sorted list.
+     * @param condition The condition on the objects in the list.
+     * @param <T>       The type of object in the list.
+     * @return The first index at which the condition holds, or the size of the list if it never holds.
+     */
+    private static <T> int findFirstIndex(List<T> list, Predicate<? super T> condition) {
+        int low = 0;
+        int high = list.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (condition.test(list.get(middle))) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Prints the objects of a list between two indexes, numbered by their indexes in the whole list.
+     *
+     * @param list       The list of objects.
+     * @param startIndex The index of the first object printed.
+     * @param endIndex   The index after the last object printed.
+     */
+    private static void printRange(List<? extends Health> list, int startIndex, int endIndex) {
+        if (startIndex >= endIndex) {
+            System.out.println(UiConstant.HISTORY_RANGE_EMPTY_MESSAGE);
+            return;
+        }
+        for (int i = startIndex; i < endIndex; i++) {
+            System.out.print((i + 1) + UiConstant.FULL_STOP + UiConstant.SPLIT_BY_WHITESPACE);
+            System.out.println(list.get(i));
+        }
+    }
+
     //@@l5_z
 
     /**
@@ -355,9 +803,16 @@ public class HealthList extends ArrayList<Health> {
      * @throws AssertionError If {@code PERIODS}, {@code BMIS} and {@code APPOINTMENTS} lists are not empty.
      */
     public static void clearHealthLists() {
+        SegmentStore.discard(DataType.BMI, DataType.PERIOD, DataType.APPOINTMENT);
         PERIODS.clear();
         BMIS.clear();
         APPOINTMENTS.clear();
+        RECORDS_BY_ID.clear();
+        cycleLengthSum = 0;
+        cycleLengthSquareSum = 0;
+        lastThreeCycleLengthSum = 0;
+        CYCLE_LENGTHS.clear();
+        PERIOD_LENGTHS.clear();
         assert BMIS.isEmpty() : ErrorConstant.BMI_LIST_UNCLEARED_ERROR;
         assert PERIODS.isEmpty() : ErrorConstant.PERIOD_LIST_UNCLEARED_ERROR;
         assert APPOINTMENTS.isEmpty() : ErrorConstant.APPOINTMENT_LIST_UNCLEARED_ERROR;
@@ -369,6 +824,7 @@ public class HealthList extends ArrayList<Health> {
      * Prints the last three {@code Period} objects added to {@code PERIODS}.
      */
     public static void printLatestThreeCycles() {
+        SegmentStore.hydrate(DataType.PERIOD);
         Output.printLine();
         int startIndex = HealthConstant.FIRST_ITEM;
         int endIndex = HealthConstant.LATEST_THREE_CYCLE_LENGTHS;
@@ -388,6 +844,7 @@ public class HealthList extends ArrayList<Health> {
      * @throws CustomExceptions.OutOfBounds If {@code PERIODS} is empty.
      */
     public static LocalDate predictNextPeriodStartDate() throws CustomExceptions.OutOfBounds {
+        SegmentStore.hydrate(DataType.PERIOD);
         if (PERIODS.isEmpty()) {
             throw new CustomExceptions.OutOfBounds(ErrorConstant.PERIOD_EMPTY_ERROR);
         }
@@ -396,4 +853,59 @@ public class HealthList extends ArrayList<Health> {
         Period latestPeriod = PERIODS.get(HealthConstant.FIRST_ITEM);
         return latestPeriod.nextCyclePrediction();
     }
+
+    /**
+     * Predicts the next period from the whole cycle history, weighted towards recent cycles. The weighted statistics
+     * are kept up to date as periods are added, updated and deleted, so no period is read apart from the latest.
+     *
+     * @return The prediction of the start date and length of the next period.
+     * @throws CustomExceptions.OutOfBounds If {@code PERIODS} is empty.
+     */
+    public static PeriodPrediction predictNextPeriodFromHistory() throws CustomExceptions.OutOfBounds {
+        SegmentStore.hydrate(DataType.PERIOD);
+        if (PERIODS.isEmpty()) {
+            throw new CustomExceptions.OutOfBounds(ErrorConstant.PERIOD_EMPTY_ERROR);
+        }
+        Period latestPeriod = PERIODS.get(HealthConstant.FIRST_ITEM);
+        return new PeriodPrediction(latestPeriod.getStartDate(), CYCLE_LENGTHS, PERIOD_LENGTHS);
+    }
+
+    /**
+     * Retrieves the sum of the cycle lengths of the latest three complete cycles.
+     *
+     * @return The sum of the cycle lengths of the latest three complete cycles.
+     */
+    public static long getLastThreeCycleLengthSum() {
+        SegmentStore.hydrate(DataType.PERIOD);
+        return lastThreeCycleLengthSum;
+    }
+
+    /**
+     * Retrieves the mean cycle length of every complete cycle recorded.
+     *
+     * @return The mean cycle length in days, or 0 if there are no complete cycles.
+     */
+    public static double getMeanCycleLength() {
+        SegmentStore.hydrate(DataType.PERIOD);
+        int cycleCount = PERIODS.size() - 1;
+        if (cycleCount < HealthConstant.MIN_SIZE_FOR_COMPARISON) {
+            return 0;
+        }
+        return (double) cycleLengthSum / cycleCount;
+    }
+
+    /**
+     * Retrieves the variance of the cycle lengths of every complete cycle recorded.
+     *
+     * @return The population variance of the cycle lengths in days squared, or 0 if there are no complete cycles.
+     */
+    public static double getCycleLengthVariance() {
+        SegmentStore.hydrate(DataType.PERIOD);
+        int cycleCount = PERIODS.size() - 1;
+        if (cycleCount < HealthConstant.MIN_SIZE_FOR_COMPARISON) {
+            return 0;
+        }
+        double mean = (double) cycleLengthSum / cycleCount;
+        return Math.max(0, (double) cycleLengthSquareSum / cycleCount - mean * mean);
+    }
 }
@@ -8,7 +8,6 @@ import constants.UiConstant;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
-import java.util.Objects;
 
 /**
  * The {@code Period} class inherits from {@code Health} class.
@@ -76,13 +75,30 @@ public class Period extends Health {
     }
 
     /**
-     * Updates the end date of the period and calculates the period length.
+     * Overloaded constructor for {@code Period} object that takes dates already decoded from the data file.
+     *
+     * @param startDate The start date of the period.
+     * @param endDate   The end date of the period, or null if the period has not ended.
+     */
+    public Period(LocalDate startDate, LocalDate endDate) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.periodLength = endDate == null ? 1 : calculatePeriodLength();
+        this.cycleLength = 0;
+        healthList.addPeriod(this);
+    }
+
+    /**
+     * Updates the end date of the period and calculates the period length, replacing it in the statistics of period
+     * lengths kept by {@code HealthList}.
      *
      * @param stringEndDate A {@code String} representing the new end date of the period.
      */
     public void updateEndDate(String stringEndDate) {
+        HealthList.removePeriodLength(this);
         this.endDate = parser.parseDate(stringEndDate);
         this.periodLength = calculatePeriodLength();
+        HealthList.addPeriodLength(this);
     }
 
     /**
@@ -119,24 +135,13 @@ public class Period extends Health {
     //@@author j013n3
 
     /**
-     * Calculates the sum of the cycle lengths of the latest three menstrual cycles.
+     * Retrieves the sum of the cycle lengths of the latest three menstrual cycles, which {@code HealthList} keeps
+     * up to date as periods are added and deleted.
      *
      * @return The sum of the cycle lengths of the latest three menstrual cycles.
      */
     public long getLastThreeCycleLengths() {
-        long sumOfCycleLengths = 0;
-
-        int startIndexForPrediction = HealthConstant.LAST_CYCLE_INDEX;
-        assert startIndexForPrediction >= HealthConstant.FIRST_ITEM : ErrorConstant.START_INDEX_NEGATIVE_ERROR;
-
-        int endIndexForPrediction = HealthConstant.FIRST_CYCLE_INDEX;
-        assert endIndexForPrediction >= startIndexForPrediction : ErrorConstant.END_INDEX_SMALLER_THAN_START_ERROR;
-
-        for (int i = startIndexForPrediction; i <= endIndexForPrediction; i++) {
-            sumOfCycleLengths += Objects.requireNonNull(HealthList.getPeriod(i)).cycleLength;
-        }
-
-        return sumOfCycleLengths;
+        return HealthList.getLastThreeCycleLengthSum();
     }
 
     /**
@@ -172,6 +177,23 @@ public class Period extends Health {
         this.cycleLength = ChronoUnit.DAYS.between(getStartDate(), nextStartDate);
     }
 
+    /**
+     * Resets the cycle length of the period, as it is the latest period and its cycle has not ended.
+     */
+    protected void resetCycleLength() {
+        this.cycleLength = 0;
+    }
+
+    /**
+     * Retrieves the cycle length of the period.
+     *
+     * @return The number of days from the start of the period to the start of the next period, or 0 if it is the
+     *         latest period.
+     */
+    public long getCycleLength() {
+        return cycleLength;
+    }
+
     /**
      * Prints a message indicating the number of days until the predicted start date of the next period,
      * or how many days late the period is if the current date is after the predicted start date.
@@ -209,6 +231,28 @@ public class Period extends Health {
         Output.printLine();
     }
 
+    /**
+     * Prints the prediction of the next period made from the whole cycle history: the weighted mean and 95% range
+     * of the cycle and period lengths, the range of start dates, and the predicted start date.
+     *
+     * @param prediction The prediction of the next period.
+     */
+    public static void printHistoryPrediction(PeriodPrediction prediction) {
+        Output.printLine();
+        System.out.println(HealthConstant.HISTORY_PREDICTION_HEADER);
+        System.out.printf(HealthConstant.HISTORY_CYCLE_LENGTH_FORMAT + "%n", prediction.getMeanCycleLength(),
+                prediction.getCycleLengthHalfWidth());
+        if (prediction.hasPeriodLength()) {
+            System.out.printf(HealthConstant.HISTORY_PERIOD_LENGTH_FORMAT + "%n", prediction.getMeanPeriodLength(),
+                    prediction.getPeriodLengthHalfWidth());
+        } else {
+            System.out.println(HealthConstant.HISTORY_NO_PERIOD_LENGTH_MESSAGE);
+        }
+        System.out.printf(HealthConstant.HISTORY_START_DATE_RANGE_FORMAT + "%n", prediction.getEarliestStartDate(),
+                prediction.getLatestStartDate());
+        printNextCyclePrediction(prediction.getStartDate());
+    }
+
     /**
      * Returns the string representation of a {@code Period} object.
      *
@@ -0,0 +1,86 @@
+package health;
+
+import java.time.LocalDate;
+
+/**
+ * Represents a prediction of the next period made from the whole cycle history, with the exponentially weighted
+ * mean and 95% range of the cycle length and of the period length.
+ */
+public class PeriodPrediction {
+    private final LocalDate latestStartDate;
+    private final double meanCycleLength;
+    private final double cycleLengthHalfWidth;
+    private final boolean hasPeriodLength;
+    private final double meanPeriodLength;
+    private final double periodLengthHalfWidth;
+
+    /**
+     * Constructs a new PeriodPrediction object from the latest period and the statistics of the history.
+     *
+     * @param latestStartDate The start date of the latest period.
+     * @param cycleLengths    The statistics of the cycle lengths.
+     * @param periodLengths   The statistics of the lengths of the periods with an end date.
+     */
+    protected PeriodPrediction(LocalDate latestStartDate, DecayingStatistics cycleLengths,
+                               DecayingStatistics periodLengths) {
+        this.latestStartDate = latestStartDate;
+        this.meanCycleLength = cycleLengths.getMean();
+        this.cycleLengthHalfWidth = cycleLengths.getRangeHalfWidth();
+        this.hasPeriodLength = periodLengths.getCount() > 0;
+        this.meanPeriodLength = periodLengths.getMean();
+        this.periodLengthHalfWidth = periodLengths.getRangeHalfWidth();
+    }
+
+    /**
+     * Retrieves the predicted start date of the next period, which is the weighted mean cycle length after the start
+     * of the latest period.
+     *
+     * @return The predicted start date.
+     */
+    public LocalDate getStartDate() {
+        return latestStartDate.plusDays(Math.round(meanCycleLength));
+    }
+
+    /**
+     * Retrieves the earliest start date of the next period within the 95% range of the cycle length.
+     *
+     * @return The earliest start date.
+     */
+    public LocalDate getEarliestStartDate() {
+        return latestStartDate.plusDays(Math.round(meanCycleLength - cycleLengthHalfWidth));
+    }
+
+    /**
+     * Retrieves the latest start date of the next period within the 95% range of the cycle length.
+     *
+     * @return The latest start date.
+     */
+    public LocalDate getLatestStartDate() {
+        return latestStartDate.plusDays(Math.round(meanCycleLength + cycleLengthHalfWidth));
+    }
+
+    public double getMeanCycleLength() {
+        return meanCycleLength;
+    }
+
+    public double getCycleLengthHalfWidth() {
+        return cycleLengthHalfWidth;
+    }
+
+    /**
+     * Returns whether any period has an end date, without which the period length cannot be predicted.
+     *
+     * @return True if the period length is predicted, otherwise false.
+     */
+    public boolean hasPeriodLength() {
+        return hasPeriodLength;
+    }
+
+    public double getMeanPeriodLength() {
+        return meanPeriodLength;
+    }
+
+    public double getPeriodLengthHalfWidth() {
+        return periodLengthHalfWidth;
+    }
+}
@@ -0,0 +1,158 @@
+package storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import constants.UiConstant;
+import utility.Filters.LogOverflowPolicy;
+
+/**
+ * Represents the log handler that writes logs to the log file on a background thread.
+ * Logging threads only add the log record to a lock-free {@code RingBuffer}. A daemon writer thread takes the records
+ * out in batches and adds each batch to the {@code EventLogWriter} with a single flush.
+ * When the buffer is full, the overflow policy decides whether the logging thread waits for space or the record is
+ * dropped. The number of dropped records is written to the log file once there is space again.
+ */
+public class AsyncLogAppender extends Handler {
+    private final RingBuffer<LogRecord> buffer;
+    private final LogOverflowPolicy overflowPolicy;
+    private final EventLogWriter eventLog;
+    private final Thread writerThread;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private long reportedDroppedCount = 0;
+    private volatile long writtenCount = 0;
+    private volatile boolean isClosed = false;
+
+    /**
+     * Constructs the handler and starts its writer thread.
+     *
+     * @param eventLog       The event log the records are written to.
+     * @param capacity       The minimum number of log records the buffer can hold.
+     * @param overflowPolicy The action taken when the buffer is full.
+     */
+    public AsyncLogAppender(EventLogWriter eventLog, int capacity, LogOverflowPolicy overflowPolicy) {
+        this.buffer = new RingBuffer<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.eventLog = eventLog;
+        writerThread = new Thread(this::drainLoop, UiConstant.LOG_WRITER_THREAD_NAME);
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Adds a log record to the buffer, waiting for space or dropping the record if the buffer is full, depending on
+     * the overflow policy.
+     *
+     * @param record The log record to write.
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        while (!buffer.offer(record)) {
+            if (overflowPolicy == LogOverflowPolicy.DROP) {
+                droppedCount.incrementAndGet();
+                return;
+            }
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(UiConstant.LOG_FULL_BUFFER_WAIT_MICROSECONDS));
+        }
+        LockSupport.unpark(writerThread);
+    }
+
+    /**
+     * Waits until every log record added to the buffer so far has been written to the log file.
+     */
+    @Override
+    public void flush() {
+        long target = buffer.getOfferedCount();
+        while (writtenCount < target && writerThread.isAlive()) {
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    /**
+     * Writes every log record still in the buffer, stops the writer thread and closes the log file.
+     */
+    @Override
+    public void close() {
+        flush();
+        isClosed = true;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(UiConstant.LOG_SHUTDOWN_TIMEOUT_SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            eventLog.close();
+        } catch (IOException e) {
+            reportError("Unable to close log file", e, ErrorManager.CLOSE_FAILURE);
+        }
+    }
+
+    /**
+     * Returns the number of log records dropped because the buffer was full.
+     *
+     * @return The number of log records dropped.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Writes batches of log records until the handler is closed, parking whenever the buffer is empty until
+     * {@code publish()}, {@code flush()} or {@code close()} unparks it. A record added just before parking leaves a
+     * permit, so the thread does not park past it.
+     */
+    private void drainLoop() {
+        List<LogRecord> batch = new ArrayList<>(UiConstant.LOG_BATCH_SIZE);
+        while (true) {
+            int drained = buffer.drainTo(batch, UiConstant.LOG_BATCH_SIZE);
+            if (drained > 0) {
+                writeBatch(batch);
+                writtenCount += drained;
+                batch.clear();
+            } else if (isClosed) {
+                return;
+            } else {
+                LockSupport.park(this);
+            }
+        }
+    }
+
+    /**
+     * Writes a batch of log records to the event log, followed by the number of records dropped since the last batch,
+     * if any.
+     *
+     * @param batch The log records to write.
+     */
+    private void writeBatch(List<LogRecord> batch) {
+        try {
+            for (LogRecord record : batch) {
+                eventLog.write(record);
+            }
+            long dropped = droppedCount.get() - reportedDroppedCount;
+            if (dropped > 0) {
+                reportedDroppedCount += dropped;
+                LogRecord droppedRecord = new LogRecord(Level.WARNING,
+                        "Dropped {0} log record(s) as the log buffer was full");
+                droppedRecord.setParameters(new Object[]{dropped});
+                eventLog.write(droppedRecord);
+            }
+            eventLog.flush();
+        } catch (IOException e) {
+            reportError("Unable to write log file", e, ErrorManager.WRITE_FAILURE);
+        }
+    }
+}
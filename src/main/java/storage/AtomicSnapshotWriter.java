@@ -0,0 +1,144 @@
+package storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.logging.Level;
+
+import constants.UiConstant;
+
+/**
+ * Represents the writer used to replace the data file and hash file together, so that a crash while saving cannot
+ * leave a data file that does not match its hash file.
+ * Both files are first written in full to temporary files next to them and flushed to the disk together. The data file
+ * is then renamed over the old one, followed by the hash file. If PulsePilot stops before the hash file is renamed,
+ * {@code recover()} completes the save on the next start-up if the temporary hash file matches the new data file, or
+ * discards the temporary files otherwise, leaving the previous pair of files untouched.
+ * The temporary files have fixed names, so writes are serialised by a lock to stop two writers from overwriting or
+ * renaming each other's temporary files.
+ */
+public class AtomicSnapshotWriter {
+    private static final Object WRITE_LOCK = new Object();
+
+    /**
+     * Private constructor to prevent instantiation from outside the class.
+     */
+    private AtomicSnapshotWriter() {
+    }
+
+    /**
+     * Replaces the data file and hash file with new contents, waiting for any other write in progress to finish.
+     *
+     * @param dataPath  The path of the data file.
+     * @param data      The new contents of the data file.
+     * @param hashPath  The path of the hash file.
+     * @param hashBytes The new contents of the hash file.
+     * @throws IOException If either file cannot be written or renamed.
+     */
+    public static void write(Path dataPath, byte[] data, Path hashPath, byte[] hashBytes) throws IOException {
+        Path tempDataPath = toTempPath(dataPath);
+        Path tempHashPath = toTempPath(hashPath);
+        synchronized (WRITE_LOCK) {
+            try (FileChannel dataChannel = openForWriting(tempDataPath);
+                    FileChannel hashChannel = openForWriting(tempHashPath)) {
+                writeFully(dataChannel, data);
+                writeFully(hashChannel, hashBytes);
+                dataChannel.force(true);
+                hashChannel.force(true);
+            }
+
+            replace(tempDataPath, dataPath);
+            replace(tempHashPath, hashPath);
+        }
+        LogFile.writeLog(Level.INFO, "Committed {0} byte data file and hash file", data.length);
+    }
+
+    /**
+     * Completes or discards a save that was interrupted before both files were renamed.
+     *
+     * @param dataPath The path of the data file.
+     * @param hashPath The path of the hash file.
+     * @throws IOException              If the temporary files cannot be read, renamed or deleted.
+     * @throws NoSuchAlgorithmException If the SHA-256 algorithm is not available.
+     */
+    public static void recover(Path dataPath, Path hashPath) throws IOException, NoSuchAlgorithmException {
+        Path tempDataPath = toTempPath(dataPath);
+        Path tempHashPath = toTempPath(hashPath);
+        if (Files.deleteIfExists(tempDataPath)) {
+            // the new data file was never renamed, so the previous data and hash files still match
+            Files.deleteIfExists(tempHashPath);
+            LogFile.writeLog("Discarded incomplete save", true);
+            return;
+        }
+        if (!Files.exists(tempHashPath)) {
+            return;
+        }
+
+        List<String> hashLines = HashFile.read(tempHashPath.toFile());
+        if (Files.exists(dataPath) && HashFile.verify(Files.readAllBytes(dataPath), hashLines)) {
+            replace(tempHashPath, hashPath);
+            LogFile.writeLog("Completed interrupted save", true);
+        } else {
+            Files.delete(tempHashPath);
+            LogFile.writeLog("Discarded hash file of incomplete save", true);
+        }
+    }
+
+    /**
+     * Returns the path of the temporary file used while replacing a file.
+     *
+     * @param path The path of the file being replaced.
+     * @return The path of its temporary file.
+     */
+    private static Path toTempPath(Path path) {
+        return path.resolveSibling(path.getFileName() + UiConstant.TEMP_FILE_SUFFIX);
+    }
+
+    /**
+     * Opens a file for writing, creating it or discarding its previous contents.
+     *
+     * @param path The path of the file.
+     * @return The channel of the file.
+     * @throws IOException If the file cannot be opened.
+     */
+    private static FileChannel openForWriting(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Writes every byte to a channel.
+     *
+     * @param channel The channel to write to.
+     * @param bytes   The bytes to write.
+     * @throws IOException If an I/O error occurs.
+     */
+    private static void writeFully(FileChannel channel, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Renames a temporary file over the file it replaces, atomically if the file system supports it.
+     *
+     * @param source The temporary file.
+     * @param target The file being replaced.
+     * @throws IOException If the file cannot be renamed.
+     */
+    private static void replace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
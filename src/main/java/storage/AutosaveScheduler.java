@@ -0,0 +1,200 @@
+package storage;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import constants.UiConstant;
+import health.HealthList;
+import utility.CustomExceptions;
+import utility.Filters.DataType;
+import workouts.WorkoutLists;
+
+/**
+ * Represents the scheduler that saves a snapshot of the data file in the background while PulsePilot is running.
+ * Every change recorded in the journal marks its type of entry as changed. The changed entries are flushed to the
+ * data file on a daemon thread every {@code pulsepilot.autosave.interval} seconds, or shortly after
+ * {@code pulsepilot.autosave.mutations} changes, so a burst of changes is written once. Flushing folds the journal
+ * back into the data file, keeping the journal short and start-up fast.
+ * Commands that change entries hold the lock returned by {@code getLock()}. A flush formats the entries into the
+ * contents of the data file while holding the lock, as entries such as periods can still be changed in place, and then
+ * hashes and writes those contents without blocking the command loop.
+ * As a snapshot replaces the whole data file and folds the journal into it, the first flush loads every segment that
+ * {@code SegmentStore} has not loaded yet, so that the snapshot holds every entry with its journal records applied.
+ * This parsing runs on the autosave thread, but holds the lock, so a command entered meanwhile waits for it.
+ */
+public class AutosaveScheduler {
+    private static final Object LOCK = new Object();
+    private static final Set<DataType> dirtyTypes = EnumSet.noneOf(DataType.class);
+    private static ScheduledExecutorService executor = null;
+    private static int mutationCount = 0;
+    private static int mutationThreshold = UiConstant.DEFAULT_AUTOSAVE_MUTATION_THRESHOLD;
+    private static boolean isFlushPending = false;
+
+    /**
+     * Private constructor to prevent instantiation from outside the class.
+     */
+    private AutosaveScheduler() {
+    }
+
+    /**
+     * Returns the lock held while entries are changed or copied for a flush.
+     *
+     * @return The autosave lock.
+     */
+    public static Object getLock() {
+        return LOCK;
+    }
+
+    /**
+     * Starts autosaving with the interval and number of changes set by system properties, or their defaults.
+     */
+    public static void start() {
+        start(Integer.getInteger(UiConstant.AUTOSAVE_INTERVAL_PROPERTY,
+                        UiConstant.DEFAULT_AUTOSAVE_INTERVAL_SECONDS),
+                Integer.getInteger(UiConstant.AUTOSAVE_MUTATIONS_PROPERTY,
+                        UiConstant.DEFAULT_AUTOSAVE_MUTATION_THRESHOLD));
+    }
+
+    /**
+     * Starts autosaving on a daemon thread.
+     *
+     * @param intervalSeconds   The number of seconds between flushes, or 0 to only flush after enough changes.
+     * @param mutationThreshold The number of changes that trigger a flush before the interval ends.
+     */
+    public static void start(long intervalSeconds, int mutationThreshold) {
+        synchronized (LOCK) {
+            if (executor != null) {
+                return;
+            }
+            AutosaveScheduler.mutationThreshold = Math.max(1, mutationThreshold);
+            executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, UiConstant.AUTOSAVE_THREAD_NAME);
+                thread.setDaemon(true);
+                return thread;
+            });
+            if (intervalSeconds > 0) {
+                executor.scheduleWithFixedDelay(AutosaveScheduler::flush, intervalSeconds, intervalSeconds,
+                        TimeUnit.SECONDS);
+            }
+        }
+        LogFile.writeLog("Autosave started, interval: " + intervalSeconds + "s, threshold: " + mutationThreshold,
+                false);
+    }
+
+    /**
+     * Stops autosaving, waiting for a flush in progress or already scheduled to finish so that it does not overlap
+     * with the final save. The wait has no time limit, as a flush finishing after the final save would replace the
+     * data file with an older snapshot. Changes not yet flushed are left in the journal.
+     */
+    public static void stop() {
+        ScheduledExecutorService stoppedExecutor;
+        synchronized (LOCK) {
+            stoppedExecutor = executor;
+            executor = null;
+            isFlushPending = false;
+        }
+        if (stoppedExecutor == null) {
+            return;
+        }
+        // a flush in progress is not interrupted, as interrupting it could leave the hash file out of date
+        stoppedExecutor.shutdown();
+        boolean isInterrupted = false;
+        boolean isTerminated = false;
+        while (!isTerminated) {
+            try {
+                isTerminated = stoppedExecutor.awaitTermination(UiConstant.AUTOSAVE_SHUTDOWN_WAIT_SECONDS,
+                        TimeUnit.SECONDS);
+                if (!isTerminated) {
+                    LogFile.writeLog("Waiting for autosave to finish before saving", true);
+                }
+            } catch (InterruptedException e) {
+                isInterrupted = true;
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+        LogFile.writeLog("Autosave stopped", false);
+    }
+
+    /**
+     * Marks a type of entry as changed since the last flush. Once enough changes have been made, a flush is
+     * scheduled after a short delay, so that further changes made in the meantime are written with it.
+     *
+     * @param dataType The type of entry changed, or null if it is unknown.
+     */
+    public static void markDirty(DataType dataType) {
+        synchronized (LOCK) {
+            if (dataType == null) {
+                dirtyTypes.addAll(EnumSet.allOf(DataType.class));
+            } else {
+                dirtyTypes.add(dataType);
+            }
+            mutationCount += 1;
+            if (executor != null && !isFlushPending && mutationCount >= mutationThreshold) {
+                isFlushPending = true;
+                executor.schedule(AutosaveScheduler::flush, UiConstant.AUTOSAVE_COALESCE_DELAY_MILLISECONDS,
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Returns whether any type of entry has changed since the last flush.
+     *
+     * @return True if there are changes to flush, otherwise false.
+     */
+    public static boolean isDirty() {
+        synchronized (LOCK) {
+            return !dirtyTypes.isEmpty();
+        }
+    }
+
+    /**
+     * Writes a snapshot of every entry to the data file if any entry has changed since the last flush.
+     * The entries are formatted while holding the lock and written after releasing it. Getting the lists loads any
+     * segment not loaded yet. Only the journal records made before formatting are then removed, as changes made while
+     * writing are not in the snapshot.
+     */
+    public static void flush() {
+        DataFile dataFile = new DataFile();
+        byte[] data;
+        Set<DataType> flushedTypes;
+        int journalRecordCount;
+        synchronized (LOCK) {
+            isFlushPending = false;
+            if (dirtyTypes.isEmpty() || DataFile.userName == null) {
+                return;
+            }
+            flushedTypes = EnumSet.copyOf(dirtyTypes);
+            dirtyTypes.clear();
+            mutationCount = 0;
+            try {
+                data = dataFile.formatSnapshot(DataFile.userName, HealthList.getBmis(),
+                        HealthList.getAppointments(), HealthList.getPeriods(), WorkoutLists.getWorkouts());
+            } catch (CustomExceptions.FileWriteError e) {
+                LogFile.writeLog("Autosave failed, changes remain in journal: " + e.getMessage(), true);
+                dirtyTypes.addAll(flushedTypes);
+                return;
+            }
+            journalRecordCount = JournalFile.getRecordCount();
+        }
+
+        try {
+            dataFile.writeSnapshot(data);
+            synchronized (LOCK) {
+                JournalFile.discardRecords(journalRecordCount);
+            }
+            LogFile.writeLog("Autosaved changes to " + flushedTypes, false);
+        } catch (CustomExceptions.FileWriteError | IOException e) {
+            LogFile.writeLog("Autosave failed, changes remain in journal: " + e.getMessage(), true);
+            synchronized (LOCK) {
+                dirtyTypes.addAll(flushedTypes);
+            }
+        }
+    }
+}
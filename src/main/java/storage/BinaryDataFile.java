@@ -0,0 +1,894 @@
+package storage;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+import constants.ErrorConstant;
+import constants.UiConstant;
+import constants.WorkoutConstant;
+import health.Appointment;
+import health.Bmi;
+import health.Period;
+import utility.Filters.DataType;
+import workouts.ExerciseDictionary;
+import workouts.Gym;
+import workouts.GymStation;
+import workouts.Run;
+import workouts.Workout;
+import workouts.WorkoutLists;
+
+/**
+ * Represents the binary data file, which can be used instead of the text data file.
+ * The file starts with a versioned header holding the user's name and the order of runs and gyms in the workout list,
+ * followed by one section per type of entry. Each section stores its entries column by column, with dates as epoch
+ * days, distances, heights and weights as fixed-point integers, run times as seconds, and gym station names as indices
+ * into a dictionary of the names used. Every section has its own CRC32C checksum, so a corrupted section only loses
+ * the entries of that type.
+ * Binary file format:
+ * MAGIC VERSION HEADER_LENGTH HEADER_CHECKSUM HEADER
+ * SECTION_COUNT
+ * TYPE ENTRY_COUNT PAYLOAD_LENGTH PAYLOAD_CHECKSUM PAYLOAD (one per type of entry)
+ */
+public class BinaryDataFile {
+
+    /**
+     * Represents the action taken when a section or entry of the binary data file cannot be loaded.
+     */
+    @FunctionalInterface
+    public interface FailureHandler {
+        /**
+         * Handles a section or entry that cannot be loaded.
+         *
+         * @param description A description of the section or entry that cannot be loaded.
+         * @param dataType    The type of entry that cannot be loaded, or null if it is unknown.
+         * @param reason      The reason it cannot be loaded.
+         */
+        void onFailure(String description, DataType dataType, String reason);
+    }
+
+    /**
+     * Private constructor to prevent instantiation from outside the class.
+     */
+    private BinaryDataFile() {
+    }
+
+    /**
+     * Writes the user's name and every entry to the binary data file.
+     *
+     * @param file         The binary data file to write.
+     * @param name         The user's name.
+     * @param bmis         The list of BMI entries.
+     * @param appointments The list of appointment entries.
+     * @param periods      The list of period entries.
+     * @param workouts     The list of workout entries.
+     * @throws IOException If an I/O error occurs.
+     */
+    public static void write(File file, String name, ArrayList<Bmi> bmis, ArrayList<Appointment> appointments,
+                             ArrayList<Period> periods, ArrayList<Workout> workouts) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+            write(out, name, bmis, appointments, periods, workouts);
+        }
+    }
+
+    /**
+     * Writes the user's name and every entry in the binary data file format to a stream.
+     *
+     * @param stream       The stream to write to.
+     * @param name         The user's name.
+     * @param bmis         The list of BMI entries.
+     * @param appointments The list of appointment entries.
+     * @param periods      The list of period entries.
+     * @param workouts     The list of workout entries.
+     * @throws IOException If an I/O error occurs.
+     */
+    public static void write(OutputStream stream, String name, ArrayList<Bmi> bmis,
+                             ArrayList<Appointment> appointments, ArrayList<Period> periods,
+                             ArrayList<Workout> workouts) throws IOException {
+        List<Run> runs = new ArrayList<>();
+        List<Gym> gyms = new ArrayList<>();
+        for (Workout workout : workouts) {
+            if (workout instanceof Gym) {
+                gyms.add((Gym) workout);
+            } else if (workout instanceof Run) {
+                runs.add((Run) workout);
+            }
+        }
+
+        DataOutputStream out = new DataOutputStream(stream);
+        out.writeInt(UiConstant.BINARY_MAGIC);
+        out.writeShort(UiConstant.BINARY_VERSION);
+        writeChecked(out, encodeHeader(name, workouts));
+        out.writeByte(DataType.values().length);
+        writeSection(out, DataType.BMI, bmis.size(), encodeBmis(bmis));
+        writeSection(out, DataType.APPOINTMENT, appointments.size(), encodeAppointments(appointments));
+        writeSection(out, DataType.PERIOD, periods.size(), encodePeriods(periods));
+        writeSection(out, DataType.RUN, runs.size(), encodeRuns(runs));
+        writeSection(out, DataType.GYM, gyms.size(), encodeGyms(gyms));
+        out.flush();
+        LogFile.writeLog("Wrote binary data file", false);
+    }
+
+    /**
+     * Represents the sections of a binary data file that passed their checksums, which are decoded into the health
+     * and workout lists one type of entry at a time.
+     */
+    public static class Contents {
+        private final String name;
+        private final byte[] workoutOrder;
+        private final int workoutCount;
+        private final Map<DataType, ByteBuffer> payloads;
+        private final Map<DataType, Integer> entryCounts;
+
+        /**
+         * Constructs the contents of a binary data file.
+         *
+         * @param name         The user's name.
+         * @param workoutOrder The bitmap of which workouts are gyms.
+         * @param workoutCount The number of workouts recorded in the header.
+         * @param payloads     The payloads of the sections that passed their checksum.
+         * @param entryCounts  The number of entries in each section.
+         */
+        private Contents(String name, byte[] workoutOrder, int workoutCount, Map<DataType, ByteBuffer> payloads,
+                         Map<DataType, Integer> entryCounts) {
+            this.name = name;
+            this.workoutOrder = workoutOrder;
+            this.workoutCount = workoutCount;
+            this.payloads = payloads;
+            this.entryCounts = entryCounts;
+        }
+
+        /**
+         * Retrieves the user's name.
+         *
+         * @return The user's name.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Decodes the section of a type of entry and adds each entry to the health or workout list.
+         * Runs and gyms are decoded together, as they are added to the workout list in their original order.
+         *
+         * @param dataType       The type of entry to decode.
+         * @param failureHandler The handler for sections and entries that cannot be loaded.
+         */
+        public void decode(DataType dataType, FailureHandler failureHandler) {
+            if (dataType == DataType.RUN || dataType == DataType.GYM) {
+                decodeWorkouts(workoutOrder, workoutCount, payloads, entryCounts, failureHandler);
+            } else {
+                decodeSection(dataType, payloads, entryCounts, failureHandler);
+            }
+        }
+    }
+
+    /**
+     * Reads the binary data file and adds every entry in it to the health and workout lists.
+     * Sections that fail their checksum and entries that cannot be created are passed to the failure handler, and
+     * every other entry is still loaded.
+     *
+     * @param file           The binary data file to read.
+     * @param failureHandler The handler for sections and entries that cannot be loaded.
+     * @return The user's name.
+     * @throws IOException If the file cannot be read, or is not a binary data file of a supported version.
+     */
+    public static String read(File file, FailureHandler failureHandler) throws IOException {
+        Contents contents = open(file, failureHandler);
+        contents.decode(DataType.BMI, failureHandler);
+        contents.decode(DataType.APPOINTMENT, failureHandler);
+        contents.decode(DataType.PERIOD, failureHandler);
+        contents.decode(DataType.RUN, failureHandler);
+        return contents.getName();
+    }
+
+    /**
+     * Reads the binary data file and verifies the checksum of each section without decoding any entry.
+     * Sections that fail their checksum are passed to the failure handler.
+     *
+     * @param file           The binary data file to read.
+     * @param failureHandler The handler for sections that cannot be loaded.
+     * @return The contents of the file, to be decoded one type of entry at a time.
+     * @throws IOException If the file cannot be read, or is not a binary data file of a supported version.
+     */
+    public static Contents open(File file, FailureHandler failureHandler) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+        try {
+            if (buffer.getInt() != UiConstant.BINARY_MAGIC) {
+                throw new IOException(ErrorConstant.BINARY_FORMAT_ERROR);
+            }
+            short version = buffer.getShort();
+            if (version != UiConstant.BINARY_VERSION) {
+                throw new IOException(ErrorConstant.BINARY_VERSION_ERROR + version);
+            }
+            ByteBuffer header = readChecked(buffer);
+            if (header == null) {
+                throw new IOException(ErrorConstant.BINARY_HEADER_ERROR);
+            }
+            String name = readString(header);
+            int workoutCount = header.getInt();
+            byte[] workoutOrder = new byte[countBitmapBytes(workoutCount)];
+            header.get(workoutOrder);
+
+            Map<DataType, ByteBuffer> payloads = new EnumMap<>(DataType.class);
+            Map<DataType, Integer> entryCounts = new EnumMap<>(DataType.class);
+            int sectionCount = buffer.get();
+            for (int i = 0; i < sectionCount; i++) {
+                String typeName = readString(buffer);
+                int entryCount = buffer.getInt();
+                ByteBuffer payload = readChecked(buffer);
+                DataType dataType = findDataType(typeName);
+                if (dataType == null) {
+                    failureHandler.onFailure(describeSection(typeName, entryCount), null,
+                            ErrorConstant.LOAD_DATA_TYPE_ERROR);
+                } else if (payload == null) {
+                    failureHandler.onFailure(describeSection(typeName, entryCount), dataType,
+                            ErrorConstant.CHECKSUM_ERROR);
+                } else {
+                    payloads.put(dataType, payload);
+                    entryCounts.put(dataType, entryCount);
+                }
+            }
+            return new Contents(name, workoutOrder, workoutCount, payloads, entryCounts);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException(ErrorConstant.BINARY_FORMAT_ERROR, e);
+        }
+    }
+
+    /**
+     * Encodes the header, which holds the user's name and a bitmap of which workouts are gyms, so that runs and gyms
+     * can be added back to the workout list in their original order.
+     *
+     * @param name     The user's name.
+     * @param workouts The list of workout entries.
+     * @return The encoded header.
+     * @throws IOException If an I/O error occurs.
+     */
+    private static byte[] encodeHeader(String name, List<Workout> workouts) throws IOException {
+        List<Workout> storedWorkouts = new ArrayList<>();
+        for (Workout workout : workouts) {
+            if (workout instanceof Gym || workout instanceof Run) {
+                storedWorkouts.add(workout);
+            }
+        }
+        byte[] workoutOrder = new byte[countBitmapBytes(storedWorkouts.size())];
+        for (int i = 0; i < storedWorkouts.size(); i++) {
+            if (storedWorkouts.get(i) instanceof Gym) {
+                workoutOrder[i / UiConstant.BITS_PER_BYTE] |= (byte) (1 << (i % UiConstant.BITS_PER_BYTE));
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeString(out, name.trim());
+        out.writeInt(storedWorkouts.size());
+        out.write(workoutOrder);
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Encodes the BMI entries as columns of dates, heights and weights.
+     *
+     * @param bmis The list of BMI entries.
+     * @return The encoded section payload.
+     * @throws IOException If an I/O error occurs.
+     */
+    private static byte[] encodeBmis(List<Bmi> bmis) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (Bmi bmi : bmis) {
+            out.writeInt(encodeDate(bmi.getDate()));
+        }
+        for (Bmi bmi : bmis) {
+            out.writeInt(toFixedPoint(bmi.getHeightValue(), UiConstant.BINARY_TWO_DECIMAL_SCALE));
+        }
+        for (Bmi bmi : bmis) {
+            out.writeInt(toFixedPoint(bmi.getWeightValue(), UiConstant.BINARY_TWO_DECIMAL_SCALE));
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Encodes the appointment entries as columns of dates, times and descriptions.
+     *
+     * @param appointments The list of appointment entries.
+     * @return The encoded section payload.
+     * @throws IOException If an I/O error occurs.
+     */
+    private static byte[] encodeAppointments(List<Appointment> appointments) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (Appointment appointment : appointments) {
+            out.writeInt(encodeDate(appointment.getDate()));
+        }
+        for (Appointment appointment : appointments) {
+            LocalTime time = appointment.getTime();
+            out.writeShort(time.getHour() * UiConstant.NUM_MINUTES_IN_HOUR + time.getMinute());
+        }
+        for (Appointment appointment : appointments) {
+            writeString(out, appointment.getDescription());
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Encodes the period entries as columns of start and end dates.
+     *
+     * @param periods The list of period entries.
+     * @return The encoded section payload.
+     * @throws IOException If an I/O error occurs.
+     */
+    private static byte[] encodePeriods(List<Period> periods) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (Period period : periods) {
+            out.writeInt(encodeDate(period.getStartDate()));
+        }
+        for (Period period : periods) {
+            out.writeInt(encodeDate(period.getEndDate()));
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Encodes the run entries as columns of dates, distances and times in seconds.
+     *
+     * @param runs The list of run entries.
+     * @return The encoded section payload.
+     * @throws IOException If an I/O error occurs.
+     */
+    private static byte[] encodeRuns(List<Run> runs) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (Run run : runs) {
+            out.writeInt(encodeDate(run.getDateValue()));
+        }
+        for (Run run : runs) {
+            out.writeInt(toFixedPoint(run.getDistanceValue(), UiConstant.BINARY_TWO_DECIMAL_SCALE));
+        }
+        for (Run run : runs) {
+            out.writeInt(run.getTotalSeconds());
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Encodes the gym entries as columns of dates and station counts, followed by a dictionary of station names and
+     * columns of name indices, sets, repetitions and weights for every station.
+     *
+     * @param gyms The list of gym entries.
+     * @return The encoded section payload.
+     * @throws IOException If an I/O error occurs.
+     */
+    private static byte[] encodeGyms(List<Gym> gyms) throws IOException {
+        List<GymStation> stations = new ArrayList<>();
+        Map<Integer, Integer> dictionary = new LinkedHashMap<>();
+        for (Gym gym : gyms) {
+            for (GymStation station : gym.getStations()) {
+                stations.add(station);
+                dictionary.putIfAbsent(station.getExerciseId(), dictionary.size());
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (Gym gym : gyms) {
+            out.writeInt(encodeDate(gym.getDateValue()));
+        }
+        for (Gym gym : gyms) {
+            out.writeShort(gym.getStations().size());
+        }
+        out.writeInt(dictionary.size());
+        for (int exerciseId : dictionary.keySet()) {
+            writeString(out, ExerciseDictionary.getName(exerciseId));
+        }
+        for (GymStation station : stations) {
+            out.writeInt(dictionary.get(station.getExerciseId()));
+        }
+        for (GymStation station : stations) {
+            out.writeInt(station.getNumberOfSets());
+        }
+        for (GymStation station : stations) {
+            out.writeInt(station.getNumberOfRepetitions());
+        }
+        for (GymStation station : stations) {
+            for (int i = 0; i < station.getNumberOfSets(); i++) {
+                out.writeInt(toFixedPoint(station.getWeight(i), UiConstant.BINARY_WEIGHT_SCALE));
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a section of health entries and adds each entry to the health list.
+     * A section whose columns are shorter than its entry count is passed to the failure handler as a whole.
+     *
+     * @param dataType       The type of entry in the section.
+     * @param payloads       The payloads of the sections that passed their checksum.
+     * @param entryCounts    The number of entries in each section.
+     * @param failureHandler The handler for sections and entries that cannot be loaded.
+     */
+    private static void decodeSection(DataType dataType, Map<DataType, ByteBuffer> payloads,
+                                      Map<DataType, Integer> entryCounts, FailureHandler failureHandler) {
+        ByteBuffer payload = payloads.get(dataType);
+        if (payload == null) {
+            return;
+        }
+        int count = entryCounts.get(dataType);
+        try {
+            switch (dataType) {
+            case BMI:
+                decodeBmis(payload, count, failureHandler);
+                break;
+            case APPOINTMENT:
+                decodeAppointments(payload, count, failureHandler);
+                break;
+            case PERIOD:
+                decodePeriods(payload, count, failureHandler);
+                break;
+            default:
+                break;
+            }
+        } catch (BufferUnderflowException e) {
+            failureHandler.onFailure(describeSection(dataType.name(), count), dataType,
+                    ErrorConstant.BINARY_FORMAT_ERROR);
+        }
+    }
+
+    /**
+     * Decodes the BMI section and adds each entry to the health list.
+     *
+     * @param payload        The payload of the section.
+     * @param count          The number of entries in the section.
+     * @param failureHandler The handler for entries that cannot be loaded.
+     */
+    private static void decodeBmis(ByteBuffer payload, int count, FailureHandler failureHandler) {
+        int[] dates = readInts(payload, count);
+        int[] heights = readInts(payload, count);
+        int[] weights = readInts(payload, count);
+        for (int i = 0; i < count; i++) {
+            try {
+                new Bmi(fromFixedPoint(heights[i], UiConstant.BINARY_TWO_DECIMAL_SCALE),
+                        fromFixedPoint(weights[i], UiConstant.BINARY_TWO_DECIMAL_SCALE), decodeDate(dates[i]));
+            } catch (Exception e) {
+                failureHandler.onFailure(describeEntry(DataType.BMI, i), DataType.BMI, e.toString());
+            }
+        }
+    }
+
+    /**
+     * Decodes the appointment section and adds each entry to the health list.
+     *
+     * @param payload        The payload of the section.
+     * @param count          The number of entries in the section.
+     * @param failureHandler The handler for entries that cannot be loaded.
+     */
+    private static void decodeAppointments(ByteBuffer payload, int count, FailureHandler failureHandler) {
+        int[] dates = readInts(payload, count);
+        short[] times = readShorts(payload, count);
+        String[] descriptions = new String[count];
+        for (int i = 0; i < count; i++) {
+            descriptions[i] = readString(payload);
+        }
+        for (int i = 0; i < count; i++) {
+            try {
+                LocalTime time = LocalTime.of(times[i] / UiConstant.NUM_MINUTES_IN_HOUR,
+                        times[i] % UiConstant.NUM_MINUTES_IN_HOUR);
+                new Appointment(decodeDate(dates[i]), time, descriptions[i]);
+            } catch (Exception e) {
+                failureHandler.onFailure(describeEntry(DataType.APPOINTMENT, i), DataType.APPOINTMENT, e.toString());
+            }
+        }
+    }
+
+    /**
+     * Decodes the period section and adds each entry to the health list.
+     *
+     * @param payload        The payload of the section.
+     * @param count          The number of entries in the section.
+     * @param failureHandler The handler for entries that cannot be loaded.
+     */
+    private static void decodePeriods(ByteBuffer payload, int count, FailureHandler failureHandler) {
+        int[] startDates = readInts(payload, count);
+        int[] endDates = readInts(payload, count);
+        for (int i = 0; i < count; i++) {
+            try {
+                new Period(decodeDate(startDates[i]), decodeDate(endDates[i]));
+            } catch (Exception e) {
+                failureHandler.onFailure(describeEntry(DataType.PERIOD, i), DataType.PERIOD, e.toString());
+            }
+        }
+    }
+
+    /**
+     * Decodes the run and gym sections and adds each entry to the workout list in the order recorded in the header.
+     *
+     * @param workoutOrder   The bitmap of which workouts are gyms.
+     * @param workoutCount   The number of workouts recorded in the header.
+     * @param payloads       The payloads of the sections that passed their checksum.
+     * @param entryCounts    The number of entries in each section.
+     * @param failureHandler The handler for sections and entries that cannot be loaded.
+     */
+    private static void decodeWorkouts(byte[] workoutOrder, int workoutCount, Map<DataType, ByteBuffer> payloads,
+                                       Map<DataType, Integer> entryCounts, FailureHandler failureHandler) {
+        RunColumns runs = null;
+        GymColumns gyms = null;
+        try {
+            if (payloads.containsKey(DataType.RUN)) {
+                runs = new RunColumns(payloads.get(DataType.RUN), entryCounts.get(DataType.RUN));
+            }
+        } catch (BufferUnderflowException e) {
+            failureHandler.onFailure(describeSection(DataType.RUN.name(), entryCounts.get(DataType.RUN)),
+                    DataType.RUN, ErrorConstant.BINARY_FORMAT_ERROR);
+        }
+        try {
+            if (payloads.containsKey(DataType.GYM)) {
+                gyms = new GymColumns(payloads.get(DataType.GYM), entryCounts.get(DataType.GYM));
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            failureHandler.onFailure(describeSection(DataType.GYM.name(), entryCounts.get(DataType.GYM)),
+                    DataType.GYM, ErrorConstant.BINARY_FORMAT_ERROR);
+        }
+
+        int runIndex = 0;
+        int gymIndex = 0;
+        for (int i = 0; i < workoutCount; i++) {
+            boolean isGym = (workoutOrder[i / UiConstant.BITS_PER_BYTE] >> (i % UiConstant.BITS_PER_BYTE) & 1) == 1;
+            if (isGym && gyms != null && gymIndex < gyms.count) {
+                gyms.create(gymIndex++, failureHandler);
+            } else if (!isGym && runs != null && runIndex < runs.count) {
+                runs.create(runIndex++, failureHandler);
+            }
+        }
+    }
+
+    /**
+     * Represents the decoded columns of the run section.
+     */
+    private static class RunColumns {
+        private final int count;
+        private final int[] dates;
+        private final int[] distances;
+        private final int[] totalSeconds;
+
+        /**
+         * Decodes the columns of the run section.
+         *
+         * @param payload The payload of the section.
+         * @param count   The number of entries in the section.
+         */
+        private RunColumns(ByteBuffer payload, int count) {
+            this.count = count;
+            dates = readInts(payload, count);
+            distances = readInts(payload, count);
+            totalSeconds = readInts(payload, count);
+        }
+
+        /**
+         * Adds a single run to the workout list.
+         *
+         * @param index          The index of the run in the section.
+         * @param failureHandler The handler for entries that cannot be loaded.
+         */
+        private void create(int index, FailureHandler failureHandler) {
+            int seconds = totalSeconds[index];
+            int hours = WorkoutConstant.NO_HOURS_PRESENT;
+            if (seconds >= UiConstant.NUM_SECONDS_IN_HOUR) {
+                hours = seconds / UiConstant.NUM_SECONDS_IN_HOUR;
+                seconds %= UiConstant.NUM_SECONDS_IN_HOUR;
+            }
+            try {
+                new Run(hours, seconds / UiConstant.NUM_SECONDS_IN_MINUTE, seconds % UiConstant.NUM_SECONDS_IN_MINUTE,
+                        fromFixedPoint(distances[index], UiConstant.BINARY_TWO_DECIMAL_SCALE),
+                        decodeDate(dates[index]));
+            } catch (Exception e) {
+                failureHandler.onFailure(describeEntry(DataType.RUN, index), DataType.RUN, e.toString());
+            }
+        }
+    }
+
+    /**
+     * Represents the decoded columns of the gym section.
+     */
+    private static class GymColumns {
+        private final int count;
+        private final int[] dates;
+        private final int[] firstStations;
+        private final String[] dictionary;
+        private final int[] nameIds;
+        private final int[] sets;
+        private final int[] repetitions;
+        private final int[] firstWeights;
+        private final int[] weights;
+
+        /**
+         * Decodes the columns of the gym section.
+         *
+         * @param payload The payload of the section.
+         * @param count   The number of entries in the section.
+         */
+        private GymColumns(ByteBuffer payload, int count) {
+            this.count = count;
+            dates = readInts(payload, count);
+            short[] stationCounts = readShorts(payload, count);
+            firstStations = new int[count + 1];
+            for (int i = 0; i < count; i++) {
+                firstStations[i + 1] = firstStations[i] + stationCounts[i];
+            }
+
+            dictionary = new String[payload.getInt()];
+            for (int i = 0; i < dictionary.length; i++) {
+                dictionary[i] = readString(payload);
+            }
+            int stationCount = firstStations[count];
+            nameIds = readInts(payload, stationCount);
+            sets = readInts(payload, stationCount);
+            repetitions = readInts(payload, stationCount);
+            firstWeights = new int[stationCount + 1];
+            for (int i = 0; i < stationCount; i++) {
+                firstWeights[i + 1] = firstWeights[i] + sets[i];
+            }
+            weights = readInts(payload, firstWeights[stationCount]);
+        }
+
+        /**
+         * Adds a single gym and its stations to the workout list.
+         * The gym is removed again if one of its stations cannot be loaded.
+         *
+         * @param index          The index of the gym in the section.
+         * @param failureHandler The handler for entries that cannot be loaded.
+         */
+        private void create(int index, FailureHandler failureHandler) {
+            int gymCount = WorkoutLists.getGymSize();
+            try {
+                Gym gym = new Gym(decodeDate(dates[index]));
+                for (int station = firstStations[index]; station < firstStations[index + 1]; station++) {
+                    double[] stationWeights = new double[sets[station]];
+                    for (int i = 0; i < stationWeights.length; i++) {
+                        stationWeights[i] = fromFixedPoint(weights[firstWeights[station] + i],
+                                UiConstant.BINARY_WEIGHT_SCALE);
+                    }
+                    gym.addStation(dictionary[nameIds[station]], sets[station], repetitions[station],
+                            stationWeights);
+                }
+            } catch (Exception e) {
+                failureHandler.onFailure(describeEntry(DataType.GYM, index), DataType.GYM, e.toString());
+                discardIncompleteGym(gymCount);
+            }
+        }
+
+        /**
+         * Removes a gym that was added to the workout list before one of its stations failed to load.
+         *
+         * @param gymCount The number of gyms in the list before the gym was added.
+         */
+        private void discardIncompleteGym(int gymCount) {
+            try {
+                if (WorkoutLists.getGymSize() > gymCount) {
+                    WorkoutLists.removeGym(gymCount);
+                }
+            } catch (Exception e) {
+                LogFile.writeLog("Unable to discard incomplete gym: " + e, true);
+            }
+        }
+    }
+
+    /**
+     * Writes a section header followed by its payload.
+     *
+     * @param out        The stream to write to.
+     * @param dataType   The type of entry in the section.
+     * @param entryCount The number of entries in the section.
+     * @param payload    The encoded section payload.
+     * @throws IOException If an I/O error occurs.
+     */
+    private static void writeSection(DataOutputStream out, DataType dataType, int entryCount, byte[] payload)
+            throws IOException {
+        writeString(out, dataType.name());
+        out.writeInt(entryCount);
+        writeChecked(out, payload);
+    }
+
+    /**
+     * Writes the length and CRC32C checksum of a block of bytes, followed by the bytes.
+     *
+     * @param out   The stream to write to.
+     * @param bytes The bytes to write.
+     * @throws IOException If an I/O error occurs.
+     */
+    private static void writeChecked(DataOutputStream out, byte[] bytes) throws IOException {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes);
+        out.writeInt(bytes.length);
+        out.writeInt((int) crc.getValue());
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a block of bytes written by {@code writeChecked} and verifies its checksum.
+     *
+     * @param buffer The buffer to read from.
+     * @return A buffer holding only the block, or null if the checksum does not match.
+     */
+    private static ByteBuffer readChecked(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        int expectedChecksum = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        ByteBuffer block = buffer.slice();
+        block.limit(length);
+        buffer.position(buffer.position() + length);
+
+        CRC32C crc = new CRC32C();
+        crc.update(block.duplicate());
+        if ((int) crc.getValue() != expectedChecksum) {
+            return null;
+        }
+        return block;
+    }
+
+    /**
+     * Writes a string as its UTF-8 length followed by its UTF-8 bytes.
+     *
+     * @param out    The stream to write to.
+     * @param string The string to write.
+     * @throws IOException If an I/O error occurs.
+     */
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string written by {@code writeString}.
+     *
+     * @param buffer The buffer to read from.
+     * @return The string read.
+     */
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a column of integers.
+     *
+     * @param buffer The buffer to read from.
+     * @param count  The number of integers in the column.
+     * @return The integers read.
+     */
+    private static int[] readInts(ByteBuffer buffer, int count) {
+        int[] values = new int[count];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + count * Integer.BYTES);
+        return values;
+    }
+
+    /**
+     * Reads a column of short integers.
+     *
+     * @param buffer The buffer to read from.
+     * @param count  The number of short integers in the column.
+     * @return The short integers read.
+     */
+    private static short[] readShorts(ByteBuffer buffer, int count) {
+        short[] values = new short[count];
+        buffer.asShortBuffer().get(values);
+        buffer.position(buffer.position() + count * Short.BYTES);
+        return values;
+    }
+
+    /**
+     * Encodes a date as its epoch day.
+     *
+     * @param date The date to encode, or null if it is not specified.
+     * @return The epoch day of the date, or {@code BINARY_NO_DATE} if it is not specified.
+     */
+    private static int encodeDate(LocalDate date) {
+        if (date == null) {
+            return UiConstant.BINARY_NO_DATE;
+        }
+        return (int) date.toEpochDay();
+    }
+
+    /**
+     * Decodes a date encoded by {@code encodeDate}.
+     *
+     * @param epochDay The encoded date.
+     * @return The date, or null if it is not specified.
+     */
+    private static LocalDate decodeDate(int epochDay) {
+        if (epochDay == UiConstant.BINARY_NO_DATE) {
+            return null;
+        }
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Converts a number to a fixed-point integer, so that it is stored without rounding errors.
+     *
+     * @param value The number to convert.
+     * @param scale The number of units in one whole.
+     * @return The number in units of {@code 1 / scale}.
+     */
+    private static int toFixedPoint(double value, int scale) {
+        return (int) Math.round(value * scale);
+    }
+
+    /**
+     * Converts a fixed-point integer back to a number.
+     *
+     * @param value The fixed-point integer.
+     * @param scale The number of units in one whole.
+     * @return The number.
+     */
+    private static double fromFixedPoint(int value, int scale) {
+        return (double) value / scale;
+    }
+
+    /**
+     * Returns the number of bytes needed for a bitmap of the given number of bits.
+     *
+     * @param bitCount The number of bits.
+     * @return The number of bytes.
+     */
+    private static int countBitmapBytes(int bitCount) {
+        return (bitCount + UiConstant.BITS_PER_BYTE - 1) / UiConstant.BITS_PER_BYTE;
+    }
+
+    /**
+     * Returns the type of entry with the given name.
+     *
+     * @param typeName The name of the type of entry.
+     * @return The type of entry, or null if it is unknown.
+     */
+    private static DataType findDataType(String typeName) {
+        for (DataType dataType : DataType.values()) {
+            if (dataType.name().equals(typeName)) {
+                return dataType;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Describes a section of the binary data file for the quarantine file.
+     *
+     * @param typeName   The name of the type of entry in the section.
+     * @param entryCount The number of entries in the section.
+     * @return The description of the section.
+     */
+    private static String describeSection(String typeName, int entryCount) {
+        return typeName + " section of binary data file (" + entryCount + " entries)";
+    }
+
+    /**
+     * Describes an entry of the binary data file for the quarantine file.
+     *
+     * @param dataType The type of the entry.
+     * @param index    The index of the entry in its section.
+     * @return The description of the entry.
+     */
+    private static String describeEntry(DataType dataType, int index) {
+        return dataType.name() + " entry " + (index + 1) + " of binary data file";
+    }
+}
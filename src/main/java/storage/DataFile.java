@@ -1,30 +1,50 @@
 //@@author L5-Z
 package storage;
 
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
 import java.io.FileWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.io.IOException;
 import java.io.File;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Scanner;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.zip.CRC32C;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import health.Appointment;
 import health.Bmi;
+import health.HealthList;
 import health.Period;
 import constants.ErrorConstant;
+import constants.HealthConstant;
+import constants.WorkoutConstant;
 import ui.Output;
 import utility.Parser;
 import utility.Validation;
 import workouts.Gym;
 import workouts.Run;
 import workouts.Workout;
+import workouts.WorkoutLists;
 import utility.CustomExceptions;
 import constants.UiConstant;
 import utility.Filters.DataType;
+import utility.Filters.JournalOperation;
+import utility.Filters.StorageFormat;
 
 /**
  * Represents a DataFile object used to read and write data stored in PulsePilot to a file.
@@ -36,10 +56,17 @@ public class DataFile {
 
     public static String userName = null;
     private static DataFile instance = null;
+    private static final List<DataType> SEGMENTS = List.of(DataType.BMI, DataType.APPOINTMENT, DataType.PERIOD,
+            DataType.RUN);
+    private static byte[] verifiedData = new byte[0];
+    private static List<String> verifiedHashLines = new ArrayList<>();
 
     private final Output output;
     private final Validation validation;
-
+    private final RecordTokenizer tokenizer = new RecordTokenizer();
+    private final List<String> quarantinedLines = new ArrayList<>();
+    private final Set<DataType> quarantinedTypes = EnumSet.noneOf(DataType.class);
+    private boolean isSnapshotOutdated = false;
 
     /**
      * Private constructor to prevent instantiation from outside the class.
@@ -51,7 +78,8 @@ public class DataFile {
     }
 
     /**
-     * Generates the SHA-256 hash value of the {@code pulsepilot_data.txt} file.
+     * Generates the SHA-256 hash value of the whole {@code pulsepilot_data.txt} file.
+     * Only used to verify hash files written by earlier versions, as new hash files store block hashes instead.
      *
      * @param file The file for which to generate the hash.
      * @return A String representing the SHA-256 hash value of the {@code pulsepilot_data.txt} file.
@@ -113,19 +141,20 @@ public class DataFile {
         try {
             File dataFile = UiConstant.saveFile;
             File hashFile = new File(UiConstant.hashFilePath);
+            AtomicSnapshotWriter.recover(dataFile.toPath(), hashFile.toPath());
 
+            forgetVerifiedHashes();
             if (dataFile.exists() && hashFile.exists()) {
-                String expectedHash = generateFileHash(dataFile);
-                String actualHash = readHashFromFile(hashFile);
-
-                if (expectedHash.equals(actualHash)) {
-                    status = verifyIntegrity(dataFile);
-                } else {
-                    processFail(ErrorConstant.DATA_INTEGRITY_ERROR);
-                    System.exit(1);
+                if (!isHashValid(dataFile, hashFile)) {
+                    startRecovery(ErrorConstant.DATA_INTEGRITY_ERROR);
                 }
+                status = verifyIntegrity(dataFile);
             } else if (!dataFile.exists() && !hashFile.exists()) {
                 status = verifyIntegrity(dataFile);
+                new File(UiConstant.journalFilePath).delete();
+            } else if (dataFile.exists()) {
+                startRecovery(ErrorConstant.MISSING_HASH_ERROR);
+                status = verifyIntegrity(dataFile);
             } else {
                 processFail(ErrorConstant.MISSING_INTEGRITY_ERROR);
                 System.exit(1);
@@ -145,6 +174,74 @@ public class DataFile {
         return status;
     }
 
+    /**
+     * Checks the data file against the hash file. Hash files containing block hashes are verified block by block,
+     * while hash files written by earlier versions containing a single whole-file hash are still accepted.
+     * Block hashes that pass verification are remembered so that the next save can reuse them.
+     *
+     * @param dataFile The data file to verify.
+     * @param hashFile The hash file to verify against.
+     * @return True if the data file matches the hash file, otherwise false.
+     * @throws NoSuchAlgorithmException If the SHA-256 algorithm is not available.
+     * @throws IOException              If an I/O error occurs while reading either file.
+     */
+    protected boolean isHashValid(File dataFile, File hashFile) throws NoSuchAlgorithmException, IOException {
+        List<String> hashLines = HashFile.read(hashFile);
+        if (HashFile.isWholeFileHash(hashLines)) {
+            LogFile.writeLog("Verifying whole-file hash", false);
+            return generateFileHash(dataFile).equals(readHashFromFile(hashFile));
+        }
+        byte[] data = Files.readAllBytes(dataFile.toPath());
+        boolean isValid = HashFile.verify(data, hashLines);
+        if (isValid) {
+            rememberVerifiedHashes(data, hashLines);
+        }
+        return isValid;
+    }
+
+    /**
+     * Remembers data file contents and the hash file lines known to match them, so that the next save only reuses
+     * block hashes that were verified or computed by PulsePilot itself.
+     *
+     * @param data      The contents of the data file.
+     * @param hashLines The lines of the hash file matching the contents.
+     */
+    private static synchronized void rememberVerifiedHashes(byte[] data, List<String> hashLines) {
+        verifiedData = data;
+        verifiedHashLines = hashLines;
+    }
+
+    /**
+     * Forgets the remembered block hashes, so that the next save hashes every block again.
+     */
+    private static synchronized void forgetVerifiedHashes() {
+        verifiedData = new byte[0];
+        verifiedHashLines = new ArrayList<>();
+    }
+
+    /**
+     * Handles the data file no longer matching its hash. Instead of discarding the whole file, each entry is checked
+     * against its own checksum when it is read, and the data file is rewritten once loading is done.
+     *
+     * @param errorString The error message to be logged and printed.
+     */
+    private void startRecovery(String errorString) {
+        LogFile.writeLog(errorString, true);
+        output.printException(errorString);
+        forgetVerifiedHashes();
+        isSnapshotOutdated = true;
+    }
+
+    /**
+     * Returns whether the data file no longer matches the loaded data, either because its hash did not match or
+     * because some entries were quarantined, and should be rewritten.
+     *
+     * @return True if the data file should be rewritten, otherwise false.
+     */
+    public boolean isSnapshotOutdated() {
+        return isSnapshotOutdated;
+    }
+
     /**
      * Handles the failure of file hash verification.
      * This method is called when the hash value of the data file does not match the expected value.
@@ -181,79 +278,466 @@ public class DataFile {
     }
 
     /**
-     * Writes the hash value to the hash file.
+     * Reads data from the existing data file and processes it.
+     * Only the user's name is loaded straight away. The entries of each type are kept as a segment and loaded, along
+     * with the journal records of that type, the first time their list is used.
+     * Entries that are corrupted are moved to the quarantine file, and every other entry is still loaded.
      *
-     * @param hash     The hash value to write.
-     * @throws IOException If an I/O error occurs.
+     * @throws CustomExceptions.FileReadError If there is an error reading the data file.
      */
-    private void writeHashToFile(String hash) throws IOException {
-        FileOutputStream fos = new FileOutputStream(UiConstant.hashFilePath);
-        fos.write(hash.getBytes());
-        fos.close();
+    public void readDataFile() throws CustomExceptions.FileReadError {
+        if (UiConstant.storageFormat == StorageFormat.BINARY) {
+            readBinaryDataFile();
+            return;
+        }
+
+        List<DataFileLoader.LoadedLine> lines = new ArrayList<>();
+        try {
+            LogFile.writeLog("Read begins", false);
+            lines = new DataFileLoader().load(UiConstant.saveFile);
+        } catch (IOException e) {
+            LogFile.writeLog("Data file could not be read, exiting." + e, true);
+            processFail(ErrorConstant.CORRUPT_ERROR);
+            System.exit(1);
+        }
+
+        try {
+            String[] input = lines.get(0).getRawLine().split(UiConstant.SPLIT_BY_COLON);
+            String name = input[UiConstant.NAME_INDEX].trim();
+            LogFile.writeLog("Processing Name", false);
+            processName(name);
+            LogFile.writeLog("Name Loaded", false);
+        } catch (Exception e) {
+            LogFile.writeLog("Data file is missing name, exiting." + e, true);
+            processFail(ErrorConstant.CORRUPT_ERROR);
+            System.exit(1);
+        }
+
+        Map<DataType, List<DataFileLoader.LoadedLine>> segmentLines = new EnumMap<>(DataType.class);
+        for (DataType segment : SEGMENTS) {
+            segmentLines.put(segment, new ArrayList<>());
+        }
+        for (int i = 1; i < lines.size(); i++) {
+            DataFileLoader.LoadedLine line = lines.get(i);
+            if (line.getError() != null) {
+                quarantine(line.getRawLine(), findDataType(line.getRawLine()), line.getError());
+            } else {
+                segmentLines.get(findSegment(line.getDataType())).add(line);
+            }
+        }
+
+        Map<DataType, List<String>> segmentRecords = readJournalSegments();
+        for (DataType segment : SEGMENTS) {
+            List<DataFileLoader.LoadedLine> linesOfSegment = segmentLines.get(segment);
+            registerSegment(segment, () -> linesOfSegment.forEach(this::processLoadedLine),
+                    segmentRecords.get(segment));
+        }
+        writeQuarantine();
     }
 
     /**
-     * Reads data from the existing data file and processes it.
+     * Reads data from the existing binary data file and processes it.
+     * Only the user's name is loaded straight away, and each section is decoded the first time its list is used.
+     * Sections and entries that are corrupted are moved to the quarantine file, and every other entry is still loaded.
+     */
+    private void readBinaryDataFile() {
+        BinaryDataFile.Contents contents = null;
+        try {
+            LogFile.writeLog("Binary read begins", false);
+            contents = BinaryDataFile.open(UiConstant.saveFile, this::quarantine);
+        } catch (IOException e) {
+            LogFile.writeLog("Binary data file could not be read, exiting." + e, true);
+            processFail(ErrorConstant.CORRUPT_ERROR);
+            System.exit(1);
+        }
+
+        try {
+            LogFile.writeLog("Processing Name", false);
+            processName(contents.getName());
+            LogFile.writeLog("Name Loaded", false);
+        } catch (Exception e) {
+            LogFile.writeLog("Binary data file is missing name, exiting." + e, true);
+            processFail(ErrorConstant.CORRUPT_ERROR);
+            System.exit(1);
+        }
+
+        Map<DataType, List<String>> segmentRecords = readJournalSegments();
+        BinaryDataFile.Contents binaryContents = contents;
+        for (DataType segment : SEGMENTS) {
+            registerSegment(segment, () -> binaryContents.decode(segment, this::quarantine),
+                    segmentRecords.get(segment));
+        }
+        writeQuarantine();
+    }
+
+    /**
+     * Registers a segment to be loaded the first time its list is used. Loading the segment adds its entries, replays
+     * its journal records and writes any entries quarantined while doing so.
+     * The entries are added in one bulk load, so each health list is sorted once rather than once per entry. The bulk
+     * load finishes before the journal is replayed, as journal records refer to entries by their sorted index.
      *
-     * @throws CustomExceptions.FileReadError If there is an error reading the data file.
+     * @param segment     The segment to register.
+     * @param entryLoader The code that adds the entries of the segment read from the data file.
+     * @param records     The journal records of the segment.
      */
-    public void readDataFile() throws CustomExceptions.FileReadError {
-        int lineNumberCount = 0; // just for getting lineNumber, no other use
-        try (final Scanner readFile = new Scanner(UiConstant.saveFile)) {
-            LogFile.writeLog("Read begins", false);
+    private void registerSegment(DataType segment, Runnable entryLoader, List<String> records) {
+        SegmentStore.register(findSegmentTypes(segment), () -> {
+            HealthList.startBulkLoad();
             try {
-                String[] input = readFile.nextLine().split(UiConstant.SPLIT_BY_COLON);
-                String name = input[UiConstant.NAME_INDEX].trim();
-                LogFile.writeLog("Processing Name", false);
-                processName(name);
-                LogFile.writeLog("Name Loaded", false);
+                entryLoader.run();
+            } finally {
+                HealthList.finishBulkLoad();
+            }
+            replayRecords(records);
+            writeQuarantine();
+        });
+    }
 
-            } catch (Exception e) {
-                LogFile.writeLog("Data file is missing name, exiting." + e, true);
-                processFail(ErrorConstant.CORRUPT_ERROR);
-                System.exit(1);
+    /**
+     * Reads the journal and groups its records by the segment they change, keeping their order within each segment.
+     * Records that do not refer to a known type of entry are skipped, as they can only be the result of a write that
+     * was interrupted.
+     *
+     * @return The journal records of each segment.
+     */
+    private Map<DataType, List<String>> readJournalSegments() {
+        Map<DataType, List<String>> segmentRecords = new EnumMap<>(DataType.class);
+        for (DataType segment : SEGMENTS) {
+            segmentRecords.put(segment, new ArrayList<>());
+        }
+        List<String> records;
+        try {
+            records = JournalFile.readRecords();
+        } catch (IOException e) {
+            LogFile.writeLog("Unable to read journal, skipping replay: " + e.getMessage(), true);
+            return segmentRecords;
+        }
+
+        for (String record : records) {
+            DataType dataType = findJournalDataType(record);
+            if (dataType == null) {
+                LogFile.writeLog("Skipped journal record of unknown type: " + record, true);
+                continue;
             }
+            segmentRecords.get(findSegment(dataType)).add(record);
+        }
+        return segmentRecords;
+    }
 
-            while (readFile.hasNextLine()) {
-                String rawInput = readFile.nextLine();
-                LogFile.writeLog("Read String: " + rawInput, false);
-                String[] input = rawInput.split(UiConstant.SPLIT_BY_COLON);
-                String dataType = input[UiConstant.DATA_TYPE_INDEX].trim();
+    /**
+     * Returns the segment holding a type of entry. Runs and gyms share a segment, as both are kept in the workout
+     * list in the order they were added.
+     *
+     * @param dataType The type of entry.
+     * @return The segment holding the type of entry.
+     */
+    private static DataType findSegment(DataType dataType) {
+        return dataType == DataType.GYM ? DataType.RUN : dataType;
+    }
 
-                LogFile.writeLog("Current DataType:" + dataType, false);
-                DataType filter = DataType.valueOf(dataType);
-                switch (filter) {
+    /**
+     * Returns the types of entry held in a segment.
+     *
+     * @param segment The segment.
+     * @return The types of entry held in the segment.
+     */
+    private static Set<DataType> findSegmentTypes(DataType segment) {
+        return segment == DataType.RUN ? EnumSet.of(DataType.RUN, DataType.GYM) : EnumSet.of(segment);
+    }
 
-                case APPOINTMENT:
-                    processAppointment(input);
-                    break;
+    /**
+     * Adds the entry represented by a line read from the data file to the relevant list.
+     * Lines that failed their checksum or cannot be loaded are quarantined instead, so that the rest of the data file
+     * can still be loaded.
+     *
+     * @param line The line read from the data file.
+     */
+    private void processLoadedLine(DataFileLoader.LoadedLine line) {
+        if (line.getError() != null) {
+            quarantine(line.getRawLine(), findDataType(line.getRawLine()), line.getError());
+            return;
+        }
+        try {
+            processRecord(line.getDataType(), tokenizer.reset(line.getDataLine()));
+        } catch (Exception e) {
+            quarantine(line.getRawLine(), line.getDataType(), e.toString());
+        }
+    }
 
-                case PERIOD:
-                    processPeriod(input);
-                    break;
+    /**
+     * Reads the type of entry at the start of a line, if it can be read.
+     *
+     * @param line The line to read the type of entry from.
+     * @return The type of entry, or null if the line does not start with a known type of entry.
+     */
+    private DataType findDataType(String line) {
+        return RecordTokenizer.findDataType(line);
+    }
 
-                case BMI:
-                    processBmi(input);
-                    break;
+    /**
+     * Sets aside a line that could not be loaded so that it can be written to the quarantine file.
+     * Journalled deletions and updates of the same type of entry are quarantined too, as the index they refer to
+     * may no longer point to the same entry.
+     *
+     * @param line     The line that could not be loaded.
+     * @param dataType The type of entry in the line, or null if it is unknown.
+     * @param reason   The reason the line could not be loaded.
+     */
+    private void quarantine(String line, DataType dataType, String reason) {
+        LogFile.writeLog("Quarantined line: " + line + " " + reason, true);
+        quarantinedLines.add(line);
+        isSnapshotOutdated = true;
+        if (dataType == null) {
+            quarantinedTypes.addAll(EnumSet.allOf(DataType.class));
+        } else {
+            quarantinedTypes.add(dataType);
+        }
+    }
 
-                case GYM:
-                    processGym(rawInput);
-                    break;
+    /**
+     * Appends the quarantined lines to the quarantine file and informs the user of how many entries were lost.
+     */
+    private void writeQuarantine() {
+        if (quarantinedLines.isEmpty()) {
+            return;
+        }
+        try (FileWriter quarantineFile = new FileWriter(UiConstant.quarantineFilePath, true)) {
+            for (String line : quarantinedLines) {
+                quarantineFile.write(line + System.lineSeparator());
+            }
+        } catch (IOException e) {
+            LogFile.writeLog("Unable to write quarantine file: " + e.getMessage(), true);
+        }
+        output.printException(quarantinedLines.size() + ErrorConstant.QUARANTINE_ERROR);
+        quarantinedLines.clear();
+    }
 
-                case RUN:
-                    processRun(input);
-                    break;
+    /**
+     * Appends the CRC32C checksum of a line to the line, so that corruption of the line can be detected on its own.
+     *
+     * @param dataLine The line to add the checksum to.
+     * @return The line followed by the checksum separator and checksum.
+     */
+    public String addChecksum(String dataLine) {
+        return dataLine + UiConstant.CHECKSUM_SEPARATOR + computeChecksum(dataLine);
+    }
 
-                default:
-                    break; // valueOf results in immediate exception for non-match with enum DataType
-                }
-                lineNumberCount += 1;
+    /**
+     * Verifies the CRC32C checksum of a line read from the data file and removes it from the line.
+     * Lines written before checksums were added have no checksum and are returned unchanged.
+     *
+     * @param rawInput The line read from the data file.
+     * @return The line without its checksum.
+     * @throws CustomExceptions.InvalidInput If the checksum does not match the line.
+     */
+    public String verifyChecksum(String rawInput) throws CustomExceptions.InvalidInput {
+        int separatorIndex = rawInput.lastIndexOf(UiConstant.CHECKSUM_SEPARATOR);
+        if (separatorIndex == -1) {
+            return rawInput;
+        }
+        String dataLine = rawInput.substring(0, separatorIndex);
+        String checksum = rawInput.substring(separatorIndex + 1).trim();
+        if (!computeChecksum(dataLine).equals(checksum)) {
+            throw new CustomExceptions.InvalidInput(ErrorConstant.CHECKSUM_ERROR);
+        }
+        return dataLine;
+    }
+
+    /**
+     * Computes the CRC32C checksum of a line.
+     *
+     * @param dataLine The line to compute the checksum of.
+     * @return The checksum as 8 hexadecimal digits.
+     */
+    private String computeChecksum(String dataLine) {
+        CRC32C crc = new CRC32C();
+        crc.update(dataLine.getBytes(StandardCharsets.UTF_8));
+        String checksum = Long.toHexString(crc.getValue());
+        return "0".repeat(UiConstant.CHECKSUM_LENGTH - checksum.length()) + checksum;
+    }
+
+    /**
+     * Processes a single line in the data file format and adds the entry it represents to the relevant list.
+     *
+     * @param rawInput The line to process.
+     * @throws CustomExceptions.InvalidInput      If the line contains invalid data.
+     * @throws CustomExceptions.InsufficientInput If the line is missing data.
+     * @throws CustomExceptions.FileReadError     If a gym entry in the line cannot be read.
+     * @throws CustomExceptions.OutOfBounds       If an incomplete gym entry in the line cannot be discarded.
+     */
+    public void processDataLine(String rawInput) throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput, CustomExceptions.FileReadError, CustomExceptions.OutOfBounds {
+        DataType dataType = RecordTokenizer.parseDataType(rawInput);
+
+        LogFile.writeLog(Level.FINE, "Current DataType: {0}", dataType);
+        processRecord(dataType, tokenizer.reset(rawInput));
+    }
+
+    /**
+     * Adds the entry represented by a tokenized line in the data file format to the relevant list.
+     *
+     * @param filter The type of entry in the line.
+     * @param record The tokenizer holding the fields of the line.
+     * @throws CustomExceptions.InvalidInput      If the line contains invalid data.
+     * @throws CustomExceptions.InsufficientInput If the line is missing data.
+     * @throws CustomExceptions.OutOfBounds       If an incomplete gym entry in the line cannot be discarded.
+     */
+    private void processRecord(DataType filter, RecordTokenizer record) throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput, CustomExceptions.OutOfBounds {
+        switch (filter) {
+
+        case APPOINTMENT:
+            processAppointment(record);
+            break;
+
+        case PERIOD:
+            processPeriod(record);
+            break;
+
+        case BMI:
+            processBmi(record);
+            break;
+
+        case GYM:
+            processGym(record);
+            break;
+
+        case RUN:
+            processRun(record);
+            break;
+
+        default:
+            break; // parseDataType results in immediate exception for non-match with enum DataType
+        }
+    }
+
+    /**
+     * Replays the changes recorded in the journal on top of the entries loaded from the data file.
+     * Replay stops at the first record that cannot be applied, as it can only be the result of a write that was
+     * interrupted, and every change before it is kept.
+     */
+    public void replayJournal() {
+        try {
+            replayRecords(JournalFile.readRecords());
+        } catch (IOException e) {
+            LogFile.writeLog("Unable to read journal, skipping replay: " + e.getMessage(), true);
+        }
+    }
+
+    /**
+     * Replays journal records on top of the entries already loaded, stopping at the first record that cannot be
+     * applied.
+     *
+     * @param records The journal records to replay, in the order they were recorded.
+     */
+    private void replayRecords(List<String> records) {
+        int replayedCount = 0;
+        for (String record : records) {
+            if (isAffectedByQuarantine(record)) {
+                quarantine(record, findJournalDataType(record),
+                        "Index may refer to a different entry after quarantine");
+                continue;
             }
-        } catch (Exception e) {
-            LogFile.writeLog("Data file is missing content at line " + lineNumberCount + ", exiting." + e,
-                    true);
-            processFail(ErrorConstant.CORRUPT_ERROR);
-            System.exit(1);
+            try {
+                applyJournalRecord(record);
+                replayedCount += 1;
+            } catch (Exception e) {
+                LogFile.writeLog("Journal replay stopped at record " + replayedCount + ": " + record + " " + e,
+                        true);
+                break;
+            }
+        }
+        LogFile.writeLog(Level.INFO, "Replayed {0} journal record(s)", replayedCount);
+    }
+
+    /**
+     * Returns whether a journal record refers to an entry by an index that may have shifted because an entry of the
+     * same type was quarantined.
+     *
+     * @param record The journal record to check.
+     * @return True if the record is a deletion or update of a type with quarantined entries, otherwise false.
+     */
+    private boolean isAffectedByQuarantine(String record) {
+        if (quarantinedTypes.isEmpty() || record.startsWith(JournalOperation.ADD + UiConstant.SPLIT_BY_COLON)) {
+            return false;
+        }
+        DataType dataType = findJournalDataType(record);
+        return dataType != null && quarantinedTypes.contains(dataType);
+    }
+
+    /**
+     * Reads the type of entry a journal record refers to, if it can be read.
+     *
+     * @param record The journal record to read.
+     * @return The type of entry, or null if the record does not refer to a known type of entry.
+     */
+    private DataType findJournalDataType(String record) {
+        return findDataType(record.substring(record.indexOf(UiConstant.SPLIT_BY_COLON) + 1));
+    }
+
+    /**
+     * Applies one journal record to the health and workout lists.
+     *
+     * @param record The journal record to apply.
+     * @throws Exception If the record is malformed or cannot be applied.
+     */
+    private void applyJournalRecord(String record) throws Exception {
+        String[] input = record.split(UiConstant.SPLIT_BY_COLON);
+        JournalOperation operation = JournalOperation.valueOf(input[UiConstant.JOURNAL_OPERATION_INDEX]);
+        switch (operation) {
+        case ADD:
+            processDataLine(record.substring(record.indexOf(UiConstant.SPLIT_BY_COLON) + 1));
+            break;
+
+        case DELETE:
+            DataType dataType = DataType.valueOf(input[UiConstant.JOURNAL_DATA_TYPE_INDEX]);
+            int index = Integer.parseInt(input[UiConstant.JOURNAL_RECORD_INDEX]);
+            processDelete(dataType, index);
+            break;
+
+        case UPDATE:
+            int periodIndex = Integer.parseInt(input[UiConstant.JOURNAL_RECORD_INDEX]);
+            String endDate = input[UiConstant.JOURNAL_UPDATE_VALUE_INDEX];
+            validation.validateDateInput(endDate);
+            Objects.requireNonNull(HealthList.getPeriod(periodIndex)).updateEndDate(endDate);
+            break;
+
+        default:
+            break;
+        }
+    }
+
+    /**
+     * Removes an entry recorded as deleted in the journal.
+     *
+     * @param dataType The type of entry to remove.
+     * @param index    The index of the entry within its list.
+     * @throws CustomExceptions.OutOfBounds If there is no entry at the index.
+     */
+    private void processDelete(DataType dataType, int index) throws CustomExceptions.OutOfBounds {
+        switch (dataType) {
+        case BMI:
+            HealthList.removeBmi(index);
+            break;
+
+        case PERIOD:
+            HealthList.removePeriod(index);
+            break;
+
+        case APPOINTMENT:
+            HealthList.removeAppointment(index);
+            break;
+
+        case RUN:
+            WorkoutLists.removeRun(index);
+            break;
+
+        case GYM:
+            WorkoutLists.removeGym(index);
+            break;
+
+        default:
+            break;
         }
     }
 
@@ -343,16 +827,234 @@ public class DataFile {
      * @param rawInput The raw input string containing gym data.
      * @throws CustomExceptions.InvalidInput  If there is an error in the input data format.
      * @throws CustomExceptions.FileReadError If there is an error reading the gym file.
+     * @throws CustomExceptions.OutOfBounds   If an incomplete gym entry cannot be discarded.
      */
     public void processGym(String rawInput) throws CustomExceptions.InvalidInput, CustomExceptions.FileReadError,
-            CustomExceptions.InsufficientInput {
+            CustomExceptions.InsufficientInput, CustomExceptions.OutOfBounds {
 
+        int gymCount = WorkoutLists.getGymSize();
         Parser newParser = new Parser();
-        newParser.parseGymFileInput(rawInput);
+        try {
+            newParser.parseGymFileInput(rawInput);
+        } catch (CustomExceptions.InvalidInput | CustomExceptions.InsufficientInput e) {
+            discardIncompleteGym(gymCount);
+            throw e;
+        }
+    }
+
+    /**
+     * Removes a gym that was added to the workout list before one of its stations failed to load.
+     *
+     * @param gymCount The number of gyms in the list before the gym was added.
+     * @throws CustomExceptions.OutOfBounds If the gym cannot be removed.
+     */
+    private void discardIncompleteGym(int gymCount) throws CustomExceptions.OutOfBounds {
+        // the gym is added to the list before its stations are read, so discard it if a station is invalid
+        if (WorkoutLists.getGymSize() > gymCount) {
+            WorkoutLists.removeGym(gymCount);
+        }
+    }
+
+    /**
+     * Processes a tokenized appointment entry and adds it to the health list.
+     * Applies the same checks as {@code Validation.validateAppointmentDetails}, decoding the date and time straight
+     * from the line.
+     *
+     * @param record The tokenizer holding the fields of the appointment entry.
+     * @throws CustomExceptions.InvalidInput      If the entry contains invalid data.
+     * @throws CustomExceptions.InsufficientInput If the entry is missing data.
+     */
+    private void processAppointment(RecordTokenizer record) throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput {
+        record.requireFieldCount(HealthConstant.APPOINTMENT_FILE_FIELD_COUNT,
+                ErrorConstant.INSUFFICIENT_APPOINTMENT_PARAMETERS_ERROR);
+        if (record.isEmpty(HealthConstant.APPOINTMENT_DESCRIPTION_FILE_INDEX)) {
+            throw new CustomExceptions.InsufficientInput(ErrorConstant.INSUFFICIENT_APPOINTMENT_PARAMETERS_ERROR);
+        }
+        LocalDate date = LocalDate.ofEpochDay(record.parseEpochDay(HealthConstant.APPOINTMENT_DATE_FILE_INDEX));
+
+        int timeIndex = HealthConstant.APPOINTMENT_TIME_FILE_INDEX;
+        if (record.countTimeParts(timeIndex, ErrorConstant.INVALID_ACTUAL_TIME_ERROR)
+                != HealthConstant.APPOINTMENT_TIME_PARTS) {
+            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_ACTUAL_TIME_ERROR);
+        }
+        int hours = record.parseTimePart(timeIndex, UiConstant.SPLIT_TIME_HOUR_INDEX);
+        int minutes = record.parseTimePart(timeIndex, UiConstant.SPLIT_TIME_MINUTES_INDEX);
+        if (hours > UiConstant.MAX_HOURS) {
+            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_ACTUAL_TIME_HOUR_ERROR);
+        }
+        if (minutes > UiConstant.MAX_MINUTES) {
+            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_ACTUAL_TIME_MINUTE_ERROR);
+        }
+
+        String description = record.getField(HealthConstant.APPOINTMENT_DESCRIPTION_FILE_INDEX);
+        if (description.length() > HealthConstant.MAX_DESCRIPTION_LENGTH) {
+            throw new CustomExceptions.InvalidInput(ErrorConstant.DESCRIPTION_LENGTH_ERROR);
+        }
+        if (!description.matches(UiConstant.VALID_APPOINTMENT_DESCRIPTION_REGEX)) {
+            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_DESCRIPTION_ERROR);
+        }
+        new Appointment(date, LocalTime.of(hours, minutes), description);
+    }
+
+    /**
+     * Processes a tokenized period entry and adds it to the health list.
+     * Applies the same checks as {@code Validation.validatePeriodInput}, decoding the dates straight from the line.
+     *
+     * @param record The tokenizer holding the fields of the period entry.
+     * @throws CustomExceptions.InvalidInput      If the entry contains invalid data.
+     * @throws CustomExceptions.InsufficientInput If the entry is missing data.
+     */
+    private void processPeriod(RecordTokenizer record) throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput {
+        record.requireFieldCount(HealthConstant.PERIOD_FILE_FIELD_COUNT,
+                ErrorConstant.INSUFFICIENT_PERIOD_PARAMETERS_ERROR);
+        LocalDate startDate;
+        try {
+            startDate = LocalDate.ofEpochDay(record.parseEpochDay(HealthConstant.PERIOD_START_DATE_FILE_INDEX));
+        } catch (CustomExceptions.InvalidInput e) {
+            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_START_DATE_ERROR + e.getMessage());
+        }
+        LocalDate endDate = null;
+        try {
+            if (!record.isNotSpecified(HealthConstant.PERIOD_END_DATE_FILE_INDEX)) {
+                endDate = LocalDate.ofEpochDay(record.parseEpochDay(HealthConstant.PERIOD_END_DATE_FILE_INDEX));
+            }
+        } catch (CustomExceptions.InvalidInput e) {
+            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_END_DATE_ERROR + e.getMessage());
+        }
+
+        validation.validateDateNotAfterToday(startDate);
+        if (endDate != null) {
+            validation.validateDateNotAfterToday(endDate);
+            if (startDate.isAfter(endDate)) {
+                throw new CustomExceptions.InvalidInput(ErrorConstant.PERIOD_END_BEFORE_START_ERROR);
+            }
+        }
+        new Period(startDate, endDate);
+    }
+
+    /**
+     * Processes a tokenized BMI entry and adds it to the health list.
+     * Applies the same checks as {@code Validation.validateBmiInput}, decoding the height, weight and date straight
+     * from the line.
+     *
+     * @param record The tokenizer holding the fields of the BMI entry.
+     * @throws CustomExceptions.InvalidInput      If the entry contains invalid data.
+     * @throws CustomExceptions.InsufficientInput If the entry is missing data.
+     */
+    private void processBmi(RecordTokenizer record) throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput {
+        record.requireFieldCount(HealthConstant.BMI_FILE_FIELD_COUNT, ErrorConstant.INSUFFICIENT_BMI_PARAMETERS_ERROR);
+        double height = record.parseTwoDecimalPlaces(HealthConstant.BMI_HEIGHT_FILE_INDEX,
+                ErrorConstant.INVALID_HEIGHT_WEIGHT_INPUT_ERROR);
+        double weight = record.parseTwoDecimalPlaces(HealthConstant.BMI_WEIGHT_FILE_INDEX,
+                ErrorConstant.INVALID_HEIGHT_WEIGHT_INPUT_ERROR);
+        if (height <= HealthConstant.MIN_HEIGHT || weight <= HealthConstant.MIN_WEIGHT) {
+            throw new CustomExceptions.InvalidInput(ErrorConstant.ZERO_HEIGHT_AND_WEIGHT_ERROR);
+        }
+        if (height > HealthConstant.MAX_HEIGHT) {
+            throw new CustomExceptions.InvalidInput(ErrorConstant.MAX_HEIGHT_ERROR);
+        }
+        if (weight > HealthConstant.MAX_WEIGHT) {
+            throw new CustomExceptions.InvalidInput(ErrorConstant.MAX_WEIGHT_ERROR);
+        }
+
+        LocalDate date = LocalDate.ofEpochDay(record.parseEpochDay(HealthConstant.BMI_DATE_FILE_INDEX));
+        validation.validateDateNotAfterToday(date);
+        validation.validateDateNotPresent(date);
+        new Bmi(height, weight, date);
+    }
+
+    /**
+     * Processes a tokenized run entry and adds it to the workout list.
+     * Applies the same checks as {@code Validation.validateRunInput}, decoding the time, distance and date straight
+     * from the line.
+     *
+     * @param record The tokenizer holding the fields of the run entry.
+     * @throws CustomExceptions.InvalidInput      If the entry contains invalid data.
+     * @throws CustomExceptions.InsufficientInput If the entry is missing data.
+     */
+    private void processRun(RecordTokenizer record) throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput {
+        record.requireFieldCount(WorkoutConstant.RUN_FILE_FIELD_COUNT, ErrorConstant.INSUFFICIENT_RUN_PARAMETERS_ERROR);
+        int timeIndex = WorkoutConstant.RUN_TIME_FILE_INDEX;
+        int timeParts = record.countTimeParts(timeIndex, ErrorConstant.INVALID_RUN_TIME_ERROR);
+        double distance = record.parseTwoDecimalPlaces(WorkoutConstant.RUN_DISTANCE_FILE_INDEX,
+                ErrorConstant.INVALID_RUN_DISTANCE_ERROR);
+        LocalDate date = parseOptionalDate(record, WorkoutConstant.RUN_DATE_FILE_INDEX);
+
+        int hours = WorkoutConstant.NO_HOURS_PRESENT;
+        int minutePart = WorkoutConstant.RUN_TIME_NO_HOURS_MINUTE_INDEX;
+        if (timeParts == WorkoutConstant.NUMBER_OF_PARTS_FOR_RUN_TIME_WITH_HOURS) {
+            hours = record.parseTimePart(timeIndex, WorkoutConstant.RUN_TIME_HOUR_INDEX);
+            minutePart = WorkoutConstant.RUN_TIME_MINUTE_INDEX;
+        }
+        int minutes = record.parseTimePart(timeIndex, minutePart);
+        int seconds = record.parseTimePart(timeIndex, minutePart + 1);
+        new Run(hours, minutes, seconds, distance, date);
+    }
+
+    /**
+     * Processes a tokenized gym entry and adds it to the workout list.
+     * Applies the same checks as {@code Parser.parseGymFileInput}, decoding the number of sets, repetitions and
+     * weights of each station straight from the line.
+     *
+     * @param record The tokenizer holding the fields of the gym entry.
+     * @throws CustomExceptions.InvalidInput      If the entry contains invalid data.
+     * @throws CustomExceptions.InsufficientInput If the entry is missing data.
+     * @throws CustomExceptions.OutOfBounds       If an incomplete gym entry cannot be discarded.
+     */
+    private void processGym(RecordTokenizer record) throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput, CustomExceptions.OutOfBounds {
+        record.requireFieldCount(WorkoutConstant.GYM_FILE_BASE_COUNTER, ErrorConstant.LOAD_GYM_FORMAT_ERROR);
+        int numberOfStations = record.parsePositiveInt(WorkoutConstant.NUM_OF_STATIONS_FILE_INDEX,
+                ErrorConstant.INVALID_NUMBER_OF_STATIONS_ERROR);
+        if (numberOfStations > WorkoutConstant.MAX_GYM_STATION_NUMBER) {
+            throw new CustomExceptions.InvalidInput(ErrorConstant.MAX_STATIONS_ERROR);
+        }
+        LocalDate date = parseOptionalDate(record, WorkoutConstant.DATE_FILE_INDEX);
+        if ((record.getFieldCount() - WorkoutConstant.GYM_FILE_BASE_COUNTER) % WorkoutConstant.INCREMENT_OFFSET != 0) {
+            throw new CustomExceptions.InvalidInput(ErrorConstant.LOAD_GYM_FORMAT_ERROR);
+        }
+
+        int gymCount = WorkoutLists.getGymSize();
+        Gym gym = new Gym(date);
+        try {
+            for (int i = WorkoutConstant.GYM_FILE_BASE_COUNTER; i < record.getFieldCount();
+                    i += WorkoutConstant.INCREMENT_OFFSET) {
+                gym.addStation(record.getField(i),
+                        record.parsePositiveInt(i + WorkoutConstant.SETS_OFFSET,
+                                ErrorConstant.INVALID_SETS_POSITIVE_DIGIT_ERROR),
+                        record.parsePositiveInt(i + WorkoutConstant.REPS_OFFSET,
+                                ErrorConstant.INVALID_REPS_POSITIVE_DIGIT_ERROR),
+                        record.parseWeights(i + WorkoutConstant.WEIGHTS_OFFSET));
+            }
+        } catch (CustomExceptions.InvalidInput | CustomExceptions.InsufficientInput e) {
+            discardIncompleteGym(gymCount);
+            throw e;
+        }
     }
 
     /**
-     * Saves data to the data file.
+     * Decodes an optional workout date that cannot be after today.
+     *
+     * @param record The tokenizer holding the fields of the entry.
+     * @param index  The index of the date field.
+     * @return The date, or null if the date is {@code NA}.
+     * @throws CustomExceptions.InvalidInput If the date is invalid or after today.
+     */
+    private LocalDate parseOptionalDate(RecordTokenizer record, int index) throws CustomExceptions.InvalidInput {
+        if (record.isNotSpecified(index)) {
+            return null;
+        }
+        LocalDate date = LocalDate.ofEpochDay(record.parseEpochDay(index));
+        validation.validateDateNotAfterToday(date);
+        return date;
+    }
+
+    /**
+     * Saves data to the data file and empties the journal, as every journalled change is now in the data file.
      *
      * @param name                 The username to be saved.
      * @param bmiArrayList         List of BMI entries to be saved.
@@ -367,43 +1069,114 @@ public class DataFile {
                              ArrayList<Period> periodArrayList,
                              ArrayList<Workout> workoutArrayList
     ) throws CustomExceptions.FileWriteError {
+        writeSnapshot(name, bmiArrayList, appointmentArrayList, periodArrayList, workoutArrayList);
+        isSnapshotOutdated = false;
 
-        try (FileWriter dataFile = new FileWriter(UiConstant.dataFilePath)) {
-            LogFile.writeLog("Attempting to write name: " + name, false);
-            writeName(dataFile, name);
-
-            writeHealthData(dataFile, bmiArrayList,
-                    appointmentArrayList,
-                    periodArrayList);
+        try {
+            JournalFile.clear();
+        } catch (IOException e) {
+            throw new CustomExceptions.FileWriteError(ErrorConstant.SAVE_ERROR);
+        }
+    }
 
-            writeWorkoutData(dataFile, workoutArrayList);
+    /**
+     * Writes data to the data file and its hashes to the hash file, leaving the journal untouched.
+     *
+     * @param name                 The username to be saved.
+     * @param bmiArrayList         List of BMI entries to be saved.
+     * @param appointmentArrayList List of appointment entries to be saved.
+     * @param periodArrayList      List of period entries to be saved.
+     * @param workoutArrayList     List of workout entries to be saved.
+     * @throws CustomExceptions.FileWriteError If there is an error writing to the data or hash file.
+     */
+    public void writeSnapshot(String name,
+                              ArrayList<Bmi> bmiArrayList,
+                              ArrayList<Appointment> appointmentArrayList,
+                              ArrayList<Period> periodArrayList,
+                              ArrayList<Workout> workoutArrayList) throws CustomExceptions.FileWriteError {
+        writeSnapshot(formatSnapshot(name, bmiArrayList, appointmentArrayList, periodArrayList, workoutArrayList));
+    }
 
+    /**
+     * Writes already formatted contents to the data file and their hashes to the hash file, leaving the journal
+     * untouched. Both files are replaced together by {@code AtomicSnapshotWriter}, so a crash while saving leaves
+     * either the previous or the new pair of files.
+     *
+     * @param data The contents of the data file, as returned by {@code formatSnapshot()}.
+     * @throws CustomExceptions.FileWriteError If there is an error writing to the data or hash file.
+     */
+    public void writeSnapshot(byte[] data) throws CustomExceptions.FileWriteError {
+        try {
+            LogFile.writeLog("Attempting to write data and hash files", false);
+            byte[] previousData;
+            List<String> previousHashLines;
+            synchronized (DataFile.class) {
+                previousData = verifiedData;
+                previousHashLines = verifiedHashLines;
+            }
+            byte[] hashBytes = HashFile.toBytes(HashFile.computeBlockHashes(data, previousData, previousHashLines,
+                    !previousHashLines.isEmpty()));
+            AtomicSnapshotWriter.write(UiConstant.saveFile.toPath(), data, Path.of(UiConstant.hashFilePath),
+                    hashBytes);
+            rememberVerifiedHashes(data, List.of(new String(hashBytes, StandardCharsets.US_ASCII)
+                    .split(System.lineSeparator())));
             LogFile.writeLog("Write end", false);
 
-        } catch (IOException e) {
+        } catch (IOException | NoSuchAlgorithmException e) {
             throw new CustomExceptions.FileWriteError(ErrorConstant.SAVE_ERROR);
         }
+    }
 
-        try (FileWriter hashFile = new FileWriter(UiConstant.hashFilePath)) {
-            LogFile.writeLog("Attempting to write hash", false);
-            File dataFile = UiConstant.saveFile;
-            writeHashToFile(generateFileHash(dataFile));
+    /**
+     * Formats the user's name and every entry as the contents of the data file, in the storage format in use.
+     * The entries are read while formatting, so callers running alongside the command loop hold
+     * {@code AutosaveScheduler.getLock()} until this returns.
+     *
+     * @param name                 The username to be saved.
+     * @param bmiArrayList         List of BMI entries to be saved.
+     * @param appointmentArrayList List of appointment entries to be saved.
+     * @param periodArrayList      List of period entries to be saved.
+     * @param workoutArrayList     List of workout entries to be saved.
+     * @return The contents of the data file.
+     * @throws CustomExceptions.FileWriteError If the entries cannot be formatted.
+     */
+    public byte[] formatSnapshot(String name,
+                                 ArrayList<Bmi> bmiArrayList,
+                                 ArrayList<Appointment> appointmentArrayList,
+                                 ArrayList<Period> periodArrayList,
+                                 ArrayList<Workout> workoutArrayList) throws CustomExceptions.FileWriteError {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            if (UiConstant.storageFormat == StorageFormat.BINARY) {
+                BinaryDataFile.write(bytes, name, bmiArrayList, appointmentArrayList, periodArrayList,
+                        workoutArrayList);
+                return bytes.toByteArray();
+            }
 
-            LogFile.writeLog("Write end", false);
+            try (Writer dataFile = new BufferedWriter(new OutputStreamWriter(bytes, StandardCharsets.UTF_8))) {
+                LogFile.writeLog(Level.INFO, "Attempting to write name: {0}", name);
+                writeName(dataFile, name);
 
-        } catch (IOException | NoSuchAlgorithmException e) {
+                writeHealthData(dataFile, bmiArrayList,
+                        appointmentArrayList,
+                        periodArrayList);
+
+                writeWorkoutData(dataFile, workoutArrayList);
+            }
+        } catch (IOException e) {
             throw new CustomExceptions.FileWriteError(ErrorConstant.SAVE_ERROR);
         }
+        return bytes.toByteArray();
     }
 
     /**
      * Writes the user's name to the data file.
      *
-     * @param dataFile The FileWriter object for writing to the data file.
+     * @param dataFile The Writer object for writing the contents of the data file.
      * @param name     The user's name to be written to the file.
      * @throws IOException If an I/O error occurs while writing to the file.
      */
-    public void writeName(FileWriter dataFile, String name) throws IOException {
+    public void writeName(Writer dataFile, String name) throws IOException {
         dataFile.write(UiConstant.NAME_LABEL + UiConstant.SPLIT_BY_COLON + name.trim() + System.lineSeparator());
         LogFile.writeLog("Wrote name to file", false);
     }
@@ -411,26 +1184,20 @@ public class DataFile {
     /**
      * Writes health-related data (BMI, appointments, periods) to the data file.
      *
-     * @param dataFile             The FileWriter object for writing to the data file.
+     * @param dataFile             The Writer object for writing the contents of the data file.
      * @param bmiArrayList         The list of BMI entries to be written.
      * @param appointmentArrayList The list of appointment entries to be written.
      * @param periodArrayList      The list of period entries to be written.
      * @throws IOException If an I/O error occurs while writing to the file.
      */
-    public void writeHealthData(FileWriter dataFile, ArrayList<Bmi> bmiArrayList,
+    public void writeHealthData(Writer dataFile, ArrayList<Bmi> bmiArrayList,
                                 ArrayList<Appointment> appointmentArrayList,
                                 ArrayList<Period> periodArrayList) throws IOException {
-        Parser newParser = new Parser();
         // Write each bmi entry in a specific format
         // bmi format: bmi:HEIGHT:WEIGHT:BMI_SCORE:DATE (NA if no date)
         if (!bmiArrayList.isEmpty()) {
             for (Bmi bmiEntry : bmiArrayList) {
-                String formattedDate = newParser.parseFormattedDate(bmiEntry.getDate());
-
-                dataFile.write(DataType.BMI + UiConstant.SPLIT_BY_COLON + bmiEntry.getHeight() +
-                        UiConstant.SPLIT_BY_COLON + bmiEntry.getWeight() +
-                        UiConstant.SPLIT_BY_COLON + bmiEntry.getBmiValue() +
-                        UiConstant.SPLIT_BY_COLON + formattedDate + System.lineSeparator());
+                dataFile.write(addChecksum(formatBmi(bmiEntry)) + System.lineSeparator());
             }
         }
 
@@ -438,13 +1205,7 @@ public class DataFile {
         // appointment format: appointment:DATE:TIME:DESCRIPTION
         if (!appointmentArrayList.isEmpty()) {
             for (Appointment appointmentEntry : appointmentArrayList) {
-                String formattedDate = newParser.parseFormattedDate(appointmentEntry.getDate());
-                String formattedTime = String.valueOf(appointmentEntry.getTime());
-                formattedTime = formattedTime.replace(":", ".");
-
-                dataFile.write(DataType.APPOINTMENT + UiConstant.SPLIT_BY_COLON + formattedDate +
-                        UiConstant.SPLIT_BY_COLON + formattedTime +
-                        UiConstant.SPLIT_BY_COLON + appointmentEntry.getDescription() + System.lineSeparator());
+                dataFile.write(addChecksum(formatAppointment(appointmentEntry)) + System.lineSeparator());
             }
         }
 
@@ -452,27 +1213,22 @@ public class DataFile {
         // period format: period:START:END:DURATION
         if (!periodArrayList.isEmpty()) {
             for (Period periodEntry : periodArrayList) {
-                LogFile.writeLog("Writing period to file", false);
-                String formattedStartDate = newParser.parseFormattedDate(periodEntry.getStartDate());
-                String formattedEndDate = newParser.parseFormattedDate(periodEntry.getEndDate());
-
-                dataFile.write(DataType.PERIOD + UiConstant.SPLIT_BY_COLON + formattedStartDate +
-                        UiConstant.SPLIT_BY_COLON + formattedEndDate +
-                        UiConstant.SPLIT_BY_COLON + periodEntry.getPeriodLength() + System.lineSeparator());
-                LogFile.writeLog("Wrote period to file", false);
+                dataFile.write(addChecksum(formatPeriod(periodEntry)) + System.lineSeparator());
             }
         }
+        LogFile.writeLog(Level.FINE, "Wrote {0} BMI, {1} appointment and {2} period entries to file",
+                bmiArrayList.size(), appointmentArrayList.size(), periodArrayList.size());
 
     }
 
     /**
      * Writes workout-related data (runs and gym sessions) to the data file.
      *
-     * @param dataFile         The FileWriter object for writing to the data file.
+     * @param dataFile         The Writer object for writing the contents of the data file.
      * @param workoutArrayList The list of workout entries to be written.
      * @throws IOException If an I/O error occurs while writing to the file.
      */
-    public void writeWorkoutData(FileWriter dataFile,
+    public void writeWorkoutData(Writer dataFile,
                                  ArrayList<Workout> workoutArrayList) throws IOException {
 
         // Write each run entry in a specific format
@@ -480,20 +1236,73 @@ public class DataFile {
         if (!workoutArrayList.isEmpty()) {
             for (Workout workoutEntry : workoutArrayList) {
                 if (workoutEntry instanceof Run) {
-                    Run runEntry = (Run) workoutEntry;
-                    String formattedDate = runEntry.getDateForFile();
-                    String formattedTime = runEntry.getTimes().replace(":", ".");
-
-                    dataFile.write(DataType.RUN + UiConstant.SPLIT_BY_COLON + runEntry.getDistance() +
-                            UiConstant.SPLIT_BY_COLON + formattedTime +
-                            UiConstant.SPLIT_BY_COLON + formattedDate + System.lineSeparator());
+                    dataFile.write(addChecksum(formatRun((Run) workoutEntry)) + System.lineSeparator());
                 } else if (workoutEntry instanceof Gym) {
                     Gym gymEntry = (Gym) workoutEntry;
                     String gymString = gymEntry.toFileString();
-                    dataFile.write(gymString + System.lineSeparator());
+                    dataFile.write(addChecksum(gymString) + System.lineSeparator());
                 }
             }
         }
     }
-}
 
+    /**
+     * Formats a {@code Bmi} entry into a line of the data file.
+     *
+     * @param bmiEntry The {@code Bmi} entry to format.
+     * @return The formatted line, without a line separator.
+     */
+    public String formatBmi(Bmi bmiEntry) {
+        Parser newParser = new Parser();
+        String formattedDate = newParser.parseFormattedDate(bmiEntry.getDate());
+        return DataType.BMI + UiConstant.SPLIT_BY_COLON + bmiEntry.getHeight() +
+                UiConstant.SPLIT_BY_COLON + bmiEntry.getWeight() +
+                UiConstant.SPLIT_BY_COLON + bmiEntry.getBmiValue() +
+                UiConstant.SPLIT_BY_COLON + formattedDate;
+    }
+
+    /**
+     * Formats an {@code Appointment} entry into a line of the data file.
+     *
+     * @param appointmentEntry The {@code Appointment} entry to format.
+     * @return The formatted line, without a line separator.
+     */
+    public String formatAppointment(Appointment appointmentEntry) {
+        Parser newParser = new Parser();
+        String formattedDate = newParser.parseFormattedDate(appointmentEntry.getDate());
+        String formattedTime = String.valueOf(appointmentEntry.getTime());
+        formattedTime = formattedTime.replace(":", ".");
+        return DataType.APPOINTMENT + UiConstant.SPLIT_BY_COLON + formattedDate +
+                UiConstant.SPLIT_BY_COLON + formattedTime +
+                UiConstant.SPLIT_BY_COLON + appointmentEntry.getDescription();
+    }
+
+    /**
+     * Formats a {@code Period} entry into a line of the data file.
+     *
+     * @param periodEntry The {@code Period} entry to format.
+     * @return The formatted line, without a line separator.
+     */
+    public String formatPeriod(Period periodEntry) {
+        Parser newParser = new Parser();
+        String formattedStartDate = newParser.parseFormattedDate(periodEntry.getStartDate());
+        String formattedEndDate = newParser.parseFormattedDate(periodEntry.getEndDate());
+        return DataType.PERIOD + UiConstant.SPLIT_BY_COLON + formattedStartDate +
+                UiConstant.SPLIT_BY_COLON + formattedEndDate +
+                UiConstant.SPLIT_BY_COLON + periodEntry.getPeriodLength();
+    }
+
+    /**
+     * Formats a {@code Run} entry into a line of the data file.
+     *
+     * @param runEntry The {@code Run} entry to format.
+     * @return The formatted line, without a line separator.
+     */
+    public String formatRun(Run runEntry) {
+        String formattedDate = runEntry.getDateForFile();
+        String formattedTime = runEntry.getTimes().replace(":", ".");
+        return DataType.RUN + UiConstant.SPLIT_BY_COLON + runEntry.getDistance() +
+                UiConstant.SPLIT_BY_COLON + formattedTime +
+                UiConstant.SPLIT_BY_COLON + formattedDate;
+    }
+}
@@ -0,0 +1,338 @@
+package storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32C;
+import java.util.logging.Level;
+
+import constants.ErrorConstant;
+import constants.UiConstant;
+import utility.Filters.DataType;
+
+/**
+ * Represents the loader used to read the data file in parallel.
+ * The data file is split into line-aligned ranges, and each range is read, checksum-verified and classified by type of
+ * entry on a {@code ForkJoinPool}. Creating the entries is left to {@code DataFile}, which adds them to the health and
+ * workout lists in their original order.
+ * Data files of at least {@code LOADER_MMAP_THRESHOLD} bytes are memory-mapped, while smaller ones are read directly,
+ * as mapping them costs more than it saves.
+ */
+public class DataFileLoader {
+
+    /**
+     * Represents a single line read from the data file.
+     */
+    public static class LoadedLine {
+        private final String rawLine;
+        private final String dataLine;
+        private final DataType dataType;
+        private final String error;
+
+        /**
+         * Constructs a line that was read successfully.
+         *
+         * @param rawLine  The line as read from the data file.
+         * @param dataLine The line without its checksum.
+         * @param dataType The type of entry in the line.
+         */
+        private LoadedLine(String rawLine, String dataLine, DataType dataType) {
+            this.rawLine = rawLine;
+            this.dataLine = dataLine;
+            this.dataType = dataType;
+            this.error = null;
+        }
+
+        /**
+         * Constructs a line that could not be read.
+         *
+         * @param rawLine The line as read from the data file.
+         * @param error   The reason the line could not be read.
+         */
+        private LoadedLine(String rawLine, String error) {
+            this.rawLine = rawLine;
+            this.dataLine = rawLine;
+            this.dataType = null;
+            this.error = error;
+        }
+
+        /**
+         * Returns the line as read from the data file, including its checksum.
+         */
+        public String getRawLine() {
+            return rawLine;
+        }
+
+        /**
+         * Returns the line without its checksum.
+         */
+        public String getDataLine() {
+            return dataLine;
+        }
+
+        /**
+         * Returns the type of entry in the line, or null if the line could not be read.
+         */
+        public DataType getDataType() {
+            return dataType;
+        }
+
+        /**
+         * Returns the reason the line could not be read, or null if it was read successfully.
+         */
+        public String getError() {
+            return error;
+        }
+    }
+
+    /**
+     * Reads every non-blank line of the data file in parallel.
+     *
+     * @param dataFile The data file to read.
+     * @return The lines of the data file in their original order.
+     * @throws IOException If the data file cannot be read.
+     */
+    public List<LoadedLine> load(File dataFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(dataFile.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            boolean isMapped = size >= UiConstant.LOADER_MMAP_THRESHOLD;
+            List<Long> boundaries = splitIntoRanges(channel, size);
+
+            List<Callable<List<LoadedLine>>> tasks = new ArrayList<>();
+            for (int i = 0; i < boundaries.size() - 1; i++) {
+                long start = boundaries.get(i);
+                long end = boundaries.get(i + 1);
+                tasks.add(() -> loadRange(channel, start, end, isMapped));
+            }
+
+            List<LoadedLine> lines = new ArrayList<>();
+            for (Future<List<LoadedLine>> result : ForkJoinPool.commonPool().invokeAll(tasks)) {
+                lines.addAll(getResult(result));
+            }
+            LogFile.writeLog(Level.INFO, "Loaded {0} line(s) from {1} range(s), mapped: {2}", lines.size(),
+                    tasks.size(), isMapped);
+            return lines;
+        }
+    }
+
+    /**
+     * Splits the data file into ranges that each start at the beginning of a line.
+     * The number of ranges scales with the number of cores, but each range is at least
+     * {@code LOADER_MIN_RANGE_SIZE} bytes so that small files are read as a single range.
+     *
+     * @param channel The channel of the data file.
+     * @param size    The size of the data file in bytes.
+     * @return The start of each range followed by the end of the file.
+     * @throws IOException If the data file cannot be read.
+     */
+    private List<Long> splitIntoRanges(FileChannel channel, long size) throws IOException {
+        long maxRangeCount = ForkJoinPool.getCommonPoolParallelism() * UiConstant.LOADER_RANGES_PER_THREAD;
+        long rangeCount = Math.max(1, Math.min(maxRangeCount, size / UiConstant.LOADER_MIN_RANGE_SIZE));
+        rangeCount = Math.max(rangeCount, size / UiConstant.LOADER_MAX_RANGE_SIZE + 1);
+
+        List<Long> boundaries = new ArrayList<>();
+        boundaries.add(0L);
+        for (long i = 1; i < rangeCount; i++) {
+            long boundary = findNextLineStart(channel, i * (size / rangeCount), size);
+            if (boundary > boundaries.get(boundaries.size() - 1) && boundary < size) {
+                boundaries.add(boundary);
+            }
+        }
+        boundaries.add(size);
+        return boundaries;
+    }
+
+    /**
+     * Finds the start of the first line that begins after the given position.
+     *
+     * @param channel  The channel of the data file.
+     * @param position The position to search from.
+     * @param size     The size of the data file in bytes.
+     * @return The position after the next line separator, or the size of the file if there is none.
+     * @throws IOException If the data file cannot be read.
+     */
+    private long findNextLineStart(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(UiConstant.LOADER_BOUNDARY_SCAN_SIZE);
+        while (position < size) {
+            buffer.clear();
+            int bytesRead = channel.read(buffer, position);
+            if (bytesRead <= 0) {
+                break;
+            }
+            for (int i = 0; i < bytesRead; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += bytesRead;
+        }
+        return size;
+    }
+
+    /**
+     * Reads and parses every line in one range of the data file.
+     *
+     * @param channel  The channel of the data file.
+     * @param start    The start of the range, which is the start of a line.
+     * @param end      The end of the range, which is the end of a line or of the file.
+     * @param isMapped Whether the range should be memory-mapped instead of read.
+     * @return The lines in the range in order.
+     * @throws IOException If the range cannot be read.
+     */
+    private List<LoadedLine> loadRange(FileChannel channel, long start, long end, boolean isMapped)
+            throws IOException {
+        ByteBuffer buffer;
+        if (isMapped) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        } else {
+            buffer = ByteBuffer.allocate((int) (end - start));
+            while (buffer.hasRemaining() && channel.read(buffer, start + buffer.position()) > 0) {
+                // keep reading until the whole range is in the buffer
+            }
+            buffer.flip();
+        }
+
+        List<LoadedLine> lines = new ArrayList<>();
+        int limit = buffer.limit();
+        int lineStart = 0;
+        for (int i = 0; i <= limit; i++) {
+            if (i < limit && buffer.get(i) != '\n') {
+                continue;
+            }
+            int lineEnd = i;
+            if (lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r') {
+                lineEnd -= 1;
+            }
+            if (lineEnd > lineStart) {
+                LoadedLine line = loadLine(buffer, lineStart, lineEnd);
+                if (line != null) {
+                    lines.add(line);
+                }
+            }
+            lineStart = i + 1;
+        }
+        return lines;
+    }
+
+    /**
+     * Verifies the checksum of a single line and reads its type of entry.
+     * Lines written before checksums were added have no checksum and are read as they are.
+     *
+     * @param buffer The buffer containing the line.
+     * @param start  The start of the line in the buffer.
+     * @param end    The end of the line in the buffer, excluding the line separator.
+     * @return The line read, or null if the line is blank.
+     */
+    private LoadedLine loadLine(ByteBuffer buffer, int start, int end) {
+        String rawLine = decode(buffer, start, end);
+        if (rawLine.isBlank()) {
+            return null;
+        }
+
+        int separatorIndex = findChecksumSeparator(buffer, start, end);
+        String dataLine = rawLine;
+        if (separatorIndex != -1) {
+            if (!isChecksumValid(buffer, start, separatorIndex, end)) {
+                return new LoadedLine(rawLine, ErrorConstant.CHECKSUM_ERROR);
+            }
+            // a matching checksum means every byte is ASCII, so byte and character positions are the same
+            dataLine = rawLine.substring(0, separatorIndex - start);
+        }
+
+        DataType dataType = RecordTokenizer.findDataType(dataLine);
+        if (dataType == null) {
+            return new LoadedLine(rawLine, ErrorConstant.LOAD_DATA_TYPE_ERROR);
+        }
+        return new LoadedLine(rawLine, dataLine, dataType);
+    }
+
+    /**
+     * Finds the last checksum separator in a line.
+     *
+     * @param buffer The buffer containing the line.
+     * @param start  The start of the line in the buffer.
+     * @param end    The end of the line in the buffer.
+     * @return The position of the separator in the buffer, or -1 if the line has no checksum.
+     */
+    private int findChecksumSeparator(ByteBuffer buffer, int start, int end) {
+        for (int i = end - 1; i >= start; i--) {
+            if (buffer.get(i) == UiConstant.CHECKSUM_SEPARATOR.charAt(0)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns whether the CRC32C checksum stored after the separator matches the bytes before it.
+     *
+     * @param buffer         The buffer containing the line.
+     * @param start          The start of the line in the buffer.
+     * @param separatorIndex The position of the checksum separator in the buffer.
+     * @param end            The end of the line in the buffer.
+     * @return True if the checksum matches, otherwise false.
+     */
+    private boolean isChecksumValid(ByteBuffer buffer, int start, int separatorIndex, int end) {
+        if (end - separatorIndex - 1 != UiConstant.CHECKSUM_LENGTH) {
+            return false;
+        }
+        long expectedChecksum = 0;
+        for (int i = separatorIndex + 1; i < end; i++) {
+            int digit = Character.digit(buffer.get(i), 16);
+            if (digit == -1) {
+                return false;
+            }
+            expectedChecksum = (expectedChecksum << 4) | digit;
+        }
+
+        ByteBuffer data = buffer.duplicate();
+        data.position(start);
+        data.limit(separatorIndex);
+        CRC32C crc = new CRC32C();
+        crc.update(data);
+        return crc.getValue() == expectedChecksum;
+    }
+
+    /**
+     * Decodes part of a buffer as UTF-8.
+     *
+     * @param buffer The buffer to decode from.
+     * @param start  The start of the part to decode.
+     * @param end    The end of the part to decode.
+     * @return The decoded string.
+     */
+    private String decode(ByteBuffer buffer, int start, int end) {
+        byte[] bytes = new byte[end - start];
+        ByteBuffer source = buffer.duplicate();
+        source.position(start);
+        source.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Waits for a range to finish loading and returns its lines.
+     *
+     * @param result The pending result of loading the range.
+     * @return The lines in the range.
+     * @throws IOException If the range could not be read.
+     */
+    private List<LoadedLine> getResult(Future<List<LoadedLine>> result) throws IOException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+    }
+}
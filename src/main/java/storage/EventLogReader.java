@@ -0,0 +1,148 @@
+package storage;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Represents the reader of the binary event log written by {@code EventLogWriter}.
+ * The latest logs are read backwards from the end of the current log file, and then from the end of each rotated
+ * file in turn, one record at a time. Only the records returned are read, however large the log files are.
+ */
+public class EventLogReader {
+
+    /**
+     * Private constructor to prevent instantiation from outside the class.
+     */
+    private EventLogReader() {
+    }
+
+    /**
+     * Reads the latest logs, oldest first.
+     *
+     * @param logPath      The path of the current log file.
+     * @param messagesPath The path of the message dictionary file.
+     * @param count        The maximum number of logs to read.
+     * @return The latest logs, oldest first.
+     * @throws IOException If the message dictionary cannot be read.
+     */
+    public static List<LogEvent> readTail(Path logPath, Path messagesPath, int count) throws IOException {
+        MessageDictionary dictionary = MessageDictionary.load(messagesPath);
+        Deque<LogEvent> events = new ArrayDeque<>();
+        Path path = logPath;
+        for (int index = 1; events.size() < count && Files.exists(path); index++) {
+            try {
+                readFileTail(path, dictionary, count, events);
+            } catch (IOException e) {
+                // the file was rotated while it was being read, so the older logs are skipped
+                break;
+            }
+            path = EventLogWriter.rotatedPath(logPath, index);
+        }
+        return new ArrayList<>(events);
+    }
+
+    /**
+     * Returns where the record ending at a position starts, checking that its leading and trailing lengths match.
+     *
+     * @param channel The channel of the log file.
+     * @param end     The position just after the record.
+     * @return The position of the start of the record, or -1 if there is no complete record ending at the position.
+     * @throws IOException If the file cannot be read.
+     */
+    public static long findRecordStart(FileChannel channel, long end) throws IOException {
+        if (end < 2 * Integer.BYTES) {
+            return -1;
+        }
+        ByteBuffer lengthBuffer = ByteBuffer.allocate(Integer.BYTES);
+        channel.read(lengthBuffer, end - Integer.BYTES);
+        int length = lengthBuffer.getInt(0);
+        long start = end - 2L * Integer.BYTES - length;
+        if (length < 0 || start < 0) {
+            return -1;
+        }
+        lengthBuffer.clear();
+        channel.read(lengthBuffer, start);
+        return lengthBuffer.getInt(0) == length ? start : -1;
+    }
+
+    /**
+     * Reads records backwards from the end of one log file, adding each to the front of the logs read so far, until
+     * enough logs are read or a record is incomplete.
+     *
+     * @param path       The path of the log file.
+     * @param dictionary The message dictionary.
+     * @param count      The maximum number of logs to read in total.
+     * @param events     The logs read so far, oldest first.
+     * @throws IOException If the file cannot be read.
+     */
+    private static void readFileTail(Path path, MessageDictionary dictionary, int count, Deque<LogEvent> events)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long end = channel.size();
+            while (events.size() < count) {
+                long start = findRecordStart(channel, end);
+                if (start == -1) {
+                    return;
+                }
+                ByteBuffer body = ByteBuffer.allocate((int) (end - start - 2 * Integer.BYTES));
+                channel.read(body, start + Integer.BYTES);
+                body.flip();
+                try {
+                    events.addFirst(decode(body, dictionary));
+                } catch (BufferUnderflowException e) {
+                    return;
+                }
+                end = start;
+            }
+        }
+    }
+
+    /**
+     * Decodes the body of a record.
+     *
+     * @param body       The body of the record.
+     * @param dictionary The message dictionary.
+     * @return The log stored in the record.
+     */
+    private static LogEvent decode(ByteBuffer body, MessageDictionary dictionary) {
+        long timestamp = body.getLong();
+        byte levelCode = body.get();
+        int messageId = body.getInt();
+        String message = messageId == -1 ? readString(body) : dictionary.lookup(messageId);
+        if (message == null) {
+            message = "<unknown message " + messageId + ">";
+        }
+        int parameterCount = Byte.toUnsignedInt(body.get());
+        List<String> parameters = new ArrayList<>(parameterCount);
+        for (int i = 0; i < parameterCount; i++) {
+            parameters.add(readString(body));
+        }
+        return new LogEvent(timestamp, LogEvent.fromLevelCode(levelCode), message, parameters);
+    }
+
+    /**
+     * Reads a string written as its UTF-8 length followed by its UTF-8 bytes.
+     *
+     * @param body The body of the record.
+     * @return The string read.
+     */
+    private static String readString(ByteBuffer body) {
+        int length = body.getInt();
+        if (length < 0 || length > body.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        body.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,217 @@
+package storage;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.LogRecord;
+
+import constants.UiConstant;
+
+/**
+ * Represents the writer of the binary event log, which replaces the text log file.
+ * Each log is stored as one compact record. The template of a log written with parameters is stored by its id in the
+ * {@code MessageDictionary}, while a plain message is stored in full in its record, as plain messages are often
+ * one-off strings that would fill the dictionary and keep the user's entries in it forever.
+ * Once the log file would grow past its maximum size, it is renamed to {@code pulsepilot_log.1.bin}, older files move
+ * up by one, and the oldest file is deleted, so the total size of the logs stays bounded however long PulsePilot is
+ * used.
+ * Event log record format:
+ * LENGTH TIMESTAMP LEVEL MESSAGE_ID [MESSAGE if MESSAGE_ID is -1] PARAMETER_COUNT PARAMETERS LENGTH
+ * The length is repeated after the record, so the file can also be read backwards from its end.
+ */
+public class EventLogWriter {
+    private final Path logPath;
+    private final long maxFileBytes;
+    private final int maxFileCount;
+    private final MessageDictionary dictionary;
+    private final ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+    private final DataOutputStream body = new DataOutputStream(bodyBytes);
+    private DataOutputStream out;
+    private long fileSize;
+
+    /**
+     * Constructs the writer, opening the current log file to append to.
+     *
+     * @param logPath      The path of the current log file.
+     * @param messagesPath The path of the message dictionary file.
+     * @param maxFileBytes The size a log file may reach before it is rotated.
+     * @param maxFileCount The number of log files kept, including the current one.
+     * @throws IOException If the log file or message dictionary cannot be opened.
+     */
+    public EventLogWriter(Path logPath, Path messagesPath, long maxFileBytes, int maxFileCount) throws IOException {
+        this.logPath = logPath;
+        this.maxFileBytes = Math.max(UiConstant.LOG_MIN_FILE_BYTES, maxFileBytes);
+        this.maxFileCount = Math.max(1, maxFileCount);
+        this.dictionary = MessageDictionary.load(messagesPath);
+        open();
+    }
+
+    /**
+     * Returns the path of a rotated log file.
+     *
+     * @param logPath The path of the current log file.
+     * @param index   The number of the rotated file, from 1 for the newest.
+     * @return The path of the rotated log file.
+     */
+    public static Path rotatedPath(Path logPath, int index) {
+        String fileName = logPath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String rotatedName = extensionIndex == -1
+                ? fileName + "." + index
+                : fileName.substring(0, extensionIndex) + "." + index + fileName.substring(extensionIndex);
+        return logPath.resolveSibling(rotatedName);
+    }
+
+    /**
+     * Adds a log to the log file, rotating the file first if the log would not fit.
+     *
+     * @param record The log to add.
+     * @throws IOException If the log cannot be written.
+     */
+    public void write(LogRecord record) throws IOException {
+        encode(record);
+        int recordLength = bodyBytes.size() + 2 * Integer.BYTES;
+        if (fileSize > 0 && fileSize + recordLength > maxFileBytes) {
+            rotate();
+        }
+        out.writeInt(bodyBytes.size());
+        bodyBytes.writeTo(out);
+        out.writeInt(bodyBytes.size());
+        fileSize += recordLength;
+    }
+
+    /**
+     * Writes every log added so far to the disk, with any new messages in the dictionary written first.
+     *
+     * @throws IOException If the logs cannot be written.
+     */
+    public void flush() throws IOException {
+        dictionary.flush();
+        out.flush();
+    }
+
+    /**
+     * Writes every log added so far to the disk and closes the log file.
+     *
+     * @throws IOException If the logs cannot be written.
+     */
+    public void close() throws IOException {
+        dictionary.close();
+        out.close();
+    }
+
+    /**
+     * Encodes the body of a record into {@code bodyBytes}. Only templates, which are logs with parameters, are added
+     * to the dictionary.
+     *
+     * @param record The log to encode.
+     * @throws IOException If a new template cannot be added to the dictionary.
+     */
+    private void encode(LogRecord record) throws IOException {
+        bodyBytes.reset();
+        String message = String.valueOf(record.getMessage());
+        Object[] parameters = record.getParameters();
+        int messageId = parameters == null ? -1 : dictionary.intern(message);
+        body.writeLong(record.getMillis());
+        body.writeByte(LogEvent.toLevelCode(record.getLevel()));
+        body.writeInt(messageId);
+        if (messageId == -1) {
+            writeString(message);
+        }
+        int parameterCount = parameters == null ? 0 : Math.min(parameters.length, UiConstant.LOG_MAX_PARAMETERS);
+        body.writeByte(parameterCount);
+        for (int i = 0; i < parameterCount; i++) {
+            writeString(String.valueOf(parameters[i]));
+        }
+    }
+
+    /**
+     * Writes a string to the body as its UTF-8 length followed by its UTF-8 bytes.
+     *
+     * @param string The string to write.
+     * @throws IOException If an I/O error occurs.
+     */
+    private void writeString(String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        body.writeInt(bytes.length);
+        body.write(bytes);
+    }
+
+    /**
+     * Opens the current log file to append to, first removing a record left incomplete by a crash.
+     *
+     * @throws IOException If the log file cannot be opened.
+     */
+    private void open() throws IOException {
+        fileSize = 0;
+        if (Files.exists(logPath)) {
+            try (FileChannel channel = FileChannel.open(logPath, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE)) {
+                fileSize = findValidLength(channel);
+                channel.truncate(fileSize);
+            }
+        }
+        out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(logPath.toFile(), true)));
+    }
+
+    /**
+     * Returns the length of the log file up to the end of its last complete record.
+     * Only the last record is checked unless it is incomplete, in which case the file is scanned from its start.
+     *
+     * @param channel The channel of the log file.
+     * @return The length of the complete records.
+     * @throws IOException If the file cannot be read.
+     */
+    private long findValidLength(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size == 0 || EventLogReader.findRecordStart(channel, size) != -1) {
+            return size;
+        }
+        long position = 0;
+        ByteBuffer lengthBuffer = ByteBuffer.allocate(Integer.BYTES);
+        while (position + 2 * Integer.BYTES <= size) {
+            lengthBuffer.clear();
+            channel.read(lengthBuffer, position);
+            int length = lengthBuffer.getInt(0);
+            long end = position + 2L * Integer.BYTES + length;
+            if (length < 0 || end > size || EventLogReader.findRecordStart(channel, end) != position) {
+                break;
+            }
+            position = end;
+        }
+        return position;
+    }
+
+    /**
+     * Renames the current log file to the first rotated log file, shifts older rotated files up by one and deletes
+     * the oldest, then opens a new current log file.
+     *
+     * @throws IOException If the files cannot be renamed or the new log file cannot be opened.
+     */
+    private void rotate() throws IOException {
+        out.close();
+        if (maxFileCount == 1) {
+            Files.delete(logPath);
+        } else {
+            Files.deleteIfExists(rotatedPath(logPath, maxFileCount - 1));
+            for (int i = maxFileCount - 2; i >= 1; i--) {
+                Path rotated = rotatedPath(logPath, i);
+                if (Files.exists(rotated)) {
+                    Files.move(rotated, rotatedPath(logPath, i + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            Files.move(logPath, rotatedPath(logPath, 1), StandardCopyOption.REPLACE_EXISTING);
+        }
+        fileSize = 0;
+        out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(logPath.toFile(), true)));
+    }
+}
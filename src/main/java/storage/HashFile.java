@@ -0,0 +1,243 @@
+package storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.logging.Level;
+
+import constants.UiConstant;
+
+/**
+ * Represents the hash file used to detect tampering of the data file.
+ * The data file is split into fixed-size blocks and the SHA-256 hash of each block is stored, along with a root hash
+ * computed over all the block hashes. Blocks are hashed in parallel, and when saving, blocks whose bytes are unchanged
+ * from the previous data file can reuse their previous hash if those hashes were verified. Because blocks have a fixed
+ * size, this only helps when entries are appended at the end of the file. Inserting an entry in sorted order, editing
+ * an entry's length or deleting an entry shifts every later block, so all of their hashes are recomputed.
+ * Hash file format:
+ * ROOT_HASH
+ * BLOCK_SIZE:SIZE_IN_BYTES
+ * BLOCK_HASH (one line per block, in order)
+ */
+public class HashFile {
+    /**
+     * Private constructor to prevent instantiation from outside the class.
+     */
+    private HashFile() {
+    }
+
+    /**
+     * Returns whether the hash file contents are a single SHA-256 hash of the whole data file, which is the format
+     * written by earlier versions of PulsePilot.
+     *
+     * @param hashLines The lines read from the hash file.
+     * @return True if the hash file uses the whole-file format, otherwise false.
+     */
+    public static boolean isWholeFileHash(List<String> hashLines) {
+        return hashLines.size() == 1;
+    }
+
+    /**
+     * Reads the lines of the hash file.
+     *
+     * @param hashFile The hash file to read.
+     * @return The lines of the hash file.
+     * @throws IOException If the hash file cannot be read.
+     */
+    public static List<String> read(File hashFile) throws IOException {
+        return Files.readAllLines(hashFile.toPath());
+    }
+
+    /**
+     * Verifies the data file contents against the block hashes read from the hash file.
+     * Verification of the blocks runs in parallel and stops at the first block that does not match.
+     *
+     * @param data      The contents of the data file.
+     * @param hashLines The lines read from the hash file.
+     * @return True if every block matches its stored hash, otherwise false.
+     * @throws NoSuchAlgorithmException If the SHA-256 algorithm is not available.
+     */
+    public static boolean verify(byte[] data, List<String> hashLines) throws NoSuchAlgorithmException {
+        int blockSize = readBlockSize(hashLines);
+        if (blockSize <= 0) {
+            return false;
+        }
+
+        List<String> blockHashes = hashLines.subList(UiConstant.HASH_FILE_HEADER_LINES, hashLines.size());
+        if (blockHashes.size() != countBlocks(data.length, blockSize)) {
+            return false;
+        }
+        if (!computeRootHash(blockHashes).equals(hashLines.get(UiConstant.HASH_ROOT_INDEX))) {
+            return false;
+        }
+
+        return IntStream.range(0, blockHashes.size())
+                .parallel()
+                .allMatch(i -> hashBlock(data, i, blockSize).equals(blockHashes.get(i)));
+    }
+
+    /**
+     * Computes the block hashes of the new data file contents. If the previous hashes were verified against the
+     * previous contents, a block whose bytes are identical to the same block in the previous contents reuses its
+     * previous hash instead of being hashed again. Unverified hashes are never reused, as a corrupted hash line would
+     * otherwise be copied into every later hash file.
+     * Only blocks before the first changed byte are reused in practice, so this saves work for appended entries only.
+     *
+     * @param data                      The new contents of the data file.
+     * @param previousData              The previous contents of the data file, or an empty array if there are none.
+     * @param previousHashLines         The lines of the previous hash file, or an empty list if there are none.
+     * @param arePreviousHashesVerified Whether the previous hash lines were verified against the previous contents.
+     * @return The list of block hashes for the new contents.
+     * @throws NoSuchAlgorithmException If the SHA-256 algorithm is not available.
+     */
+    public static List<String> computeBlockHashes(byte[] data, byte[] previousData, List<String> previousHashLines,
+                                                  boolean arePreviousHashesVerified)
+            throws NoSuchAlgorithmException {
+        MessageDigest.getInstance(UiConstant.HASH_ALGORITHM);
+        int blockSize = UiConstant.HASH_BLOCK_SIZE;
+        boolean canReuse = arePreviousHashesVerified && !isWholeFileHash(previousHashLines)
+                && readBlockSize(previousHashLines) == blockSize
+                && previousHashLines.size() - UiConstant.HASH_FILE_HEADER_LINES
+                == countBlocks(previousData.length, blockSize);
+
+        List<String> blockHashes = IntStream.range(0, countBlocks(data.length, blockSize))
+                .parallel()
+                .mapToObj(i -> {
+                    if (canReuse && isSameBlock(data, previousData, i, blockSize)) {
+                        return previousHashLines.get(UiConstant.HASH_FILE_HEADER_LINES + i);
+                    }
+                    return hashBlock(data, i, blockSize);
+                })
+                .collect(Collectors.toList());
+
+        LogFile.writeLog(Level.INFO, "Computed {0} block hash(es), reusing unchanged blocks: {1}", blockHashes.size(),
+                canReuse);
+        return blockHashes;
+    }
+
+    /**
+     * Computes the root hash over a list of block hashes.
+     *
+     * @param blockHashes The block hashes in order.
+     * @return The root hash as a hexadecimal string.
+     * @throws NoSuchAlgorithmException If the SHA-256 algorithm is not available.
+     */
+    public static String computeRootHash(List<String> blockHashes) throws NoSuchAlgorithmException {
+        MessageDigest md = MessageDigest.getInstance(UiConstant.HASH_ALGORITHM);
+        for (String blockHash : blockHashes) {
+            md.update(blockHash.getBytes(StandardCharsets.US_ASCII));
+        }
+        return toHexString(md.digest());
+    }
+
+    /**
+     * Formats the root hash, block size and block hashes as the contents of the hash file.
+     *
+     * @param blockHashes The block hashes of the data file in order.
+     * @return The contents of the hash file.
+     * @throws NoSuchAlgorithmException If the SHA-256 algorithm is not available.
+     */
+    public static byte[] toBytes(List<String> blockHashes) throws NoSuchAlgorithmException {
+        List<String> hashLines = new ArrayList<>();
+        hashLines.add(computeRootHash(blockHashes));
+        hashLines.add(UiConstant.HASH_BLOCK_SIZE_LABEL + UiConstant.SPLIT_BY_COLON + UiConstant.HASH_BLOCK_SIZE);
+        hashLines.addAll(blockHashes);
+        return String.join(System.lineSeparator(), hashLines).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Reads the block size recorded in the hash file.
+     *
+     * @param hashLines The lines read from the hash file.
+     * @return The block size in bytes, or -1 if it is missing or invalid.
+     */
+    private static int readBlockSize(List<String> hashLines) {
+        if (hashLines.size() < UiConstant.HASH_FILE_HEADER_LINES) {
+            return -1;
+        }
+        String[] blockSizeLine = hashLines.get(UiConstant.HASH_BLOCK_SIZE_INDEX).trim()
+                .split(UiConstant.SPLIT_BY_COLON);
+        if (blockSizeLine.length != 2 || !blockSizeLine[0].equals(UiConstant.HASH_BLOCK_SIZE_LABEL)) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(blockSizeLine[1]);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Returns the number of blocks needed to hold the given number of bytes.
+     *
+     * @param length    The number of bytes.
+     * @param blockSize The size of each block in bytes.
+     * @return The number of blocks.
+     */
+    private static int countBlocks(int length, int blockSize) {
+        return (length + blockSize - 1) / blockSize;
+    }
+
+    /**
+     * Returns whether a block has identical bytes in both the new and previous contents.
+     *
+     * @param data         The new contents.
+     * @param previousData The previous contents.
+     * @param blockIndex   The index of the block to compare.
+     * @param blockSize    The size of each block in bytes.
+     * @return True if the block is unchanged, otherwise false.
+     */
+    private static boolean isSameBlock(byte[] data, byte[] previousData, int blockIndex, int blockSize) {
+        int start = blockIndex * blockSize;
+        int end = Math.min(start + blockSize, data.length);
+        int previousEnd = Math.min(start + blockSize, previousData.length);
+        if (start >= previousData.length || end != previousEnd) {
+            return false;
+        }
+        return Arrays.equals(data, start, end, previousData, start, previousEnd);
+    }
+
+    /**
+     * Computes the SHA-256 hash of a single block.
+     *
+     * @param data       The contents being hashed.
+     * @param blockIndex The index of the block to hash.
+     * @param blockSize  The size of each block in bytes.
+     * @return The hash of the block as a hexadecimal string.
+     */
+    private static String hashBlock(byte[] data, int blockIndex, int blockSize) {
+        int start = blockIndex * blockSize;
+        int length = Math.min(blockSize, data.length - start);
+        try {
+            MessageDigest md = MessageDigest.getInstance(UiConstant.HASH_ALGORITHM);
+            md.update(data, start, length);
+            return toHexString(md.digest());
+        } catch (NoSuchAlgorithmException e) {
+            // availability of the algorithm is checked before any blocks are hashed
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Converts a digest into a hexadecimal string.
+     *
+     * @param digest The digest to convert.
+     * @return The digest as a lowercase hexadecimal string.
+     */
+    private static String toHexString(byte[] digest) {
+        StringBuilder sb = new StringBuilder(digest.length * 2);
+        for (byte b : digest) {
+            sb.append(Character.forDigit((b >> 4) & 0xf, 16))
+                    .append(Character.forDigit(b & 0xf, 16));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,204 @@
+package storage;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+
+import constants.UiConstant;
+import utility.CustomExceptions;
+import utility.Filters.DataType;
+import utility.Filters.JournalOperation;
+
+/**
+ * Represents the append-only journal used to persist changes made to PulsePilot between snapshots.
+ * Every add, delete or update made by the user appends one record to {@code pulsepilot_journal.txt}, so the cost of
+ * saving grows with the number of changes made rather than with the total size of the history.
+ * On startup, the journal is replayed on top of the last snapshot in {@code pulsepilot_data.txt}.
+ * Journal formats:
+ * ADD:DATA_LINE (DATA_LINE is the same line written to the data file)
+ * DELETE:DATA_TYPE:INDEX
+ * UPDATE:PERIOD:INDEX:END_DATE
+ */
+public class JournalFile {
+    private static BufferedWriter journalWriter = null;
+    private static int recordCount = 0;
+
+    /**
+     * Private constructor to prevent instantiation from outside the class.
+     */
+    private JournalFile() {
+    }
+
+    /**
+     * Opens the journal for appending. Records written before the journal is opened are ignored, which keeps
+     * objects created during loading and testing out of the journal.
+     *
+     * @throws IOException If the journal file cannot be opened.
+     */
+    public static void open() throws IOException {
+        if (journalWriter != null) {
+            return;
+        }
+        File journal = new File(UiConstant.journalFilePath);
+        recordCount = journal.exists() ? readRecords().size() : 0;
+        journalWriter = new BufferedWriter(new FileWriter(journal, true));
+        LogFile.writeLog("Opened journal with " + recordCount + " record(s)", false);
+    }
+
+    /**
+     * Flushes and closes the journal.
+     */
+    public static void close() {
+        if (journalWriter == null) {
+            return;
+        }
+        try {
+            journalWriter.close();
+        } catch (IOException e) {
+            LogFile.writeLog("Error closing journal: " + e.getMessage(), true);
+        }
+        journalWriter = null;
+    }
+
+    /**
+     * Returns whether the journal is currently accepting records.
+     *
+     * @return True if the journal is open, otherwise false.
+     */
+    public static boolean isOpen() {
+        return journalWriter != null;
+    }
+
+    /**
+     * Records the addition of an entry.
+     *
+     * @param dataLine The entry in the same format that is written to the data file.
+     */
+    public static void recordAdd(String dataLine) {
+        DataType dataType;
+        try {
+            dataType = RecordTokenizer.parseDataType(dataLine);
+        } catch (CustomExceptions.InvalidInput e) {
+            dataType = null;
+        }
+        appendRecord(dataType, JournalOperation.ADD + UiConstant.SPLIT_BY_COLON + dataLine);
+    }
+
+    /**
+     * Records the deletion of an entry.
+     *
+     * @param dataType The type of entry deleted.
+     * @param index    The index of the entry within its list at the time of deletion.
+     */
+    public static void recordDelete(DataType dataType, int index) {
+        appendRecord(dataType, JournalOperation.DELETE + UiConstant.SPLIT_BY_COLON + dataType
+                + UiConstant.SPLIT_BY_COLON + index);
+    }
+
+    /**
+     * Records an update to the end date of an existing period.
+     *
+     * @param index   The index of the period within the period list.
+     * @param endDate The new end date in DD-MM-YYYY format.
+     */
+    public static void recordPeriodEndDate(int index, String endDate) {
+        appendRecord(DataType.PERIOD, JournalOperation.UPDATE + UiConstant.SPLIT_BY_COLON + DataType.PERIOD
+                + UiConstant.SPLIT_BY_COLON + index + UiConstant.SPLIT_BY_COLON + endDate);
+    }
+
+    /**
+     * Reads all records currently stored in the journal.
+     *
+     * @return The list of journal records in the order they were written.
+     * @throws IOException If the journal cannot be read.
+     */
+    public static List<String> readRecords() throws IOException {
+        Path journalPath = Path.of(UiConstant.journalFilePath);
+        if (!Files.exists(journalPath)) {
+            return new ArrayList<>();
+        }
+        return Files.readAllLines(journalPath);
+    }
+
+    /**
+     * Returns whether enough records have built up for the journal to be folded back into a snapshot.
+     *
+     * @return True if the journal should be compacted, otherwise false.
+     */
+    public static boolean needsCompaction() {
+        return recordCount >= UiConstant.JOURNAL_COMPACTION_THRESHOLD;
+    }
+
+    /**
+     * Returns the number of records in the journal.
+     *
+     * @return The number of records written since the journal was last emptied.
+     */
+    public static int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Removes the oldest records from the journal, keeping any written after them. Called once a snapshot containing
+     * the changes in those records has been written, while newer changes may still be missing from it.
+     *
+     * @param count The number of records to remove.
+     * @throws IOException If the journal cannot be rewritten.
+     */
+    public static void discardRecords(int count) throws IOException {
+        List<String> records = readRecords();
+        List<String> remainingRecords = records.subList(Math.min(count, records.size()), records.size());
+        boolean wasOpen = isOpen();
+        close();
+        Files.write(Path.of(UiConstant.journalFilePath), remainingRecords);
+        recordCount = remainingRecords.size();
+        if (wasOpen) {
+            open();
+        }
+        LogFile.writeLog(Level.INFO, "Discarded {0} journal record(s)", count);
+    }
+
+    /**
+     * Empties the journal. Called once a snapshot containing every journalled change has been written.
+     *
+     * @throws IOException If the journal cannot be truncated.
+     */
+    public static void clear() throws IOException {
+        boolean wasOpen = isOpen();
+        close();
+        new FileWriter(UiConstant.journalFilePath, false).close();
+        recordCount = 0;
+        if (wasOpen) {
+            open();
+        }
+        LogFile.writeLog("Journal cleared", false);
+    }
+
+    /**
+     * Appends a single record to the journal and flushes it, so that it survives the application crashing.
+     * The type of entry changed is also marked for the next autosave.
+     *
+     * @param dataType The type of entry changed, or null if it is unknown.
+     * @param record   The record to append.
+     */
+    private static void appendRecord(DataType dataType, String record) {
+        AutosaveScheduler.markDirty(dataType);
+        if (journalWriter == null) {
+            return;
+        }
+        try {
+            journalWriter.write(record + System.lineSeparator());
+            journalWriter.flush();
+            recordCount += 1;
+            LogFile.writeLog(Level.INFO, "Journalled: {0}", record);
+        } catch (IOException e) {
+            LogFile.writeLog("Error writing to journal: " + e.getMessage(), true);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package storage;
+
+import java.text.MessageFormat;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.logging.Level;
+
+/**
+ * Represents one log read back from the binary event log, with the time it was written, its level, and its message
+ * or message template and the values filled into it.
+ */
+public class LogEvent {
+    private static final Level[] LEVELS = {Level.SEVERE, Level.WARNING, Level.INFO, Level.CONFIG, Level.FINE,
+        Level.FINER, Level.FINEST};
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
+    private final long timestamp;
+    private final Level level;
+    private final String message;
+    private final List<String> parameters;
+
+    /**
+     * Constructs a log event.
+     *
+     * @param timestamp  The time the log was written, in milliseconds since the epoch.
+     * @param level      The level of the log.
+     * @param message    The message of the log, or its template if it has parameters.
+     * @param parameters The values filled into the template.
+     */
+    public LogEvent(long timestamp, Level level, String message, List<String> parameters) {
+        this.timestamp = timestamp;
+        this.level = level;
+        this.message = message;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Returns the single byte used to store a level in the event log.
+     *
+     * @param level The level.
+     * @return The code of the level, or the code of the closest standard level below it.
+     */
+    public static byte toLevelCode(Level level) {
+        for (int i = 0; i < LEVELS.length; i++) {
+            if (level.intValue() >= LEVELS[i].intValue()) {
+                return (byte) i;
+            }
+        }
+        return (byte) (LEVELS.length - 1);
+    }
+
+    /**
+     * Returns the level stored as a code in the event log.
+     *
+     * @param code The code of the level.
+     * @return The level, or {@code Level.INFO} if the code is unknown.
+     */
+    public static Level fromLevelCode(byte code) {
+        if (code < 0 || code >= LEVELS.length) {
+            return Level.INFO;
+        }
+        return LEVELS[code];
+    }
+
+    /**
+     * Retrieves the time the log was written.
+     *
+     * @return The time in milliseconds since the epoch.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Retrieves the level of the log.
+     *
+     * @return The level of the log.
+     */
+    public Level getLevel() {
+        return level;
+    }
+
+    /**
+     * Retrieves the message of the log with its parameters filled in.
+     *
+     * @return The message of the log.
+     */
+    public String getMessage() {
+        if (parameters.isEmpty()) {
+            return message;
+        }
+        try {
+            return MessageFormat.format(message, parameters.toArray());
+        } catch (IllegalArgumentException e) {
+            return message + " " + parameters;
+        }
+    }
+
+    /**
+     * Returns the log as a single line with its time, level and message.
+     *
+     * @return The formatted log.
+     */
+    @Override
+    public String toString() {
+        LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp), ZoneId.systemDefault());
+        return TIMESTAMP_FORMAT.format(time) + " " + level.getName() + ": " + getMessage();
+    }
+}
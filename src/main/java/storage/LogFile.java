@@ -1,24 +1,27 @@
 package storage;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
 import java.util.logging.Level;
-import java.util.logging.FileHandler;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
-import java.util.logging.SimpleFormatter;
 
 
 import constants.UiConstant;
+import utility.Filters.LogOverflowPolicy;
 import utility.Validation;
 
 //@@ author L5-Z
 /**
  * Represents a Logfile object used to write information and error logs for PulsePilot.
+ * Logs are handed to an {@code AsyncLogAppender}, which writes them to the log file on a background thread, so
+ * logging does not wait for the disk.
  */
 public class LogFile {
-    protected static FileHandler logFileHandler = null;
+    protected static AsyncLogAppender logFileHandler = null;
     private static LogFile instance = null;
     private static final Logger logger = Logger.getLogger(LogFile.class.getName());
 
@@ -43,18 +46,28 @@ public class LogFile {
     }
 
     /**
-     * Initialises the log file to be used. Creates the log file if needed, then sets formatters.
-     * Parent handlers are set to false to prevent printing of logs to terminal.
+     * Initialises the log file to be used. Opens the event log, rotated by the size and number of files set by system
+     * properties, then starts its background writer with the level, buffer size and overflow policy set by system
+     * properties, or their defaults.
+     * Parent handlers are set to false to prevent printing of logs to terminal. Logs still waiting to be written are
+     * flushed when PulsePilot exits.
      */
     public static void initializeLogFile() {
         Validation validation = new Validation();
         validation.validateDirectoryPermissions();
         try {
             if (logFileHandler == null) {
-                logFileHandler = new FileHandler(UiConstant.LOG_FILE_PATH);
-                logFileHandler.setFormatter(new SimpleFormatter());
+                EventLogWriter eventLog = new EventLogWriter(Path.of(UiConstant.LOG_FILE_PATH),
+                        Path.of(UiConstant.LOG_MESSAGES_FILE_PATH),
+                        Long.getLong(UiConstant.LOG_MAX_SIZE_PROPERTY, UiConstant.DEFAULT_LOG_MAX_FILE_BYTES),
+                        Integer.getInteger(UiConstant.LOG_FILES_PROPERTY, UiConstant.DEFAULT_LOG_FILE_COUNT));
+                logFileHandler = new AsyncLogAppender(eventLog,
+                        Integer.getInteger(UiConstant.LOG_BUFFER_PROPERTY, UiConstant.DEFAULT_LOG_BUFFER_CAPACITY),
+                        parseOverflowPolicy(System.getProperty(UiConstant.LOG_OVERFLOW_PROPERTY)));
                 logger.addHandler(logFileHandler);
                 logger.setUseParentHandlers(false);
+                logger.setLevel(parseLevel(System.getProperty(UiConstant.LOG_LEVEL_PROPERTY)));
+                Runtime.getRuntime().addShutdownHook(new Thread(LogFile::flush));
             }
         } catch (IOException e) {
             throw new RuntimeException("Error setting up log file", e);
@@ -62,6 +75,55 @@ public class LogFile {
         assert(logFileHandler != null);
     }
 
+    /**
+     * Reads the overflow policy of the log buffer, waiting for space by default.
+     *
+     * @param policy The name of the overflow policy, or null if it is not set.
+     * @return The overflow policy.
+     */
+    private static LogOverflowPolicy parseOverflowPolicy(String policy) {
+        if (policy != null && policy.trim().toUpperCase(Locale.ROOT).equals(LogOverflowPolicy.DROP.name())) {
+            return LogOverflowPolicy.DROP;
+        }
+        return LogOverflowPolicy.BLOCK;
+    }
+
+    /**
+     * Reads the level of logs written to the log file, writing information logs and above by default.
+     *
+     * @param level The name of the level, or null if it is not set.
+     * @return The level of logs written.
+     */
+    private static Level parseLevel(String level) {
+        if (level == null) {
+            return Level.INFO;
+        }
+        try {
+            return Level.parse(level.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return Level.INFO;
+        }
+    }
+
+    /**
+     * Sets the lowest level of logs written to the log file while PulsePilot is running.
+     *
+     * @param level The lowest level of logs written.
+     */
+    public static void setLevel(Level level) {
+        logger.setLevel(level);
+    }
+
+    /**
+     * Returns whether logs of a level are written to the log file, so that callers can skip building them.
+     *
+     * @param level The level of the log.
+     * @return True if logs of the level are written, otherwise false.
+     */
+    public static boolean isLoggable(Level level) {
+        return logger.isLoggable(level);
+    }
+
     /**
      * Writes information or warning logs to the log file.
      *
@@ -69,23 +131,109 @@ public class LogFile {
      * @param isError Boolean variable to determine if log is an error.
      */
     public static void writeLog(String input, boolean isError) {
-        if (isError) {
-            logger.log(Level.WARNING, input);
-        } else {
-            logger.log(Level.INFO, input);
+        Level level = isError ? Level.WARNING : Level.INFO;
+        if (logger.isLoggable(level)) {
+            publish(level, input, null);
         }
     }
 
+    /**
+     * Writes a log to the log file, only building its message if logs of its level are written.
+     *
+     * @param level   The level of the log.
+     * @param message The supplier of the message of the log.
+     */
+    public static void writeLog(Level level, Supplier<String> message) {
+        if (logger.isLoggable(level)) {
+            publish(level, message.get(), null);
+        }
+    }
+
+    /**
+     * Writes a log to the log file from a {@code MessageFormat} template such as {@code "Loaded {0} line(s)"}.
+     * The template is only filled in by the writer thread, and only if logs of its level are written.
+     *
+     * @param level      The level of the log.
+     * @param template   The template of the message of the log.
+     * @param parameters The values filled into the template.
+     */
+    public static void writeLog(Level level, String template, Object... parameters) {
+        if (logger.isLoggable(level)) {
+            publish(level, template, parameters);
+        }
+    }
+
+    /**
+     * Hands a log to the log handler. The source of the log is set here, so that it is not found by walking the stack
+     * of the calling thread.
+     *
+     * @param level      The level of the log.
+     * @param message    The message or template of the log.
+     * @param parameters The values filled into the template, or null if the message is not a template.
+     */
+    private static void publish(Level level, String message, Object[] parameters) {
+        LogRecord record = new LogRecord(level, message);
+        record.setParameters(parameters);
+        record.setSourceClassName(LogFile.class.getName());
+        record.setSourceMethodName("writeLog");
+        logger.log(record);
+    }
+
+    /**
+     * Waits until every log written so far is in the log file.
+     */
+    public static void flush() {
+        if (logFileHandler != null) {
+            logFileHandler.flush();
+        }
+    }
+
+    /**
+     * Reads the latest logs written to the log file.
+     *
+     * @return The latest logs, one per line, oldest first.
+     */
     public static String readLogContent() {
+        return readLogTail(UiConstant.DEFAULT_LOG_TAIL_ENTRIES);
+    }
+
+    /**
+     * Reads a number of the latest logs written, without reading the rest of the log files.
+     *
+     * @param count The maximum number of logs to read.
+     * @return The latest logs, one per line, oldest first.
+     */
+    public static String readLogTail(int count) {
+        flush();
         StringBuilder logContent = new StringBuilder();
         try {
-            List<String> lines = Files.readAllLines(Path.of(UiConstant.LOG_FILE_PATH));
-            for (String line : lines) {
-                logContent.append(line).append(System.lineSeparator());
+            List<LogEvent> events = EventLogReader.readTail(Path.of(UiConstant.LOG_FILE_PATH),
+                    Path.of(UiConstant.LOG_MESSAGES_FILE_PATH), count);
+            for (LogEvent event : events) {
+                logContent.append(event).append(System.lineSeparator());
             }
         } catch (IOException e) {
             System.err.println("Error reading log file: " + e.getMessage());
         }
         return logContent.toString();
     }
+
+    /**
+     * Prints the latest logs, as the event log cannot be read in a text editor.
+     * Usage: {@code java -cp pulsepilot.jar storage.LogFile [number of logs]}
+     *
+     * @param args The number of logs to print, or no arguments to print the default number.
+     */
+    public static void main(String[] args) {
+        int count = UiConstant.DEFAULT_LOG_TAIL_ENTRIES;
+        if (args.length == 1) {
+            try {
+                count = Integer.parseInt(args[0]);
+            } catch (NumberFormatException e) {
+                System.out.println(UiConstant.LOG_READER_USAGE);
+                return;
+            }
+        }
+        System.out.print(readLogTail(count));
+    }
 }
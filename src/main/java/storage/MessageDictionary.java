@@ -0,0 +1,152 @@
+package storage;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import constants.UiConstant;
+
+/**
+ * Represents the dictionary of log templates stored by id in the binary event log, so that a template logged many
+ * times is only stored once. The dictionary is kept in its own file with one message per line, in the
+ * order of their ids, and is shared by every rotated event log file.
+ * The number of messages is capped, and messages logged once the dictionary is full are stored in full in the log.
+ */
+public class MessageDictionary {
+    private final Path path;
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> messages = new ArrayList<>();
+    private Writer writer = null;
+
+    /**
+     * Constructs an empty dictionary stored in a file.
+     *
+     * @param path The path of the dictionary file.
+     */
+    private MessageDictionary(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Loads the dictionary stored in a file, or an empty dictionary if the file does not exist.
+     *
+     * @param path The path of the dictionary file.
+     * @return The dictionary.
+     * @throws IOException If the file cannot be read.
+     */
+    public static MessageDictionary load(Path path) throws IOException {
+        MessageDictionary dictionary = new MessageDictionary(path);
+        if (Files.exists(path)) {
+            for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                if (dictionary.messages.size() >= UiConstant.LOG_MAX_INTERNED_MESSAGES) {
+                    break;
+                }
+                String message = unescape(line);
+                dictionary.ids.putIfAbsent(message, dictionary.messages.size());
+                dictionary.messages.add(message);
+            }
+        }
+        return dictionary;
+    }
+
+    /**
+     * Returns the id of a message, adding it to the dictionary if it is new and there is space.
+     *
+     * @param message The message.
+     * @return The id of the message, or -1 if the dictionary is full.
+     * @throws IOException If the message cannot be added to the dictionary file.
+     */
+    public int intern(String message) throws IOException {
+        Integer id = ids.get(message);
+        if (id != null) {
+            return id;
+        }
+        if (messages.size() >= UiConstant.LOG_MAX_INTERNED_MESSAGES) {
+            return -1;
+        }
+        if (writer == null) {
+            writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND);
+        }
+        writer.write(escape(message));
+        writer.write(System.lineSeparator());
+        id = messages.size();
+        ids.put(message, id);
+        messages.add(message);
+        return id;
+    }
+
+    /**
+     * Returns the message with an id.
+     *
+     * @param id The id of the message.
+     * @return The message, or null if there is no message with the id.
+     */
+    public String lookup(int id) {
+        if (id < 0 || id >= messages.size()) {
+            return null;
+        }
+        return messages.get(id);
+    }
+
+    /**
+     * Writes messages added to the dictionary to its file.
+     *
+     * @throws IOException If the file cannot be written.
+     */
+    public void flush() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    /**
+     * Writes messages added to the dictionary to its file and closes it.
+     *
+     * @throws IOException If the file cannot be written.
+     */
+    public void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+
+    /**
+     * Escapes backslashes and line breaks, so that every message is stored on one line.
+     *
+     * @param message The message to escape.
+     * @return The escaped message.
+     */
+    private static String escape(String message) {
+        return message.replace("\\", "\\\\").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    /**
+     * Reverses {@code escape()}.
+     *
+     * @param line The escaped message.
+     * @return The original message.
+     */
+    private static String unescape(String line) {
+        StringBuilder message = new StringBuilder(line.length());
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '\\' && i + 1 < line.length()) {
+                i += 1;
+                char escaped = line.charAt(i);
+                message.append(escaped == 'n' ? '\n' : escaped == 'r' ? '\r' : escaped);
+            } else {
+                message.append(c);
+            }
+        }
+        return message.toString();
+    }
+}
@@ -0,0 +1,408 @@
+package storage;
+
+import java.util.Arrays;
+
+import constants.ErrorConstant;
+import constants.UiConstant;
+import constants.WorkoutConstant;
+import utility.CustomExceptions;
+import utility.Filters.DataType;
+
+/**
+ * Represents a tokenizer for lines in the data file format.
+ * A line is scanned once to record where each colon-separated field starts and ends, ignoring surrounding whitespace,
+ * and fields are then decoded straight from the line into numbers and epoch days instead of being split, trimmed
+ * and matched against a regex as separate strings.
+ * A tokenizer is reset for every line so that one instance can read a whole data file, which means it must not be
+ * shared between threads.
+ */
+public class RecordTokenizer {
+    private String line = UiConstant.EMPTY_STRING;
+    private int[] fieldStarts = new int[UiConstant.TOKENIZER_INITIAL_FIELD_CAPACITY];
+    private int[] fieldEnds = new int[UiConstant.TOKENIZER_INITIAL_FIELD_CAPACITY];
+    private int fieldCount = 0;
+
+    /**
+     * Reads the type of entry from the start of a line without tokenizing the rest of it.
+     *
+     * @param line The line in the data file format.
+     * @return The type of entry in the line.
+     * @throws CustomExceptions.InvalidInput If the line does not start with a known type of entry.
+     */
+    public static DataType parseDataType(String line) throws CustomExceptions.InvalidInput {
+        DataType dataType = findDataType(line);
+        if (dataType == null) {
+            throw new CustomExceptions.InvalidInput(ErrorConstant.LOAD_DATA_TYPE_ERROR);
+        }
+        return dataType;
+    }
+
+    /**
+     * Reads the type of entry from the start of a line without tokenizing the rest of it, without logging a warning
+     * if there is none. Used for lines that are expected to have no type of entry, such as the line with the name.
+     *
+     * @param line The line in the data file format.
+     * @return The type of entry in the line, or null if the line does not start with a known type of entry.
+     */
+    public static DataType findDataType(String line) {
+        int end = line.indexOf(UiConstant.SPLIT_BY_COLON);
+        if (end == -1) {
+            end = line.length();
+        }
+        int start = skipLeadingWhitespace(line, 0, end);
+        end = skipTrailingWhitespace(line, start, end);
+
+        for (DataType dataType : DataType.values()) {
+            String name = dataType.name();
+            if (name.length() == end - start && line.regionMatches(start, name, 0, name.length())) {
+                return dataType;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Tokenizes a new line, replacing the fields of the previous one.
+     *
+     * @param line The line in the data file format, without its checksum.
+     * @return This tokenizer.
+     */
+    public RecordTokenizer reset(String line) {
+        this.line = line;
+        fieldCount = 0;
+        int fieldStart = 0;
+        int length = line.length();
+        for (int i = 0; i <= length; i++) {
+            if (i == length || line.charAt(i) == UiConstant.SPLIT_BY_COLON.charAt(0)) {
+                addField(fieldStart, i);
+                fieldStart = i + 1;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns the number of fields in the current line, including the type of entry.
+     */
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * Checks that the current line has at least the given number of fields.
+     *
+     * @param count        The number of fields needed.
+     * @param errorMessage The message of the exception thrown if there are too few fields.
+     * @throws CustomExceptions.InsufficientInput If the line has fewer fields than needed.
+     */
+    public void requireFieldCount(int count, String errorMessage) throws CustomExceptions.InsufficientInput {
+        if (fieldCount < count) {
+            throw new CustomExceptions.InsufficientInput(errorMessage);
+        }
+    }
+
+    /**
+     * Returns a field of the current line as a string, without surrounding whitespace.
+     *
+     * @param index The index of the field.
+     * @return The field as a string.
+     */
+    public String getField(int index) {
+        return line.substring(fieldStarts[index], fieldEnds[index]);
+    }
+
+    /**
+     * Returns whether a field of the current line is empty.
+     *
+     * @param index The index of the field.
+     * @return True if the field is empty, otherwise false.
+     */
+    public boolean isEmpty(int index) {
+        return fieldStarts[index] == fieldEnds[index];
+    }
+
+    /**
+     * Returns whether a field of the current line is {@code NA}, which marks an optional value that was not given.
+     *
+     * @param index The index of the field.
+     * @return True if the field is {@code NA}, otherwise false.
+     */
+    public boolean isNotSpecified(int index) {
+        String notSpecified = ErrorConstant.NO_DATE_SPECIFIED_ERROR;
+        return getLength(index) == notSpecified.length()
+                && line.regionMatches(fieldStarts[index], notSpecified, 0, notSpecified.length());
+    }
+
+    /**
+     * Decodes a field of the current line as a positive integer without leading zeros.
+     *
+     * @param index        The index of the field.
+     * @param errorMessage The message of the exception thrown if the field is not a positive integer.
+     * @return The value of the field.
+     * @throws CustomExceptions.InvalidInput If the field is not a positive integer.
+     */
+    public int parsePositiveInt(int index, String errorMessage) throws CustomExceptions.InvalidInput {
+        int start = fieldStarts[index];
+        int end = fieldEnds[index];
+        if (start == end || end - start > UiConstant.TOKENIZER_MAX_INTEGER_DIGITS || line.charAt(start) == '0'
+                || !isDigits(start, end)) {
+            throw new CustomExceptions.InvalidInput(errorMessage);
+        }
+        return (int) parseDigits(start, end);
+    }
+
+    /**
+     * Decodes a field of the current line as a number with exactly two decimal places.
+     * The value is computed from the digits as a fraction, which gives the same result as parsing the field with
+     * {@code Double.parseDouble}.
+     *
+     * @param index        The index of the field.
+     * @param errorMessage The message of the exception thrown if the field is not in the right format.
+     * @return The value of the field.
+     * @throws CustomExceptions.InvalidInput If the field is not a number with two decimal places.
+     */
+    public double parseTwoDecimalPlaces(int index, String errorMessage) throws CustomExceptions.InvalidInput {
+        int start = fieldStarts[index];
+        int end = fieldEnds[index];
+        int pointIndex = end - 3;
+        if (pointIndex <= start || pointIndex - start > UiConstant.TOKENIZER_MAX_DECIMAL_DIGITS
+                || line.charAt(pointIndex) != '.' || !isDigits(start, pointIndex) || !isDigits(pointIndex + 1, end)) {
+            throw new CustomExceptions.InvalidInput(errorMessage);
+        }
+        long hundredths = parseDigits(start, pointIndex) * 100 + parseDigits(pointIndex + 1, end);
+        return hundredths / 100.0;
+    }
+
+    /**
+     * Decodes a field of the current line as a comma-separated list of weights, each with up to three decimal
+     * places.
+     *
+     * @param index The index of the field.
+     * @return The weights in the field.
+     * @throws CustomExceptions.InvalidInput If the field is empty or not a list of weights.
+     */
+    public double[] parseWeights(int index) throws CustomExceptions.InvalidInput {
+        int start = fieldStarts[index];
+        int end = fieldEnds[index];
+        if (start == end) {
+            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_WEIGHTS_EMPTY_ERROR);
+        }
+
+        int weightCount = 1;
+        for (int i = start; i < end; i++) {
+            if (line.charAt(i) == UiConstant.SPLIT_BY_COMMAS.charAt(0)) {
+                weightCount += 1;
+            }
+        }
+
+        double[] weights = new double[weightCount];
+        int weightStart = start;
+        for (int i = 0; i < weightCount; i++) {
+            int weightEnd = line.indexOf(UiConstant.SPLIT_BY_COMMAS, weightStart);
+            if (weightEnd == -1 || weightEnd > end) {
+                weightEnd = end;
+            }
+            weights[i] = parseWeight(weightStart, weightEnd);
+            weightStart = weightEnd + 1;
+        }
+        return weights;
+    }
+
+    /**
+     * Decodes a field of the current line as a date in {@code DD-MM-YYYY} format, applying the same checks as
+     * {@code Validation.validateDateInput}.
+     *
+     * @param index The index of the field.
+     * @return The number of days from 1 January 1970 to the date.
+     * @throws CustomExceptions.InvalidInput If the field is not a valid date, or the year is before 1967.
+     */
+    public long parseEpochDay(int index) throws CustomExceptions.InvalidInput {
+        int start = fieldStarts[index];
+        if (getLength(index) != UiConstant.TOKENIZER_DATE_LENGTH
+                || line.charAt(start + 2) != UiConstant.DASH.charAt(0)
+                || line.charAt(start + 5) != UiConstant.DASH.charAt(0)
+                || !isDigits(start, start + 2) || !isDigits(start + 3, start + 5)
+                || !isDigits(start + 6, start + 10)) {
+            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_DATE_ERROR);
+        }
+        int day = (int) parseDigits(start, start + 2);
+        int month = (int) parseDigits(start + 3, start + 5);
+        int year = (int) parseDigits(start + 6, start + 10);
+
+        boolean isLeapYear = (year % 4 == 0 && year % 100 != 0) || (year % 400 == 0);
+        if (month == 2 && day == 29 && !isLeapYear) {
+            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_LEAP_YEAR_ERROR);
+        }
+        if (year < UiConstant.MIN_YEAR) {
+            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_YEAR_ERROR);
+        }
+        if (month < 1 || month > 12 || day < 1 || day > getDaysInMonth(month, isLeapYear)) {
+            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_DATE_ERROR);
+        }
+        return toEpochDay(year, month, day, isLeapYear);
+    }
+
+    /**
+     * Checks that a field of the current line is a time made of two or three two-digit parts separated by dots,
+     * and returns the number of parts.
+     *
+     * @param index        The index of the field.
+     * @param errorMessage The message of the exception thrown if the field is not in the right format.
+     * @return The number of parts in the time.
+     * @throws CustomExceptions.InvalidInput If the field is not in the right format.
+     */
+    public int countTimeParts(int index, String errorMessage) throws CustomExceptions.InvalidInput {
+        int start = fieldStarts[index];
+        int partLength = UiConstant.TOKENIZER_TIME_PART_LENGTH;
+        int length = getLength(index);
+        int parts = (length + 1) / (partLength + 1);
+        if ((length + 1) % (partLength + 1) != 0 || parts < WorkoutConstant.NUMBER_OF_PARTS_FOR_RUN_TIME
+                || parts > WorkoutConstant.NUMBER_OF_PARTS_FOR_RUN_TIME_WITH_HOURS) {
+            throw new CustomExceptions.InvalidInput(errorMessage);
+        }
+        for (int i = 0; i < parts; i++) {
+            int partStart = start + i * (partLength + 1);
+            if (!isDigits(partStart, partStart + partLength)
+                    || (i > 0 && line.charAt(partStart - 1) != UiConstant.TOKENIZER_TIME_SEPARATOR)) {
+                throw new CustomExceptions.InvalidInput(errorMessage);
+            }
+        }
+        return parts;
+    }
+
+    /**
+     * Decodes one part of a time field that was checked with {@code countTimeParts}.
+     *
+     * @param index The index of the field.
+     * @param part  The index of the part within the time.
+     * @return The value of the part.
+     */
+    public int parseTimePart(int index, int part) {
+        int partStart = fieldStarts[index] + part * (UiConstant.TOKENIZER_TIME_PART_LENGTH + 1);
+        return (int) parseDigits(partStart, partStart + UiConstant.TOKENIZER_TIME_PART_LENGTH);
+    }
+
+    /**
+     * Records the position of a field, without surrounding whitespace.
+     *
+     * @param start The start of the field in the line.
+     * @param end   The end of the field in the line.
+     */
+    private void addField(int start, int end) {
+        if (fieldCount == fieldStarts.length) {
+            fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+            fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+        }
+        start = skipLeadingWhitespace(line, start, end);
+        fieldStarts[fieldCount] = start;
+        fieldEnds[fieldCount] = skipTrailingWhitespace(line, start, end);
+        fieldCount += 1;
+    }
+
+    /**
+     * Decodes a single weight with up to three decimal places.
+     *
+     * @param start The start of the weight in the line.
+     * @param end   The end of the weight in the line.
+     * @return The weight.
+     * @throws CustomExceptions.InvalidInput If the weight is not in the right format.
+     */
+    private double parseWeight(int start, int end) throws CustomExceptions.InvalidInput {
+        int pointIndex = line.indexOf('.', start);
+        if (pointIndex == -1 || pointIndex >= end) {
+            pointIndex = end;
+        }
+        int decimalPlaces = pointIndex == end ? 0 : end - pointIndex - 1;
+        if (pointIndex == start || pointIndex - start > UiConstant.TOKENIZER_MAX_INTEGER_DIGITS
+                || (pointIndex < end && decimalPlaces == 0) || decimalPlaces > 3
+                || !isDigits(start, pointIndex) || !isDigits(end - decimalPlaces, end)) {
+            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_WEIGHTS_ARRAY_FORMAT_ERROR);
+        }
+        long fraction = decimalPlaces == 0 ? 0 : parseDigits(pointIndex + 1, end);
+        for (int i = decimalPlaces; i < 3; i++) {
+            fraction *= 10;
+        }
+        return (parseDigits(start, pointIndex) * 1000 + fraction) / 1000.0;
+    }
+
+    /**
+     * Returns the length of a field of the current line.
+     */
+    private int getLength(int index) {
+        return fieldEnds[index] - fieldStarts[index];
+    }
+
+    /**
+     * Returns whether every character in part of the current line is an ASCII digit.
+     */
+    private boolean isDigits(int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = line.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decodes part of the current line that contains only digits.
+     */
+    private long parseDigits(int start, int end) {
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + (line.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Returns the position of the first character in a range that is not whitespace.
+     */
+    private static int skipLeadingWhitespace(String line, int start, int end) {
+        while (start < end && line.charAt(start) <= ' ') {
+            start += 1;
+        }
+        return start;
+    }
+
+    /**
+     * Returns the position after the last character in a range that is not whitespace.
+     */
+    private static int skipTrailingWhitespace(String line, int start, int end) {
+        while (end > start && line.charAt(end - 1) <= ' ') {
+            end -= 1;
+        }
+        return end;
+    }
+
+    /**
+     * Returns the number of days in a month.
+     */
+    private static int getDaysInMonth(int month, boolean isLeapYear) {
+        switch (month) {
+        case 2:
+            return isLeapYear ? 29 : 28;
+        case 4:
+        case 6:
+        case 9:
+        case 11:
+            return 30;
+        default:
+            return 31;
+        }
+    }
+
+    /**
+     * Converts a valid date into the number of days from 1 January 1970, in the same way as
+     * {@code LocalDate.toEpochDay}.
+     */
+    private static long toEpochDay(int year, int month, int day, boolean isLeapYear) {
+        long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12 + day - 1;
+        if (month > 2) {
+            total -= isLeapYear ? 1 : 2;
+        }
+        return total - UiConstant.DAYS_FROM_YEAR_ZERO_TO_EPOCH;
+    }
+}
@@ -0,0 +1,104 @@
+package storage;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Represents a bounded, lock-free ring buffer that any number of threads can add to and a single thread takes from.
+ * Each slot holds a sequence number that tells producers whether the slot is free and the consumer whether it has
+ * been filled. A producer claims a slot by advancing the tail with a compare-and-set, so adding never blocks.
+ *
+ * @param <E> The type of element held in the buffer.
+ */
+public class RingBuffer<E> {
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private long head = 0;
+
+    /**
+     * Constructs a ring buffer holding at least the given number of elements, rounded up to a power of two.
+     *
+     * @param minimumCapacity The minimum number of elements the buffer can hold.
+     */
+    public RingBuffer(int minimumCapacity) {
+        assert minimumCapacity > 0 : "Ring buffer capacity must be positive";
+        capacity = Integer.highestOneBit(Math.max(1, minimumCapacity - 1)) << 1;
+        mask = capacity - 1;
+        slots = new AtomicReferenceArray<>(capacity);
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds an element to the buffer if there is space for it. Safe to call from any thread.
+     *
+     * @param element The element to add.
+     * @return True if the element was added, or false if the buffer is full.
+     */
+    public boolean offer(E element) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false;
+            }
+            // another producer claimed this slot first, so retry with the new tail
+        }
+    }
+
+    /**
+     * Moves up to a given number of elements from the buffer to a list, in the order they were added.
+     * Must only be called from the consumer thread.
+     *
+     * @param batch       The list to add the elements to.
+     * @param maxElements The maximum number of elements to move.
+     * @return The number of elements moved.
+     */
+    public int drainTo(List<E> batch, int maxElements) {
+        int drained = 0;
+        while (drained < maxElements) {
+            int index = (int) (head & mask);
+            if (sequences.get(index) != head + 1) {
+                break;
+            }
+            batch.add(slots.get(index));
+            slots.set(index, null);
+            sequences.set(index, head + capacity);
+            head += 1;
+            drained += 1;
+        }
+        return drained;
+    }
+
+    /**
+     * Returns the number of elements ever added to the buffer.
+     *
+     * @return The number of elements added.
+     */
+    public long getOfferedCount() {
+        return tail.get();
+    }
+
+    /**
+     * Returns the number of elements the buffer can hold.
+     *
+     * @return The capacity of the buffer.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,91 @@
+package storage;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+import utility.Filters.DataType;
+
+/**
+ * Represents the segments of the data file that have been read but not yet loaded into the health and workout lists.
+ * On start-up, only the user's name is loaded, and the entries of each type are kept as a segment with the code that
+ * loads them. A segment is loaded the first time {@code HealthList} or {@code WorkoutLists} touches a list of its
+ * type, so commands that only use one type of entry do not wait for every other type to be parsed.
+ * Runs and gyms share one segment, as both are kept in the same workout list in the order they were added.
+ */
+public class SegmentStore {
+    private static final Map<DataType, Runnable> pendingSegments = new EnumMap<>(DataType.class);
+
+    /**
+     * Private constructor to prevent instantiation from outside the class.
+     */
+    private SegmentStore() {
+    }
+
+    /**
+     * Registers a segment to be loaded the first time a list of one of its types is touched, replacing any segment
+     * not yet loaded for those types.
+     *
+     * @param dataTypes The types of entry in the segment.
+     * @param loader    The code that loads the entries of the segment into their lists.
+     */
+    public static void register(Set<DataType> dataTypes, Runnable loader) {
+        synchronized (AutosaveScheduler.getLock()) {
+            for (DataType dataType : dataTypes) {
+                pendingSegments.put(dataType, loader);
+            }
+        }
+    }
+
+    /**
+     * Loads the segment containing a type of entry if it has not been loaded yet.
+     * The segment is marked as loaded before its entries are added, so adding them does not load it again.
+     *
+     * @param dataType The type of entry about to be used.
+     */
+    public static void hydrate(DataType dataType) {
+        synchronized (AutosaveScheduler.getLock()) {
+            Runnable loader = pendingSegments.remove(dataType);
+            if (loader == null) {
+                return;
+            }
+            pendingSegments.values().removeIf(pendingLoader -> pendingLoader == loader);
+            LogFile.writeLog("Hydrating segment containing " + dataType, false);
+            loader.run();
+        }
+    }
+
+    /**
+     * Loads every segment that has not been loaded yet.
+     */
+    public static void hydrateAll() {
+        for (DataType dataType : DataType.values()) {
+            hydrate(dataType);
+        }
+    }
+
+    /**
+     * Discards the segments of the given types without loading them. Called when their lists are cleared.
+     *
+     * @param dataTypes The types of entry whose segments are discarded.
+     */
+    public static void discard(DataType... dataTypes) {
+        synchronized (AutosaveScheduler.getLock()) {
+            for (DataType dataType : dataTypes) {
+                pendingSegments.remove(dataType);
+            }
+        }
+    }
+
+    /**
+     * Returns whether the segment containing a type of entry has been read but not loaded yet.
+     *
+     * @param dataType The type of entry.
+     * @return True if the segment is still waiting to be loaded, otherwise false.
+     */
+    public static boolean isPending(DataType dataType) {
+        synchronized (AutosaveScheduler.getLock()) {
+            return pendingSegments.containsKey(dataType);
+        }
+    }
+}
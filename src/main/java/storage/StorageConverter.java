@@ -0,0 +1,161 @@
+package storage;
+
+import java.io.File;
+import java.util.Locale;
+
+import constants.ErrorConstant;
+import constants.UiConstant;
+import health.HealthList;
+import ui.Output;
+import utility.CustomExceptions;
+import utility.Filters.StorageFormat;
+import workouts.WorkoutLists;
+
+/**
+ * Represents the converter between the text and binary data files.
+ * The storage format is chosen when PulsePilot starts, using the existing data file's format unless the
+ * {@code pulsepilot.storage} system property requests the other one, in which case the existing data file is converted
+ * first. The converter can also be run on its own to convert the data file without starting PulsePilot.
+ */
+public class StorageConverter {
+
+    /**
+     * Private constructor to prevent instantiation from outside the class.
+     */
+    private StorageConverter() {
+    }
+
+    /**
+     * Converts the data file to the format given as the only argument.
+     *
+     * @param args The storage format to convert to, either {@code text} or {@code binary}.
+     */
+    public static void main(String[] args) {
+        LogFile.getInstance();
+        StorageFormat target = args.length == 1 ? parseStorageFormat(args[0]) : null;
+        if (target == null) {
+            System.out.println(UiConstant.STORAGE_CONVERTER_USAGE);
+            return;
+        }
+        StorageFormat source = findExistingStorageFormat();
+        if (source == target || !new File(pathOf(source)).exists()) {
+            useStorageFormat(target);
+            return;
+        }
+        convert(source, target);
+    }
+
+    /**
+     * Selects the storage format to use for this session and converts the existing data file if another format was
+     * requested through the {@code pulsepilot.storage} system property.
+     */
+    public static void selectStorageFormat() {
+        StorageFormat existing = findExistingStorageFormat();
+        String property = System.getProperty(UiConstant.STORAGE_FORMAT_PROPERTY);
+        if (property == null) {
+            useStorageFormat(existing);
+            return;
+        }
+
+        StorageFormat requested = parseStorageFormat(property);
+        if (requested == null) {
+            new Output().printException(ErrorConstant.INVALID_STORAGE_FORMAT_ERROR);
+            useStorageFormat(existing);
+            return;
+        }
+        if (requested != existing && new File(pathOf(existing)).exists() && !convert(existing, requested)) {
+            useStorageFormat(existing);
+            return;
+        }
+        useStorageFormat(requested);
+    }
+
+    /**
+     * Sets the format, path and file of the data file used for reading and saving.
+     *
+     * @param storageFormat The storage format to use.
+     */
+    public static void useStorageFormat(StorageFormat storageFormat) {
+        UiConstant.storageFormat = storageFormat;
+        UiConstant.dataFilePath = pathOf(storageFormat);
+        UiConstant.saveFile = new File(UiConstant.dataFilePath);
+        LogFile.writeLog("Using " + storageFormat + " data file", false);
+    }
+
+    /**
+     * Converts the data file from one format to the other.
+     * The source data file is verified and read as it would be on start-up, including any journalled changes, then
+     * saved in the target format along with a new hash file, before the source data file is deleted.
+     *
+     * @param source The format of the existing data file.
+     * @param target The format to convert to.
+     * @return True if the data file was converted, otherwise false.
+     */
+    private static boolean convert(StorageFormat source, StorageFormat target) {
+        DataFile dataFile = new DataFile();
+        useStorageFormat(source);
+        if (dataFile.loadDataFile() != UiConstant.FILE_FOUND) {
+            return false;
+        }
+        try {
+            dataFile.readDataFile();
+            useStorageFormat(target);
+            dataFile.saveDataFile(DataFile.userName, HealthList.getBmis(), HealthList.getAppointments(),
+                    HealthList.getPeriods(), WorkoutLists.getWorkouts());
+        } catch (CustomExceptions.FileReadError | CustomExceptions.FileWriteError e) {
+            LogFile.writeLog("Unable to convert data file: " + e.getMessage(), true);
+            new Output().printException(e.getMessage());
+            useStorageFormat(source);
+            return false;
+        } finally {
+            HealthList.clearHealthLists();
+            WorkoutLists.clearWorkoutsRunGym();
+        }
+
+        new File(pathOf(source)).delete();
+        LogFile.writeLog("Converted data file from " + source + " to " + target, false);
+        System.out.println(String.format(UiConstant.STORAGE_CONVERTED_MESSAGE,
+                target.name().toLowerCase(Locale.ROOT)));
+        return true;
+    }
+
+    /**
+     * Returns the format of the existing data file. The binary data file is used if it exists, as it is only created
+     * when requested.
+     *
+     * @return The format of the existing data file, or the text format if there is none.
+     */
+    private static StorageFormat findExistingStorageFormat() {
+        if (new File(UiConstant.BINARY_DATA_FILE_PATH).exists()) {
+            return StorageFormat.BINARY;
+        }
+        return StorageFormat.TEXT;
+    }
+
+    /**
+     * Parses the name of a storage format.
+     *
+     * @param name The name of the storage format, in any case.
+     * @return The storage format, or null if the name is invalid.
+     */
+    private static StorageFormat parseStorageFormat(String name) {
+        try {
+            return StorageFormat.valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the path of the data file for a storage format.
+     *
+     * @param storageFormat The storage format.
+     * @return The path of the data file.
+     */
+    private static String pathOf(StorageFormat storageFormat) {
+        if (storageFormat == StorageFormat.BINARY) {
+            return UiConstant.BINARY_DATA_FILE_PATH;
+        }
+        return UiConstant.TEXT_DATA_FILE_PATH;
+    }
+}
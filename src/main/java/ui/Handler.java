@@ -5,7 +5,10 @@ import health.Appointment;
 import health.Bmi;
 import health.HealthList;
 import health.Period;
+import storage.AutosaveScheduler;
 import storage.DataFile;
+import storage.JournalFile;
+import storage.StorageConverter;
 import utility.CustomExceptions;
 import constants.ErrorConstant;
 import constants.UiConstant;
@@ -20,8 +23,11 @@ import utility.Validation;
 import workouts.Workout;
 import workouts.WorkoutLists;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Scanner;
+import java.util.logging.Level;
 import storage.LogFile;
 
 /**
@@ -64,7 +70,7 @@ public class Handler {
         while (in.hasNextLine()) {
             String userInput = in.nextLine().trim();
             String instruction = userInput.toUpperCase().split(UiConstant.SPLIT_BY_WHITESPACE)[0];
-            LogFile.writeLog("User Input: " + userInput, false);
+            LogFile.writeLog(Level.INFO, "User Input: {0}", userInput);
             assert userInput != null : "Object cannot be null";
 
             try {
@@ -76,11 +82,15 @@ public class Handler {
                     return;
 
                 case WORKOUT:
-                    handleWorkout(userInput);
+                    synchronized (AutosaveScheduler.getLock()) {
+                        handleWorkout(userInput);
+                    }
                     break;
 
                 case HEALTH:
-                    handleHealth(userInput);
+                    synchronized (AutosaveScheduler.getLock()) {
+                        handleHealth(userInput);
+                    }
                     break;
 
                 case HISTORY:
@@ -92,7 +102,22 @@ public class Handler {
                     break;
 
                 case DELETE:
-                    handleDelete(userInput);
+                    synchronized (AutosaveScheduler.getLock()) {
+                        handleDelete(userInput);
+                    }
+                    break;
+
+                case STATS:
+                    handleStats(userInput);
+                    break;
+
+                case PB:
+                    handlePersonalBests(userInput);
+                    break;
+
+                case LOAD:
+                    output.printTrainingLoad(LocalDate.now());
+                    LogFile.writeLog("Viewed training load", false);
                     break;
 
                 case HELP:
@@ -105,7 +130,7 @@ public class Handler {
             } catch (CustomExceptions.InvalidInput e) {
                 output.printException(e.getMessage());
             } catch (IllegalArgumentException e) {
-                LogFile.writeLog("Invalid Command Error: " + userInput, true);
+                LogFile.writeLog(Level.WARNING, "Invalid Command Error: {0}", userInput);
                 output.printException(ErrorConstant.INVALID_COMMAND_ERROR);
             }
         }
@@ -136,6 +161,7 @@ public class Handler {
             default:
                 break;
             }
+            output.printTrainingLoadSpikes(LocalDate.now());
         } catch (CustomExceptions.InvalidInput | CustomExceptions.InsufficientInput e) {
             output.printException(e.getMessage());
         } catch (IllegalArgumentException e) {
@@ -146,15 +172,94 @@ public class Handler {
     //@@author rouvinerh
     /**
      * Handles history command.
-     * Show history of all exercises, run or gym.
+     * Show history of all exercises, run or gym, optionally limited to a date range.
      *
      * @param userInput The user input string.
      */
     public void handleHistory(String userInput) {
         String filter = parser.parseHistory(userInput);
-        if (filter != null) {
+        if (filter == null) {
+            return;
+        }
+        if (parser.isHistoryExercisePresent(userInput)) {
+            handleExerciseHistory(userInput, filter);
+            return;
+        }
+        if (!parser.isHistoryRangePresent(userInput)) {
             output.printHistory(filter);
-            LogFile.writeLog("Viewed history for " + filter, false);
+            LogFile.writeLog(Level.INFO, "Viewed history for {0}", filter);
+            return;
+        }
+        LocalDate[] range = parser.parseHistoryRange(userInput);
+        if (range != null) {
+            output.printHistory(filter, range[UiConstant.HISTORY_FROM_INDEX], range[UiConstant.HISTORY_TO_INDEX]);
+            LogFile.writeLog(Level.INFO, "Viewed history for {0} from {1} to {2}", filter,
+                    range[UiConstant.HISTORY_FROM_INDEX], range[UiConstant.HISTORY_TO_INDEX]);
+        }
+    }
+
+    /**
+     * Handles stats command.
+     * Shows the training totals of all time, or of a window or date range.
+     *
+     * @param userInput The user input string.
+     */
+    public void handleStats(String userInput) {
+        if (!parser.isStatsRangePresent(userInput)) {
+            output.printStats();
+            LogFile.writeLog("Viewed stats for all time", false);
+            return;
+        }
+        LocalDate[] range = parser.parseStatsRange(userInput);
+        if (range != null) {
+            output.printStats(range[UiConstant.HISTORY_FROM_INDEX], range[UiConstant.HISTORY_TO_INDEX]);
+            LogFile.writeLog(Level.INFO, "Viewed stats from {0} to {1}", range[UiConstant.HISTORY_FROM_INDEX],
+                    range[UiConstant.HISTORY_TO_INDEX]);
+        }
+    }
+
+    /**
+     * Handles pb command.
+     * Shows the personal best runs, or the top lifts of an exercise.
+     *
+     * @param userInput The user input string.
+     */
+    public void handlePersonalBests(String userInput) {
+        if (!parser.isPersonalBestExercisePresent(userInput)) {
+            output.printPersonalBests();
+            LogFile.writeLog("Viewed personal bests", false);
+            return;
+        }
+        String exercise = parser.parsePersonalBestExercise(userInput);
+        if (exercise != null) {
+            output.printTopLifts(exercise);
+            LogFile.writeLog(Level.INFO, "Viewed top lifts for {0}", exercise);
+        }
+    }
+
+    /**
+     * Handles history command limited to one exercise.
+     * Prints the gym sessions with the exercise, within a date range if one is given.
+     *
+     * @param userInput The user input string.
+     * @param filter    The filter string of the history command.
+     */
+    private void handleExerciseHistory(String userInput, String filter) {
+        String exercise = parser.parseHistoryExercise(userInput, filter);
+        if (exercise == null) {
+            return;
+        }
+        if (!parser.isHistoryRangePresent(userInput)) {
+            output.printGymExerciseHistory(exercise);
+            LogFile.writeLog(Level.INFO, "Viewed gym history for {0}", exercise);
+            return;
+        }
+        LocalDate[] range = parser.parseHistoryRange(userInput);
+        if (range != null) {
+            output.printGymExerciseHistory(exercise, range[UiConstant.HISTORY_FROM_INDEX],
+                    range[UiConstant.HISTORY_TO_INDEX]);
+            LogFile.writeLog(Level.INFO, "Viewed gym history for {0} from {1} to {2}", exercise,
+                    range[UiConstant.HISTORY_FROM_INDEX], range[UiConstant.HISTORY_TO_INDEX]);
         }
     }
 
@@ -223,7 +328,7 @@ public class Handler {
                 break;
 
             case PREDICTION:
-                parser.parsePredictionInput();
+                parser.parsePredictionInput(userInput);
                 break;
 
             case APPOINTMENT:
@@ -251,7 +356,7 @@ public class Handler {
         String filter = parser.parseLatest(userInput);
         if (filter != null) {
             output.printLatest(filter);
-            LogFile.writeLog("Viewed latest for " + filter, false);
+            LogFile.writeLog(Level.INFO, "Viewed latest for {0}", filter);
         }
     }
 
@@ -279,7 +384,7 @@ public class Handler {
         System.out.println("Initiating FTL jump sequence...");
 
         // DataFile.saveName(name);
-        LogFile.writeLog("Name Entered: " + name, false);
+        LogFile.writeLog(Level.INFO, "Name Entered: {0}", name);
         System.out.println("FTL jump completed.");
     }
 
@@ -292,11 +397,15 @@ public class Handler {
         output.printWelcomeBanner();
         LogFile.writeLog("Started bot", false);
 
+        StorageConverter.selectStorageFormat();
         int status = dataFile.loadDataFile();
 
         if (status == 0) {
             try {
                 dataFile.readDataFile(); // File read
+                if (dataFile.isSnapshotOutdated()) {
+                    saveSnapshot();
+                }
                 output.printGreeting(status, DataFile.userName);
             } catch (CustomExceptions.FileReadError e) {
                 output.printException(e.getMessage());
@@ -304,19 +413,32 @@ public class Handler {
         } else {
             output.printGreeting(status, DataFile.userName);
             userInduction();
+            saveSnapshot();
         }
+        openJournal();
+        AutosaveScheduler.start();
 
         System.out.println("Terminal primed. Command inputs are now accepted...");
         output.printLine();
     }
 
     /**
-     * Terminates PulsePilot by saving tasks to storage, printing a goodbye message,
-     * and indicating the filename where tasks are saved.
+     * Opens the journal so that every change made from now on is saved as it happens.
+     * If the journal cannot be opened, all data is saved when PulsePilot terminates instead.
      */
-    public void terminateBot() {
-        LogFile.writeLog("User terminating PulsePilot", false);
+    private void openJournal() {
+        try {
+            JournalFile.open();
+        } catch (IOException e) {
+            LogFile.writeLog("Journal open error: " + e.getMessage(), true);
+            output.printException(ErrorConstant.JOURNAL_OPEN_ERROR);
+        }
+    }
 
+    /**
+     * Writes all data to the data file as a new snapshot, which also empties the journal.
+     */
+    private void saveSnapshot() {
         try {
             LogFile.writeLog("Attempting to save data file", false);
 
@@ -331,10 +453,27 @@ public class Handler {
             LogFile.writeLog("File write error", true);
             output.printException(e.getMessage());
         }
+    }
+
+    /**
+     * Terminates PulsePilot by stopping autosave, closing the journal, printing a goodbye message,
+     * and indicating the filename where tasks are saved.
+     * Changes are already in the journal, so the data file is only rewritten once the journal needs compacting, or
+     * if entries were quarantined while loading a segment.
+     */
+    public void terminateBot() {
+        LogFile.writeLog("User terminating PulsePilot", false);
+        AutosaveScheduler.stop();
+
+        if (!JournalFile.isOpen() || JournalFile.needsCompaction() || dataFile.isSnapshotOutdated()) {
+            saveSnapshot();
+        }
+        JournalFile.close();
 
         output.printGoodbyeMessage();
         // Yet to implement : Reply.printReply("Saved tasks as: " + Constant.FILE_NAME);
         LogFile.writeLog("Bot exited gracefully", false);
+        LogFile.flush();
         System.exit(0);
     }
 
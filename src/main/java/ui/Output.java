@@ -6,18 +6,27 @@ import constants.WorkoutConstant;
 import constants.HealthConstant;
 import utility.CustomExceptions;
 
+import workouts.ExerciseDictionary;
 import workouts.Gym;
 import workouts.GymStation;
+import workouts.Lift;
+import workouts.TrainingLoad;
+import workouts.WorkloadRatio;
+import workouts.PersonalBests;
 import workouts.Run;
+import workouts.StatsSummary;
 import workouts.Workout;
 import workouts.WorkoutLists;
+import workouts.WorkoutStats;
 import health.HealthList;
 import health.Bmi;
 import health.Period;
 import health.Appointment;
 import utility.Filters.HistoryAndLatestFilters;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * The Output class handles printing various messages, data, and ASCII art for the user interface.
@@ -43,12 +52,20 @@ public class Output {
         System.out.println("workout /e:gym /n:NUMBER_OF_STATIONS [/date:DATE] - Add a new gym workout");
         System.out.println("health /h:bmi /height:HEIGHT /weight:WEIGHT /date:DATE - Add new BMI data");
         System.out.println("health /h:period /start:START_DATE [/end:END_DATE] - Add new period data");
-        System.out.println("health /h:prediction - Predicts next period's start date");
+        System.out.println("health /h:prediction [/mode:history] - Predicts next period's start date, from the last "
+                + "three cycles or the whole cycle history");
         System.out.println("health /h:appointment /date:DATE /time:TIME /description:DESCRIPTION" +
                 " - Add new appointment data");
 
-        System.out.println("history /item:[run/gym/workouts/bmi/period/appointment] - " +
+        System.out.println("history /item:[run/gym/workouts/bmi/period/appointment] [/from:DATE] [/to:DATE] - " +
                 "Shows history of run/gym/workouts/bmi/period/appointment records");
+        System.out.println("history /item:gym /exercise:NAME [/from:DATE] [/to:DATE] - " +
+                "Shows the gym sessions with an exercise");
+        System.out.println("stats [/window:[day/week/month/year]] [/from:DATE] [/to:DATE] - " +
+                "Shows total distance, run time, sessions and gym volume");
+        System.out.println("pb - Shows your fastest pace, longest run and fastest 5K/10K/half/full marathon runs");
+        System.out.println("pb /exercise:NAME - Shows your top sets of an exercise by estimated one-rep max");
+        System.out.println("load - Shows your training load this week against the last 4 weeks");
         System.out.println("latest /item:[run/gym/bmi/period/appointment] - " +
                 "Shows latest entry of run/gym/bmi/period/appointment records");
         System.out.println("delete /item:[run/gym/bmi/period/appointment] /index:INDEX - " +
@@ -202,33 +219,68 @@ public class Output {
             printWorkoutEmptyMessage();
         } else {
             for (int i = 0; i < workoutList.size(); i++) {
-                Workout workout = workoutList.get(i);
-                if (workout instanceof Run) {
-                    Run run = (Run) workout;
-                    String formattedRunString = run.getFormatForAllHistory();
-                    System.out.printf((WorkoutConstant.HISTORY_WORKOUTS_DATA_HEADER_FORMAT) + "%n",
-                            (i + 1), formattedRunString);
-                } else {
-                    Gym gym = (Gym) workout;
-                    int numberOfStation = gym.getStations().size();
-                    for (int j = 0; j < numberOfStation; j++) {
-                        String gymString;
-                        if (j == 0) {
-                            gymString = String.format(WorkoutConstant.HISTORY_WORKOUTS_DATA_HEADER_FORMAT,
-                                    (i + 1), gym.getHistoryFormatForSpecificGymStation(j));
-                        } else {
-                            gymString = String.format(WorkoutConstant.HISTORY_WORKOUTS_DATA_HEADER_FORMAT,
-                                    "", gym.getHistoryFormatForSpecificGymStation(j));
-                        }
-                        System.out.println(gymString);
-                    }
-                }
+                printWorkoutHistoryEntry(i + 1, workoutList.get(i));
+            }
+        }
+
+        printLine();
+    }
+
+    /**
+     * Prints the workouts within a date range, numbered by their indexes in the full workout history.
+     *
+     * @param from The earliest date of the range.
+     * @param to   The latest date of the range.
+     */
+    protected void printWorkoutHistory(LocalDate from, LocalDate to) {
+        printLine();
+        System.out.println(WorkoutConstant.HISTORY_WORKOUTS_HEADER);
+        System.out.println(WorkoutConstant.HISTORY_WORKOUTS_HEADER_FORMAT);
+
+        if (WorkoutLists.getWorkouts().isEmpty()) {
+            printWorkoutEmptyMessage();
+        } else {
+            List<Workout> workoutList = WorkoutLists.getWorkoutsBetween(from, to);
+            if (workoutList.isEmpty()) {
+                System.out.println(UiConstant.HISTORY_RANGE_EMPTY_MESSAGE);
+            }
+            for (Workout workout : workoutList) {
+                printWorkoutHistoryEntry(WorkoutLists.getWorkoutIndex(workout) + 1, workout);
             }
         }
 
         printLine();
     }
 
+    /**
+     * Prints one workout in the workout history, with a row for a run or for each station of a gym.
+     *
+     * @param index   The number of the workout in the workout history.
+     * @param workout The Run or Gym object to print.
+     */
+    private void printWorkoutHistoryEntry(int index, Workout workout) {
+        if (workout instanceof Run) {
+            Run run = (Run) workout;
+            String formattedRunString = run.getFormatForAllHistory();
+            System.out.printf((WorkoutConstant.HISTORY_WORKOUTS_DATA_HEADER_FORMAT) + "%n",
+                    index, formattedRunString);
+        } else {
+            Gym gym = (Gym) workout;
+            int numberOfStation = gym.getStations().size();
+            for (int j = 0; j < numberOfStation; j++) {
+                String gymString;
+                if (j == 0) {
+                    gymString = String.format(WorkoutConstant.HISTORY_WORKOUTS_DATA_HEADER_FORMAT,
+                            index, gym.getHistoryFormatForSpecificGymStation(j));
+                } else {
+                    gymString = String.format(WorkoutConstant.HISTORY_WORKOUTS_DATA_HEADER_FORMAT,
+                            "", gym.getHistoryFormatForSpecificGymStation(j));
+                }
+                System.out.println(gymString);
+            }
+        }
+    }
+
     /**
      * Prints all the Run objects added to the list.
      *
@@ -257,6 +309,38 @@ public class Output {
         printLine();
     }
 
+    /**
+     * Prints the runs within a date range, numbered by their indexes in the full run history.
+     *
+     * @param from The earliest date of the range.
+     * @param to   The latest date of the range.
+     */
+    protected void printRunHistory(LocalDate from, LocalDate to) {
+        printLine();
+        System.out.println("Your run history:");
+
+        if (WorkoutLists.getRuns().isEmpty()) {
+            printRunEmptyMessage();
+        } else {
+            List<Run> runList = new ArrayList<>();
+            for (Workout workout : WorkoutLists.getWorkoutsBetween(from, to)) {
+                if (workout instanceof Run) {
+                    runList.add((Run) workout);
+                }
+            }
+            if (runList.isEmpty()) {
+                System.out.println(UiConstant.HISTORY_RANGE_EMPTY_MESSAGE);
+            } else {
+                System.out.println(String.format(WorkoutConstant.RUN_HEADER_INDEX_FORMAT));
+                for (Run run : runList) {
+                    System.out.println(getFormattedRunWithIndex(WorkoutLists.getRunIndex(run) + 1, run));
+                }
+            }
+        }
+
+        printLine();
+    }
+
     /**
      * Prints all the stations within a specified Gym object.
      *
@@ -270,10 +354,10 @@ public class Output {
     }
 
 
-    private void printGymList(ArrayList<Gym> gymList){
+    private void printGymList(List<Gym> gymList){
         for (int i = 0; i < gymList.size(); i++) {
-            int index = i + 1;
             Gym currentWorkout = gymList.get(i);
+            int index = WorkoutLists.getGymIndex(currentWorkout) + 1;
             System.out.println("Gym Session " + index + currentWorkout);
             printGymStats(currentWorkout);
             if (i != gymList.size() - 1) {
@@ -313,6 +397,265 @@ public class Output {
         printLine();
     }
 
+    /**
+     * Prints all the information for the Gym objects within a date range, numbered by their indexes in the full
+     * gym history.
+     *
+     * @param from The earliest date of the range.
+     * @param to   The latest date of the range.
+     */
+    protected void printGymHistory(LocalDate from, LocalDate to) {
+        printLine();
+        System.out.println("Your gym history:");
+        if (WorkoutLists.getGyms().isEmpty()) {
+            printGymEmptyMessage();
+        } else {
+            List<Gym> gymList = new ArrayList<>();
+            for (Workout workout : WorkoutLists.getWorkoutsBetween(from, to)) {
+                if (workout instanceof Gym) {
+                    gymList.add((Gym) workout);
+                }
+            }
+            if (gymList.isEmpty()) {
+                System.out.println(UiConstant.HISTORY_RANGE_EMPTY_MESSAGE);
+            } else {
+                printGymList(gymList);
+            }
+        }
+        printLine();
+    }
+
+    /**
+     * Prints the gym sessions with an exercise, with only the stations of that exercise, numbered by their indexes
+     * in the full gym history.
+     *
+     * @param exercise The name of the exercise.
+     */
+    public void printGymExerciseHistory(String exercise) {
+        printLine();
+        System.out.println("Your " + exercise + " history:");
+        if (WorkoutLists.getGyms().isEmpty()) {
+            printGymEmptyMessage();
+        } else {
+            printGymExerciseList(exercise, WorkoutLists.getGymsWithExercise(exercise));
+        }
+        printLine();
+    }
+
+    /**
+     * Prints the gym sessions with an exercise within a date range, with only the stations of that exercise,
+     * numbered by their indexes in the full gym history.
+     *
+     * @param exercise The name of the exercise.
+     * @param from     The earliest date of the range.
+     * @param to       The latest date of the range.
+     */
+    public void printGymExerciseHistory(String exercise, LocalDate from, LocalDate to) {
+        printLine();
+        System.out.println("Your " + exercise + " history:");
+        if (WorkoutLists.getGyms().isEmpty()) {
+            printGymEmptyMessage();
+        } else {
+            List<Gym> gymList = new ArrayList<>();
+            for (Gym gym : WorkoutLists.getGymsWithExercise(exercise)) {
+                LocalDate date = gym.getDateValue();
+                if (date != null && !date.isBefore(from) && !date.isAfter(to)) {
+                    gymList.add(gym);
+                }
+            }
+            printGymExerciseList(exercise, gymList);
+        }
+        printLine();
+    }
+
+    /**
+     * Prints the gym sessions in a list, with only the stations of an exercise.
+     *
+     * @param exercise The name of the exercise.
+     * @param gymList  The list of gym sessions with the exercise.
+     */
+    private void printGymExerciseList(String exercise, List<Gym> gymList) {
+        if (gymList.isEmpty()) {
+            System.out.println(UiConstant.EXERCISE_HISTORY_EMPTY_MESSAGE);
+            return;
+        }
+        int exerciseId = ExerciseDictionary.findId(exercise);
+        for (int i = 0; i < gymList.size(); i++) {
+            Gym currentWorkout = gymList.get(i);
+            int index = WorkoutLists.getGymIndex(currentWorkout) + 1;
+            System.out.println("Gym Session " + index + currentWorkout);
+            ArrayList<GymStation> allStations = currentWorkout.getStations();
+            for (int j = 0; j < allStations.size(); j++) {
+                if (allStations.get(j).getExerciseId() == exerciseId) {
+                    System.out.printf("Station %d %s%n", j + 1, allStations.get(j).toString());
+                }
+            }
+            if (i != gymList.size() - 1) {
+                printLine();
+            }
+        }
+    }
+
+    /**
+     * Prints the training totals of every workout, including those without a date.
+     */
+    public void printStats() {
+        printLine();
+        System.out.println(UiConstant.STATS_ALL_TIME_HEADER);
+        printStatsSummary(WorkoutStats.getStats());
+        printLine();
+    }
+
+    /**
+     * Prints the training totals of the workouts within a date range.
+     *
+     * @param from The earliest date of the range.
+     * @param to   The latest date of the range.
+     */
+    public void printStats(LocalDate from, LocalDate to) {
+        printLine();
+        String fromString = from.equals(LocalDate.MIN) ? UiConstant.STATS_OPEN_END : from.toString();
+        String toString = to.equals(LocalDate.MAX) ? UiConstant.STATS_OPEN_END : to.toString();
+        System.out.printf(UiConstant.STATS_RANGE_HEADER_FORMAT + "%n", fromString, toString);
+        printStatsSummary(WorkoutStats.getStats(from, to));
+        printLine();
+    }
+
+    /**
+     * Prints the totals within a StatsSummary object.
+     *
+     * @param summary The StatsSummary object to print.
+     */
+    private void printStatsSummary(StatsSummary summary) {
+        long runSeconds = summary.getTotalRunSeconds();
+        System.out.printf(WorkoutConstant.STATS_RUN_COUNT_FORMAT + "%n", summary.getRunCount());
+        System.out.printf(WorkoutConstant.STATS_DISTANCE_FORMAT + "%n", summary.getTotalDistance());
+        System.out.printf(WorkoutConstant.STATS_RUN_TIME_FORMAT + "%n", runSeconds / UiConstant.NUM_SECONDS_IN_HOUR,
+                runSeconds % UiConstant.NUM_SECONDS_IN_HOUR / UiConstant.NUM_SECONDS_IN_MINUTE,
+                runSeconds % UiConstant.NUM_SECONDS_IN_MINUTE);
+        System.out.printf(WorkoutConstant.STATS_GYM_COUNT_FORMAT + "%n", summary.getGymCount());
+        System.out.printf(WorkoutConstant.STATS_VOLUME_FORMAT + "%n", summary.getTotalVolume());
+    }
+
+    /**
+     * Prints the personal best runs: the fastest pace, the longest run and the fastest run within each distance
+     * bracket.
+     */
+    public void printPersonalBests() {
+        printLine();
+        System.out.println(WorkoutConstant.PB_HEADER);
+        printPersonalBest(WorkoutConstant.PB_FASTEST_PACE, PersonalBests.getFastestPace());
+        printPersonalBest(WorkoutConstant.PB_LONGEST_RUN, PersonalBests.getLongestRun());
+        for (int i = 0; i < WorkoutConstant.PB_BRACKET_NAMES.length; i++) {
+            printPersonalBest(String.format(WorkoutConstant.PB_BRACKET_FORMAT, WorkoutConstant.PB_BRACKET_NAMES[i]),
+                    PersonalBests.getFastestInBracket(i));
+        }
+        printLine();
+    }
+
+    /**
+     * Prints the sets of an exercise with the highest estimated one-rep max, with the gym session each was done in
+     * numbered by its index in the gym history.
+     *
+     * @param exercise The name of the exercise.
+     */
+    public void printTopLifts(String exercise) {
+        printLine();
+        System.out.printf(WorkoutConstant.TOP_LIFTS_HEADER_FORMAT + "%n", exercise);
+        List<Lift> topLifts = PersonalBests.getTopLifts(exercise);
+        if (topLifts.isEmpty()) {
+            System.out.println(WorkoutConstant.TOP_LIFTS_EMPTY_MESSAGE);
+        }
+        for (int i = 0; i < topLifts.size(); i++) {
+            Lift lift = topLifts.get(i);
+            double brzyckiMax = lift.getSet().getBrzyckiMax();
+            String brzyckiString = brzyckiMax == WorkoutConstant.NO_ONE_REP_MAX
+                    ? WorkoutConstant.NO_ONE_REP_MAX_STRING
+                    : String.format(WorkoutConstant.ONE_REP_MAX_FORMAT, brzyckiMax);
+            System.out.printf(WorkoutConstant.TOP_LIFT_FORMAT + "%n", i + 1, lift.getSet(), lift.getEpleyMax(),
+                    brzyckiString, WorkoutLists.getGymIndex(lift.getGym()) + 1, lift.getGym().getDate());
+        }
+        printLine();
+    }
+
+    /**
+     * Prints the acute load of the last 7 days, the chronic load per week of the last 28 days and the
+     * acute:chronic workload ratio of runs and gym sessions.
+     *
+     * @param today The last day of the windows.
+     */
+    public void printTrainingLoad(LocalDate today) {
+        printLine();
+        System.out.println(WorkoutConstant.LOAD_HEADER);
+        WorkloadRatio runLoad = TrainingLoad.getRunLoad(today);
+        System.out.printf(WorkoutConstant.LOAD_RUN_FORMAT + "%n", runLoad.getAcuteLoad(),
+                runLoad.getChronicWeeklyLoad());
+        printWorkloadRatio(runLoad);
+        WorkloadRatio gymLoad = TrainingLoad.getGymLoad(today);
+        System.out.printf(WorkoutConstant.LOAD_GYM_FORMAT + "%n", gymLoad.getAcuteLoad(),
+                gymLoad.getChronicWeeklyLoad());
+        printWorkloadRatio(gymLoad);
+        printLine();
+    }
+
+    /**
+     * Prints a warning for the run or gym load if it has spiked this week. Nothing is printed otherwise.
+     *
+     * @param today The last day of the windows.
+     */
+    public void printTrainingLoadSpikes(LocalDate today) {
+        WorkloadRatio runLoad = TrainingLoad.getRunLoad(today);
+        WorkloadRatio gymLoad = TrainingLoad.getGymLoad(today);
+        if (!runLoad.isSpike() && !gymLoad.isSpike()) {
+            return;
+        }
+        printLine();
+        if (runLoad.isSpike()) {
+            System.out.printf(WorkoutConstant.LOAD_SPIKE_WARNING_FORMAT + "%n", WorkoutConstant.RUN,
+                    runLoad.getRatio());
+        }
+        if (gymLoad.isSpike()) {
+            System.out.printf(WorkoutConstant.LOAD_SPIKE_WARNING_FORMAT + "%n", WorkoutConstant.GYM,
+                    gymLoad.getRatio());
+        }
+        printLine();
+    }
+
+    /**
+     * Prints the acute:chronic workload ratio and whether it is a spike, low or within range.
+     *
+     * @param load The loads of the acute and chronic windows.
+     */
+    private void printWorkloadRatio(WorkloadRatio load) {
+        if (!load.hasRatio()) {
+            System.out.println(WorkoutConstant.LOAD_NO_RATIO_MESSAGE);
+            return;
+        }
+        String status = WorkoutConstant.LOAD_IN_RANGE;
+        if (load.isSpike()) {
+            status = WorkoutConstant.LOAD_SPIKE;
+        } else if (load.isLow()) {
+            status = WorkoutConstant.LOAD_LOW;
+        }
+        System.out.printf(WorkoutConstant.LOAD_RATIO_FORMAT + "%n", load.getRatio(), status);
+    }
+
+    /**
+     * Prints one personal best run, numbered by its index in the run history.
+     *
+     * @param label The name of the personal best.
+     * @param run   The Run object, or null if there is none.
+     */
+    private void printPersonalBest(String label, Run run) {
+        String labelWithColon = label + WorkoutConstant.COLON;
+        if (run == null) {
+            System.out.printf(WorkoutConstant.PB_EMPTY_FORMAT + "%n", labelWithColon);
+            return;
+        }
+        System.out.printf(WorkoutConstant.PB_RUN_FORMAT + "%n", labelWithColon, WorkoutLists.getRunIndex(run) + 1,
+                run.getDistance(), run.getTimes(), run.getPace(), run.getDate());
+    }
+
     /**
      * Prints the message when user exits from entering gym station input.
      */
@@ -379,6 +722,29 @@ public class Output {
 
     }
 
+    /**
+     * Prints the Bmi, Period or Appointment objects within a date range.
+     *
+     * @param filter The type of object to print, either 'bmi', 'period' or 'appointment'.
+     * @param from   The earliest date of the range.
+     * @param to     The latest date of the range.
+     */
+    private void printHealthHistory(HistoryAndLatestFilters filter, LocalDate from, LocalDate to) {
+        try {
+            printLine();
+            if (filter == HistoryAndLatestFilters.BMI) {
+                HealthList.printBmiHistory(from, to);
+            } else if (filter == HistoryAndLatestFilters.PERIOD) {
+                HealthList.printPeriodHistory(from, to);
+            } else {
+                HealthList.printAppointmentHistory(from, to);
+            }
+            printLine();
+        } catch (CustomExceptions.OutOfBounds e) {
+            printException(e.getMessage());
+        }
+    }
+
     //@@author rouvinerh
     /**
      * Prints the latest Run recorded.
@@ -543,6 +909,43 @@ public class Output {
         }
     }
 
+    /**
+     * Prints the history of a type of object within a date range, numbered by the indexes used to delete them.
+     *
+     * @param filter The type of object to print.
+     * @param from   The earliest date of the range.
+     * @param to     The latest date of the range.
+     */
+    public void printHistory(String filter, LocalDate from, LocalDate to) {
+        try {
+            HistoryAndLatestFilters parsedFilter = HistoryAndLatestFilters.valueOf(filter.toUpperCase());
+            switch (parsedFilter) {
+            case WORKOUTS:
+                printWorkoutHistory(from, to);
+                break;
+
+            case RUN:
+                printRunHistory(from, to);
+                break;
+
+            case GYM:
+                printGymHistory(from, to);
+                break;
+
+            case BMI:
+            case PERIOD:
+            case APPOINTMENT:
+                printHealthHistory(parsedFilter, from, to);
+                break;
+
+            default:
+                break;
+            }
+        } catch (IllegalArgumentException e) {
+            printException(ErrorConstant.INVALID_HISTORY_FILTER_ERROR);
+        }
+    }
+
     //@@author JustinSoh
     /**
      * Prints a specified message and the exception error message.
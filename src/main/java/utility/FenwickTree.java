@@ -0,0 +1,105 @@
+package utility;
+
+import java.util.Arrays;
+
+/**
+ * Represents a Fenwick tree of {@code long} values, which adds to a value and sums a range of values in O(log n).
+ * The tree grows when a value past its end is added to, so it only needs to be as large as the highest index used.
+ */
+public class FenwickTree {
+    private long[] tree;
+
+    /**
+     * Constructs a new FenwickTree object holding a number of zero values.
+     *
+     * @param capacity The number of values the tree holds before it grows.
+     */
+    public FenwickTree(int capacity) {
+        tree = new long[Math.max(capacity, 1) + 1];
+    }
+
+    /**
+     * Returns the number of values the tree holds.
+     *
+     * @return The number of values.
+     */
+    public int size() {
+        return tree.length - 1;
+    }
+
+    /**
+     * Adds to the value at an index, growing the tree if the index is past its end.
+     *
+     * @param index The index of the value.
+     * @param delta The amount to add, which may be negative.
+     */
+    public void add(int index, long delta) {
+        assert index >= 0 : "Index cannot be negative";
+        if (index >= size()) {
+            grow(index + 1);
+        }
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Returns the sum of the values from index 0 up to an index, inclusive.
+     *
+     * @param index The last index to sum, which may be past the end of the tree.
+     * @return The sum of the values, or 0 if the index is negative.
+     */
+    public long prefixSum(int index) {
+        long sum = 0;
+        for (int i = Math.min(index + 1, size()); i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the sum of the values within a range of indexes, inclusive.
+     *
+     * @param from The first index of the range.
+     * @param to   The last index of the range.
+     * @return The sum of the values, or 0 if the range is empty.
+     */
+    public long rangeSum(int from, int to) {
+        if (from > to) {
+            return 0;
+        }
+        return prefixSum(to) - prefixSum(from - 1);
+    }
+
+    /**
+     * Resets every value to zero, keeping the size of the tree.
+     */
+    public void clear() {
+        Arrays.fill(tree, 0);
+    }
+
+    /**
+     * Grows the tree to hold at least a number of values, doubling its size so growing takes amortised O(1) per value.
+     * The values are recovered from the old tree and the new tree is built from them in O(n).
+     *
+     * @param minimumSize The number of values the tree must hold.
+     */
+    private void grow(int minimumSize) {
+        int oldSize = size();
+        long[] values = new long[Math.max(minimumSize, oldSize * 2) + 1];
+        System.arraycopy(tree, 1, values, 1, oldSize);
+        for (int i = oldSize; i > 0; i--) {
+            int parent = i + (i & -i);
+            if (parent <= oldSize) {
+                values[parent] -= tree[i];
+            }
+        }
+        for (int i = 1; i < values.length; i++) {
+            int parent = i + (i & -i);
+            if (parent < values.length) {
+                values[parent] += values[i];
+            }
+        }
+        tree = values;
+    }
+}
@@ -13,6 +13,9 @@ public class Filters {
         LATEST,
         HEALTH,
         DELETE,
+        STATS,
+        PB,
+        LOAD,
         HELP,
         EXIT
     }
@@ -46,6 +49,13 @@ public class Filters {
         WORKOUTS
     }
 
+    public enum StatsWindows {
+        DAY,
+        WEEK,
+        MONTH,
+        YEAR
+    }
+
     public enum DataType {
         BMI,
         APPOINTMENT,
@@ -54,4 +64,20 @@ public class Filters {
         RUN
     }
 
+    public enum JournalOperation {
+        ADD,
+        DELETE,
+        UPDATE
+    }
+
+    public enum StorageFormat {
+        TEXT,
+        BINARY
+    }
+
+    public enum LogOverflowPolicy {
+        BLOCK,
+        DROP
+    }
+
 }
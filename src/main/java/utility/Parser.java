@@ -8,13 +8,17 @@ import health.Appointment;
 import health.Bmi;
 import health.HealthList;
 import health.Period;
+import storage.DataFile;
+import storage.JournalFile;
 import storage.LogFile;
 import ui.Output;
 
+import utility.Filters.StatsWindows;
 import workouts.Gym;
 import workouts.Run;
 import workouts.WorkoutLists;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
@@ -170,7 +174,10 @@ public class Parser {
      */
     public String parseHistory(String userInput) {
         try {
-            if (countForwardSlash(userInput) > UiConstant.NUM_OF_SLASHES_FOR_LATEST_AND_HISTORY) {
+            int maxSlashes = isHistoryExercisePresent(userInput)
+                    ? UiConstant.NUM_OF_SLASHES_FOR_HISTORY_WITH_EXERCISE
+                    : UiConstant.NUM_OF_SLASHES_FOR_HISTORY_WITH_RANGE;
+            if (countForwardSlash(userInput) > maxSlashes) {
                 throw new CustomExceptions.InvalidInput(ErrorConstant.TOO_MANY_SLASHES_ERROR);
             }
             String filter = extractSubstringFromSpecificIndex(userInput, UiConstant.ITEM_FLAG);
@@ -186,6 +193,191 @@ public class Parser {
         }
     }
 
+    /**
+     * Returns whether the user input for the history command limits it to a date range.
+     *
+     * @param userInput String representing the user input.
+     * @return True if the '/from:' or '/to:' flag is present, otherwise false.
+     */
+    public boolean isHistoryRangePresent(String userInput) {
+        return userInput.contains(UiConstant.FROM_FLAG) || userInput.contains(UiConstant.TO_FLAG);
+    }
+
+    /**
+     * Returns whether the user input for the history command limits it to one exercise.
+     *
+     * @param userInput String representing the user input.
+     * @return True if the '/exercise:' flag is present, otherwise false.
+     */
+    public boolean isHistoryExercisePresent(String userInput) {
+        return userInput.contains(UiConstant.EXERCISE_HISTORY_FLAG);
+    }
+
+    /**
+     * Validates and parses the exercise of the history command.
+     *
+     * @param userInput String representing the user input.
+     * @param filter    The filter string of the history command.
+     * @return The name of the exercise, or null if it is invalid.
+     */
+    public String parseHistoryExercise(String userInput, String filter) {
+        try {
+            String exercise = extractSubstringFromSpecificIndex(userInput, UiConstant.EXERCISE_HISTORY_FLAG);
+            validation.validateHistoryExercise(filter, exercise);
+            return exercise;
+        } catch (CustomExceptions.InvalidInput | CustomExceptions.InsufficientInput e) {
+            output.printException(e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Returns whether the user input for the pb command asks for the top lifts of an exercise.
+     *
+     * @param userInput String representing the user input.
+     * @return True if the '/exercise:' flag is present, otherwise false.
+     */
+    public boolean isPersonalBestExercisePresent(String userInput) {
+        return userInput.contains(UiConstant.EXERCISE_HISTORY_FLAG);
+    }
+
+    /**
+     * Validates and parses the exercise of the pb command.
+     *
+     * @param userInput String representing the user input.
+     * @return The name of the exercise, or null if it is invalid.
+     */
+    public String parsePersonalBestExercise(String userInput) {
+        try {
+            if (countForwardSlash(userInput) > UiConstant.NUM_OF_SLASHES_FOR_PB) {
+                throw new CustomExceptions.InvalidInput(ErrorConstant.TOO_MANY_SLASHES_ERROR);
+            }
+            String exercise = extractSubstringFromSpecificIndex(userInput, UiConstant.EXERCISE_HISTORY_FLAG);
+            if (exercise.isEmpty()) {
+                throw new CustomExceptions.InsufficientInput(ErrorConstant.INSUFFICIENT_HISTORY_EXERCISE_ERROR);
+            }
+            return exercise;
+        } catch (CustomExceptions.InvalidInput | CustomExceptions.InsufficientInput e) {
+            output.printException(e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Returns whether the user input for the stats command limits it to a window or date range.
+     *
+     * @param userInput String representing the user input.
+     * @return True if the '/window:', '/from:' or '/to:' flag is present, otherwise false.
+     */
+    public boolean isStatsRangePresent(String userInput) {
+        return userInput.contains(UiConstant.WINDOW_FLAG) || isHistoryRangePresent(userInput);
+    }
+
+    /**
+     * Validates and parses the window or date range of the stats command. A window is the day, week, month or year
+     * containing today, and a date range is parsed in the same way as for the history command.
+     *
+     * @param userInput String representing the user input.
+     * @return The earliest and latest dates of the window or range, or null if it is invalid.
+     */
+    public LocalDate[] parseStatsRange(String userInput) {
+        try {
+            if (countForwardSlash(userInput) > UiConstant.NUM_OF_SLASHES_FOR_STATS) {
+                throw new CustomExceptions.InvalidInput(ErrorConstant.TOO_MANY_SLASHES_ERROR);
+            }
+            if (!userInput.contains(UiConstant.WINDOW_FLAG)) {
+                return parseHistoryRange(userInput);
+            }
+            if (isHistoryRangePresent(userInput)) {
+                throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_STATS_FLAGS_ERROR);
+            }
+            String window = extractSubstringFromSpecificIndex(userInput, UiConstant.WINDOW_FLAG);
+            return parseStatsWindow(window, LocalDate.now());
+        } catch (CustomExceptions.InvalidInput e) {
+            output.printException(e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Parses a window of the stats command into the first and last dates of the day, week, month or year containing
+     * a date. Weeks start on Monday.
+     *
+     * @param window The window, which is either 'day', 'week', 'month' or 'year'.
+     * @param today  The date the window contains.
+     * @return The earliest and latest dates of the window.
+     * @throws CustomExceptions.InvalidInput If the window is none of them.
+     */
+    public LocalDate[] parseStatsWindow(String window, LocalDate today) throws CustomExceptions.InvalidInput {
+        StatsWindows parsedWindow;
+        try {
+            parsedWindow = StatsWindows.valueOf(window.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_STATS_WINDOW_ERROR);
+        }
+
+        LocalDate[] range = new LocalDate[UiConstant.NUM_HISTORY_RANGE_PARAMETERS];
+        switch (parsedWindow) {
+        case WEEK:
+            range[UiConstant.HISTORY_FROM_INDEX] = today.with(DayOfWeek.MONDAY);
+            range[UiConstant.HISTORY_TO_INDEX] = today.with(DayOfWeek.SUNDAY);
+            break;
+
+        case MONTH:
+            range[UiConstant.HISTORY_FROM_INDEX] = today.withDayOfMonth(1);
+            range[UiConstant.HISTORY_TO_INDEX] = today.withDayOfMonth(today.lengthOfMonth());
+            break;
+
+        case YEAR:
+            range[UiConstant.HISTORY_FROM_INDEX] = today.withDayOfYear(1);
+            range[UiConstant.HISTORY_TO_INDEX] = today.withDayOfYear(today.lengthOfYear());
+            break;
+
+        default:
+            range[UiConstant.HISTORY_FROM_INDEX] = today;
+            range[UiConstant.HISTORY_TO_INDEX] = today;
+            break;
+        }
+        return range;
+    }
+
+    /**
+     * Splits the date range from the user input for the history command.
+     *
+     * @param input The user input string.
+     * @return The '/from:' and '/to:' dates, each an empty string if its flag is absent.
+     */
+    public String[] splitHistoryRange(String input) {
+        String[] results = new String[UiConstant.NUM_HISTORY_RANGE_PARAMETERS];
+        results[UiConstant.HISTORY_FROM_INDEX] = extractSubstringFromSpecificIndex(input, UiConstant.FROM_FLAG);
+        results[UiConstant.HISTORY_TO_INDEX] = extractSubstringFromSpecificIndex(input, UiConstant.TO_FLAG);
+        return results;
+    }
+
+    /**
+     * Validates and parses the date range of the history command. A missing '/from:' or '/to:' date leaves that end
+     * of the range open.
+     *
+     * @param userInput String representing the user input.
+     * @return The earliest and latest dates of the range, or null if the range is invalid.
+     */
+    public LocalDate[] parseHistoryRange(String userInput) {
+        try {
+            String[] rangeDetails = splitHistoryRange(userInput);
+            validation.validateHistoryRange(rangeDetails, userInput.contains(UiConstant.FROM_FLAG),
+                    userInput.contains(UiConstant.TO_FLAG));
+            LocalDate[] range = new LocalDate[UiConstant.NUM_HISTORY_RANGE_PARAMETERS];
+            range[UiConstant.HISTORY_FROM_INDEX] = rangeDetails[UiConstant.HISTORY_FROM_INDEX].isEmpty()
+                    ? LocalDate.MIN : parseDate(rangeDetails[UiConstant.HISTORY_FROM_INDEX]);
+            range[UiConstant.HISTORY_TO_INDEX] = rangeDetails[UiConstant.HISTORY_TO_INDEX].isEmpty()
+                    ? LocalDate.MAX : parseDate(rangeDetails[UiConstant.HISTORY_TO_INDEX]);
+            return range;
+        } catch (CustomExceptions.InvalidInput e) {
+            output.printException(e.getMessage());
+            return null;
+        }
+    }
+
     //@@author JustinSoh
 
     /**
@@ -230,6 +422,7 @@ public class Parser {
                 bmiDetails[HealthConstant.BMI_WEIGHT_INDEX],
                 bmiDetails[HealthConstant.BMI_DATE_INDEX]);
         output.printAddBmi(newBmi);
+        JournalFile.recordAdd(new DataFile().formatBmi(newBmi));
         LogFile.writeLog("Added BMI", false);
     }
 
@@ -286,17 +479,21 @@ public class Parser {
                         periodDetails[HealthConstant.PERIOD_START_DATE_INDEX],
                         periodDetails[HealthConstant.PERIOD_END_DATE_INDEX]);
                 output.printAddPeriod(newPeriod);
+                JournalFile.recordAdd(new DataFile().formatPeriod(newPeriod));
                 LogFile.writeLog("Added Period", false);
             } else if (size > 0 &&
                     Objects.requireNonNull(HealthList.getPeriod(HealthConstant.FIRST_ITEM)).getEndDate() == null) {
                 Period latestPeriod = Objects.requireNonNull(HealthList.getPeriod(HealthConstant.FIRST_ITEM));
                 latestPeriod.updateEndDate(periodDetails[HealthConstant.PERIOD_END_DATE_INDEX]);
                 output.printAddPeriod(latestPeriod);
+                JournalFile.recordPeriodEndDate(HealthConstant.FIRST_ITEM,
+                        periodDetails[HealthConstant.PERIOD_END_DATE_INDEX]);
                 LogFile.writeLog("Added Period", false);
             }
         } else {
             Period newPeriod = new Period(periodDetails[HealthConstant.PERIOD_START_DATE_INDEX]);
             output.printAddPeriod(newPeriod);
+            JournalFile.recordAdd(new DataFile().formatPeriod(newPeriod));
             LogFile.writeLog("Added Period", false);
         }
     }
@@ -337,7 +534,35 @@ public class Parser {
 
     /**
      * Parses input for Prediction command.
-     * Prints period prediction if possible.
+     * Prints period prediction from the last three cycles, or from the whole cycle history if the history mode is
+     * given, if possible.
+     *
+     * @param input A user-provided string.
+     * @throws CustomExceptions.InsufficientInput If prediction cannot be made.
+     * @throws CustomExceptions.InvalidInput      If the prediction mode is invalid.
+     * @throws CustomExceptions.OutOfBounds       If period list is empty
+     */
+    public void parsePredictionInput(String input) throws CustomExceptions.InsufficientInput,
+            CustomExceptions.InvalidInput, CustomExceptions.OutOfBounds {
+        if (!input.contains(HealthConstant.PREDICTION_MODE_FLAG)) {
+            parsePredictionInput();
+            return;
+        }
+        String mode = extractSubstringFromSpecificIndex(input, HealthConstant.PREDICTION_MODE_FLAG);
+        if (!mode.equalsIgnoreCase(HealthConstant.HISTORY_PREDICTION_MODE)) {
+            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_PREDICTION_MODE_ERROR);
+        }
+        if (HealthList.getPeriodSize() >= HealthConstant.MIN_SIZE_FOR_PREDICTION) {
+            Period.printHistoryPrediction(HealthList.predictNextPeriodFromHistory());
+            LogFile.writeLog("Used prediction from history", false);
+        } else {
+            throw new CustomExceptions.InsufficientInput(ErrorConstant.UNABLE_TO_MAKE_PREDICTIONS_ERROR);
+        }
+    }
+
+    /**
+     * Parses input for Prediction command.
+     * Prints period prediction from the last three cycles if possible.
      *
      * @throws CustomExceptions.InsufficientInput If prediction cannot be made.
      * @throws CustomExceptions.OutOfBounds       If period list is empty
@@ -400,6 +625,7 @@ public class Parser {
                 appointmentDetails[HealthConstant.APPOINTMENT_TIME_INDEX],
                 appointmentDetails[HealthConstant.APPOINTMENT_DESCRIPTION_INDEX]);
         output.printAddAppointment(newAppointment);
+        JournalFile.recordAdd(new DataFile().formatAppointment(newAppointment));
         LogFile.writeLog("Added appointment", false);
     }
 
@@ -540,6 +766,7 @@ public class Parser {
                     runDetails[WorkoutConstant.RUN_DATE_INDEX]);
         }
         output.printAddRun(newRun);
+        JournalFile.recordAdd(new DataFile().formatRun(newRun));
         LogFile.writeLog("Added Run", false);
     }
 
@@ -582,9 +809,12 @@ public class Parser {
                 String userInput = this.in.nextLine();
 
                 // If user wants to exit the gym station input
+                // The gym has not been journalled yet, so it is discarded without recording a deletion
                 if (userInput.equals(WorkoutConstant.BACK)) {
                     output.printGymStationExit();
-                    WorkoutLists.deleteGym(WorkoutLists.getGymSize() - 1);
+                    Output.printDeleteGymMessage(gym);
+                    WorkoutLists.removeGym(WorkoutLists.getGymSize() - 1);
+                    LogFile.writeLog("Discarded incomplete gym", false);
                     return;
                 }
 
@@ -605,6 +835,7 @@ public class Parser {
             }
         }
         output.printAddGym(gym);
+        JournalFile.recordAdd(gym.toFileString());
         LogFile.writeLog("Added Gym", false);
     }
 
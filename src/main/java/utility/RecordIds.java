@@ -0,0 +1,30 @@
+package utility;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Represents the source of the ids given to every {@code Health} and {@code Workout} object.
+ * Ids are unique for the lifetime of PulsePilot and increase in the order they are given out. {@code Workout} objects
+ * are given theirs when they are added to {@code WorkoutLists}, so a list kept in the order its objects were added is
+ * also sorted by id.
+ * Ids are only used to look up objects in memory. They are not saved to the data file and are given out again on every
+ * start-up, so they do not identify an entry across restarts, and the journal records deletions by index instead.
+ */
+public class RecordIds {
+    private static final AtomicLong NEXT_ID = new AtomicLong(1);
+
+    /**
+     * Private constructor to prevent instantiation from outside the class.
+     */
+    private RecordIds() {
+    }
+
+    /**
+     * Returns a new id, greater than every id returned before it.
+     *
+     * @return The new id.
+     */
+    public static long next() {
+        return NEXT_ID.getAndIncrement();
+    }
+}
@@ -4,7 +4,6 @@ import constants.ErrorConstant;
 import constants.HealthConstant;
 import constants.UiConstant;
 import constants.WorkoutConstant;
-import health.Bmi;
 import health.HealthList;
 import ui.Output;
 
@@ -44,7 +43,7 @@ public class Validation {
             throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_LEAP_YEAR_ERROR);
         }
 
-        if (year < 1967) {
+        if (year < UiConstant.MIN_YEAR) {
             throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_YEAR_ERROR);
         }
 
@@ -93,6 +92,50 @@ public class Validation {
         throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_HISTORY_FILTER_ERROR);
     }
 
+    /**
+     * Validates the date range of the history command.
+     *
+     * @param rangeDetails  An array of strings with the '/from:' and '/to:' dates.
+     * @param isFromPresent Whether the '/from:' flag is present.
+     * @param isToPresent   Whether the '/to:' flag is present.
+     * @throws CustomExceptions.InvalidInput If a date present is invalid, or the range ends before it starts.
+     */
+    public void validateHistoryRange(String[] rangeDetails, boolean isFromPresent, boolean isToPresent)
+            throws CustomExceptions.InvalidInput {
+        String from = rangeDetails[UiConstant.HISTORY_FROM_INDEX];
+        String to = rangeDetails[UiConstant.HISTORY_TO_INDEX];
+        if (isFromPresent) {
+            validateDateInput(from);
+        }
+        if (isToPresent) {
+            validateDateInput(to);
+        }
+        if (isFromPresent && isToPresent) {
+            Parser parser = new Parser();
+            if (parser.parseDate(from).isAfter(parser.parseDate(to))) {
+                throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_HISTORY_RANGE_ERROR);
+            }
+        }
+    }
+
+    /**
+     * Validates the exercise of the history command, which can only be used to filter the gym history.
+     *
+     * @param filter   The filter string of the history command.
+     * @param exercise The name of the exercise.
+     * @throws CustomExceptions.InvalidInput      If the filter is not 'gym'.
+     * @throws CustomExceptions.InsufficientInput If the name of the exercise is empty.
+     */
+    public void validateHistoryExercise(String filter, String exercise) throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput {
+        if (!filter.equals(WorkoutConstant.GYM)) {
+            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_HISTORY_EXERCISE_FILTER_ERROR);
+        }
+        if (exercise.isEmpty()) {
+            throw new CustomExceptions.InsufficientInput(ErrorConstant.INSUFFICIENT_HISTORY_EXERCISE_ERROR);
+        }
+    }
+
     // @@author L5-Z
     /**
      * Validates whether the filter string is either 'run', 'gym', 'bmi', 'period' or 'appointment'.
@@ -321,7 +364,16 @@ public class Validation {
      */
     public void validateDateNotAfterToday(String dateString) throws CustomExceptions.InvalidInput {
         Parser parser = new Parser();
-        LocalDate date = parser.parseDate(dateString);
+        validateDateNotAfterToday(parser.parseDate(dateString));
+    }
+
+    /**
+     * Validates whether the date specified is after today. Throws an error if it is.
+     *
+     * @param date The date to check.
+     * @throws CustomExceptions.InvalidInput If the date specified is after today.
+     */
+    public void validateDateNotAfterToday(LocalDate date) throws CustomExceptions.InvalidInput {
         if (date.isAfter(LocalDate.now())) {
             throw new CustomExceptions.InvalidInput(ErrorConstant.DATE_IN_FUTURE_ERROR);
         }
@@ -432,11 +484,18 @@ public class Validation {
      */
     public void validateDateNotPresent(String dateString) throws CustomExceptions.InvalidInput {
         Parser parser = new Parser();
-        LocalDate dateToVerify = parser.parseDate(dateString);
-        for (Bmi bmi :  HealthList.getBmis()) {
-            if (bmi.getDate().isEqual(dateToVerify)) {
-                throw new CustomExceptions.InvalidInput(ErrorConstant.DATE_ALREADY_EXISTS_ERROR);
-            }
+        validateDateNotPresent(parser.parseDate(dateString));
+    }
+
+    /**
+     * Validates whether the specified date can be found in HealthList and throws error if it is.
+     *
+     * @param dateToVerify The date of the Bmi input to be added.
+     * @throws CustomExceptions.InvalidInput If the same date is found.
+     */
+    public void validateDateNotPresent(LocalDate dateToVerify) throws CustomExceptions.InvalidInput {
+        if (HealthList.hasBmiOn(dateToVerify)) {
+            throw new CustomExceptions.InvalidInput(ErrorConstant.DATE_ALREADY_EXISTS_ERROR);
         }
     }
 
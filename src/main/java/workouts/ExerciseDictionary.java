@@ -0,0 +1,70 @@
+package workouts;
+
+import constants.WorkoutConstant;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Represents the dictionary of exercise names used by every {@code GymStation} object.
+ * Each distinct name is stored once and given a small id, which stations store instead of their name. Ids are never
+ * reused or removed, so an id stays valid for the lifetime of PulsePilot.
+ */
+public class ExerciseDictionary {
+    private static final ArrayList<String> NAMES = new ArrayList<>();
+    private static final Map<String, Integer> IDS = new HashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation from outside the class.
+     */
+    private ExerciseDictionary() {
+    }
+
+    /**
+     * Returns the id of an exercise name.
+     *
+     * @param name The name of the exercise.
+     * @return The id of the name, or {@code WorkoutConstant.NO_EXERCISE_ID} if it is not in the dictionary.
+     */
+    public static int findId(String name) {
+        Integer id = IDS.get(name);
+        return id == null ? WorkoutConstant.NO_EXERCISE_ID : id;
+    }
+
+    /**
+     * Returns the exercise name with an id.
+     *
+     * @param id The id of the exercise.
+     * @return The name of the exercise.
+     */
+    public static String getName(int id) {
+        return NAMES.get(id);
+    }
+
+    /**
+     * Returns the number of exercise names in the dictionary.
+     *
+     * @return The number of exercise names.
+     */
+    public static int size() {
+        return NAMES.size();
+    }
+
+    /**
+     * Returns the id of an exercise name, adding the name to the dictionary if it is not in it yet.
+     * Only classes within the workouts package can add names, after the name has been validated.
+     *
+     * @param name The validated name of the exercise.
+     * @return The id of the name.
+     */
+    static int intern(String name) {
+        Integer id = IDS.get(name);
+        if (id == null) {
+            id = NAMES.size();
+            NAMES.add(name);
+            IDS.put(name, id);
+        }
+        return id;
+    }
+}
@@ -7,6 +7,7 @@ import constants.UiConstant;
 import constants.WorkoutConstant;
 import utility.Validation;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 
 /**
@@ -40,6 +41,16 @@ public class Gym extends Workout {
         super.addIntoWorkoutList(this);
     }
 
+    /**
+     * Overloaded constructor that takes a date already decoded from the data file.
+     *
+     * @param date The date of the gym session, or null if it is not specified.
+     */
+    public Gym(LocalDate date) {
+        super(date);
+        super.addIntoWorkoutList(this);
+    }
+
     /**
      * Adds a new GymStation object into the Gym object.
      * It also logs the addition of the gym station into the log file.
@@ -61,6 +72,21 @@ public class Gym extends Workout {
         LogFile.writeLog("Added Gym Station: " + name, false);
     }
 
+    /**
+     * Adds a new GymStation object with values already decoded from the data file into the Gym object.
+     *
+     * @param name                String containing the name of the gym station.
+     * @param numberOfSet         The number of sets done.
+     * @param numberOfRepetitions The number of repetitions done.
+     * @param weights             The weight done for each set.
+     */
+    public void addStation(String name, int numberOfSet, int numberOfRepetitions, double[] weights)
+            throws CustomExceptions.InsufficientInput, CustomExceptions.InvalidInput {
+        GymStation newStation = new GymStation(name, numberOfSet, numberOfRepetitions, weights);
+        appendIntoStations(newStation);
+        LogFile.writeLog("Added Gym Station: " + name, false);
+    }
+
     /**
      * Gets the list of GymStation objects.
      *
@@ -148,5 +174,6 @@ public class Gym extends Workout {
 
     private void appendIntoStations(GymStation station) {
         stations.add(station);
+        WorkoutLists.addStation(this, station);
     }
 }
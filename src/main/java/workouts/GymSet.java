@@ -4,29 +4,54 @@ import constants.WorkoutConstant;
 
 /**
  * Represents a GymSet object.
+ * A GymSet object is a view of one set of a gym station, whose weights are stored by the GymStation object.
  */
 public class GymSet {
     //@@author JustinSoh
-    private double weight;
-    private int numberOfRepetitions;
+    private final GymStation station;
+    private final int setIndex;
 
     /**
-     * Constructs a new GymSet object using the weight and reps for 1 set of a gym station.
+     * Constructs a new GymSet object viewing 1 set of a gym station.
      *
-     * @param weight The weight done for the set.
-     * @param numberOfRepetitions The number of reps done for the set.
+     * @param station The gym station the set was done in.
+     * @param setIndex The index of the set within the gym station.
      */
-    public GymSet(Double weight, int numberOfRepetitions){
-        this.weight = weight;
-        this.numberOfRepetitions = numberOfRepetitions;
+    protected GymSet(GymStation station, int setIndex){
+        this.station = station;
+        this.setIndex = setIndex;
     }
 
     public double getWeight() {
-        return weight;
+        return station.getWeight(setIndex);
     }
 
     public int getNumberOfRepetitions() {
-        return numberOfRepetitions;
+        return station.getNumberOfRepetitions();
+    }
+
+    /**
+     * Retrieves the estimated one-rep max of the set with the Epley formula, weight * (1 + reps / 30).
+     * A set of 1 repetition is its own one-rep max.
+     *
+     * @return The estimated one-rep max in kg.
+     */
+    public double getEpleyMax() {
+        return station.getEpleyMax(setIndex);
+    }
+
+    /**
+     * Retrieves the estimated one-rep max of the set with the Brzycki formula, weight * 36 / (37 - reps).
+     *
+     * @return The estimated one-rep max in kg, or -1 if there are too many repetitions for the formula.
+     */
+    public double getBrzyckiMax() {
+        int repetitions = getNumberOfRepetitions();
+        if (repetitions >= WorkoutConstant.BRZYCKI_MAX_REPETITIONS) {
+            return WorkoutConstant.NO_ONE_REP_MAX;
+        }
+        return getWeight() * (WorkoutConstant.BRZYCKI_MAX_REPETITIONS - 1)
+                / (WorkoutConstant.BRZYCKI_MAX_REPETITIONS - repetitions);
     }
 
     /**
@@ -36,7 +61,6 @@ public class GymSet {
      */
     @Override
     public String toString() {
-        return String.format(WorkoutConstant.GYM_SET_FORMAT, this.numberOfRepetitions, this.weight);
+        return String.format(WorkoutConstant.GYM_SET_FORMAT, getNumberOfRepetitions(), getWeight());
     }
 }
-
@@ -10,12 +10,16 @@ import java.util.ArrayList;
 
 /**
  * Represents a GymStation object.
+ * The weights of its sets are packed into a {@code float[]}, which holds every valid weight exactly as they are
+ * multiples of 0.125 no larger than 2850, and every set shares one number of repetitions. {@code GymSet} objects are
+ * only created as views of a set when they are asked for.
+ * The name of the station is stored once in the {@code ExerciseDictionary}, and the station only keeps its id.
  */
 public class GymStation {
     //@@author JustinSoh
-    private final String stationName;
-    private final ArrayList<GymSet> sets = new ArrayList<>();
-    private final int numberOfSets;
+    private final int exerciseId;
+    private final float[] weights;
+    private final int numberOfRepetitions;
 
     /**
      * Constructs a new GymStation object that contains the name, weight, number of repetitions and number of sets done
@@ -38,28 +42,48 @@ public class GymStation {
             throws CustomExceptions.InsufficientInput, CustomExceptions.InvalidInput {
         
         // Check input validity
-        this.stationName  = validateGymStationName(exerciseName);
-        this.numberOfSets = validateNumberOfSets(numberOfSetsStr);
-        int validNumberOfReps = validateNumberOfRepetitions(numberOfRepetitions);
-        ArrayList<Double> validWeights = processWeightsArray(weightsString);
+        this.exerciseId  = internGymStationName(exerciseName);
+        int numberOfSets = validateNumberOfSets(numberOfSetsStr);
+        this.numberOfRepetitions = validateNumberOfRepetitions(numberOfRepetitions);
+        float[] validWeights = processWeightsArray(weightsString);
 
         // Verify if the number of weights matches the number of sets
-        checkIfNumberOfWeightsMatchesSets(validWeights, this.numberOfSets);
-
-        // Process the sets and weights and add them into the gym set object
-        processSets(validWeights, validNumberOfReps);
+        checkIfNumberOfWeightsMatchesSets(validWeights, numberOfSets);
+        this.weights = validWeights;
     }
 
     /**
-     * Function which adds a GymSet object to GymStation.
+     * Overloaded constructor that takes the number of sets, repetitions and weights already decoded from the data
+     * file, which are checked against the same limits as user input.
      *
-     * @param weightsList     The weight done for the particular set.
-     * @param numberOfRepetitions The number of repetitions done for the particular set.
+     * @param exerciseName        The name of the gym station.
+     * @param numberOfSets        The number of sets done.
+     * @param numberOfRepetitions The number of repetitions done for each set.
+     * @param weights             The weight done for each set.
+     * @throws CustomExceptions.InvalidInput if an invalid input is passed in
+     * @throws CustomExceptions.InsufficientInput if the name is empty
      */
-    public void processSets(ArrayList<Double> weightsList, int numberOfRepetitions) {
-        for (int i = 0; i < numberOfSets; i++) {
-            GymSet newSet = new GymSet(weightsList.get(i), numberOfRepetitions);
-            sets.add(newSet);
+    protected GymStation(String exerciseName, int numberOfSets, int numberOfRepetitions, double[] weights)
+            throws CustomExceptions.InsufficientInput, CustomExceptions.InvalidInput {
+        this.exerciseId = internGymStationName(exerciseName);
+        if (numberOfSets <= 0) {
+            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_SETS_POSITIVE_DIGIT_ERROR);
+        }
+        if (numberOfRepetitions <= 0) {
+            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_REPS_POSITIVE_DIGIT_ERROR);
+        }
+        for (double weight : weights) {
+            validateWeightDoesNotExceedMax(weight);
+            validateWeightIsMultiple(weight);
+        }
+        if (weights.length != numberOfSets) {
+            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_WEIGHTS_NUMBER_ERROR);
+        }
+
+        this.numberOfRepetitions = numberOfRepetitions;
+        this.weights = new float[weights.length];
+        for (int i = 0; i < weights.length; i++) {
+            this.weights[i] = (float) weights[i];
         }
     }
 
@@ -69,15 +93,29 @@ public class GymStation {
      * @return String representing the name for the station.
      */
     public String getStationName() {
-        return stationName;
+        return ExerciseDictionary.getName(exerciseId);
+    }
+
+    /**
+     * Retrieves the id of the station name in the {@code ExerciseDictionary}.
+     *
+     * @return The id of the station name.
+     */
+    public int getExerciseId() {
+        return exerciseId;
     }
 
     /**
      * Retrieves an ArrayList of gym sets for the GymStation object.
+     * Each GymSet object is a view of one set of the station.
      *
      * @return The ArrayList of GymSet objects.
      */
     public ArrayList<GymSet> getSets() {
+        ArrayList<GymSet> sets = new ArrayList<>(weights.length);
+        for (int i = 0; i < weights.length; i++) {
+            sets.add(new GymSet(this, i));
+        }
         return sets;
     }
 
@@ -87,7 +125,40 @@ public class GymStation {
      * @return The number of sets done.
      */
     public int getNumberOfSets() {
-        return numberOfSets;
+        return weights.length;
+    }
+
+    /**
+     * Retrieves the number of repetitions done for every set within the GymStation.
+     *
+     * @return The number of repetitions done.
+     */
+    public int getNumberOfRepetitions() {
+        return numberOfRepetitions;
+    }
+
+    /**
+     * Retrieves the weight done for one set within the GymStation.
+     *
+     * @param setIndex The index of the set.
+     * @return The weight done for the set.
+     */
+    public double getWeight(int setIndex) {
+        return weights[setIndex];
+    }
+
+    /**
+     * Retrieves the estimated one-rep max of one set with the Epley formula, weight * (1 + reps / 30).
+     * A set of 1 repetition is its own one-rep max.
+     *
+     * @param setIndex The index of the set.
+     * @return The estimated one-rep max in kg.
+     */
+    public double getEpleyMax(int setIndex) {
+        if (numberOfRepetitions == 1) {
+            return weights[setIndex];
+        }
+        return weights[setIndex] * (1 + (double) numberOfRepetitions / WorkoutConstant.EPLEY_REPETITION_DIVISOR);
     }
 
     /**
@@ -104,7 +175,7 @@ public class GymStation {
         for (int i = 0; i < this.getNumberOfSets(); i++) {
             returnString.append(System.lineSeparator());
             returnString.append(String.format(WorkoutConstant.GYM_SET_INDEX_FORMAT, i+1 ,
-                    this.getSets().get(i).toString()));
+                    new GymSet(this, i).toString()));
         }
         return returnString.toString();
     }
@@ -118,10 +189,9 @@ public class GymStation {
      */
     public String toRepString(String delimiter) {
         StringBuilder repString = new StringBuilder();
-        for (int i = 0; i < sets.size(); i++) {
-            String currentRep = String.valueOf(sets.get(i).getNumberOfRepetitions());
-            repString.append(currentRep);
-            if (i != sets.size() - 1) {
+        for (int i = 0; i < weights.length; i++) {
+            repString.append(numberOfRepetitions);
+            if (i != weights.length - 1) {
                 repString.append(delimiter);
             }
         }
@@ -137,10 +207,9 @@ public class GymStation {
      */
     public String toWeightString(String delimiter){
         StringBuilder weightString = new StringBuilder();
-        for (int i = 0; i < sets.size(); i++) {
-            String currentRep = String.valueOf(sets.get(i).getWeight());
-            weightString.append(currentRep);
-            if (i != sets.size() - 1) {
+        for (int i = 0; i < weights.length; i++) {
+            weightString.append(getWeight(i));
+            if (i != weights.length - 1) {
                 weightString.append(delimiter);
             }
         }
@@ -157,17 +226,18 @@ public class GymStation {
      */
     protected String toFileString(){
         StringBuilder fileString = new StringBuilder();
-        String stationName = getStationName();
-        String numOfSets = String.valueOf(getNumberOfSets());
-        String gymRepString = toRepString(UiConstant.SPLIT_BY_COMMAS).split(UiConstant.SPLIT_BY_COMMAS)[0];
-        String gymWeightString = toWeightString(UiConstant.SPLIT_BY_COMMAS);
-        fileString.append(stationName);
+        fileString.append(getStationName());
         fileString.append(UiConstant.SPLIT_BY_COLON);
-        fileString.append(numOfSets);
+        fileString.append(getNumberOfSets());
         fileString.append(UiConstant.SPLIT_BY_COLON);
-        fileString.append(gymRepString);
+        fileString.append(numberOfRepetitions);
         fileString.append(UiConstant.SPLIT_BY_COLON);
-        fileString.append(gymWeightString);
+        for (int i = 0; i < weights.length; i++) {
+            if (i != 0) {
+                fileString.append(UiConstant.SPLIT_BY_COMMAS);
+            }
+            fileString.append(getWeight(i));
+        }
         return fileString.toString();
     }
 
@@ -175,19 +245,20 @@ public class GymStation {
      * Validates the weight string such that it only has numbers.
      *
      * @param weightsString The string representing the weights in the format "weight1,weight2,weight3..."
-     * @return ArrayList of integers representing the weights in the format [weight1, weight2, weight3 ...]
+     * @return Array of floats representing the weights in the format [weight1, weight2, weight3 ...]
      * @throws CustomExceptions.InvalidInput If an invalid weights string is passed in.
      */
-    protected ArrayList<Double> processWeightsArray(String weightsString)
+    protected float[] processWeightsArray(String weightsString)
             throws CustomExceptions.InvalidInput {
         validateWeightString(weightsString);
         String[] weightsArray = weightsString.split(UiConstant.SPLIT_BY_COMMAS);
-        ArrayList<Double> validatedWeightsArray = new ArrayList<>();
+        float[] validatedWeightsArray = new float[weightsArray.length];
+        int numberOfValidWeights = 0;
 
         for (String weight: weightsArray){
             boolean isValidWeight = validateWeight(weight);
             if (isValidWeight){
-                validatedWeightsArray.add(Double.parseDouble(weight));
+                validatedWeightsArray[numberOfValidWeights++] = (float) Double.parseDouble(weight);
             }
         }
         return validatedWeightsArray;
@@ -213,6 +284,24 @@ public class GymStation {
         return exerciseName;
     }
 
+    /**
+     * Returns the id of the gym station name in the {@code ExerciseDictionary}.
+     * Names already in the dictionary have been validated before, so only new names are validated and added.
+     *
+     * @param exerciseName The string representing the gym station name
+     * @return int representing the id of the gym station name
+     * @throws CustomExceptions.InvalidInput if an invalid gym station name is passed in
+     * @throws CustomExceptions.InsufficientInput if an empty gym station name is passed in
+     */
+    private int internGymStationName(String exerciseName) throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput {
+        int id = ExerciseDictionary.findId(exerciseName);
+        if (id == WorkoutConstant.NO_EXERCISE_ID) {
+            id = ExerciseDictionary.intern(validateGymStationName(exerciseName));
+        }
+        return id;
+    }
+
     /**
      * Validates the number of sets ensuring that it is a positive integer.
      *
@@ -293,9 +382,9 @@ public class GymStation {
         }
     }
 
-    private void checkIfNumberOfWeightsMatchesSets(ArrayList<Double> weights, int numberOfSets)
+    private void checkIfNumberOfWeightsMatchesSets(float[] weights, int numberOfSets)
             throws CustomExceptions.InvalidInput {
-        if (weights.size() != numberOfSets){
+        if (weights.length != numberOfSets){
             throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_WEIGHTS_NUMBER_ERROR);
         }
     }
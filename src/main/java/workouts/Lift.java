@@ -0,0 +1,40 @@
+package workouts;
+
+/**
+ * Represents a Lift object, which is one set of a gym station together with the gym session it was done in.
+ * Lift objects are only created as views of the top lifts of an exercise when they are asked for.
+ */
+public class Lift {
+    private final Gym gym;
+    private final GymSet set;
+    private final double epleyMax;
+
+    /**
+     * Constructs a new Lift object for a set of a gym station.
+     *
+     * @param gym The gym session the set was done in.
+     * @param set The set.
+     */
+    protected Lift(Gym gym, GymSet set) {
+        this.gym = gym;
+        this.set = set;
+        this.epleyMax = set.getEpleyMax();
+    }
+
+    public Gym getGym() {
+        return gym;
+    }
+
+    public GymSet getSet() {
+        return set;
+    }
+
+    /**
+     * Retrieves the estimated one-rep max of the set with the Epley formula, which lifts are ordered by.
+     *
+     * @return The estimated one-rep max in kg.
+     */
+    public double getEpleyMax() {
+        return epleyMax;
+    }
+}
@@ -0,0 +1,372 @@
+package workouts;
+
+import constants.WorkoutConstant;
+import storage.LogFile;
+import storage.SegmentStore;
+import utility.Filters.DataType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.logging.Level;
+
+/**
+ * PersonalBests class keeps the personal best runs of the runs in {@code WorkoutLists}: the fastest pace, the longest
+ * run and the fastest pace within each distance bracket.
+ * Each personal best is kept as an ordered set of runs with its best run cached, so adding or removing a run takes
+ * O(log n) and finding a personal best takes O(1). Removing a personal best promotes the next best run in its set.
+ * For each exercise, only the top lifts are kept, as the gym id, station index and set index of each lift, so memory
+ * does not grow with the number of sets logged. Adding a set compares it with the worst top lift in O(1), and inserts
+ * it in O(k) if it is better. When a gym session holding one of the top lifts of an exercise is deleted, the top lifts
+ * of that exercise alone are rebuilt from the gyms with the exercise in {@code WorkoutLists}.
+ */
+public class PersonalBests {
+    private static final Comparator<Run> PACE_ORDER = (first, second) -> {
+        int comparison = Long.compare((long) first.getTotalSeconds() * second.getDistanceHundredths(),
+                (long) second.getTotalSeconds() * first.getDistanceHundredths());
+        return comparison != 0 ? comparison : Long.compare(first.getId(), second.getId());
+    };
+    private static final Comparator<Run> DISTANCE_ORDER = (first, second) -> {
+        int comparison = Integer.compare(second.getDistanceHundredths(), first.getDistanceHundredths());
+        return comparison != 0 ? comparison : Long.compare(first.getId(), second.getId());
+    };
+
+    private static final Ranking FASTEST_PACE = new Ranking(PACE_ORDER);
+    private static final Ranking LONGEST_RUN = new Ranking(DISTANCE_ORDER);
+    private static final Ranking[] FASTEST_IN_BRACKET =
+            new Ranking[WorkoutConstant.PB_BRACKET_MIN_DISTANCES.length];
+    private static final ArrayList<TopLifts> LIFTS_BY_EXERCISE = new ArrayList<>();
+
+    static {
+        for (int i = 0; i < FASTEST_IN_BRACKET.length; i++) {
+            FASTEST_IN_BRACKET[i] = new Ranking(PACE_ORDER);
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation from outside the class.
+     */
+    private PersonalBests() {
+    }
+
+    /**
+     * Returns the run with the fastest pace.
+     *
+     * @return The Run object, or null if there are no runs.
+     */
+    public static Run getFastestPace() {
+        SegmentStore.hydrate(DataType.RUN);
+        return FASTEST_PACE.getBest();
+    }
+
+    /**
+     * Returns the run with the longest distance.
+     *
+     * @return The Run object, or null if there are no runs.
+     */
+    public static Run getLongestRun() {
+        SegmentStore.hydrate(DataType.RUN);
+        return LONGEST_RUN.getBest();
+    }
+
+    /**
+     * Returns the run with the fastest pace within a distance bracket.
+     *
+     * @param bracket The index of the bracket in {@code WorkoutConstant.PB_BRACKET_MIN_DISTANCES}.
+     * @return The Run object, or null if there are no runs within the bracket.
+     */
+    public static Run getFastestInBracket(int bracket) {
+        SegmentStore.hydrate(DataType.RUN);
+        return FASTEST_IN_BRACKET[bracket].getBest();
+    }
+
+    /**
+     * Returns the lifts of an exercise with the highest estimated one-rep max, best first.
+     *
+     * @param exercise The name of the exercise.
+     * @return An unmodifiable list of at most {@code WorkoutConstant.TOP_LIFTS_COUNT} Lift objects.
+     */
+    public static List<Lift> getTopLifts(String exercise) {
+        SegmentStore.hydrate(DataType.GYM);
+        int exerciseId = ExerciseDictionary.findId(exercise);
+        if (exerciseId == WorkoutConstant.NO_EXERCISE_ID || exerciseId >= LIFTS_BY_EXERCISE.size()) {
+            return Collections.emptyList();
+        }
+        TopLifts lifts = LIFTS_BY_EXERCISE.get(exerciseId);
+        List<Lift> topLifts = new ArrayList<>(lifts.size);
+        for (int i = 0; i < lifts.size; i++) {
+            Gym gym = WorkoutLists.getGymById(lifts.gymIds[i]);
+            GymStation station = gym.getStations().get(lifts.stationIndices[i]);
+            topLifts.add(new Lift(gym, new GymSet(station, lifts.setIndices[i])));
+        }
+        return Collections.unmodifiableList(topLifts);
+    }
+
+    // Protected Methods
+
+    /**
+     * Adds a run to the personal bests.
+     *
+     * @param run The Run object added.
+     */
+    protected static void addRun(Run run) {
+        FASTEST_PACE.add(run);
+        LONGEST_RUN.add(run);
+        int bracket = getBracket(run);
+        if (bracket != WorkoutConstant.NO_PB_BRACKET) {
+            FASTEST_IN_BRACKET[bracket].add(run);
+        }
+    }
+
+    /**
+     * Removes a run from the personal bests, promoting the next best run where it was the best.
+     *
+     * @param run The Run object removed.
+     */
+    protected static void removeRun(Run run) {
+        FASTEST_PACE.remove(run);
+        LONGEST_RUN.remove(run);
+        int bracket = getBracket(run);
+        if (bracket != WorkoutConstant.NO_PB_BRACKET) {
+            FASTEST_IN_BRACKET[bracket].remove(run);
+        }
+    }
+
+    /**
+     * Adds the sets of a gym station to the top lifts of its exercise.
+     *
+     * @param gym          The Gym object the station was added to.
+     * @param stationIndex The index of the station within the gym.
+     * @param station      The GymStation object added.
+     */
+    protected static void addStation(Gym gym, int stationIndex, GymStation station) {
+        int exerciseId = station.getExerciseId();
+        while (LIFTS_BY_EXERCISE.size() <= exerciseId) {
+            LIFTS_BY_EXERCISE.add(new TopLifts());
+        }
+        LIFTS_BY_EXERCISE.get(exerciseId).offerStation(gym.getId(), stationIndex, station);
+    }
+
+    /**
+     * Removes a gym from the top lifts. The top lifts of an exercise are only rebuilt if the gym held one of them.
+     * Called after the gym is removed from the index of gyms by exercise, so the rebuilt top lifts do not include it.
+     *
+     * @param gym The Gym object removed.
+     */
+    protected static void removeGym(Gym gym) {
+        for (GymStation station : gym.getStations()) {
+            int exerciseId = station.getExerciseId();
+            if (exerciseId < LIFTS_BY_EXERCISE.size() && LIFTS_BY_EXERCISE.get(exerciseId).containsGym(gym.getId())) {
+                rebuildTopLifts(exerciseId);
+            }
+        }
+    }
+
+    /**
+     * Removes every run and lift from the personal bests.
+     */
+    protected static void clear() {
+        FASTEST_PACE.clear();
+        LONGEST_RUN.clear();
+        for (Ranking ranking : FASTEST_IN_BRACKET) {
+            ranking.clear();
+        }
+        LIFTS_BY_EXERCISE.clear();
+    }
+
+    // Private Methods
+
+    /**
+     * Returns the distance bracket of a run, which is the longest bracket whose minimum distance it reaches.
+     *
+     * @param run The Run object.
+     * @return The index of the bracket, or {@code WorkoutConstant.NO_PB_BRACKET} if the run is shorter than every
+     *         bracket.
+     */
+    private static int getBracket(Run run) {
+        int distance = run.getDistanceHundredths();
+        for (int i = WorkoutConstant.PB_BRACKET_MIN_DISTANCES.length - 1; i >= 0; i--) {
+            if (distance >= WorkoutConstant.PB_BRACKET_MIN_DISTANCES[i]) {
+                return i;
+            }
+        }
+        return WorkoutConstant.NO_PB_BRACKET;
+    }
+
+    /**
+     * Rebuilds the top lifts of an exercise from every gym with the exercise.
+     *
+     * @param exerciseId The id of the exercise in the {@code ExerciseDictionary}.
+     */
+    private static void rebuildTopLifts(int exerciseId) {
+        TopLifts lifts = LIFTS_BY_EXERCISE.get(exerciseId);
+        lifts.clear();
+        for (Gym gym : WorkoutLists.getGymsWithExerciseId(exerciseId)) {
+            ArrayList<GymStation> stations = gym.getStations();
+            for (int i = 0; i < stations.size(); i++) {
+                if (stations.get(i).getExerciseId() == exerciseId) {
+                    lifts.offerStation(gym.getId(), i, stations.get(i));
+                }
+            }
+        }
+        LogFile.writeLog(Level.INFO, "Rebuilt top lifts of exercise {0}", exerciseId);
+    }
+
+    /**
+     * Represents the top lifts of one exercise, from the highest estimated one-rep max to the lowest, then in the order
+     * they were done. Each lift is stored as primitive keys in arrays of length
+     * {@code WorkoutConstant.TOP_LIFTS_COUNT}.
+     */
+    private static class TopLifts {
+        private final long[] gymIds = new long[WorkoutConstant.TOP_LIFTS_COUNT];
+        private final int[] stationIndices = new int[WorkoutConstant.TOP_LIFTS_COUNT];
+        private final int[] setIndices = new int[WorkoutConstant.TOP_LIFTS_COUNT];
+        private final double[] epleyMaxes = new double[WorkoutConstant.TOP_LIFTS_COUNT];
+        private int size = 0;
+
+        /**
+         * Offers every set of a gym station as a top lift.
+         *
+         * @param gymId        The id of the gym the station is in.
+         * @param stationIndex The index of the station within the gym.
+         * @param station      The GymStation object.
+         */
+        private void offerStation(long gymId, int stationIndex, GymStation station) {
+            for (int i = 0; i < station.getNumberOfSets(); i++) {
+                offer(gymId, stationIndex, i, station.getEpleyMax(i));
+            }
+        }
+
+        /**
+         * Adds a lift if there are fewer than {@code WorkoutConstant.TOP_LIFTS_COUNT} top lifts or it is better than
+         * the worst of them, which is then dropped.
+         *
+         * @param gymId        The id of the gym the set was done in.
+         * @param stationIndex The index of the station within the gym.
+         * @param setIndex     The index of the set within the station.
+         * @param epleyMax     The estimated one-rep max of the set.
+         */
+        private void offer(long gymId, int stationIndex, int setIndex, double epleyMax) {
+            int position = size;
+            while (position > 0 && isBetter(gymId, stationIndex, setIndex, epleyMax, position - 1)) {
+                position -= 1;
+            }
+            if (position == WorkoutConstant.TOP_LIFTS_COUNT) {
+                return;
+            }
+            int end = Math.min(size, WorkoutConstant.TOP_LIFTS_COUNT - 1);
+            System.arraycopy(gymIds, position, gymIds, position + 1, end - position);
+            System.arraycopy(stationIndices, position, stationIndices, position + 1, end - position);
+            System.arraycopy(setIndices, position, setIndices, position + 1, end - position);
+            System.arraycopy(epleyMaxes, position, epleyMaxes, position + 1, end - position);
+            gymIds[position] = gymId;
+            stationIndices[position] = stationIndex;
+            setIndices[position] = setIndex;
+            epleyMaxes[position] = epleyMax;
+            size = end + 1;
+        }
+
+        /**
+         * Returns whether a lift ranks above the top lift at an index.
+         *
+         * @param gymId        The id of the gym the set was done in.
+         * @param stationIndex The index of the station within the gym.
+         * @param setIndex     The index of the set within the station.
+         * @param epleyMax     The estimated one-rep max of the set.
+         * @param index        The index of the top lift compared with.
+         * @return True if the lift ranks above the top lift, otherwise false.
+         */
+        private boolean isBetter(long gymId, int stationIndex, int setIndex, double epleyMax, int index) {
+            int comparison = Double.compare(epleyMax, epleyMaxes[index]);
+            if (comparison == 0) {
+                comparison = Long.compare(gymIds[index], gymId);
+            }
+            if (comparison == 0) {
+                comparison = Integer.compare(stationIndices[index], stationIndex);
+            }
+            return comparison != 0 ? comparison > 0 : setIndex < setIndices[index];
+        }
+
+        /**
+         * Returns whether any top lift was done in a gym.
+         *
+         * @param gymId The id of the gym.
+         * @return True if the gym holds a top lift, otherwise false.
+         */
+        private boolean containsGym(long gymId) {
+            for (int i = 0; i < size; i++) {
+                if (gymIds[i] == gymId) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Removes every top lift.
+         */
+        private void clear() {
+            size = 0;
+        }
+    }
+
+    /**
+     * Represents an ordered set of runs with its best run cached.
+     */
+    private static class Ranking {
+        private final TreeSet<Run> runs;
+        private Run best = null;
+
+        /**
+         * Constructs a new Ranking object ordering runs from best to worst.
+         *
+         * @param order The order of the runs.
+         */
+        private Ranking(Comparator<Run> order) {
+            runs = new TreeSet<>(order);
+        }
+
+        /**
+         * Returns the best run.
+         *
+         * @return The Run object, or null if there are no runs.
+         */
+        private Run getBest() {
+            return best;
+        }
+
+        /**
+         * Adds a run, which becomes the best run if it is better than the current best.
+         *
+         * @param run The Run object.
+         */
+        private void add(Run run) {
+            runs.add(run);
+            if (best == null || runs.comparator().compare(run, best) < 0) {
+                best = run;
+            }
+        }
+
+        /**
+         * Removes a run, promoting the next best run if it was the best.
+         *
+         * @param run The Run object.
+         */
+        private void remove(Run run) {
+            runs.remove(run);
+            if (run == best) {
+                best = runs.isEmpty() ? null : runs.first();
+            }
+        }
+
+        /**
+         * Removes every run.
+         */
+        private void clear() {
+            runs.clear();
+            best = null;
+        }
+    }
+}
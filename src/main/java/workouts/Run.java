@@ -1,5 +1,6 @@
 package workouts;
 
+import java.time.LocalDate;
 
 import utility.CustomExceptions;
 import constants.ErrorConstant;
@@ -11,12 +12,13 @@ import constants.WorkoutConstant;
  * It takes in the {@code time} and {@code distance} of the run as input.
  * It also calculates the pace of the run based on the time and distance.
  * It also formats the time and distance into a readable format.
+ * The time is stored in seconds and the distance in hundredths of a kilometre, and the time, distance and pace are
+ * only formatted when the run is printed or saved.
  */
 public class Run extends Workout {
     //@@author rouvinerh
-    private final Integer[] times;
-    private final double distance;
-    private final String pace;
+    private final int totalSeconds;
+    private final int distanceHundredths;
 
     /**
      * Constructs a new Run object with the time and distance from user input.
@@ -26,9 +28,9 @@ public class Run extends Workout {
      * @throws CustomExceptions.InvalidInput If there is invalid input.
      */
     public Run(String stringTime, String stringDistance) throws CustomExceptions.InvalidInput {
-        times = processRunTime(stringTime);
-        distance = checkDistance(stringDistance);
-        pace = calculatePace();
+        totalSeconds = calculateTotalSeconds(processRunTime(stringTime));
+        distanceHundredths = toHundredths(checkDistance(stringDistance));
+        calculatePace();
         super.addIntoWorkoutList(this);
     }
 
@@ -42,13 +44,34 @@ public class Run extends Workout {
      */
     public Run(String stringTime, String stringDistance, String stringDate) throws CustomExceptions.InvalidInput {
         super(stringDate);
-        times = processRunTime(stringTime);
-        distance = checkDistance(stringDistance);
-        pace = calculatePace();
+        totalSeconds = calculateTotalSeconds(processRunTime(stringTime));
+        distanceHundredths = toHundredths(checkDistance(stringDistance));
+        calculatePace();
         Workout workout = new Workout();
         workout.addIntoWorkoutList(this);
     }
 
+    /**
+     * Overloaded constructor that takes the time, distance and date already decoded from the data file.
+     *
+     * @param hours    The hours taken for the run, or {@code WorkoutConstant.NO_HOURS_PRESENT} if not specified.
+     * @param minutes  The minutes taken for the run.
+     * @param seconds  The seconds taken for the run.
+     * @param distance The distance of the run.
+     * @param date     The date of the run, or null if it is not specified.
+     * @throws CustomExceptions.InvalidInput If there is invalid input.
+     */
+    public Run(int hours, int minutes, int seconds, double distance, LocalDate date)
+            throws CustomExceptions.InvalidInput {
+        super(date);
+        Integer[] times = new Integer[]{hours, minutes, seconds};
+        checkRunTimeValues(times);
+        totalSeconds = calculateTotalSeconds(times);
+        distanceHundredths = toHundredths(checkDistance(distance));
+        calculatePace();
+        super.addIntoWorkoutList(this);
+    }
+
     /**
      * Returns string format of time taken for run depending on {@code isHourPresent}
      * If there isn't an hour present, returns only mm:ss
@@ -57,17 +80,9 @@ public class Run extends Workout {
      * @return Formatted string of the time for the run.
      */
     public String getTimes() {
-        if (times[WorkoutConstant.RUN_TIME_HOUR_INDEX] > UiConstant.MIN_HOURS) {
-            int hours = times[WorkoutConstant.RUN_TIME_HOUR_INDEX];
-            int minutes = times[WorkoutConstant.RUN_TIME_MINUTE_INDEX];
-            int seconds = times[WorkoutConstant.RUN_TIME_SECOND_INDEX];
-            return String.format(WorkoutConstant.TIME_WITH_HOURS_FORMAT, hours, minutes, seconds);
-
-        } else {
-            int minutes = times[WorkoutConstant.RUN_TIME_MINUTE_INDEX];
-            int seconds = times[WorkoutConstant.RUN_TIME_SECOND_INDEX];
-            return String.format(WorkoutConstant.TIME_WITHOUT_HOURS_FORMAT, minutes, seconds);
-        }
+        StringBuilder builder = new StringBuilder(WorkoutConstant.RUN_VALUE_COLUMN_WIDTH);
+        WorkoutFormatter.appendTime(builder, totalSeconds);
+        return builder.toString();
     }
 
     /**
@@ -76,68 +91,138 @@ public class Run extends Workout {
      * @return Run distance.
      */
     public String getDistance() {
-        return String.format(WorkoutConstant.TWO_DECIMAL_PLACE_FORMAT, distance);
+        StringBuilder builder = new StringBuilder(WorkoutConstant.RUN_VALUE_COLUMN_WIDTH);
+        WorkoutFormatter.appendTwoDecimalPlaces(builder, distanceHundredths);
+        return builder.toString();
+    }
+
+    /**
+     * Retrieves the run distance as a number.
+     *
+     * @return Run distance.
+     */
+    public double getDistanceValue() {
+        return (double) distanceHundredths / WorkoutConstant.RUN_DISTANCE_SCALE;
+    }
+
+    /**
+     * Retrieves the run distance in hundredths of a kilometre.
+     *
+     * @return Run distance in hundredths of a kilometre.
+     */
+    int getDistanceHundredths() {
+        return distanceHundredths;
+    }
+
+    /**
+     * Retrieves the total time taken for the run.
+     *
+     * @return The total number of seconds in the run.
+     */
+    public int getTotalSeconds() {
+        return totalSeconds;
     }
+
     /**
      * Retrieves run pace.
      *
      * @return Run pace.
      */
     public String getPace() {
-        return pace;
+        StringBuilder builder = new StringBuilder(WorkoutConstant.RUN_VALUE_COLUMN_WIDTH);
+        WorkoutFormatter.appendPace(builder, calculatePaceInMinutes());
+        return builder.toString();
     }
 
     //@@author JustinSoh
 
     /**
      * Retrieves the string representation of a Run object.
+     * Lays the columns out as {@code WorkoutConstant.RUN_DATA_FORMAT} does.
      *
      * @return A formatted string representing a Run object.
      */
     @Override
     public String toString() {
-        String printedDate = super.getDate();
-        return String.format(WorkoutConstant.RUN_DATA_FORMAT, WorkoutConstant.RUN,
-                getTimes(), getDistance(), getPace(), printedDate);
+        StringBuilder builder = new StringBuilder(WorkoutConstant.RUN_TYPE_COLUMN_WIDTH
+                + 3 * WorkoutConstant.RUN_VALUE_COLUMN_WIDTH + WorkoutConstant.RUN_DATE_COLUMN_WIDTH + 4);
+        int start = builder.length();
+        builder.append(WorkoutConstant.RUN);
+        WorkoutFormatter.endColumn(builder, start, WorkoutConstant.RUN_TYPE_COLUMN_WIDTH);
+        start = builder.length();
+        WorkoutFormatter.appendTime(builder, totalSeconds);
+        WorkoutFormatter.endColumn(builder, start, WorkoutConstant.RUN_VALUE_COLUMN_WIDTH);
+        start = builder.length();
+        WorkoutFormatter.appendTwoDecimalPlaces(builder, distanceHundredths);
+        WorkoutFormatter.endColumn(builder, start, WorkoutConstant.RUN_VALUE_COLUMN_WIDTH);
+        start = builder.length();
+        WorkoutFormatter.appendPace(builder, calculatePaceInMinutes());
+        WorkoutFormatter.endColumn(builder, start, WorkoutConstant.RUN_VALUE_COLUMN_WIDTH);
+        start = builder.length();
+        WorkoutFormatter.appendDate(builder, getEpochDay());
+        WorkoutFormatter.padColumn(builder, start, WorkoutConstant.RUN_DATE_COLUMN_WIDTH);
+        return builder.toString();
     }
 
     /**
      * Retrieves the string representation of a Run object when printing all history.
-     * Uses {@code WorkoutConstant.HISTORY_WORKOUTS_DATA_FORMAT} to format the string.
+     * Lays the columns out as {@code WorkoutConstant.HISTORY_WORKOUTS_DATA_FORMAT} does.
      * Ensures that the format of the string is consistent when printing gym and run objects.
      * @return a formatted string representing a Run object.
      */
     public String getFormatForAllHistory() {
-        String printedDate = super.getDate();
-        return String.format(WorkoutConstant.HISTORY_WORKOUTS_DATA_FORMAT,
-                WorkoutConstant.RUN,
-                printedDate,
-                getDistance(),
-                getTimes(),
-                getPace()
-        );
+        StringBuilder builder = new StringBuilder(WorkoutConstant.HISTORY_TYPE_COLUMN_WIDTH
+                + WorkoutConstant.HISTORY_DATE_COLUMN_WIDTH + WorkoutConstant.HISTORY_DISTANCE_COLUMN_WIDTH
+                + WorkoutConstant.HISTORY_DURATION_COLUMN_WIDTH + WorkoutConstant.HISTORY_PACE_COLUMN_WIDTH + 4);
+        int start = builder.length();
+        builder.append(WorkoutConstant.RUN);
+        WorkoutFormatter.endColumn(builder, start, WorkoutConstant.HISTORY_TYPE_COLUMN_WIDTH);
+        start = builder.length();
+        WorkoutFormatter.appendDate(builder, getEpochDay());
+        WorkoutFormatter.endColumn(builder, start, WorkoutConstant.HISTORY_DATE_COLUMN_WIDTH);
+        start = builder.length();
+        WorkoutFormatter.appendTwoDecimalPlaces(builder, distanceHundredths);
+        WorkoutFormatter.endColumn(builder, start, WorkoutConstant.HISTORY_DISTANCE_COLUMN_WIDTH);
+        start = builder.length();
+        WorkoutFormatter.appendTime(builder, totalSeconds);
+        WorkoutFormatter.endColumn(builder, start, WorkoutConstant.HISTORY_DURATION_COLUMN_WIDTH);
+        start = builder.length();
+        WorkoutFormatter.appendPace(builder, calculatePaceInMinutes());
+        WorkoutFormatter.padColumn(builder, start, WorkoutConstant.HISTORY_PACE_COLUMN_WIDTH);
+        return builder.toString();
     }
 
     //@@author rouvinerh
     /**
      * Returns the total seconds based on the {@code times} taken for the run.
      *
+     * @param times The hours (or {@code WorkoutConstant.NO_HOURS_PRESENT}), minutes and seconds of the run.
      * @return The total number of seconds in the run.
      */
-    private int calculateTotalSeconds() {
+    private static int calculateTotalSeconds(Integer[] times) {
         int totalSeconds;
 
         if (times[0] > 0) {
-            totalSeconds = this.times[WorkoutConstant.RUN_TIME_HOUR_INDEX] * UiConstant.NUM_SECONDS_IN_HOUR
-                    + this.times[WorkoutConstant.RUN_TIME_MINUTE_INDEX] * UiConstant.NUM_SECONDS_IN_MINUTE
-                    + this.times[WorkoutConstant.RUN_TIME_SECOND_INDEX];
+            totalSeconds = times[WorkoutConstant.RUN_TIME_HOUR_INDEX] * UiConstant.NUM_SECONDS_IN_HOUR
+                    + times[WorkoutConstant.RUN_TIME_MINUTE_INDEX] * UiConstant.NUM_SECONDS_IN_MINUTE
+                    + times[WorkoutConstant.RUN_TIME_SECOND_INDEX];
         } else {
-            totalSeconds = this.times[WorkoutConstant.RUN_TIME_MINUTE_INDEX] * UiConstant.NUM_SECONDS_IN_MINUTE
-                    + this.times[WorkoutConstant.RUN_TIME_SECOND_INDEX];
+            totalSeconds = times[WorkoutConstant.RUN_TIME_MINUTE_INDEX] * UiConstant.NUM_SECONDS_IN_MINUTE
+                    + times[WorkoutConstant.RUN_TIME_SECOND_INDEX];
         }
         return totalSeconds;
     }
 
+    /**
+     * Converts a distance to hundredths of a kilometre, as distances are entered and saved to two decimal places.
+     *
+     * @param distance The distance of the run.
+     * @return The distance in hundredths of a kilometre.
+     */
+    private static int toHundredths(double distance) {
+        return (int) Math.round(distance * WorkoutConstant.RUN_DISTANCE_SCALE);
+    }
+
     /**
      * Checks the hour, minute and second values for run time.
      *
@@ -207,7 +292,17 @@ public class Run extends Workout {
      * @throws CustomExceptions.InvalidInput If the distance is outside the valid range.
      */
     protected Double checkDistance(String stringDistance) throws CustomExceptions.InvalidInput {
-        double runDistance = Double.parseDouble(stringDistance);
+        return checkDistance(Double.parseDouble(stringDistance));
+    }
+
+    /**
+     * Checks the validity of distance value specified for the run.
+     *
+     * @param runDistance The distance of the run.
+     * @return The run distance as a {@code Double}.
+     * @throws CustomExceptions.InvalidInput If the distance is outside the valid range.
+     */
+    protected Double checkDistance(double runDistance) throws CustomExceptions.InvalidInput {
         if (runDistance > WorkoutConstant.MAX_RUN_DISTANCE) {
             throw new CustomExceptions.InvalidInput(ErrorConstant.DISTANCE_TOO_LONG_ERROR);
         }
@@ -225,8 +320,7 @@ public class Run extends Workout {
      * @throws CustomExceptions.InvalidInput If the total time taken or pace calculated is too large or small.
      */
     protected String calculatePace() throws CustomExceptions.InvalidInput {
-        int totalSeconds = calculateTotalSeconds();
-        double paceInDecimal = ((double) totalSeconds / this.distance) / UiConstant.NUM_SECONDS_IN_MINUTE;
+        double paceInDecimal = calculatePaceInMinutes();
 
         if (paceInDecimal > WorkoutConstant.MAX_PACE) {
             throw new CustomExceptions.InvalidInput(ErrorConstant.MAX_PACE_ERROR);
@@ -234,11 +328,15 @@ public class Run extends Workout {
         if (paceInDecimal < WorkoutConstant.MIN_PACE) {
             throw new CustomExceptions.InvalidInput(ErrorConstant.MIN_PACE_ERROR);
         }
+        return getPace();
+    }
 
-        int minutes = (int) paceInDecimal;
-        double remainingSeconds = paceInDecimal - minutes;
-        int seconds = (int) Math.round(remainingSeconds * UiConstant.NUM_SECONDS_IN_MINUTE);
-
-        return String.format(WorkoutConstant.RUN_PACE_FORMAT, minutes, seconds);
+    /**
+     * Calculates the pace of the run in minutes per km.
+     *
+     * @return The pace of the run.
+     */
+    private double calculatePaceInMinutes() {
+        return ((double) totalSeconds / getDistanceValue()) / UiConstant.NUM_SECONDS_IN_MINUTE;
     }
 }
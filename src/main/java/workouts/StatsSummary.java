@@ -0,0 +1,79 @@
+package workouts;
+
+import constants.WorkoutConstant;
+
+/**
+ * Represents the training totals of the workouts within a window of time.
+ * Distances are kept in hundredths of a kilometre and gym volume in multiples of
+ * {@code WorkoutConstant.WEIGHT_MULTIPLE}, so the totals are exact.
+ */
+public class StatsSummary {
+    private final long runCount;
+    private final long distanceHundredths;
+    private final long runSeconds;
+    private final long gymCount;
+    private final long volumeUnits;
+
+    /**
+     * Constructs a new StatsSummary object with the totals of a window of time.
+     *
+     * @param runCount           The number of runs.
+     * @param distanceHundredths The total distance run in hundredths of a kilometre.
+     * @param runSeconds         The total time run in seconds.
+     * @param gymCount           The number of gym sessions.
+     * @param volumeUnits        The total weight lifted times repetitions, in multiples of the weight increment.
+     */
+    protected StatsSummary(long runCount, long distanceHundredths, long runSeconds, long gymCount,
+                           long volumeUnits) {
+        this.runCount = runCount;
+        this.distanceHundredths = distanceHundredths;
+        this.runSeconds = runSeconds;
+        this.gymCount = gymCount;
+        this.volumeUnits = volumeUnits;
+    }
+
+    /**
+     * Retrieves the number of runs.
+     *
+     * @return The number of runs.
+     */
+    public long getRunCount() {
+        return runCount;
+    }
+
+    /**
+     * Retrieves the total distance run.
+     *
+     * @return The total distance in kilometres.
+     */
+    public double getTotalDistance() {
+        return (double) distanceHundredths / WorkoutConstant.RUN_DISTANCE_SCALE;
+    }
+
+    /**
+     * Retrieves the total time run.
+     *
+     * @return The total time in seconds.
+     */
+    public long getTotalRunSeconds() {
+        return runSeconds;
+    }
+
+    /**
+     * Retrieves the number of gym sessions.
+     *
+     * @return The number of gym sessions.
+     */
+    public long getGymCount() {
+        return gymCount;
+    }
+
+    /**
+     * Retrieves the total gym volume, which is the weight of every set times its repetitions.
+     *
+     * @return The total gym volume in kilograms.
+     */
+    public double getTotalVolume() {
+        return volumeUnits * WorkoutConstant.WEIGHT_MULTIPLE;
+    }
+}
@@ -0,0 +1,249 @@
+package workouts;
+
+import constants.UiConstant;
+import constants.WorkoutConstant;
+import storage.SegmentStore;
+import utility.Filters.DataType;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * TrainingLoad class keeps the daily training load of the dated workouts in {@code WorkoutLists}, with runs and gym
+ * sessions in separate series. The load of a run is its distance times its intensity, which is the reference pace
+ * divided by its pace. The load of a gym session is its volume.
+ * Each series keeps the acute (7 day) and chronic (28 day) load of the windows ending on a day as running sums, which
+ * are moved forward one day at a time. Adding a workout and moving the windows forward by a day both take O(1), so
+ * the acute:chronic workload ratio can be checked after every workout.
+ */
+public class TrainingLoad {
+    private static final long FIRST_EPOCH_DAY = LocalDate.of(UiConstant.MIN_YEAR, 1, 1).toEpochDay();
+
+    private static final LoadSeries RUN_LOADS = new LoadSeries(1.0 / WorkoutConstant.RUN_DISTANCE_SCALE);
+    private static final LoadSeries GYM_LOADS = new LoadSeries(WorkoutConstant.WEIGHT_MULTIPLE);
+
+    /**
+     * Private constructor to prevent instantiation from outside the class.
+     */
+    private TrainingLoad() {
+    }
+
+    /**
+     * Returns the acute and chronic load of the runs in the windows ending on a day.
+     *
+     * @param today The last day of the windows.
+     * @return The workload ratio, with loads in km at the reference pace.
+     */
+    public static WorkloadRatio getRunLoad(LocalDate today) {
+        SegmentStore.hydrate(DataType.RUN);
+        return RUN_LOADS.getRatio(toIndex(today.toEpochDay()));
+    }
+
+    /**
+     * Returns the acute and chronic load of the gym sessions in the windows ending on a day.
+     *
+     * @param today The last day of the windows.
+     * @return The workload ratio, with loads in kg lifted times repetitions.
+     */
+    public static WorkloadRatio getGymLoad(LocalDate today) {
+        SegmentStore.hydrate(DataType.GYM);
+        return GYM_LOADS.getRatio(toIndex(today.toEpochDay()));
+    }
+
+    // Protected Methods
+
+    /**
+     * Adds the load of a run if it has a date.
+     *
+     * @param run The Run object added.
+     */
+    protected static void addRun(Run run) {
+        if (run.hasDate()) {
+            RUN_LOADS.add(toIndex(run.getEpochDay()), calculateRunLoad(run));
+        }
+    }
+
+    /**
+     * Removes the load of a run if it has a date.
+     *
+     * @param run The Run object removed.
+     */
+    protected static void removeRun(Run run) {
+        if (run.hasDate()) {
+            RUN_LOADS.add(toIndex(run.getEpochDay()), -calculateRunLoad(run));
+        }
+    }
+
+    /**
+     * Adds the volume of a station added to a gym session if the gym has a date.
+     *
+     * @param gym     The Gym object the station was added to.
+     * @param station The GymStation object added.
+     */
+    protected static void addStation(Gym gym, GymStation station) {
+        if (gym.hasDate()) {
+            GYM_LOADS.add(toIndex(gym.getEpochDay()), WorkoutStats.getVolumeUnits(station));
+        }
+    }
+
+    /**
+     * Removes the volume of every station of a gym session if it has a date.
+     *
+     * @param gym The Gym object removed.
+     */
+    protected static void removeGym(Gym gym) {
+        if (!gym.hasDate()) {
+            return;
+        }
+        long volume = 0;
+        for (GymStation station : gym.getStations()) {
+            volume += WorkoutStats.getVolumeUnits(station);
+        }
+        GYM_LOADS.add(toIndex(gym.getEpochDay()), -volume);
+    }
+
+    /**
+     * Removes the load of every workout.
+     */
+    protected static void clear() {
+        RUN_LOADS.clear();
+        GYM_LOADS.clear();
+    }
+
+    // Private Methods
+
+    /**
+     * Returns the load of a run, which is its distance times the reference pace divided by its pace. A run at the
+     * reference pace has a load equal to its distance, and faster runs have a higher load.
+     *
+     * @param run The Run object.
+     * @return The load in hundredths of a km at the reference pace.
+     */
+    private static long calculateRunLoad(Run run) {
+        long distance = run.getDistanceHundredths();
+        return distance * distance * WorkoutConstant.RUN_LOAD_REFERENCE_PACE_SECONDS
+                / ((long) run.getTotalSeconds() * WorkoutConstant.RUN_DISTANCE_SCALE);
+    }
+
+    /**
+     * Returns the index of an epoch day in the series.
+     *
+     * @param epochDay The epoch day.
+     * @return The index of the day.
+     */
+    private static int toIndex(long epochDay) {
+        return (int) (epochDay - FIRST_EPOCH_DAY);
+    }
+
+    /**
+     * Represents a series of daily loads with running sums of its acute and chronic windows.
+     */
+    private static class LoadSeries {
+        private static final int NO_WINDOW = -1;
+
+        private final double unit;
+        private long[] dailyLoads;
+        private int windowEnd = NO_WINDOW;
+        private long acuteLoad = 0;
+        private long chronicLoad = 0;
+
+        /**
+         * Constructs a new LoadSeries object holding a zero load for every day up to a year from today.
+         *
+         * @param unit The size of one unit of load.
+         */
+        private LoadSeries(double unit) {
+            this.unit = unit;
+            dailyLoads = new long[toIndex(LocalDate.now().plusYears(1).toEpochDay())];
+        }
+
+        /**
+         * Adds to the load of a day, and to the windows containing it.
+         *
+         * @param day  The index of the day.
+         * @param load The load to add, which may be negative.
+         */
+        private void add(int day, long load) {
+            if (day >= dailyLoads.length) {
+                dailyLoads = Arrays.copyOf(dailyLoads, Math.max(day + 1, dailyLoads.length * 2));
+            }
+            dailyLoads[day] += load;
+            if (windowEnd == NO_WINDOW || day > windowEnd) {
+                return;
+            }
+            if (day > windowEnd - WorkoutConstant.ACUTE_LOAD_DAYS) {
+                acuteLoad += load;
+            }
+            if (day > windowEnd - WorkoutConstant.CHRONIC_LOAD_DAYS) {
+                chronicLoad += load;
+            }
+        }
+
+        /**
+         * Returns the acute and chronic load of the windows ending on a day.
+         *
+         * @param day The index of the last day of the windows.
+         * @return The workload ratio.
+         */
+        private WorkloadRatio getRatio(int day) {
+            moveWindowsTo(day);
+            return new WorkloadRatio(acuteLoad * unit, chronicLoad * unit);
+        }
+
+        /**
+         * Moves the windows to end on a day. Moving them forward takes O(1) per day, by adding the day entering each
+         * window and subtracting the day leaving it. The windows are summed again if they move back or further than
+         * the chronic window.
+         *
+         * @param day The index of the last day of the windows.
+         */
+        private void moveWindowsTo(int day) {
+            if (windowEnd == NO_WINDOW || day < windowEnd || day - windowEnd >= WorkoutConstant.CHRONIC_LOAD_DAYS) {
+                windowEnd = day;
+                acuteLoad = sumDays(day - WorkoutConstant.ACUTE_LOAD_DAYS + 1, day);
+                chronicLoad = sumDays(day - WorkoutConstant.CHRONIC_LOAD_DAYS + 1, day);
+                return;
+            }
+            while (windowEnd < day) {
+                windowEnd++;
+                acuteLoad += getDay(windowEnd) - getDay(windowEnd - WorkoutConstant.ACUTE_LOAD_DAYS);
+                chronicLoad += getDay(windowEnd) - getDay(windowEnd - WorkoutConstant.CHRONIC_LOAD_DAYS);
+            }
+        }
+
+        /**
+         * Returns the sum of the loads within a range of days, inclusive.
+         *
+         * @param from The index of the first day.
+         * @param to   The index of the last day.
+         * @return The sum of the loads.
+         */
+        private long sumDays(int from, int to) {
+            long sum = 0;
+            for (int day = from; day <= to; day++) {
+                sum += getDay(day);
+            }
+            return sum;
+        }
+
+        /**
+         * Returns the load of a day.
+         *
+         * @param day The index of the day.
+         * @return The load, or 0 if the day is outside the series.
+         */
+        private long getDay(int day) {
+            return day >= 0 && day < dailyLoads.length ? dailyLoads[day] : 0;
+        }
+
+        /**
+         * Resets the load of every day and the windows to zero.
+         */
+        private void clear() {
+            Arrays.fill(dailyLoads, 0);
+            windowEnd = NO_WINDOW;
+            acuteLoad = 0;
+            chronicLoad = 0;
+        }
+    }
+}
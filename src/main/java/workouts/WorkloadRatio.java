@@ -0,0 +1,79 @@
+package workouts;
+
+import constants.WorkoutConstant;
+
+/**
+ * Represents the acute load of the last week and the chronic load of the last 4 weeks of a series of workouts, and
+ * the acute:chronic workload ratio between them.
+ */
+public class WorkloadRatio {
+    private final double acuteLoad;
+    private final double chronicLoad;
+
+    /**
+     * Constructs a new WorkloadRatio object with the loads of the acute and chronic windows.
+     *
+     * @param acuteLoad   The total load of the acute window.
+     * @param chronicLoad The total load of the chronic window, which contains the acute window.
+     */
+    protected WorkloadRatio(double acuteLoad, double chronicLoad) {
+        this.acuteLoad = acuteLoad;
+        this.chronicLoad = chronicLoad;
+    }
+
+    /**
+     * Retrieves the total load of the acute window.
+     *
+     * @return The acute load.
+     */
+    public double getAcuteLoad() {
+        return acuteLoad;
+    }
+
+    /**
+     * Retrieves the average weekly load of the chronic window.
+     *
+     * @return The chronic load per week.
+     */
+    public double getChronicWeeklyLoad() {
+        return chronicLoad * WorkoutConstant.ACUTE_LOAD_DAYS / WorkoutConstant.CHRONIC_LOAD_DAYS;
+    }
+
+    /**
+     * Returns whether there is any load in the chronic window before the acute window, without which the ratio
+     * only compares the acute window against itself.
+     *
+     * @return True if the ratio can be calculated, otherwise false.
+     */
+    public boolean hasRatio() {
+        return chronicLoad > acuteLoad;
+    }
+
+    /**
+     * Retrieves the acute:chronic workload ratio, which is the acute load divided by the chronic load per week.
+     *
+     * @return The ratio.
+     */
+    public double getRatio() {
+        assert hasRatio() : "Ratio requires load before the acute window";
+        return acuteLoad / getChronicWeeklyLoad();
+    }
+
+    /**
+     * Returns whether the acute load is a spike above the chronic load per week.
+     *
+     * @return True if the ratio is above {@code WorkoutConstant.ACWR_SPIKE_THRESHOLD}, otherwise false.
+     */
+    public boolean isSpike() {
+        return hasRatio() && getRatio() > WorkoutConstant.ACWR_SPIKE_THRESHOLD;
+    }
+
+    /**
+     * Returns whether the acute load is low compared to the chronic load per week.
+     *
+     * @return True if the ratio is below {@code WorkoutConstant.ACWR_LOW_THRESHOLD}, otherwise false.
+     */
+    public boolean isLow() {
+        return hasRatio() && getRatio() < WorkoutConstant.ACWR_LOW_THRESHOLD;
+    }
+}
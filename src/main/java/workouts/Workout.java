@@ -2,15 +2,19 @@ package workouts;
 import java.time.LocalDate;
 
 import constants.ErrorConstant;
+import constants.WorkoutConstant;
 import utility.Parser;
+import utility.RecordIds;
 
 /**
  * Workout class is a parent class that is used in Gym and Run classes.
  * It contains the date of the workout and a parser object to parse the date.
+ * The date is stored as an epoch day rather than a {@code LocalDate} object.
  */
 public class Workout {
     //@@author JustinSoh
-    private LocalDate date = null;
+    private long id = WorkoutConstant.NO_WORKOUT_ID;
+    private final long epochDay;
 
 
     /**
@@ -20,16 +24,56 @@ public class Workout {
      */
     public Workout(String stringDate) {
         Parser parser = new Parser();
-        this.date = parser.parseDate(stringDate);
+        this.epochDay = toEpochDay(parser.parseDate(stringDate));
     }
 
     /**
      * Constructor that builds a new Workout object.
      */
     public Workout() {
+        this.epochDay = WorkoutConstant.NO_DATE_EPOCH_DAY;
+    }
+
+    /**
+     * Overloaded constructor that uses a date already decoded from the data file.
+     *
+     * @param date The date of the workout, or null if it is not specified.
+     */
+    public Workout(LocalDate date) {
+        this.epochDay = toEpochDay(date);
+    }
+
+    /**
+     * Converts a date to the epoch day stored for it.
+     *
+     * @param date The date, or null if it is not specified.
+     * @return The epoch day of the date, or {@code WorkoutConstant.NO_DATE_EPOCH_DAY} if it is not specified.
+     */
+    private static long toEpochDay(LocalDate date) {
+        return date == null ? WorkoutConstant.NO_DATE_EPOCH_DAY : date.toEpochDay();
     }
 
 
+    /**
+     * Returns the id of the workout, which stays the same while the workout is in its lists but is not saved.
+     *
+     * @return The id of the workout, or {@code WorkoutConstant.NO_WORKOUT_ID} if it has not been added yet.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Gives the workout a new id as it is added to {@code WorkoutLists}. The id is given on adding rather than on
+     * construction, because adding a workout may first load the stored workouts from the data file. The stored
+     * workouts then get their ids first, so the lists stay sorted by id. A workout that already has an id keeps it.
+     */
+    protected void assignId() {
+        if (id == WorkoutConstant.NO_WORKOUT_ID) {
+            id = RecordIds.next();
+        }
+    }
+
     /**
      * Returns the date of the workout. If the date is not specified (null)
      * It will return {@code ErrorConstant.NO_DATE_SPECIFIED_ERROR} as the dateString.
@@ -38,18 +82,45 @@ public class Workout {
      */
     public String getDate() {
         String validatedDate = "";
-        if(this.date == null){
+        if(!hasDate()){
             validatedDate = ErrorConstant.NO_DATE_SPECIFIED_ERROR;
         } else {
-            validatedDate = this.date.toString();
+            validatedDate = getDateValue().toString();
         }
 
         return validatedDate;
     }
 
+    /**
+     * Returns the date of the workout.
+     *
+     * @return The date of the workout, or null if it is not specified.
+     */
+    public LocalDate getDateValue() {
+        return hasDate() ? LocalDate.ofEpochDay(epochDay) : null;
+    }
+
+    /**
+     * Returns whether the date of the workout is specified.
+     *
+     * @return True if the date is specified, otherwise false.
+     */
+    public boolean hasDate() {
+        return epochDay != WorkoutConstant.NO_DATE_EPOCH_DAY;
+    }
+
+    /**
+     * Returns the date of the workout as an epoch day.
+     *
+     * @return The epoch day of the date, or {@code WorkoutConstant.NO_DATE_EPOCH_DAY} if it is not specified.
+     */
+    public long getEpochDay() {
+        return epochDay;
+    }
+
     public String getDateForFile(){
         Parser parser = new Parser();
-        return parser.parseFormattedDate(this.date);
+        return parser.parseFormattedDate(getDateValue());
     }
 
     /**
@@ -0,0 +1,126 @@
+package workouts;
+
+import java.time.LocalDate;
+
+import constants.ErrorConstant;
+import constants.UiConstant;
+import constants.WorkoutConstant;
+
+/**
+ * Renders the values of workouts as text by appending them to a {@code StringBuilder}, without going through
+ * {@code String.format}. Used when a run is printed, so printing a long history does not parse a format string and
+ * box every value for each run.
+ */
+final class WorkoutFormatter {
+
+    /**
+     * Private constructor to prevent instantiation from outside the class.
+     */
+    private WorkoutFormatter() {
+    }
+
+    /**
+     * Pads a column with spaces up to its width and ends it with a tab, like {@code %-Ns\t}.
+     *
+     * @param builder The text being rendered.
+     * @param start   The position of the start of the column.
+     * @param width   The width of the column.
+     */
+    static void endColumn(StringBuilder builder, int start, int width) {
+        padColumn(builder, start, width);
+        builder.append('\t');
+    }
+
+    /**
+     * Pads a column with spaces up to its width, like {@code %-Ns}.
+     *
+     * @param builder The text being rendered.
+     * @param start   The position of the start of the column.
+     * @param width   The width of the column.
+     */
+    static void padColumn(StringBuilder builder, int start, int width) {
+        for (int i = builder.length() - start; i < width; i++) {
+            builder.append(' ');
+        }
+    }
+
+    /**
+     * Appends a time as hh:mm:ss if it is at least an hour long, otherwise as mm:ss.
+     *
+     * @param builder      The text being rendered.
+     * @param totalSeconds The time in seconds.
+     */
+    static void appendTime(StringBuilder builder, int totalSeconds) {
+        int hours = totalSeconds / UiConstant.NUM_SECONDS_IN_HOUR;
+        int minutes = totalSeconds % UiConstant.NUM_SECONDS_IN_HOUR / UiConstant.NUM_SECONDS_IN_MINUTE;
+        int seconds = totalSeconds % UiConstant.NUM_SECONDS_IN_MINUTE;
+        if (hours > UiConstant.MIN_HOURS) {
+            appendTwoDigits(builder, hours);
+            builder.append(WorkoutConstant.COLON);
+        }
+        appendTwoDigits(builder, minutes);
+        builder.append(WorkoutConstant.COLON);
+        appendTwoDigits(builder, seconds);
+    }
+
+    /**
+     * Appends a fixed-point number in hundredths with two decimal places.
+     *
+     * @param builder    The text being rendered.
+     * @param hundredths The number in hundredths.
+     */
+    static void appendTwoDecimalPlaces(StringBuilder builder, int hundredths) {
+        builder.append(hundredths / WorkoutConstant.RUN_DISTANCE_SCALE).append(UiConstant.FULL_STOP);
+        appendTwoDigits(builder, hundredths % WorkoutConstant.RUN_DISTANCE_SCALE);
+    }
+
+    /**
+     * Appends a pace as minutes and seconds per kilometre, such as {@code 5:07/km}.
+     *
+     * @param builder     The text being rendered.
+     * @param paceMinutes The pace in minutes per kilometre.
+     */
+    static void appendPace(StringBuilder builder, double paceMinutes) {
+        int minutes = (int) paceMinutes;
+        int seconds = (int) Math.round((paceMinutes - minutes) * UiConstant.NUM_SECONDS_IN_MINUTE);
+        builder.append(minutes).append(WorkoutConstant.COLON);
+        appendTwoDigits(builder, seconds);
+        builder.append(WorkoutConstant.RUN_PACE_UNIT);
+    }
+
+    /**
+     * Appends a date as yyyy-MM-dd, or {@code ErrorConstant.NO_DATE_SPECIFIED_ERROR} if there is no date.
+     *
+     * @param builder  The text being rendered.
+     * @param epochDay The date as an epoch day, or {@code WorkoutConstant.NO_DATE_EPOCH_DAY} if there is no date.
+     */
+    static void appendDate(StringBuilder builder, long epochDay) {
+        if (epochDay == WorkoutConstant.NO_DATE_EPOCH_DAY) {
+            builder.append(ErrorConstant.NO_DATE_SPECIFIED_ERROR);
+            return;
+        }
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        if (date.getYear() < 1000 || date.getYear() > 9999) {
+            // outside four-digit years, LocalDate adds the sign and padding itself
+            builder.append(date);
+            return;
+        }
+        builder.append(date.getYear()).append(UiConstant.DASH);
+        appendTwoDigits(builder, date.getMonthValue());
+        builder.append(UiConstant.DASH);
+        appendTwoDigits(builder, date.getDayOfMonth());
+    }
+
+    /**
+     * Appends a number with at least two digits, like {@code %02d}.
+     *
+     * @param builder The text being rendered.
+     * @param value   The number, which is not negative.
+     */
+    private static void appendTwoDigits(StringBuilder builder, int value) {
+        if (value < 10) {
+            builder.append('0');
+        }
+        builder.append(value);
+    }
+}
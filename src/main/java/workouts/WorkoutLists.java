@@ -1,24 +1,44 @@
 package workouts;
 
+import storage.JournalFile;
 import storage.LogFile;
+import storage.SegmentStore;
 import ui.Output;
 import utility.CustomExceptions;
+import utility.Filters.DataType;
 import constants.ErrorConstant;
+import constants.WorkoutConstant;
 import utility.Validation;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 
 /**
  * WorkoutLists class contains a static list of workouts, runs and gyms.
  * You cannot add a new object to the list directly
  * It will automatically be added when you create a new Run/Gym object.
  * To retrieve the list of workouts/gym/run, you can use the static 'get' methods provided.
+ * Each list is kept in the order its objects were created, which is also the order of their ids, so an object is
+ * found in any list by binary search on its id. The lists are still {@code ArrayList} objects, so removing an object
+ * shifts the objects after it and takes O(n).
+ * Workouts with a date are also indexed by their epoch day, so the workouts within a date range are found without
+ * going through the whole list.
+ * Gyms are also indexed by the id of each exercise done in them, so the gyms with an exercise are found without going
+ * through every station of every gym.
  */
 public class WorkoutLists {
     //@@author JustinSoh
     private static final ArrayList<Workout> WORKOUTS = new ArrayList<>();
     private static final ArrayList<Run> RUNS = new ArrayList<>();
     private static final ArrayList<Gym> GYMS = new ArrayList<>();
+    private static final NavigableMap<Long, List<Workout>> WORKOUTS_BY_DAY = new TreeMap<>();
+    private static final ArrayList<List<Gym>> GYMS_BY_EXERCISE = new ArrayList<>();
+    private static final Comparator<Workout> ID_ORDER = Comparator.comparingLong(Workout::getId);
 
     protected WorkoutLists() {
 
@@ -32,6 +52,7 @@ public class WorkoutLists {
      * @return The list of workouts.
      */
     public static ArrayList<Workout> getWorkouts() {
+        SegmentStore.hydrate(DataType.RUN);
         return WORKOUTS;
     }
 
@@ -41,6 +62,7 @@ public class WorkoutLists {
      * @return The list of runs.
      */
     public static ArrayList<Run> getRuns() {
+        SegmentStore.hydrate(DataType.RUN);
         return RUNS;
     }
 
@@ -50,6 +72,7 @@ public class WorkoutLists {
      * @return The list of gyms.
      */
     public static ArrayList<Gym> getGyms() {
+        SegmentStore.hydrate(DataType.GYM);
         return GYMS;
     }
 
@@ -60,6 +83,7 @@ public class WorkoutLists {
      * @throws CustomExceptions.OutOfBounds If no runs are found in the list.
      */
     public static Run getLatestRun() throws CustomExceptions.OutOfBounds {
+        SegmentStore.hydrate(DataType.RUN);
         if (RUNS.isEmpty()) {
             throw new CustomExceptions.OutOfBounds(ErrorConstant.RUN_EMPTY_ERROR);
         }
@@ -73,18 +97,126 @@ public class WorkoutLists {
      * @throws CustomExceptions.OutOfBounds If no gyms are found in the list.
      */
     public static Gym getLatestGym() throws CustomExceptions.OutOfBounds {
+        SegmentStore.hydrate(DataType.GYM);
         if (GYMS.isEmpty()) {
             throw new CustomExceptions.OutOfBounds(ErrorConstant.GYM_EMPTY_ERROR);
         }
         return GYMS.get(GYMS.size() - 1);
     }
 
+    /**
+     * Returns the workout with an id.
+     *
+     * @param id The id of the workout.
+     * @return The Run or Gym object with the id, or null if there is none.
+     */
+    public static Workout getWorkoutById(long id) {
+        SegmentStore.hydrate(DataType.RUN);
+        int index = findIndexById(WORKOUTS, id);
+        return index == -1 ? null : WORKOUTS.get(index);
+    }
+
+    /**
+     * Returns the workouts with a date within a date range, from the earliest date. Workouts on the same date are in
+     * the order they were added, and workouts without a date are left out.
+     *
+     * @param from The earliest date of the range.
+     * @param to   The latest date of the range.
+     * @return The list of workouts within the date range.
+     */
+    public static List<Workout> getWorkoutsBetween(LocalDate from, LocalDate to) {
+        SegmentStore.hydrate(DataType.RUN);
+        List<Workout> workouts = new ArrayList<>();
+        if (from.isAfter(to)) {
+            return workouts;
+        }
+        for (List<Workout> workoutsOnDay : WORKOUTS_BY_DAY.subMap(from.toEpochDay(), true,
+                to.toEpochDay(), true).values()) {
+            workouts.addAll(workoutsOnDay);
+        }
+        return workouts;
+    }
+
+    /**
+     * Returns the gyms with a station of an exercise, in the order they were added.
+     *
+     * @param exercise The name of the exercise.
+     * @return The list of gyms with the exercise.
+     */
+    public static List<Gym> getGymsWithExercise(String exercise) {
+        SegmentStore.hydrate(DataType.GYM);
+        int exerciseId = ExerciseDictionary.findId(exercise);
+        if (exerciseId == WorkoutConstant.NO_EXERCISE_ID || exerciseId >= GYMS_BY_EXERCISE.size()) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(GYMS_BY_EXERCISE.get(exerciseId));
+    }
+
+    /**
+     * Returns the gym with an id.
+     *
+     * @param id The id of the gym.
+     * @return The Gym object, or null if there is no gym with the id.
+     */
+    protected static Gym getGymById(long id) {
+        int index = findIndexById(GYMS, id);
+        return index == -1 ? null : GYMS.get(index);
+    }
+
+    /**
+     * Returns the gyms with a station of an exercise, in the order they were added, without loading gyms not loaded
+     * yet. Used to rebuild the top lifts of an exercise while a gym is being removed.
+     *
+     * @param exerciseId The id of the exercise in the {@code ExerciseDictionary}.
+     * @return The list of gyms with the exercise.
+     */
+    protected static List<Gym> getGymsWithExerciseId(int exerciseId) {
+        if (exerciseId >= GYMS_BY_EXERCISE.size()) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(GYMS_BY_EXERCISE.get(exerciseId));
+    }
+
+    /**
+     * Returns the index of a workout within the list of workouts.
+     *
+     * @param workout The Run or Gym object.
+     * @return The index of the workout, or -1 if it is not in the list.
+     */
+    public static int getWorkoutIndex(Workout workout) {
+        SegmentStore.hydrate(DataType.RUN);
+        return findIndexById(WORKOUTS, workout.getId());
+    }
+
+    /**
+     * Returns the index of a run within the list of runs.
+     *
+     * @param run The Run object.
+     * @return The index of the run, or -1 if it is not in the list.
+     */
+    public static int getRunIndex(Run run) {
+        SegmentStore.hydrate(DataType.RUN);
+        return findIndexById(RUNS, run.getId());
+    }
+
+    /**
+     * Returns the index of a gym within the list of gyms.
+     *
+     * @param gym The Gym object.
+     * @return The index of the gym, or -1 if it is not in the list.
+     */
+    public static int getGymIndex(Gym gym) {
+        SegmentStore.hydrate(DataType.GYM);
+        return findIndexById(GYMS, gym.getId());
+    }
+
     /**
      * Returns the number of runs in the list.
      *
      * @return The number of runs.
      */
     public static int getRunSize() {
+        SegmentStore.hydrate(DataType.RUN);
         return RUNS.size();
     }
 
@@ -94,6 +226,7 @@ public class WorkoutLists {
      * @return The number of gyms.
      */
     public static int getGymSize() {
+        SegmentStore.hydrate(DataType.GYM);
         return GYMS.size();
     }
 
@@ -104,6 +237,7 @@ public class WorkoutLists {
      * @throws CustomExceptions.OutOfBounds If the index is invalid.
      */
     public static void deleteGym(int index) throws CustomExceptions.OutOfBounds {
+        SegmentStore.hydrate(DataType.GYM);
         assert !GYMS.isEmpty() : "Gym list is empty.";
         boolean indexIsValid = Validation.validateIndexWithinBounds(index, 0, GYMS.size());
 
@@ -113,8 +247,8 @@ public class WorkoutLists {
 
         Gym deletedGym = GYMS.get(index);
         Output.printDeleteGymMessage(deletedGym);
-        WORKOUTS.remove(deletedGym);
-        GYMS.remove(index);
+        removeGym(index);
+        JournalFile.recordDelete(DataType.GYM, index);
         LogFile.writeLog("Removed gym with index: " + index, false);
     }
 
@@ -125,6 +259,7 @@ public class WorkoutLists {
      * @throws CustomExceptions.OutOfBounds If the index is invalid.
      */
     public static void deleteRun(int index) throws CustomExceptions.OutOfBounds {
+        SegmentStore.hydrate(DataType.RUN);
         assert !RUNS.isEmpty() : "Run list is empty.";
         boolean indexIsValid = Validation.validateIndexWithinBounds(index, 0, RUNS.size());
         if (!indexIsValid) {
@@ -132,19 +267,68 @@ public class WorkoutLists {
         }
         Run deletedRun = RUNS.get(index);
         Output.printDeleteRunMessage(deletedRun);
-        WORKOUTS.remove(deletedRun);
-        RUNS.remove(index);
+        removeRun(index);
+        JournalFile.recordDelete(DataType.RUN, index);
         LogFile.writeLog("Removed run with index: " + index, false);
     }
 
+    /**
+     * Removes the Gym object at the {@code index} from both the gym and workout lists without printing any message.
+     * The gym is found in the workout list by its id, but removing it from each list still shifts the gyms after it.
+     * Used when replaying deletions recorded in the journal, and when discarding a gym that was never completed.
+     *
+     * @param index Index of the Gym object to be removed.
+     * @throws CustomExceptions.OutOfBounds If the index is invalid.
+     */
+    public static void removeGym(int index) throws CustomExceptions.OutOfBounds {
+        SegmentStore.hydrate(DataType.GYM);
+        if (!Validation.validateIndexWithinBounds(index, 0, GYMS.size())) {
+            throw new CustomExceptions.OutOfBounds(ErrorConstant.INVALID_INDEX_DELETE_ERROR);
+        }
+        Gym removedGym = GYMS.remove(index);
+        WORKOUTS.remove(findIndexById(WORKOUTS, removedGym.getId()));
+        removeFromDateIndex(removedGym);
+        removeFromExerciseIndex(removedGym);
+        WorkoutStats.removeGym(removedGym);
+        PersonalBests.removeGym(removedGym);
+        TrainingLoad.removeGym(removedGym);
+    }
+
+    /**
+     * Removes the Run object at the {@code index} from both the run and workout lists without printing any message.
+     * The run is found in the workout list by its id, but removing it from each list still shifts the runs after it.
+     * Used when replaying deletions recorded in the journal.
+     *
+     * @param index Index of the Run object to be removed.
+     * @throws CustomExceptions.OutOfBounds If the index is invalid.
+     */
+    public static void removeRun(int index) throws CustomExceptions.OutOfBounds {
+        SegmentStore.hydrate(DataType.RUN);
+        if (!Validation.validateIndexWithinBounds(index, 0, RUNS.size())) {
+            throw new CustomExceptions.OutOfBounds(ErrorConstant.INVALID_INDEX_DELETE_ERROR);
+        }
+        Run removedRun = RUNS.remove(index);
+        WORKOUTS.remove(findIndexById(WORKOUTS, removedRun.getId()));
+        removeFromDateIndex(removedRun);
+        WorkoutStats.removeRun(removedRun);
+        PersonalBests.removeRun(removedRun);
+        TrainingLoad.removeRun(removedRun);
+    }
+
     /**
      * Clears the workouts, runs and gyms ArrayLists.
      * Used mainly for JUnit testing to clear the list after each test.
      */
     public static void clearWorkoutsRunGym() {
+        SegmentStore.discard(DataType.RUN, DataType.GYM);
         WORKOUTS.clear();
         RUNS.clear();
         GYMS.clear();
+        WORKOUTS_BY_DAY.clear();
+        GYMS_BY_EXERCISE.clear();
+        WorkoutStats.clear();
+        PersonalBests.clear();
+        TrainingLoad.clear();
     }
 
     // Protected Methods
@@ -157,8 +341,12 @@ public class WorkoutLists {
      * @param run the Run object to be added
      */
     protected void addRun(Run run) {
-        RUNS.add(run);
+        SegmentStore.hydrate(DataType.RUN);
         addWorkout(run);
+        RUNS.add(run);
+        WorkoutStats.addRun(run);
+        PersonalBests.addRun(run);
+        TrainingLoad.addRun(run);
     }
 
     /**
@@ -169,19 +357,113 @@ public class WorkoutLists {
      * @param gym the Gym object to be added.
      */
     protected void addGym(Gym gym) {
-        GYMS.add(gym);
+        SegmentStore.hydrate(DataType.GYM);
         addWorkout(gym);
+        GYMS.add(gym);
+        WorkoutStats.addGym(gym);
+    }
+
+    /**
+     * Only classes within the workouts package can add a new station of a gym to the index of gyms by exercise, to
+     * the training totals, to the lifts of its exercise and to the training load.
+     * This is called automatically when a new station is added to a gym in the Gym class.
+     *
+     * @param gym     The Gym object the station was added to.
+     * @param station The GymStation object added.
+     */
+    protected static void addStation(Gym gym, GymStation station) {
+        WorkoutStats.addStation(gym, station);
+        PersonalBests.addStation(gym, gym.getStations().size() - 1, station);
+        TrainingLoad.addStation(gym, station);
+        int exerciseId = station.getExerciseId();
+        while (GYMS_BY_EXERCISE.size() <= exerciseId) {
+            GYMS_BY_EXERCISE.add(new ArrayList<>());
+        }
+        List<Gym> gymsWithExercise = GYMS_BY_EXERCISE.get(exerciseId);
+        int index = Collections.binarySearch(gymsWithExercise, gym, ID_ORDER);
+        if (index < 0) {
+            gymsWithExercise.add(-index - 1, gym);
+        }
     }
 
     // Private Methods
 
     /**
-     * Automatically adds a workout to the list of workouts.
+     * Automatically adds a workout to the list of workouts, giving it an id greater than every workout already in
+     * the list.
      *
      * @param workout Workout object to be added to the {@code WORKOUTS} lists.
      */
     private void addWorkout(Workout workout) {
+        workout.assignId();
+        assert WORKOUTS.isEmpty() || WORKOUTS.get(WORKOUTS.size() - 1).getId() <= workout.getId()
+                : "Workouts must be added in id order";
         WORKOUTS.add(workout);
+        if (workout.hasDate()) {
+            WORKOUTS_BY_DAY.computeIfAbsent(workout.getEpochDay(), day -> new ArrayList<>()).add(workout);
+        }
+    }
+
+    /**
+     * Removes a workout from the index of workouts by date.
+     *
+     * @param workout Workout object removed from the {@code WORKOUTS} list.
+     */
+    private static void removeFromDateIndex(Workout workout) {
+        if (!workout.hasDate()) {
+            return;
+        }
+        List<Workout> workoutsOnDay = WORKOUTS_BY_DAY.get(workout.getEpochDay());
+        if (workoutsOnDay == null) {
+            return;
+        }
+        workoutsOnDay.remove(workout);
+        if (workoutsOnDay.isEmpty()) {
+            WORKOUTS_BY_DAY.remove(workout.getEpochDay());
+        }
+    }
+
+    /**
+     * Removes a gym from the index of gyms by exercise.
+     *
+     * @param gym Gym object removed from the {@code GYMS} list.
+     */
+    private static void removeFromExerciseIndex(Gym gym) {
+        for (GymStation station : gym.getStations()) {
+            int exerciseId = station.getExerciseId();
+            if (exerciseId >= GYMS_BY_EXERCISE.size()) {
+                continue;
+            }
+            List<Gym> gymsWithExercise = GYMS_BY_EXERCISE.get(exerciseId);
+            int index = Collections.binarySearch(gymsWithExercise, gym, ID_ORDER);
+            if (index >= 0) {
+                gymsWithExercise.remove(index);
+            }
+        }
+    }
+
+    /**
+     * Finds the index of the workout with an id by binary search, as every list is sorted by id.
+     *
+     * @param list The list to search.
+     * @param id   The id of the workout.
+     * @return The index of the workout, or -1 if it is not in the list.
+     */
+    private static int findIndexById(List<? extends Workout> list, long id) {
+        int low = 0;
+        int high = list.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long middleId = list.get(middle).getId();
+            if (middleId < id) {
+                low = middle + 1;
+            } else if (middleId > id) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
     }
 
 }
@@ -0,0 +1,247 @@
+package workouts;
+
+import constants.UiConstant;
+import constants.WorkoutConstant;
+import storage.SegmentStore;
+import utility.FenwickTree;
+import utility.Filters.DataType;
+
+import java.time.LocalDate;
+
+/**
+ * WorkoutStats class keeps running training totals of the workouts in {@code WorkoutLists}.
+ * Each total is kept per day in a {@code FenwickTree} indexed by the number of days since the earliest valid date, so
+ * adding or removing a workout and summing any window of days both take O(log n). Workouts without a date are only
+ * counted in the totals of all time.
+ */
+public class WorkoutStats {
+    private static final long FIRST_EPOCH_DAY = LocalDate.of(UiConstant.MIN_YEAR, 1, 1).toEpochDay();
+
+    private static final FenwickTree RUN_COUNTS = new FenwickTree(initialCapacity());
+    private static final FenwickTree RUN_DISTANCES = new FenwickTree(initialCapacity());
+    private static final FenwickTree RUN_SECONDS = new FenwickTree(initialCapacity());
+    private static final FenwickTree GYM_COUNTS = new FenwickTree(initialCapacity());
+    private static final FenwickTree GYM_VOLUMES = new FenwickTree(initialCapacity());
+
+    private static long undatedRunCount = 0;
+    private static long undatedRunDistance = 0;
+    private static long undatedRunSeconds = 0;
+    private static long undatedGymCount = 0;
+    private static long undatedGymVolume = 0;
+
+    /**
+     * Private constructor to prevent instantiation from outside the class.
+     */
+    private WorkoutStats() {
+    }
+
+    /**
+     * Returns the training totals of every workout, including those without a date.
+     *
+     * @return The totals of all time.
+     */
+    public static StatsSummary getStats() {
+        hydrate();
+        return new StatsSummary(
+                getTotal(RUN_COUNTS) + undatedRunCount,
+                getTotal(RUN_DISTANCES) + undatedRunDistance,
+                getTotal(RUN_SECONDS) + undatedRunSeconds,
+                getTotal(GYM_COUNTS) + undatedGymCount,
+                getTotal(GYM_VOLUMES) + undatedGymVolume);
+    }
+
+    /**
+     * Returns the training totals of the workouts within a date range.
+     *
+     * @param from The earliest date of the range.
+     * @param to   The latest date of the range.
+     * @return The totals of the date range.
+     */
+    public static StatsSummary getStats(LocalDate from, LocalDate to) {
+        hydrate();
+        int first = toIndex(from);
+        int last = toIndex(to);
+        return new StatsSummary(
+                RUN_COUNTS.rangeSum(first, last),
+                RUN_DISTANCES.rangeSum(first, last),
+                RUN_SECONDS.rangeSum(first, last),
+                GYM_COUNTS.rangeSum(first, last),
+                GYM_VOLUMES.rangeSum(first, last));
+    }
+
+    // Protected Methods
+
+    /**
+     * Adds a run to the totals.
+     *
+     * @param run The Run object added.
+     */
+    protected static void addRun(Run run) {
+        updateRun(run, 1);
+    }
+
+    /**
+     * Removes a run from the totals.
+     *
+     * @param run The Run object removed.
+     */
+    protected static void removeRun(Run run) {
+        updateRun(run, -1);
+    }
+
+    /**
+     * Adds a gym session and the volume of its stations to the totals.
+     *
+     * @param gym The Gym object added.
+     */
+    protected static void addGym(Gym gym) {
+        updateGym(gym, 1);
+    }
+
+    /**
+     * Removes a gym session and the volume of its stations from the totals.
+     *
+     * @param gym The Gym object removed.
+     */
+    protected static void removeGym(Gym gym) {
+        updateGym(gym, -1);
+    }
+
+    /**
+     * Adds the volume of a station added to a gym session already in the totals.
+     *
+     * @param gym     The Gym object the station was added to.
+     * @param station The GymStation object added.
+     */
+    protected static void addStation(Gym gym, GymStation station) {
+        long volume = getVolumeUnits(station);
+        if (!gym.hasDate()) {
+            undatedGymVolume += volume;
+            return;
+        }
+        GYM_VOLUMES.add(toIndex(gym.getEpochDay()), volume);
+    }
+
+    /**
+     * Resets every total to zero.
+     */
+    protected static void clear() {
+        RUN_COUNTS.clear();
+        RUN_DISTANCES.clear();
+        RUN_SECONDS.clear();
+        GYM_COUNTS.clear();
+        GYM_VOLUMES.clear();
+        undatedRunCount = 0;
+        undatedRunDistance = 0;
+        undatedRunSeconds = 0;
+        undatedGymCount = 0;
+        undatedGymVolume = 0;
+    }
+
+    // Private Methods
+
+    /**
+     * Adds a run to the totals, or removes it if {@code sign} is -1.
+     *
+     * @param run  The Run object.
+     * @param sign 1 to add the run, or -1 to remove it.
+     */
+    private static void updateRun(Run run, int sign) {
+        long distance = sign * (long) run.getDistanceHundredths();
+        long seconds = sign * (long) run.getTotalSeconds();
+        if (!run.hasDate()) {
+            undatedRunCount += sign;
+            undatedRunDistance += distance;
+            undatedRunSeconds += seconds;
+            return;
+        }
+        int index = toIndex(run.getEpochDay());
+        RUN_COUNTS.add(index, sign);
+        RUN_DISTANCES.add(index, distance);
+        RUN_SECONDS.add(index, seconds);
+    }
+
+    /**
+     * Adds a gym session and the volume of its stations to the totals, or removes it if {@code sign} is -1.
+     *
+     * @param gym  The Gym object.
+     * @param sign 1 to add the gym, or -1 to remove it.
+     */
+    private static void updateGym(Gym gym, int sign) {
+        long volume = 0;
+        for (GymStation station : gym.getStations()) {
+            volume += getVolumeUnits(station);
+        }
+        if (!gym.hasDate()) {
+            undatedGymCount += sign;
+            undatedGymVolume += sign * volume;
+            return;
+        }
+        int index = toIndex(gym.getEpochDay());
+        GYM_COUNTS.add(index, sign);
+        GYM_VOLUMES.add(index, sign * volume);
+    }
+
+    /**
+     * Returns the sum of every value in a tree.
+     *
+     * @param tree The tree to sum.
+     * @return The sum of its values.
+     */
+    private static long getTotal(FenwickTree tree) {
+        return tree.prefixSum(tree.size() - 1);
+    }
+
+    /**
+     * Loads the runs and gyms from the data file if they have not been loaded yet, so they are in the totals.
+     */
+    private static void hydrate() {
+        SegmentStore.hydrate(DataType.RUN);
+        SegmentStore.hydrate(DataType.GYM);
+    }
+
+    /**
+     * Returns the volume of a station, which is the weight of every set times its repetitions.
+     *
+     * @param station The GymStation object.
+     * @return The volume in multiples of {@code WorkoutConstant.WEIGHT_MULTIPLE}.
+     */
+    protected static long getVolumeUnits(GymStation station) {
+        long weightUnits = 0;
+        for (int i = 0; i < station.getNumberOfSets(); i++) {
+            weightUnits += Math.round(station.getWeight(i) / WorkoutConstant.WEIGHT_MULTIPLE);
+        }
+        return weightUnits * station.getNumberOfRepetitions();
+    }
+
+    /**
+     * Returns the index of the day of a date in the trees, clamped to the range of valid dates.
+     *
+     * @param date The date.
+     * @return The index of the day.
+     */
+    private static int toIndex(LocalDate date) {
+        return toIndex(date.toEpochDay());
+    }
+
+    /**
+     * Returns the index of an epoch day in the trees, clamped to the range of valid dates.
+     *
+     * @param epochDay The epoch day.
+     * @return The index of the day.
+     */
+    private static int toIndex(long epochDay) {
+        long index = epochDay - FIRST_EPOCH_DAY;
+        return (int) Math.max(-1, Math.min(index, Integer.MAX_VALUE - 1));
+    }
+
+    /**
+     * Returns the number of days from the earliest valid date to a year from today, which the trees hold before
+     * they need to grow.
+     *
+     * @return The initial capacity of the trees.
+     */
+    private static int initialCapacity() {
+        return (int) (LocalDate.now().plusYears(1).toEpochDay() - FIRST_EPOCH_DAY);
+    }
+}
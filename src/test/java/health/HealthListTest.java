@@ -0,0 +1,257 @@
+package health;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import utility.CustomExceptions;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HealthListTest {
+
+    @AfterEach
+    void cleanup() {
+        HealthList.clearHealthLists();
+    }
+
+    /**
+     * Tests the behaviour of adding Bmi objects out of order, and whether they are kept from latest to earliest date.
+     */
+    @Test
+    void addBmi_outOfOrder_keepsLatestFirst() {
+        // Arrange
+        Bmi middle = new Bmi("1.70", "60.00", "15-03-2024");
+        Bmi earliest = new Bmi("1.70", "61.00", "01-03-2024");
+        Bmi latest = new Bmi("1.70", "62.00", "30-03-2024");
+
+        // Act & Assert
+        assertEquals(latest, HealthList.getBmis().get(0));
+        assertEquals(middle, HealthList.getBmis().get(1));
+        assertEquals(earliest, HealthList.getBmis().get(2));
+    }
+
+    /**
+     * Tests the behaviour of adding Appointment objects out of order, and whether they are kept from earliest to
+     * latest date and time, with appointments at the same time kept in the order they were added.
+     */
+    @Test
+    void addAppointment_outOfOrder_keepsEarliestFirst() {
+        // Arrange
+        Appointment later = new Appointment(LocalDate.of(2024, 3, 20), LocalTime.of(9, 0), "later");
+        Appointment first = new Appointment(LocalDate.of(2024, 3, 10), LocalTime.of(9, 0), "first");
+        Appointment sameTime = new Appointment(LocalDate.of(2024, 3, 10), LocalTime.of(9, 0), "same time");
+        Appointment earlier = new Appointment(LocalDate.of(2024, 3, 10), LocalTime.of(8, 0), "earlier");
+
+        // Act & Assert
+        assertEquals(earlier, HealthList.getAppointments().get(0));
+        assertEquals(first, HealthList.getAppointments().get(1));
+        assertEquals(sameTime, HealthList.getAppointments().get(2));
+        assertEquals(later, HealthList.getAppointments().get(3));
+    }
+
+    /**
+     * Tests the behaviour of a bulk load, and whether the lists are sorted and the cycle lengths set once it finishes.
+     */
+    @Test
+    void finishBulkLoad_entriesAddedOutOfOrder_sortsListsAndSetsCycleLengths() {
+        // Arrange
+        HealthList.startBulkLoad();
+        Period second = new Period("29-01-2024", "02-02-2024");
+        Period fourth = new Period("25-03-2024", "29-03-2024");
+        Period first = new Period("01-01-2024", "05-01-2024");
+        Period third = new Period("26-02-2024", "01-03-2024");
+        Bmi earlier = new Bmi("1.70", "60.00", "01-03-2024");
+        Bmi later = new Bmi("1.70", "61.00", "15-03-2024");
+
+        // Act
+        HealthList.finishBulkLoad();
+
+        // Assert
+        assertEquals(fourth, HealthList.getPeriod(0));
+        assertEquals(third, HealthList.getPeriod(1));
+        assertEquals(second, HealthList.getPeriod(2));
+        assertEquals(first, HealthList.getPeriod(3));
+        assertEquals(28 + 28 + 28, fourth.getLastThreeCycleLengths());
+        assertEquals(later, HealthList.getBmis().get(0));
+        assertEquals(earlier, HealthList.getBmis().get(1));
+    }
+
+    /**
+     * Tests the behaviour of hasBmiOn, both during a bulk load and after the list is sorted.
+     */
+    @Test
+    void hasBmiOn_recordedAndUnrecordedDates_returnsWhetherRecorded() {
+        // Arrange
+        HealthList.startBulkLoad();
+        new Bmi("1.70", "60.00", "15-03-2024");
+        new Bmi("1.70", "60.00", "01-03-2024");
+
+        // Act & Assert
+        assertTrue(HealthList.hasBmiOn(LocalDate.of(2024, 3, 15)));
+        assertFalse(HealthList.hasBmiOn(LocalDate.of(2024, 3, 16)));
+        HealthList.finishBulkLoad();
+        new Bmi("1.70", "60.00", "30-03-2024");
+        assertTrue(HealthList.hasBmiOn(LocalDate.of(2024, 3, 1)));
+        assertTrue(HealthList.hasBmiOn(LocalDate.of(2024, 3, 15)));
+        assertTrue(HealthList.hasBmiOn(LocalDate.of(2024, 3, 30)));
+        assertFalse(HealthList.hasBmiOn(LocalDate.of(2024, 2, 28)));
+        assertFalse(HealthList.hasBmiOn(LocalDate.of(2024, 3, 20)));
+    }
+
+    /**
+     * Tests the behaviour of adding a Period object between two others, and whether only the cycle lengths of its
+     * neighbours change.
+     */
+    @Test
+    void addPeriod_betweenPeriods_updatesNeighbouringCycleLengths() {
+        // Arrange
+        Period first = new Period("01-01-2024", "05-01-2024");
+        Period third = new Period("26-02-2024", "01-03-2024");
+
+        // Act
+        Period second = new Period("29-01-2024", "02-02-2024");
+
+        // Assert
+        assertEquals(0, third.getCycleLength());
+        assertEquals(28, second.getCycleLength());
+        assertEquals(28, first.getCycleLength());
+        assertEquals(28, HealthList.getMeanCycleLength());
+        assertEquals(0, HealthList.getCycleLengthVariance());
+    }
+
+    /**
+     * Tests the behaviour of removing Period objects, and whether the cycle lengths and their summary are updated.
+     */
+    @Test
+    void removePeriod_latestAndMiddlePeriods_updatesCycleLengthSummary() throws CustomExceptions.OutOfBounds {
+        // Arrange
+        Period first = new Period("01-01-2024", "05-01-2024");
+        new Period("31-01-2024", "04-02-2024");
+        Period third = new Period("26-02-2024", "01-03-2024");
+        new Period("25-03-2024", "29-03-2024");
+        assertEquals(30 + 26 + 28, HealthList.getLastThreeCycleLengthSum());
+
+        // Act
+        HealthList.removePeriod(0);
+        HealthList.removePeriod(1);
+
+        // Assert
+        assertEquals(0, third.getCycleLength());
+        assertEquals(56, first.getCycleLength());
+        assertEquals(56, HealthList.getLastThreeCycleLengthSum());
+        assertEquals(56, HealthList.getMeanCycleLength());
+        assertEquals(0, HealthList.getCycleLengthVariance());
+    }
+
+    /**
+     * Tests the behaviour of the mean and variance of the cycle lengths of every complete cycle.
+     */
+    @Test
+    void getCycleLengthVariance_differentCycleLengths_returnsPopulationVariance() {
+        // Arrange
+        new Period("01-01-2024", "05-01-2024");
+        new Period("27-01-2024", "31-01-2024");
+        new Period("26-02-2024", "01-03-2024");
+
+        // Act
+        double mean = HealthList.getMeanCycleLength();
+        double variance = HealthList.getCycleLengthVariance();
+
+        // Assert
+        assertEquals(28, mean);
+        assertEquals(4, variance);
+    }
+
+    /**
+     * Tests the behaviour of predicting from the whole cycle history, and whether cycles and period lengths are
+     * weighted towards the most recent ones.
+     *
+     * @throws CustomExceptions.OutOfBounds If there are no periods.
+     */
+    @Test
+    void predictNextPeriodFromHistory_cyclesHalfLifeApart_weightsRecentCyclesMore()
+            throws CustomExceptions.OutOfBounds {
+        // Arrange
+        new Period("01-01-2023", "04-01-2023");
+        new Period("21-01-2023", "26-01-2023");
+        new Period("30-06-2023", "03-07-2023");
+        new Period("30-07-2023");
+        new Period("29-08-2023");
+        // each cycle is weighted by its start date, halving every 180 days before the latest cycle
+        double firstWeight = Math.pow(2, -210.0 / 180);
+        double secondWeight = Math.pow(2, -190.0 / 180);
+        double thirdWeight = Math.pow(2, -30.0 / 180);
+        double meanCycleLength = (20 * firstWeight + 160 * secondWeight + 30 * thirdWeight + 30)
+                / (firstWeight + secondWeight + thirdWeight + 1);
+
+        // Act
+        PeriodPrediction prediction = HealthList.predictNextPeriodFromHistory();
+
+        // Assert
+        assertEquals(meanCycleLength, prediction.getMeanCycleLength(), 1e-9);
+        assertEquals(LocalDate.of(2023, 8, 29).plusDays(Math.round(meanCycleLength)), prediction.getStartDate());
+        double meanPeriodLength = (4 * firstWeight + 6 * secondWeight + 4 * thirdWeight)
+                / (firstWeight + secondWeight + thirdWeight);
+        assertEquals(meanPeriodLength, prediction.getMeanPeriodLength(), 1e-9);
+        assertTrue(prediction.getEarliestStartDate().isBefore(prediction.getLatestStartDate()));
+    }
+
+    /**
+     * Tests the behaviour of adding, updating and removing periods, and whether the prediction from the whole cycle
+     * history matches that of the remaining periods added from scratch.
+     *
+     * @throws CustomExceptions.OutOfBounds If there are no periods or the index is invalid.
+     */
+    @Test
+    void predictNextPeriodFromHistory_periodsUpdatedAndRemoved_matchesRemainingPeriods()
+            throws CustomExceptions.OutOfBounds {
+        // Arrange
+        new Period("01-01-2024", "05-01-2024");
+        new Period("31-01-2024", "04-02-2024");
+        new Period("26-02-2024", "01-03-2024");
+        Period latest = new Period("25-03-2024");
+        latest.updateEndDate("30-03-2024");
+        HealthList.removePeriod(2);
+        PeriodPrediction updated = HealthList.predictNextPeriodFromHistory();
+        HealthList.clearHealthLists();
+
+        // Act
+        new Period("01-01-2024", "05-01-2024");
+        new Period("26-02-2024", "01-03-2024");
+        new Period("25-03-2024", "30-03-2024");
+        PeriodPrediction fromScratch = HealthList.predictNextPeriodFromHistory();
+
+        // Assert
+        assertEquals(fromScratch.getMeanCycleLength(), updated.getMeanCycleLength(), 1e-9);
+        assertEquals(fromScratch.getCycleLengthHalfWidth(), updated.getCycleLengthHalfWidth(), 1e-9);
+        assertEquals(fromScratch.getMeanPeriodLength(), updated.getMeanPeriodLength(), 1e-9);
+        assertEquals(fromScratch.getPeriodLengthHalfWidth(), updated.getPeriodLengthHalfWidth(), 1e-9);
+        assertEquals(fromScratch.getStartDate(), updated.getStartDate());
+    }
+
+    /**
+     * Tests the behaviour of getHealthById, and whether objects are found by id until they are deleted.
+     */
+    @Test
+    void getHealthById_addedAndRemovedObjects_returnsObjectsInLists() throws CustomExceptions.OutOfBounds {
+        // Arrange
+        Bmi bmi = new Bmi("1.70", "60.00", "15-03-2024");
+        Period period = new Period("01-01-2024", "05-01-2024");
+        Appointment appointment = new Appointment(LocalDate.of(2024, 3, 10), LocalTime.of(9, 0), "checkup");
+
+        // Act
+        HealthList.removeBmi(0);
+
+        // Assert
+        assertNull(HealthList.getHealthById(bmi.getId()));
+        assertEquals(period, HealthList.getHealthById(period.getId()));
+        assertEquals(appointment, HealthList.getHealthById(appointment.getId()));
+        assertNotEquals(period.getId(), appointment.getId());
+    }
+}
@@ -0,0 +1,69 @@
+package storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import utility.Filters.LogOverflowPolicy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AsyncLogAppenderTest {
+    private final Path testLogPath = Path.of("./test_async_log.bin");
+    private final Path testMessagesPath = Path.of("./test_async_log_messages.txt");
+
+    @AfterEach
+    void tearDown() {
+        new File(testLogPath.toString()).delete();
+        new File(testMessagesPath.toString()).delete();
+    }
+
+    private List<LogEvent> readAll() throws IOException {
+        return EventLogReader.readTail(testLogPath, testMessagesPath, Integer.MAX_VALUE);
+    }
+
+    @Test
+    void flush_blockPolicy_writesEveryRecordInOrder() throws IOException {
+        // Arrange
+        AsyncLogAppender appender = new AsyncLogAppender(
+                new EventLogWriter(testLogPath, testMessagesPath, 1 << 20, 1), 4, LogOverflowPolicy.BLOCK);
+
+        // Act
+        for (int i = 0; i < 1000; i++) {
+            LogRecord record = new LogRecord(Level.INFO, "record-{0}");
+            record.setParameters(new Object[]{String.valueOf(i)});
+            appender.publish(record);
+        }
+        appender.flush();
+        List<LogEvent> events = readAll();
+        appender.close();
+
+        // Assert
+        assertEquals(1000, events.size());
+        assertEquals("record-998", events.get(998).getMessage());
+        assertEquals("record-999", events.get(999).getMessage());
+        assertEquals(0, appender.getDroppedCount());
+    }
+
+    @Test
+    void close_dropPolicy_writesOrCountsEveryRecord() throws IOException {
+        // Arrange
+        AsyncLogAppender appender = new AsyncLogAppender(
+                new EventLogWriter(testLogPath, testMessagesPath, 1 << 20, 1), 2, LogOverflowPolicy.DROP);
+
+        // Act
+        for (int i = 0; i < 5000; i++) {
+            appender.publish(new LogRecord(Level.INFO, "record"));
+        }
+        appender.close();
+        long writtenCount = readAll().stream().filter(event -> event.getMessage().equals("record")).count();
+
+        // Assert
+        assertEquals(5000 - appender.getDroppedCount(), writtenCount);
+    }
+}
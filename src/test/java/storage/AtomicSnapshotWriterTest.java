@@ -0,0 +1,134 @@
+package storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AtomicSnapshotWriterTest {
+    private final Path dataPath = Path.of("./test_atomic_data.txt");
+    private final Path hashPath = Path.of("./test_atomic_hash.txt");
+    private final Path tempDataPath = Path.of("./test_atomic_data.txt.tmp");
+    private final Path tempHashPath = Path.of("./test_atomic_hash.txt.tmp");
+
+    @AfterEach
+    void tearDown() {
+        for (Path path : new Path[]{dataPath, hashPath, tempDataPath, tempHashPath}) {
+            new File(path.toString()).delete();
+        }
+    }
+
+    private byte[] hashOf(byte[] data) throws NoSuchAlgorithmException {
+        return HashFile.toBytes(HashFile.computeBlockHashes(data, new byte[0], new ArrayList<>(), false));
+    }
+
+    @Test
+    void write_existingFiles_replacesBothWithoutTempFiles() throws Exception {
+        // Arrange
+        Files.write(dataPath, "NAME:Old".getBytes(StandardCharsets.UTF_8));
+        Files.write(hashPath, "old hash".getBytes(StandardCharsets.UTF_8));
+        byte[] data = "NAME:New".getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        AtomicSnapshotWriter.write(dataPath, data, hashPath, hashOf(data));
+
+        // Assert
+        assertArrayEquals(data, Files.readAllBytes(dataPath));
+        assertArrayEquals(hashOf(data), Files.readAllBytes(hashPath));
+        assertFalse(Files.exists(tempDataPath));
+        assertFalse(Files.exists(tempHashPath));
+    }
+
+    @Test
+    void write_concurrentWriters_leavesMatchingFiles() throws Exception {
+        // Arrange
+        ExecutorService writers = Executors.newFixedThreadPool(2);
+        List<Future<?>> results = new ArrayList<>();
+
+        // Act
+        for (String name : new String[]{"Autosave", "Final"}) {
+            results.add(writers.submit(() -> {
+                for (int i = 0; i < 50; i++) {
+                    byte[] data = ("NAME:" + name + i).getBytes(StandardCharsets.UTF_8);
+                    AtomicSnapshotWriter.write(dataPath, data, hashPath, hashOf(data));
+                }
+                return null;
+            }));
+        }
+        for (Future<?> result : results) {
+            result.get();
+        }
+        writers.shutdown();
+
+        // Assert
+        assertArrayEquals(hashOf(Files.readAllBytes(dataPath)), Files.readAllBytes(hashPath));
+        assertFalse(Files.exists(tempDataPath));
+        assertFalse(Files.exists(tempHashPath));
+    }
+
+    @Test
+    void recover_crashBeforeDataRename_keepsPreviousFiles() throws Exception {
+        // Arrange
+        byte[] oldData = "NAME:Old".getBytes(StandardCharsets.UTF_8);
+        byte[] newData = "NAME:New".getBytes(StandardCharsets.UTF_8);
+        Files.write(dataPath, oldData);
+        Files.write(hashPath, hashOf(oldData));
+        Files.write(tempDataPath, newData);
+        Files.write(tempHashPath, hashOf(newData));
+
+        // Act
+        AtomicSnapshotWriter.recover(dataPath, hashPath);
+
+        // Assert
+        assertArrayEquals(oldData, Files.readAllBytes(dataPath));
+        assertArrayEquals(hashOf(oldData), Files.readAllBytes(hashPath));
+        assertFalse(Files.exists(tempDataPath));
+        assertFalse(Files.exists(tempHashPath));
+    }
+
+    @Test
+    void recover_crashBeforeHashRename_completesSave() throws Exception {
+        // Arrange
+        byte[] oldData = "NAME:Old".getBytes(StandardCharsets.UTF_8);
+        byte[] newData = "NAME:New".getBytes(StandardCharsets.UTF_8);
+        Files.write(dataPath, newData);
+        Files.write(hashPath, hashOf(oldData));
+        Files.write(tempHashPath, hashOf(newData));
+
+        // Act
+        AtomicSnapshotWriter.recover(dataPath, hashPath);
+
+        // Assert
+        assertArrayEquals(hashOf(newData), Files.readAllBytes(hashPath));
+        assertTrue(HashFile.verify(newData, HashFile.read(hashPath.toFile())));
+        assertFalse(Files.exists(tempHashPath));
+    }
+
+    @Test
+    void recover_noTempFiles_leavesFilesUnchanged() throws IOException, NoSuchAlgorithmException {
+        // Arrange
+        byte[] data = "NAME:John".getBytes(StandardCharsets.UTF_8);
+        Files.write(dataPath, data);
+
+        // Act
+        AtomicSnapshotWriter.recover(dataPath, hashPath);
+
+        // Assert
+        assertArrayEquals(data, Files.readAllBytes(dataPath));
+        assertFalse(Files.exists(hashPath));
+    }
+}
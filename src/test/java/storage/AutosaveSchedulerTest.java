@@ -0,0 +1,120 @@
+package storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.List;
+
+import constants.UiConstant;
+import health.Bmi;
+import health.HealthList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utility.Filters.DataType;
+import workouts.WorkoutLists;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AutosaveSchedulerTest {
+    private final String testDataFilePath = "./test_autosave_data.txt";
+    private final String testHashFilePath = "./test_autosave_hash.txt";
+    private final String testJournalFilePath = "./test_autosave_journal.txt";
+    private final String originalDataFilePath = "./pulsepilot_data.txt";
+    private final String originalHashFilePath = "./pulsepilot_hash.txt";
+    private final String originalJournalFilePath = "./pulsepilot_journal.txt";
+    private String originalUserName;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        UiConstant.dataFilePath = testDataFilePath;
+        UiConstant.saveFile = new File(testDataFilePath);
+        UiConstant.hashFilePath = testHashFilePath;
+        UiConstant.journalFilePath = testJournalFilePath;
+        originalUserName = DataFile.userName;
+        DataFile.userName = "John Doe";
+        WorkoutLists.clearWorkoutsRunGym();
+        HealthList.clearHealthLists();
+        AutosaveScheduler.flush();
+        JournalFile.open();
+    }
+
+    @AfterEach
+    void tearDown() {
+        AutosaveScheduler.stop();
+        JournalFile.close();
+        new File(testDataFilePath).delete();
+        new File(testHashFilePath).delete();
+        new File(testJournalFilePath).delete();
+        WorkoutLists.clearWorkoutsRunGym();
+        HealthList.clearHealthLists();
+        DataFile.userName = originalUserName;
+
+        UiConstant.dataFilePath = originalDataFilePath;
+        UiConstant.saveFile = new File(originalDataFilePath);
+        UiConstant.hashFilePath = originalHashFilePath;
+        UiConstant.journalFilePath = originalJournalFilePath;
+    }
+
+    @Test
+    void flush_changedEntries_writesSnapshotAndEmptiesJournal() throws IOException {
+        // Arrange
+        Bmi bmi = new Bmi(1.70, 70.00, LocalDate.of(2023, 4, 1));
+        JournalFile.recordAdd(new DataFile().formatBmi(bmi));
+
+        // Act
+        AutosaveScheduler.flush();
+
+        // Assert
+        assertFalse(AutosaveScheduler.isDirty());
+        List<String> dataLines = Files.readAllLines(UiConstant.saveFile.toPath());
+        assertEquals("NAME:John Doe", dataLines.get(0));
+        assertTrue(dataLines.get(1).startsWith("BMI:1.70:70.00"));
+        assertTrue(JournalFile.readRecords().isEmpty());
+        assertTrue(new File(testHashFilePath).exists());
+    }
+
+    @Test
+    void flush_noChanges_doesNotWriteDataFile() {
+        // Act
+        AutosaveScheduler.flush();
+
+        // Assert
+        assertFalse(new File(testDataFilePath).exists());
+    }
+
+    @Test
+    void discardRecords_recordsAfterSnapshot_keepsNewerRecords() throws IOException {
+        // Arrange
+        JournalFile.recordDelete(DataType.RUN, 0);
+        JournalFile.recordDelete(DataType.GYM, 1);
+        JournalFile.recordDelete(DataType.BMI, 2);
+
+        // Act
+        JournalFile.discardRecords(2);
+
+        // Assert
+        assertEquals(List.of("DELETE:BMI:2"), JournalFile.readRecords());
+        assertEquals(1, JournalFile.getRecordCount());
+    }
+
+    @Test
+    void markDirty_burstOfChanges_coalescesIntoScheduledFlush() throws Exception {
+        // Arrange
+        AutosaveScheduler.start(0, 3);
+        new Bmi(1.70, 70.00, LocalDate.of(2023, 4, 1));
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            AutosaveScheduler.markDirty(DataType.BMI);
+        }
+        AutosaveScheduler.stop();
+
+        // Assert
+        assertFalse(AutosaveScheduler.isDirty());
+        assertTrue(new File(testDataFilePath).exists());
+    }
+}
@@ -0,0 +1,155 @@
+package storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import constants.WorkoutConstant;
+import health.Appointment;
+import health.Bmi;
+import health.HealthList;
+import health.Period;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utility.CustomExceptions;
+import utility.Filters.DataType;
+import workouts.Gym;
+import workouts.Run;
+import workouts.Workout;
+import workouts.WorkoutLists;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryDataFileTest {
+    private final File testDataFile = new File("./test_data.bin");
+
+    @BeforeEach
+    void setUp() {
+        cleanup();
+    }
+
+    @AfterEach
+    void tearDown() {
+        testDataFile.delete();
+        cleanup();
+    }
+
+    private void cleanup() {
+        WorkoutLists.clearWorkoutsRunGym();
+        HealthList.clearHealthLists();
+    }
+
+    /**
+     * Adds one entry of every type to the lists, with runs and gyms interleaved and some dates not specified.
+     */
+    private void addEntries() throws CustomExceptions.InvalidInput, CustomExceptions.InsufficientInput {
+        new Bmi(1.75, 70.25, LocalDate.of(2023, 4, 1));
+        new Appointment(LocalDate.of(2023, 4, 2), LocalTime.of(14, 45), "Dentist: check-up");
+        new Period(LocalDate.of(2023, 3, 1), LocalDate.of(2023, 3, 6));
+        new Period(LocalDate.of(2023, 3, 29), null);
+        new Run(1, 30, 5, 21.1, LocalDate.of(2023, 4, 3));
+        Gym gym = new Gym(LocalDate.of(2023, 4, 4));
+        gym.addStation("bench press", 2, 10, new double[]{40.125, 42.5});
+        gym.addStation("squat", 1, 8, new double[]{60});
+        new Run(WorkoutConstant.NO_HOURS_PRESENT, 25, 0, 5.0, null);
+        Gym secondGym = new Gym((LocalDate) null);
+        secondGym.addStation("bench press", 1, 5, new double[]{45});
+    }
+
+    /**
+     * Returns the string form of every entry in the lists, in order.
+     */
+    private List<String> snapshotEntries() {
+        List<String> entries = new ArrayList<>();
+        HealthList.getBmis().forEach(bmi -> entries.add(bmi.toString()));
+        HealthList.getAppointments().forEach(appointment -> entries.add(appointment.toString()));
+        HealthList.getPeriods().forEach(period -> entries.add(period.toString()));
+        for (Workout workout : WorkoutLists.getWorkouts()) {
+            entries.add(workout instanceof Gym ? ((Gym) workout).toFileString() : workout.toString());
+        }
+        return entries;
+    }
+
+    private void writeEntries() throws IOException {
+        BinaryDataFile.write(testDataFile, "John Doe", HealthList.getBmis(), HealthList.getAppointments(),
+                HealthList.getPeriods(), WorkoutLists.getWorkouts());
+    }
+
+    @Test
+    void read_writtenEntries_restoresEveryEntryInOrder() throws Exception {
+        // Arrange
+        addEntries();
+        List<String> expectedEntries = snapshotEntries();
+        writeEntries();
+        cleanup();
+        List<String> failures = new ArrayList<>();
+
+        // Act
+        String name = BinaryDataFile.read(testDataFile, (description, dataType, reason) -> failures.add(description));
+
+        // Assert
+        assertEquals("John Doe", name);
+        assertTrue(failures.isEmpty());
+        assertEquals(expectedEntries, snapshotEntries());
+        assertEquals(2, WorkoutLists.getRunSize());
+        assertEquals(2, WorkoutLists.getGymSize());
+    }
+
+    @Test
+    void read_corruptedRunSection_reportsOnlyRunSection() throws Exception {
+        // Arrange
+        addEntries();
+        writeEntries();
+        cleanup();
+        byte[] bytes = Files.readAllBytes(testDataFile.toPath());
+        byte[] runLabel = DataType.RUN.name().getBytes(StandardCharsets.US_ASCII);
+        int payloadStart = indexOf(bytes, runLabel) + runLabel.length + 3 * Integer.BYTES;
+        bytes[payloadStart] ^= 1;
+        Files.write(testDataFile.toPath(), bytes);
+        List<DataType> failedTypes = new ArrayList<>();
+
+        // Act
+        BinaryDataFile.read(testDataFile, (description, dataType, reason) -> failedTypes.add(dataType));
+
+        // Assert
+        assertEquals(List.of(DataType.RUN), failedTypes);
+        assertEquals(0, WorkoutLists.getRunSize());
+        assertEquals(2, WorkoutLists.getGymSize());
+        assertEquals(1, HealthList.getBmisSize());
+        assertEquals(2, HealthList.getPeriodsSize());
+    }
+
+    @Test
+    void read_fileWithoutMagicNumber_throwsIoException() throws IOException {
+        // Arrange
+        Files.write(testDataFile.toPath(), "NAME:John Doe".getBytes(StandardCharsets.UTF_8));
+
+        // Act and Assert
+        assertThrows(IOException.class, () -> BinaryDataFile.read(testDataFile, (description, dataType, reason) -> {
+        }));
+    }
+
+    /**
+     * Returns the position of the first occurrence of a sequence of bytes.
+     */
+    private int indexOf(byte[] bytes, byte[] target) {
+        for (int i = 0; i <= bytes.length - target.length; i++) {
+            boolean isMatch = true;
+            for (int j = 0; j < target.length && isMatch; j++) {
+                isMatch = bytes[i + j] == target[j];
+            }
+            if (isMatch) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,100 @@
+package storage;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.List;
+
+import constants.ErrorConstant;
+import constants.UiConstant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import utility.Filters.DataType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class DataFileLoaderTest {
+    private final String testDataFilePath = "./test_loader_data.txt";
+
+    @AfterEach
+    void tearDown() {
+        new File(testDataFilePath).delete();
+    }
+
+    /**
+     * Writes a data file with the given number of run lines, each with a distinct distance and a checksum.
+     */
+    private void writeRunLines(int lineCount) throws IOException {
+        DataFile dataFile = new DataFile();
+        try (FileWriter writer = new FileWriter(testDataFilePath)) {
+            writer.write("NAME:John Doe" + System.lineSeparator());
+            for (int i = 0; i < lineCount; i++) {
+                writer.write(dataFile.addChecksum("RUN:" + i + ".00:30.00:01-04-2023") + System.lineSeparator());
+            }
+        }
+    }
+
+    @Test
+    void load_largeFile_returnsLinesInOriginalOrder() throws IOException {
+        // Arrange
+        int lineCount = 40000;
+        writeRunLines(lineCount);
+
+        // Act
+        List<DataFileLoader.LoadedLine> lines = new DataFileLoader().load(new File(testDataFilePath));
+
+        // Assert
+        assertEquals(lineCount + 1, lines.size());
+        assertEquals("NAME:John Doe", lines.get(0).getRawLine());
+        for (int i = 0; i < lineCount; i++) {
+            DataFileLoader.LoadedLine line = lines.get(i + 1);
+            assertNull(line.getError());
+            assertEquals(DataType.RUN, line.getDataType());
+            assertEquals("RUN:" + i + ".00:30.00:01-04-2023", line.getDataLine());
+        }
+    }
+
+    @Test
+    void load_fileAboveMappingThreshold_returnsAllLines() throws IOException {
+        // Arrange
+        int lineCount = (int) (UiConstant.LOADER_MMAP_THRESHOLD / 30);
+        writeRunLines(lineCount);
+
+        // Act
+        List<DataFileLoader.LoadedLine> lines = new DataFileLoader().load(new File(testDataFilePath));
+
+        // Assert
+        assertEquals(lineCount + 1, lines.size());
+        assertEquals("RUN:" + (lineCount - 1) + ".00:30.00:01-04-2023", lines.get(lineCount).getDataLine());
+    }
+
+    @Test
+    void load_mixedLines_flagsOnlyInvalidLines() throws IOException {
+        // Arrange
+        DataFile dataFile = new DataFile();
+        String corruptedLine = dataFile.addChecksum("RUN:5.00:30.00:01-04-2023").replace("5.00", "6.00");
+        try (FileWriter writer = new FileWriter(testDataFilePath)) {
+            writer.write("NAME:John Doe\r\n");
+            writer.write("RUN:5.00:30.00:01-04-2023\r\n");
+            writer.write("\r\n");
+            writer.write(corruptedLine + "\r\n");
+            writer.write(dataFile.addChecksum("UNKNOWN:5.00") + "\r\n");
+            writer.write(dataFile.addChecksum("RUN:10.00:50.00:02-04-2023"));
+        }
+
+        // Act
+        List<DataFileLoader.LoadedLine> lines = new DataFileLoader().load(new File(testDataFilePath));
+
+        // Assert
+        assertEquals(5, lines.size());
+        assertEquals("RUN:5.00:30.00:01-04-2023", lines.get(1).getDataLine());
+        assertNull(lines.get(1).getError());
+        assertEquals(corruptedLine, lines.get(2).getRawLine());
+        assertEquals(ErrorConstant.CHECKSUM_ERROR, lines.get(2).getError());
+        assertNull(lines.get(3).getDataType());
+        assertEquals(ErrorConstant.LOAD_DATA_TYPE_ERROR, lines.get(3).getError());
+        assertEquals("RUN:10.00:50.00:02-04-2023", lines.get(4).getDataLine());
+        assertEquals(DataType.RUN, lines.get(4).getDataType());
+    }
+}
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import utility.CustomExceptions;
+import utility.Filters.DataType;
 import workouts.Gym;
 import workouts.Run;
 import workouts.Workout;
@@ -35,8 +36,12 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 public class DataFileTest {
     private final String testDataFilePath = "./test_data.txt";
     private final String testHashFilePath = "./test_hash.txt";
+    private final String testJournalFilePath = "./test_journal.txt";
+    private final String testQuarantineFilePath = "./test_quarantine.txt";
     private final String originalDataFilePath = "./pulsepilot_data.txt";
     private final String originalHashFilePath = "./pulsepilot_hash.txt";
+    private final String originalJournalFilePath = "./pulsepilot_journal.txt";
+    private final String originalQuarantineFilePath = "./pulsepilot_quarantine.txt";
 
     @BeforeEach
     void setUp() {
@@ -44,6 +49,8 @@ public class DataFileTest {
         UiConstant.dataFilePath = testDataFilePath;
         UiConstant.saveFile = new File(testDataFilePath);
         UiConstant.hashFilePath = testHashFilePath;
+        UiConstant.journalFilePath = testJournalFilePath;
+        UiConstant.quarantineFilePath = testQuarantineFilePath;
     }
 
     @AfterEach
@@ -51,11 +58,16 @@ public class DataFileTest {
         // Delete the test files after each test
         new File(testDataFilePath).delete();
         new File(testHashFilePath).delete();
+        JournalFile.close();
+        new File(testJournalFilePath).delete();
+        new File(testQuarantineFilePath).delete();
 
         // Reset the file paths
         UiConstant.dataFilePath = originalDataFilePath;
         UiConstant.saveFile = new File(originalDataFilePath);
         UiConstant.hashFilePath = originalHashFilePath;
+        UiConstant.journalFilePath = originalJournalFilePath;
+        UiConstant.quarantineFilePath = originalQuarantineFilePath;
     }
 
     private void cleanup(){
@@ -150,17 +162,17 @@ public class DataFileTest {
 
         if (!lines.isEmpty()) {
             assertEquals("NAME:John Doe", lines.get(0));
-            assertEquals("BMI:1.70:70.00:24.22:01-04-2023", lines.get(1));
-            assertEquals("BMI:1.80:80.00:24.69:15-04-2023", lines.get(2));
-            assertEquals("APPOINTMENT:01-05-2023:10.00:Dentist Appointment", lines.get(3));
-            assertEquals("APPOINTMENT:15-05-2023:14.30:Doctor's Checkup", lines.get(4));
-            assertEquals("PERIOD:01-03-2023:05-03-2023:5", lines.get(5));
-            assertEquals("PERIOD:01-04-2023:04-04-2023:4", lines.get(6));
-            assertEquals("RUN:5.00:30.00:01-04-2023", lines.get(7));
-            assertEquals("GYM:2:11-11-1997:bench press:4:4:10.0,20.0,30.0," +
-                    "40.0:squats:4:3:20.0,30.0,40.0,50.0", lines.get(8));
-            assertEquals("GYM:2:NA:bench press:4:4:10.0,20.0,30.0,40.0:squats:4:3:20.0,30.0,40.0,50.0",
-                    lines.get(9));
+            assertEquals(dataFile.addChecksum("BMI:1.70:70.00:24.22:01-04-2023"), lines.get(1));
+            assertEquals(dataFile.addChecksum("BMI:1.80:80.00:24.69:15-04-2023"), lines.get(2));
+            assertEquals(dataFile.addChecksum("APPOINTMENT:01-05-2023:10.00:Dentist Appointment"), lines.get(3));
+            assertEquals(dataFile.addChecksum("APPOINTMENT:15-05-2023:14.30:Doctor's Checkup"), lines.get(4));
+            assertEquals(dataFile.addChecksum("PERIOD:01-03-2023:05-03-2023:5"), lines.get(5));
+            assertEquals(dataFile.addChecksum("PERIOD:01-04-2023:04-04-2023:4"), lines.get(6));
+            assertEquals(dataFile.addChecksum("RUN:5.00:30.00:01-04-2023"), lines.get(7));
+            assertEquals(dataFile.addChecksum("GYM:2:11-11-1997:bench press:4:4:10.0,20.0,30.0," +
+                    "40.0:squats:4:3:20.0,30.0,40.0,50.0"), lines.get(8));
+            assertEquals(dataFile.addChecksum("GYM:2:NA:bench press:4:4:10.0,20.0,30.0,40.0:squats:4:3:" +
+                    "20.0,30.0,40.0,50.0"), lines.get(9));
         } else {
             fail("Data file is empty");
         }
@@ -317,6 +329,32 @@ public class DataFileTest {
         assertThrows(CustomExceptions.FileCreateError.class, () -> dataFile.verifyIntegrity(testFile));
     }
 
+    @Test
+    void isHashValid_blockAndWholeFileHashes_acceptsBothFormats() throws NoSuchAlgorithmException, IOException,
+            CustomExceptions.FileWriteError, CustomExceptions.InvalidInput {
+        // Arrange
+        cleanup();
+        DataFile dataFile = new DataFile();
+        dataFile.saveDataFile("John Doe", new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+                new ArrayList<>(List.of(new Run("30:00", "5.00", "01-04-2023"))));
+        File dataFileName = new File(testDataFilePath);
+        File hashFile = new File(testHashFilePath);
+
+        // Act and Assert
+        assertTrue(dataFile.isHashValid(dataFileName, hashFile));
+
+        try (FileWriter writer = new FileWriter(hashFile)) {
+            writer.write(dataFile.generateFileHash(dataFileName));
+        }
+        assertTrue(dataFile.isHashValid(dataFileName, hashFile));
+
+        try (FileWriter writer = new FileWriter(dataFileName, true)) {
+            writer.write("RUN:10.00:50.00:02-04-2023");
+        }
+        assertFalse(dataFile.isHashValid(dataFileName, hashFile));
+        cleanup();
+    }
+
     @Test
     void readHashFromFile_validHashFile_returnsCorrectHash() throws IOException {
         // Arrange
@@ -395,6 +433,19 @@ public class DataFileTest {
         assertThrows(CustomExceptions.InvalidInput.class, () -> dataFile.processGym(rawInput));
     }
 
+    @Test
+    void processDataLine_invalidGymStation_discardsIncompleteGym() {
+        // Arrange
+        String rawInput = "GYM:2:11-11-1997:bench press:" +
+                "4:4:10.0,20.0,30.0,40.0:squats:4:3:20.0,30.0,40.0,50.03";
+        int gymCount = WorkoutLists.getGymSize();
+
+        // Act and Assert
+        DataFile dataFile = new DataFile();
+        assertThrows(CustomExceptions.InvalidInput.class, () -> dataFile.processDataLine(rawInput));
+        assertEquals(gymCount, WorkoutLists.getGymSize());
+    }
+
     @Test
     void processFail_logsErrorAndDeletesFiles() {
         // Arrange
@@ -417,4 +468,138 @@ public class DataFileTest {
         // Check if the hash file was deleted
         assertFalse(new File(hashFilePath).exists());
     }
+
+    @Test
+    void replayJournal_addAndDeleteRecords_appliesChangesInOrder() throws IOException {
+        // Arrange
+        cleanup();
+        try (FileWriter writer = new FileWriter(testJournalFilePath)) {
+            writer.write("ADD:BMI:1.70:70.00:24.22:01-04-2023" + System.lineSeparator());
+            writer.write("ADD:BMI:1.80:80.00:24.69:15-04-2023" + System.lineSeparator());
+            writer.write("ADD:RUN:5.00:30.00:01-04-2023" + System.lineSeparator());
+            writer.write("ADD:PERIOD:01-03-2023:NA:1" + System.lineSeparator());
+            writer.write("DELETE:BMI:0" + System.lineSeparator());
+            writer.write("UPDATE:PERIOD:0:05-03-2023" + System.lineSeparator());
+        }
+
+        // Act
+        DataFile dataFile = new DataFile();
+        dataFile.replayJournal();
+
+        // Assert
+        assertEquals(1, HealthList.getBmisSize());
+        assertEquals("1.70", HealthList.getBmis().get(0).getHeight());
+        assertEquals(1, WorkoutLists.getRunSize());
+        assertEquals(5, HealthList.getPeriod(0).getPeriodLength());
+        cleanup();
+    }
+
+    @Test
+    void replayJournal_truncatedRecord_keepsEarlierChanges() throws IOException {
+        // Arrange
+        cleanup();
+        try (FileWriter writer = new FileWriter(testJournalFilePath)) {
+            writer.write("ADD:RUN:5.00:30.00:01-04-2023" + System.lineSeparator());
+            writer.write("ADD:RUN:10.00:50.00:02-04-2023" + System.lineSeparator());
+            writer.write("ADD:RUN:3.0");
+        }
+
+        // Act
+        DataFile dataFile = new DataFile();
+        dataFile.replayJournal();
+
+        // Assert
+        assertEquals(2, WorkoutLists.getRunSize());
+        cleanup();
+    }
+
+    @Test
+    void saveDataFile_existingJournal_clearsJournal() throws IOException, CustomExceptions.FileWriteError {
+        // Arrange
+        cleanup();
+        try (FileWriter writer = new FileWriter(testJournalFilePath)) {
+            writer.write("ADD:RUN:5.00:30.00:01-04-2023" + System.lineSeparator());
+        }
+
+        // Act
+        DataFile dataFile = new DataFile();
+        dataFile.saveDataFile("John Doe", new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+                new ArrayList<>());
+
+        // Assert
+        assertTrue(JournalFile.readRecords().isEmpty());
+    }
+
+    @Test
+    void verifyChecksum_validAndCorruptedLines_detectsCorruption() throws CustomExceptions.InvalidInput {
+        // Arrange
+        DataFile dataFile = new DataFile();
+        String line = "RUN:5.00:30.00:01-04-2023";
+        String corruptedLine = dataFile.addChecksum(line).replace("5.00", "6.00");
+
+        // Act and Assert
+        assertEquals(line, dataFile.verifyChecksum(dataFile.addChecksum(line)));
+        assertEquals(line, dataFile.verifyChecksum(line));
+        assertThrows(CustomExceptions.InvalidInput.class, () -> dataFile.verifyChecksum(corruptedLine));
+    }
+
+    @Test
+    void readDataFile_corruptedLine_quarantinesLineAndLoadsRest() throws IOException,
+            CustomExceptions.FileWriteError, CustomExceptions.FileReadError, CustomExceptions.InvalidInput {
+        // Arrange
+        cleanup();
+        DataFile dataFile = new DataFile();
+        dataFile.saveDataFile("John Doe", new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+                new ArrayList<>(List.of(new Run("30:00", "5.00", "01-04-2023"),
+                        new Run("50:00", "10.00", "02-04-2023"))));
+        cleanup();
+        List<String> lines = Files.readAllLines(Path.of(testDataFilePath));
+        String corruptedLine = lines.get(1).replace("5.00", "6.00");
+        lines.set(1, corruptedLine);
+        Files.write(Path.of(testDataFilePath), lines);
+        try (FileWriter writer = new FileWriter(testJournalFilePath)) {
+            writer.write("DELETE:RUN:0" + System.lineSeparator());
+        }
+
+        // Act
+        DataFile recoveredDataFile = new DataFile();
+        int status = recoveredDataFile.loadDataFile();
+        recoveredDataFile.readDataFile();
+
+        // Assert
+        assertEquals(UiConstant.FILE_FOUND, status);
+        assertTrue(recoveredDataFile.isSnapshotOutdated());
+        assertEquals(1, WorkoutLists.getRunSize());
+        assertEquals("10.00", WorkoutLists.getRuns().get(0).getDistance());
+        List<String> quarantinedLines = Files.readAllLines(Path.of(testQuarantineFilePath));
+        assertEquals(List.of(corruptedLine, "DELETE:RUN:0"), quarantinedLines);
+        cleanup();
+    }
+
+    @Test
+    void readDataFile_savedEntries_loadsEachSegmentWhenFirstUsed() throws CustomExceptions.FileWriteError,
+            CustomExceptions.FileReadError, CustomExceptions.InvalidInput {
+        // Arrange
+        cleanup();
+        DataFile dataFile = new DataFile();
+        dataFile.saveDataFile("John Doe", new ArrayList<>(List.of(new Bmi("1.70", "70.00", "01-04-2023"))),
+                new ArrayList<>(), new ArrayList<>(),
+                new ArrayList<>(List.of(new Run("30:00", "5.00", "01-04-2023"))));
+        cleanup();
+
+        // Act
+        DataFile reloadedDataFile = new DataFile();
+        reloadedDataFile.loadDataFile();
+        reloadedDataFile.readDataFile();
+
+        // Assert
+        assertEquals("John Doe", DataFile.userName);
+        assertTrue(SegmentStore.isPending(DataType.BMI));
+        assertTrue(SegmentStore.isPending(DataType.GYM));
+        assertEquals(1, WorkoutLists.getRunSize());
+        assertFalse(SegmentStore.isPending(DataType.GYM));
+        assertTrue(SegmentStore.isPending(DataType.BMI));
+        assertEquals(1, HealthList.getBmisSize());
+        cleanup();
+    }
 }
@@ -0,0 +1,65 @@
+package storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EventLogReaderTest {
+    private final Path testLogPath = Path.of("./test_event_reader.bin");
+    private final Path testMessagesPath = Path.of("./test_event_reader_messages.txt");
+
+    @AfterEach
+    void tearDown() {
+        new File(testLogPath.toString()).delete();
+        new File(testMessagesPath.toString()).delete();
+        for (int i = 1; i <= 4; i++) {
+            new File(EventLogWriter.rotatedPath(testLogPath, i).toString()).delete();
+        }
+    }
+
+    @Test
+    void readTail_logsAcrossRotatedFiles_returnsLatestInOrder() throws IOException {
+        // Arrange
+        EventLogWriter writer = new EventLogWriter(testLogPath, testMessagesPath, 4096, 5);
+        for (int i = 0; i < 500; i++) {
+            LogRecord record = new LogRecord(Level.INFO, "Entry {0}");
+            record.setParameters(new Object[]{String.valueOf(i)});
+            writer.write(record);
+        }
+        writer.close();
+
+        // Act
+        List<LogEvent> events = EventLogReader.readTail(testLogPath, testMessagesPath, 300);
+
+        // Assert
+        assertEquals(300, events.size());
+        assertEquals("Entry 200", events.get(0).getMessage());
+        assertEquals("Entry 499", events.get(299).getMessage());
+    }
+
+    @Test
+    void readTail_multiLineAndErrorMessages_restoresMessageAndLevel() throws IOException {
+        // Arrange
+        EventLogWriter writer = new EventLogWriter(testLogPath, testMessagesPath, 1 << 20, 1);
+        writer.write(new LogRecord(Level.INFO, "First line\nSecond line \\ end"));
+        writer.write(new LogRecord(Level.WARNING, "Something failed"));
+        writer.close();
+
+        // Act
+        List<LogEvent> events = EventLogReader.readTail(testLogPath, testMessagesPath, 10);
+
+        // Assert
+        assertEquals("First line\nSecond line \\ end", events.get(0).getMessage());
+        assertEquals(Level.INFO, events.get(0).getLevel());
+        assertEquals("Something failed", events.get(1).getMessage());
+        assertEquals(Level.WARNING, events.get(1).getLevel());
+    }
+}
@@ -0,0 +1,94 @@
+package storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventLogWriterTest {
+    private final Path testLogPath = Path.of("./test_event_log.bin");
+    private final Path testMessagesPath = Path.of("./test_event_log_messages.txt");
+
+    @AfterEach
+    void tearDown() {
+        new File(testLogPath.toString()).delete();
+        new File(testMessagesPath.toString()).delete();
+        for (int i = 1; i <= 3; i++) {
+            new File(EventLogWriter.rotatedPath(testLogPath, i).toString()).delete();
+        }
+    }
+
+    private void writeRecords(EventLogWriter writer, int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            LogRecord record = new LogRecord(Level.INFO, "Entry {0}");
+            record.setParameters(new Object[]{i});
+            writer.write(record);
+        }
+    }
+
+    @Test
+    void write_pastMaximumSize_keepsOnlyMaximumNumberOfFiles() throws IOException {
+        // Arrange
+        EventLogWriter writer = new EventLogWriter(testLogPath, testMessagesPath, 4096, 3);
+
+        // Act
+        writeRecords(writer, 2000);
+        writer.close();
+
+        // Assert
+        assertTrue(Files.size(testLogPath) <= 4096);
+        assertTrue(Files.exists(EventLogWriter.rotatedPath(testLogPath, 1)));
+        assertTrue(Files.exists(EventLogWriter.rotatedPath(testLogPath, 2)));
+        assertFalse(Files.exists(EventLogWriter.rotatedPath(testLogPath, 3)));
+        assertEquals(1, Files.readAllLines(testMessagesPath).size());
+    }
+
+    @Test
+    void constructor_incompleteLastRecord_removesIncompleteRecord() throws IOException {
+        // Arrange
+        EventLogWriter writer = new EventLogWriter(testLogPath, testMessagesPath, 1 << 20, 1);
+        writeRecords(writer, 3);
+        writer.close();
+        try (RandomAccessFile file = new RandomAccessFile(testLogPath.toFile(), "rw")) {
+            file.setLength(file.length() - 3);
+        }
+
+        // Act
+        EventLogWriter reopenedWriter = new EventLogWriter(testLogPath, testMessagesPath, 1 << 20, 1);
+        writeRecords(reopenedWriter, 1);
+        reopenedWriter.close();
+
+        // Assert
+        List<LogEvent> events = EventLogReader.readTail(testLogPath, testMessagesPath, 10);
+        assertEquals(3, events.size());
+        assertEquals("Entry 1", events.get(1).getMessage());
+        assertEquals("Entry 0", events.get(2).getMessage());
+    }
+
+    @Test
+    void write_plainMessages_storesThemInlineWithoutDictionary() throws IOException {
+        // Arrange
+        EventLogWriter writer = new EventLogWriter(testLogPath, testMessagesPath, 1 << 20, 1);
+
+        // Act
+        writer.write(new LogRecord(Level.INFO, "Journalled: ADD:APPOINTMENT:10-05-2024:10.00:checkup"));
+        writeRecords(writer, 2);
+        writer.close();
+
+        // Assert
+        assertEquals(List.of("Entry {0}"), Files.readAllLines(testMessagesPath));
+        List<LogEvent> events = EventLogReader.readTail(testLogPath, testMessagesPath, 10);
+        assertEquals("Journalled: ADD:APPOINTMENT:10-05-2024:10.00:checkup", events.get(0).getMessage());
+    }
+}
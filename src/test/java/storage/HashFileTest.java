@@ -0,0 +1,130 @@
+package storage;
+
+import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import constants.UiConstant;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashFileTest {
+
+    /**
+     * Builds the lines of a hash file for the given block hashes.
+     */
+    private List<String> buildHashLines(List<String> blockHashes) throws NoSuchAlgorithmException {
+        List<String> hashLines = new ArrayList<>();
+        hashLines.add(HashFile.computeRootHash(blockHashes));
+        hashLines.add(UiConstant.HASH_BLOCK_SIZE_LABEL + UiConstant.SPLIT_BY_COLON + UiConstant.HASH_BLOCK_SIZE);
+        hashLines.addAll(blockHashes);
+        return hashLines;
+    }
+
+    /**
+     * Hashes every block of the data without reusing any previous hashes.
+     */
+    private List<String> hashAllBlocks(byte[] data) throws NoSuchAlgorithmException {
+        return HashFile.computeBlockHashes(data, new byte[0], new ArrayList<>(), false);
+    }
+
+    /**
+     * Builds data spanning multiple blocks.
+     */
+    private byte[] buildData() {
+        StringBuilder sb = new StringBuilder("NAME:John Doe" + System.lineSeparator());
+        for (int i = 0; i < 500; i++) {
+            sb.append("RUN:5.00:30.00:01-04-2023").append(System.lineSeparator());
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void verify_unchangedData_returnsTrue() throws NoSuchAlgorithmException {
+        // Arrange
+        byte[] data = buildData();
+        List<String> hashLines = buildHashLines(hashAllBlocks(data));
+
+        // Act and Assert
+        assertTrue(hashLines.size() > UiConstant.HASH_FILE_HEADER_LINES + 1);
+        assertTrue(HashFile.verify(data, hashLines));
+    }
+
+    @Test
+    void verify_tamperedBlock_returnsFalse() throws NoSuchAlgorithmException {
+        // Arrange
+        byte[] data = buildData();
+        List<String> hashLines = buildHashLines(hashAllBlocks(data));
+        byte[] tamperedData = Arrays.copyOf(data, data.length);
+        tamperedData[UiConstant.HASH_BLOCK_SIZE + 10] = '9';
+
+        // Act and Assert
+        assertFalse(HashFile.verify(tamperedData, hashLines));
+    }
+
+    @Test
+    void verify_tamperedBlockHash_returnsFalse() throws NoSuchAlgorithmException {
+        // Arrange
+        byte[] data = buildData();
+        List<String> hashLines = buildHashLines(hashAllBlocks(data));
+        hashLines.set(UiConstant.HASH_FILE_HEADER_LINES, "0".repeat(64));
+
+        // Act and Assert
+        assertFalse(HashFile.verify(data, hashLines));
+    }
+
+    @Test
+    void computeBlockHashes_appendedData_reusesUnchangedBlocks() throws NoSuchAlgorithmException {
+        // Arrange
+        byte[] previousData = buildData();
+        List<String> previousBlockHashes = new ArrayList<>(hashAllBlocks(previousData));
+        previousBlockHashes.set(0, "reused");
+        List<String> previousHashLines = buildHashLines(previousBlockHashes);
+        byte[] appendedLine = ("RUN:10.00:50.00:02-04-2023" + System.lineSeparator())
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] data = Arrays.copyOf(previousData, previousData.length + appendedLine.length);
+        System.arraycopy(appendedLine, 0, data, previousData.length, appendedLine.length);
+
+        // Act
+        List<String> blockHashes = HashFile.computeBlockHashes(data, previousData, previousHashLines, true);
+
+        // Assert
+        assertEquals("reused", blockHashes.get(0));
+        assertNotEquals(previousBlockHashes.get(previousBlockHashes.size() - 1),
+                blockHashes.get(previousBlockHashes.size() - 1));
+    }
+
+    @Test
+    void computeBlockHashes_corruptedUnverifiedHashLine_rehashesEveryBlock() throws NoSuchAlgorithmException {
+        // Arrange
+        byte[] previousData = buildData();
+        List<String> previousHashLines = buildHashLines(hashAllBlocks(previousData));
+        previousHashLines.set(UiConstant.HASH_FILE_HEADER_LINES, "0".repeat(64));
+        boolean arePreviousHashesVerified = HashFile.verify(previousData, previousHashLines);
+        byte[] appendedLine = ("RUN:10.00:50.00:02-04-2023" + System.lineSeparator())
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] data = Arrays.copyOf(previousData, previousData.length + appendedLine.length);
+        System.arraycopy(appendedLine, 0, data, previousData.length, appendedLine.length);
+
+        // Act
+        List<String> blockHashes = HashFile.computeBlockHashes(data, previousData, previousHashLines,
+                arePreviousHashesVerified);
+
+        // Assert
+        assertFalse(arePreviousHashesVerified);
+        assertEquals(hashAllBlocks(data), blockHashes);
+        assertTrue(HashFile.verify(data, buildHashLines(blockHashes)));
+    }
+
+    @Test
+    void isWholeFileHash_singleLine_returnsTrue() {
+        assertTrue(HashFile.isWholeFileHash(List.of("abc123def456")));
+        assertFalse(HashFile.isWholeFileHash(List.of("abc123def456", "BLOCK_SIZE:4096", "abc")));
+    }
+}
@@ -1,12 +1,24 @@
 package storage;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class LogFileTest {
     static LogFile logTest = LogFile.getInstance();
 
+    @AfterEach
+    void tearDown() {
+        LogFile.setLevel(Level.INFO);
+    }
+
     /**
      * Tests the behaviour of the getInstance function in the LogFile class, and whether
      * it returns a non-null instance.
@@ -15,4 +27,30 @@ class LogFileTest {
     void initializeLogFile_noInput_logFileHandlerNotNull() {
         assertNotNull(LogFile.logFileHandler);
     }
+
+    @Test
+    void writeLog_levelDisabled_doesNotBuildMessage() {
+        // Arrange
+        AtomicInteger buildCount = new AtomicInteger();
+        LogFile.setLevel(Level.WARNING);
+
+        // Act
+        LogFile.writeLog(Level.INFO, () -> "Built message " + buildCount.incrementAndGet());
+
+        // Assert
+        assertEquals(0, buildCount.get());
+        assertFalse(LogFile.isLoggable(Level.INFO));
+    }
+
+    @Test
+    void writeLog_levelEnabled_writesFilledTemplate() {
+        // Arrange
+        LogFile.setLevel(Level.FINE);
+
+        // Act
+        LogFile.writeLog(Level.FINE, "Template test {0} of {1}", "first", "second");
+
+        // Assert
+        assertTrue(LogFile.readLogContent().contains("Template test first of second"));
+    }
 }
@@ -0,0 +1,164 @@
+package storage;
+
+import java.time.LocalDate;
+
+import constants.ErrorConstant;
+import org.junit.jupiter.api.Test;
+import utility.CustomExceptions;
+import utility.Filters.DataType;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecordTokenizerTest {
+
+    @Test
+    void reset_lineWithSpacesAndEmptyFields_recordsTrimmedFields() {
+        // Arrange
+        RecordTokenizer tokenizer = new RecordTokenizer();
+
+        // Act
+        tokenizer.reset(" RUN : 5.00 :30.00::NA");
+
+        // Assert
+        assertEquals(5, tokenizer.getFieldCount());
+        assertEquals("RUN", tokenizer.getField(0));
+        assertEquals("5.00", tokenizer.getField(1));
+        assertTrue(tokenizer.isEmpty(3));
+        assertTrue(tokenizer.isNotSpecified(4));
+        assertFalse(tokenizer.isNotSpecified(2));
+    }
+
+    @Test
+    void reset_lineWithManyFields_growsFieldArrays() {
+        // Arrange
+        StringBuilder sb = new StringBuilder("GYM");
+        for (int i = 1; i <= 40; i++) {
+            sb.append(":").append(i);
+        }
+        RecordTokenizer tokenizer = new RecordTokenizer();
+
+        // Act
+        tokenizer.reset(sb.toString());
+
+        // Assert
+        assertEquals(41, tokenizer.getFieldCount());
+        assertEquals("40", tokenizer.getField(40));
+    }
+
+    @Test
+    void parseDataType_knownAndUnknownTypes_returnsTypeOrThrows() throws CustomExceptions.InvalidInput {
+        assertEquals(DataType.BMI, RecordTokenizer.parseDataType("BMI:1.70:70.00:24.22:01-04-2023"));
+        assertEquals(DataType.GYM, RecordTokenizer.parseDataType("GYM"));
+        assertThrows(CustomExceptions.InvalidInput.class, () -> RecordTokenizer.parseDataType("BM:1.70"));
+        assertEquals(DataType.RUN, RecordTokenizer.findDataType("RUN:5.00:30.00:01-04-2023"));
+        assertNull(RecordTokenizer.findDataType("NAME:John Doe"));
+    }
+
+    @Test
+    void parseTwoDecimalPlaces_validNumbers_matchesParseDouble() throws CustomExceptions.InvalidInput {
+        // Arrange
+        RecordTokenizer tokenizer = new RecordTokenizer().reset("RUN:0.10:1.70:4999.99:123456.78");
+
+        // Act and Assert
+        for (int i = 1; i < tokenizer.getFieldCount(); i++) {
+            assertEquals(Double.parseDouble(tokenizer.getField(i)), tokenizer.parseTwoDecimalPlaces(i, "error"));
+        }
+    }
+
+    @Test
+    void parseTwoDecimalPlaces_invalidNumbers_throwsInvalidInput() {
+        // Arrange
+        RecordTokenizer tokenizer = new RecordTokenizer().reset("RUN:5:5.0:.50:5.000:a.bc:-5.00:");
+
+        // Act and Assert
+        for (int i = 1; i < tokenizer.getFieldCount(); i++) {
+            int index = i;
+            assertThrows(CustomExceptions.InvalidInput.class, () -> tokenizer.parseTwoDecimalPlaces(index, "error"));
+        }
+    }
+
+    @Test
+    void parsePositiveInt_validAndInvalidIntegers_parsesOrThrows() throws CustomExceptions.InvalidInput {
+        // Arrange
+        RecordTokenizer tokenizer = new RecordTokenizer().reset("GYM:12:0:01:1a:9999999999");
+
+        // Act and Assert
+        assertEquals(12, tokenizer.parsePositiveInt(1, "error"));
+        for (int i = 2; i < tokenizer.getFieldCount(); i++) {
+            int index = i;
+            assertThrows(CustomExceptions.InvalidInput.class, () -> tokenizer.parsePositiveInt(index, "error"));
+        }
+    }
+
+    @Test
+    void parseEpochDay_validDates_matchesLocalDate() throws CustomExceptions.InvalidInput {
+        // Arrange
+        RecordTokenizer tokenizer = new RecordTokenizer().reset("BMI:01-01-1967:29-02-2000:31-12-2023:01-03-2100");
+
+        // Act and Assert
+        assertEquals(LocalDate.of(1967, 1, 1).toEpochDay(), tokenizer.parseEpochDay(1));
+        assertEquals(LocalDate.of(2000, 2, 29).toEpochDay(), tokenizer.parseEpochDay(2));
+        assertEquals(LocalDate.of(2023, 12, 31).toEpochDay(), tokenizer.parseEpochDay(3));
+        assertEquals(LocalDate.of(2100, 3, 1).toEpochDay(), tokenizer.parseEpochDay(4));
+    }
+
+    @Test
+    void parseEpochDay_invalidDates_throwsSameErrorsAsValidation() {
+        // Arrange
+        RecordTokenizer tokenizer = new RecordTokenizer().reset("BMI:29-02-2023:01-01-1966:31-04-2023:1-04-2023");
+
+        // Act
+        CustomExceptions.InvalidInput leapYearError = assertThrows(CustomExceptions.InvalidInput.class,
+                () -> tokenizer.parseEpochDay(1));
+        CustomExceptions.InvalidInput yearError = assertThrows(CustomExceptions.InvalidInput.class,
+                () -> tokenizer.parseEpochDay(2));
+        CustomExceptions.InvalidInput dayError = assertThrows(CustomExceptions.InvalidInput.class,
+                () -> tokenizer.parseEpochDay(3));
+        CustomExceptions.InvalidInput formatError = assertThrows(CustomExceptions.InvalidInput.class,
+                () -> tokenizer.parseEpochDay(4));
+
+        // Assert
+        assertTrue(leapYearError.getMessage().contains(ErrorConstant.INVALID_LEAP_YEAR_ERROR));
+        assertTrue(yearError.getMessage().contains(ErrorConstant.INVALID_YEAR_ERROR));
+        assertTrue(dayError.getMessage().contains(ErrorConstant.INVALID_DATE_ERROR));
+        assertTrue(formatError.getMessage().contains(ErrorConstant.INVALID_DATE_ERROR));
+    }
+
+    @Test
+    void countTimeParts_validAndInvalidTimes_countsOrThrows() throws CustomExceptions.InvalidInput {
+        // Arrange
+        RecordTokenizer tokenizer = new RecordTokenizer().reset("RUN:25.30:01.02.03:1.30:25:30:25.30.");
+
+        // Act and Assert
+        assertEquals(2, tokenizer.countTimeParts(1, "error"));
+        assertEquals(30, tokenizer.parseTimePart(1, 1));
+        assertEquals(3, tokenizer.countTimeParts(2, "error"));
+        assertEquals(1, tokenizer.parseTimePart(2, 0));
+        for (int i = 3; i < tokenizer.getFieldCount(); i++) {
+            int index = i;
+            assertThrows(CustomExceptions.InvalidInput.class, () -> tokenizer.countTimeParts(index, "error"));
+        }
+    }
+
+    @Test
+    void parseWeights_validAndInvalidWeights_parsesOrThrows() throws CustomExceptions.InvalidInput {
+        // Arrange
+        RecordTokenizer tokenizer = new RecordTokenizer().reset("GYM:10,12.5,2850.125:1.0:::1.,2:1.2345:,1");
+
+        // Act and Assert
+        assertArrayEquals(new double[]{10, 12.5, 2850.125}, tokenizer.parseWeights(1));
+        assertArrayEquals(new double[]{1.0}, tokenizer.parseWeights(2));
+        CustomExceptions.InvalidInput emptyError = assertThrows(CustomExceptions.InvalidInput.class,
+                () -> tokenizer.parseWeights(3));
+        assertTrue(emptyError.getMessage().contains(ErrorConstant.INVALID_WEIGHTS_EMPTY_ERROR));
+        for (int i = 5; i < tokenizer.getFieldCount(); i++) {
+            int index = i;
+            assertThrows(CustomExceptions.InvalidInput.class, () -> tokenizer.parseWeights(index));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RingBufferTest {
+
+    @Test
+    void offer_fullBuffer_rejectsUntilDrained() {
+        // Arrange
+        RingBuffer<Integer> buffer = new RingBuffer<>(3);
+        for (int i = 0; i < buffer.getCapacity(); i++) {
+            assertTrue(buffer.offer(i));
+        }
+
+        // Act
+        boolean isAddedWhenFull = buffer.offer(99);
+        List<Integer> batch = new ArrayList<>();
+        int drained = buffer.drainTo(batch, 2);
+        boolean isAddedAfterDrain = buffer.offer(4);
+
+        // Assert
+        assertEquals(4, buffer.getCapacity());
+        assertFalse(isAddedWhenFull);
+        assertEquals(2, drained);
+        assertEquals(List.of(0, 1), batch);
+        assertTrue(isAddedAfterDrain);
+    }
+
+    @Test
+    void offer_concurrentProducers_drainsEveryElementOnce() throws InterruptedException {
+        // Arrange
+        RingBuffer<Integer> buffer = new RingBuffer<>(64);
+        int producerCount = 4;
+        int elementsPerProducer = 10000;
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < producerCount; p++) {
+            int offset = p * elementsPerProducer;
+            producers.add(new Thread(() -> {
+                for (int i = 0; i < elementsPerProducer; i++) {
+                    while (!buffer.offer(offset + i)) {
+                        Thread.yield();
+                    }
+                }
+            }));
+        }
+
+        // Act
+        producers.forEach(Thread::start);
+        Set<Integer> drainedElements = new HashSet<>();
+        List<Integer> batch = new ArrayList<>();
+        while (drainedElements.size() < producerCount * elementsPerProducer) {
+            buffer.drainTo(batch, 32);
+            drainedElements.addAll(batch);
+            batch.clear();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        // Assert
+        assertEquals(producerCount * elementsPerProducer, drainedElements.size());
+        assertEquals(0, buffer.drainTo(batch, 32));
+    }
+}
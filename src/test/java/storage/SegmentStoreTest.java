@@ -0,0 +1,82 @@
+package storage;
+
+import java.util.EnumSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import utility.Filters.DataType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SegmentStoreTest {
+
+    @AfterEach
+    void tearDown() {
+        SegmentStore.discard(DataType.values());
+    }
+
+    @Test
+    void hydrate_registeredSegment_loadsOnlyOnce() {
+        // Arrange
+        AtomicInteger loadCount = new AtomicInteger();
+        SegmentStore.register(EnumSet.of(DataType.BMI), loadCount::incrementAndGet);
+
+        // Act
+        SegmentStore.hydrate(DataType.BMI);
+        SegmentStore.hydrate(DataType.BMI);
+
+        // Assert
+        assertEquals(1, loadCount.get());
+        assertFalse(SegmentStore.isPending(DataType.BMI));
+    }
+
+    @Test
+    void hydrate_sharedSegment_loadsEveryTypeInSegment() {
+        // Arrange
+        AtomicInteger loadCount = new AtomicInteger();
+        SegmentStore.register(EnumSet.of(DataType.RUN, DataType.GYM), loadCount::incrementAndGet);
+        SegmentStore.register(EnumSet.of(DataType.PERIOD), loadCount::incrementAndGet);
+
+        // Act
+        SegmentStore.hydrate(DataType.GYM);
+        SegmentStore.hydrate(DataType.RUN);
+
+        // Assert
+        assertEquals(1, loadCount.get());
+        assertFalse(SegmentStore.isPending(DataType.RUN));
+        assertTrue(SegmentStore.isPending(DataType.PERIOD));
+    }
+
+    @Test
+    void hydrate_loaderTouchesOwnSegment_doesNotLoadAgain() {
+        // Arrange
+        AtomicInteger loadCount = new AtomicInteger();
+        SegmentStore.register(EnumSet.of(DataType.APPOINTMENT), () -> {
+            loadCount.incrementAndGet();
+            SegmentStore.hydrate(DataType.APPOINTMENT);
+        });
+
+        // Act
+        SegmentStore.hydrate(DataType.APPOINTMENT);
+
+        // Assert
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    void discard_pendingSegment_neverLoads() {
+        // Arrange
+        AtomicInteger loadCount = new AtomicInteger();
+        SegmentStore.register(EnumSet.of(DataType.BMI), loadCount::incrementAndGet);
+
+        // Act
+        SegmentStore.discard(DataType.BMI);
+        SegmentStore.hydrate(DataType.BMI);
+
+        // Assert
+        assertEquals(0, loadCount.get());
+    }
+}
@@ -7,6 +7,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.PrintStream;
+import java.time.LocalDate;
 
 import constants.ErrorConstant;
 import constants.UiConstant;
@@ -88,6 +89,83 @@ class OutputTest {
         assertEquals(expected, outContent.toString());
     }
 
+    /**
+     * Tests the behaviour of the printHistory function for Run objects within a date range.
+     * Expects only the runs within the range to be printed, with their indexes in the full run history.
+     *
+     * @throws CustomExceptions.InvalidInput If there are invalid parameters specified.
+     */
+    @Test
+    void printHistory_runsWithinRange_expectRunsInRangePrinted() throws CustomExceptions.InvalidInput {
+        new Run("40:10", "10.3", "15-01-2024");
+        Run run2 = new Run("30:10", "5.3", "15-02-2024");
+        new Run("01:59:10", "15.3");
+        new Run("20:10", "3.3", "15-03-2024");
+        String expected = UiConstant.PARTITION_LINE +
+                System.lineSeparator() +
+                "Your run history:" +
+                System.lineSeparator() +
+                String.format(WorkoutConstant.RUN_HEADER_INDEX_FORMAT) +
+                System.lineSeparator() +
+                String.format(WorkoutConstant.RUN_DATA_INDEX_FORMAT, 2, run2) +
+                System.lineSeparator() +
+                UiConstant.PARTITION_LINE +
+                System.lineSeparator();
+        Output output = new Output();
+        output.printHistory(WorkoutConstant.RUN, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29));
+        assertEquals(expected, outContent.toString());
+    }
+
+    /**
+     * Tests the behaviour of the printHistory function for Bmi objects within a date range with no entries.
+     * Expects a message that no entries are found.
+     */
+    @Test
+    void printHistory_noBmisWithinRange_expectEmptyRangeMessagePrinted() {
+        new Bmi("1.70", "60.00", "15-01-2024");
+        String expected = UiConstant.PARTITION_LINE +
+                System.lineSeparator() +
+                HealthConstant.BMI_HISTORY_HEADER +
+                System.lineSeparator() +
+                UiConstant.HISTORY_RANGE_EMPTY_MESSAGE +
+                System.lineSeparator() +
+                UiConstant.PARTITION_LINE +
+                System.lineSeparator();
+        Output output = new Output();
+        output.printHistory(HealthConstant.BMI, LocalDate.of(2024, 2, 1), LocalDate.MAX);
+        assertEquals(expected, outContent.toString());
+    }
+
+    /**
+     * Tests the behaviour of the printGymExerciseHistory function for gyms with an exercise within a date range.
+     * Expects only the dated gyms within the range to be printed, with only the stations of the exercise.
+     *
+     * @throws CustomExceptions.InvalidInput      If there are invalid Gym input parameters.
+     * @throws CustomExceptions.InsufficientInput If there are missing Gym input parameters.
+     */
+    @Test
+    void printGymExerciseHistory_gymsWithinRange_expectExerciseStationsPrinted() throws
+            CustomExceptions.InvalidInput, CustomExceptions.InsufficientInput {
+        Gym undatedGym = new Gym();
+        undatedGym.addStation("squats", "1", "5", "60.0");
+        Gym gym = new Gym("15-02-2024");
+        gym.addStation("bench press", "1", "5", "40.0");
+        gym.addStation("squats", "2", "5", "60.0,62.5");
+        String expected = UiConstant.PARTITION_LINE +
+                System.lineSeparator() +
+                "Your squats history:" +
+                System.lineSeparator() +
+                "Gym Session 2 (Date: 2024-02-15)" +
+                System.lineSeparator() +
+                "Station 2 " + gym.getStations().get(1) +
+                System.lineSeparator() +
+                UiConstant.PARTITION_LINE +
+                System.lineSeparator();
+        Output output = new Output();
+        output.printGymExerciseHistory("squats", LocalDate.of(2024, 2, 1), LocalDate.MAX);
+        assertEquals(expected, outContent.toString());
+    }
+
     /**
      *
      */
@@ -0,0 +1,60 @@
+package utility;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FenwickTreeTest {
+
+    /**
+     * Tests the behaviour of adding to and summing values, and whether range sums match a plain array.
+     */
+    @Test
+    void rangeSum_valuesAddedAndRemoved_matchesPlainSums() {
+        // Arrange
+        FenwickTree tree = new FenwickTree(10);
+        long[] values = new long[10];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) i * i - 7;
+            tree.add(i, values[i]);
+        }
+        tree.add(4, -3);
+        values[4] -= 3;
+
+        // Act & Assert
+        for (int from = 0; from < values.length; from++) {
+            long expected = 0;
+            for (int to = from; to < values.length; to++) {
+                expected += values[to];
+                assertEquals(expected, tree.rangeSum(from, to));
+            }
+        }
+        assertEquals(0, tree.rangeSum(5, 4));
+    }
+
+    /**
+     * Tests the behaviour of adding a value past the end of the tree, and whether the tree grows and keeps the
+     * values already added.
+     */
+    @Test
+    void add_indexPastEnd_growsAndKeepsValues() {
+        // Arrange
+        FenwickTree tree = new FenwickTree(3);
+        tree.add(0, 1);
+        tree.add(1, 2);
+        tree.add(2, 4);
+
+        // Act
+        tree.add(20, 8);
+
+        // Assert
+        assertTrue(tree.size() > 20);
+        assertEquals(1, tree.rangeSum(0, 0));
+        assertEquals(2, tree.rangeSum(1, 1));
+        assertEquals(4, tree.rangeSum(2, 2));
+        assertEquals(8, tree.rangeSum(20, 20));
+        assertEquals(15, tree.prefixSum(Integer.MAX_VALUE - 1));
+        assertEquals(6, tree.rangeSum(1, 19));
+    }
+}
@@ -268,6 +268,89 @@ class ParserTest {
         assertNull(parser.parseDeleteInput(input));
     }
 
+    /**
+     * Tests the behaviour of a history command with a date range being passed into parseHistoryRange.
+     * Expects the filter to be parsed, and a missing '/to:' date to leave the range open.
+     */
+    @Test
+    void parseHistoryRange_fromDateOnly_returnsOpenEndedRange() {
+        String input = "/item:run /from:01-02-2024";
+        assertEquals("run", parser.parseHistory(input));
+        LocalDate[] expected = {LocalDate.of(2024, 2, 1), LocalDate.MAX};
+        assertArrayEquals(expected, parser.parseHistoryRange(input));
+    }
+
+    /**
+     * Tests the behaviour of a date range that ends before it starts being passed into parseHistoryRange.
+     * Expects null to be returned.
+     */
+    @Test
+    void parseHistoryRange_fromAfterTo_expectsNullReturned() {
+        String input = "/item:bmi /from:01-03-2024 /to:01-02-2024";
+        assertNull(parser.parseHistoryRange(input));
+    }
+
+    /**
+     * Tests the behaviour of a history command with an exercise being passed into parseHistoryExercise.
+     * Expects the exercise name to be returned, with a date range allowed alongside it.
+     */
+    @Test
+    void parseHistoryExercise_gymFilterWithRange_returnsExercise() {
+        String input = "/item:gym /exercise:bench press /from:01-02-2024 /to:01-03-2024";
+        assertEquals("gym", parser.parseHistory(input));
+        assertEquals("bench press", parser.parseHistoryExercise(input, "gym"));
+    }
+
+    /**
+     * Tests the behaviour of an exercise used with a filter other than 'gym', or left empty, being passed into
+     * parseHistoryExercise.
+     * Expects null to be returned.
+     */
+    @Test
+    void parseHistoryExercise_invalidFilterOrEmptyExercise_expectsNullReturned() {
+        assertNull(parser.parseHistoryExercise("/item:run /exercise:squats", "run"));
+        assertNull(parser.parseHistoryExercise("/item:gym /exercise:", "gym"));
+    }
+
+    /**
+     * Tests the behaviour of pb commands with an exercise being passed into parsePersonalBestExercise.
+     * Expects the exercise name to be returned, and null if it is empty or another flag is used alongside it.
+     */
+    @Test
+    void parsePersonalBestExercise_validAndInvalidInputs_returnsExerciseOrNull() {
+        assertEquals("bench press", parser.parsePersonalBestExercise("pb /exercise:bench press"));
+        assertNull(parser.parsePersonalBestExercise("pb /exercise:"));
+        assertNull(parser.parsePersonalBestExercise("pb /exercise:squats /from:01-02-2024"));
+    }
+
+    /**
+     * Tests the behaviour of each window being passed into parseStatsWindow.
+     * Expects the first and last dates of the day, week from Monday, month and year containing the date.
+     *
+     * @throws CustomExceptions.InvalidInput If the window is invalid.
+     */
+    @Test
+    void parseStatsWindow_validWindows_returnsDatesOfWindow() throws CustomExceptions.InvalidInput {
+        LocalDate today = LocalDate.of(2024, 2, 14);
+        assertArrayEquals(new LocalDate[]{today, today}, parser.parseStatsWindow("day", today));
+        assertArrayEquals(new LocalDate[]{LocalDate.of(2024, 2, 12), LocalDate.of(2024, 2, 18)},
+                parser.parseStatsWindow("week", today));
+        assertArrayEquals(new LocalDate[]{LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29)},
+                parser.parseStatsWindow("MONTH", today));
+        assertArrayEquals(new LocalDate[]{LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)},
+                parser.parseStatsWindow("year", today));
+        assertThrows(CustomExceptions.InvalidInput.class, () -> parser.parseStatsWindow("fortnight", today));
+    }
+
+    /**
+     * Tests the behaviour of a window used with a date range being passed into parseStatsRange.
+     * Expects null to be returned.
+     */
+    @Test
+    void parseStatsRange_windowWithDateRange_expectsNullReturned() {
+        assertNull(parser.parseStatsRange("stats /window:week /from:01-02-2024"));
+    }
+
     //@@author JustinSoh
     /**
      * Tests the behaviour of a correctly formatted string without
@@ -1,18 +1,20 @@
 package workouts;
 
 import constants.ErrorConstant;
+import constants.WorkoutConstant;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import utility.CustomExceptions;
 
-import java.util.ArrayList;
-
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class GymStationTest {
 
@@ -103,7 +105,7 @@ class GymStationTest {
 
     /**
      * Tests the behaviour of a correct weights array being passed to validateWeightsArray.
-     * Expects no exception to be thrown, and the correct ArrayList of integers to be
+     * Expects no exception to be thrown, and the correct array of weights to be
      * returned.
      *
      * @throws CustomExceptions.InvalidInput If the input string does not have the right format.
@@ -111,15 +113,10 @@ class GymStationTest {
     @Test
     void processWeightsArray_correctInput_returnCorrectArrayList() throws CustomExceptions.InvalidInput {
         String input = "1.0,2.25,50.5,60.75,0.0";
-        ArrayList<Double> expected = new ArrayList<>();
-        expected.add(1.0);
-        expected.add(2.25);
-        expected.add(50.5);
-        expected.add(60.75);
-        expected.add(0.0);
+        float[] expected = {1.0f, 2.25f, 50.5f, 60.75f, 0.0f};
 
-        ArrayList<Double> result = gymStation.processWeightsArray(input);
-        assertArrayEquals(expected.toArray(), result.toArray());
+        float[] result = gymStation.processWeightsArray(input);
+        assertArrayEquals(expected, result);
 
     }
 
@@ -161,4 +158,54 @@ class GymStationTest {
 
     }
 
+    /**
+     * Tests the behaviour of the sets and strings of a GymStation object, and whether they are read from the packed
+     * weights.
+     *
+     * @throws CustomExceptions.InvalidInput If the input does not have the right format.
+     * @throws CustomExceptions.InsufficientInput If the name is empty.
+     */
+    @Test
+    void toFileString_multipleSets_returnsWeightsOfEachSet() throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput {
+        // Arrange
+        GymStation squats = new GymStation("squats", "3", "5", "60.0,62.5,2850.0");
+
+        // Act
+        String fileString = squats.toFileString();
+
+        // Assert
+        assertEquals("squats:3:5:60.0,62.5,2850.0", fileString);
+        assertEquals("5,5,5", squats.toRepString(","));
+        assertEquals(3, squats.getSets().size());
+        assertEquals(62.5, squats.getSets().get(1).getWeight());
+        assertEquals(5, squats.getSets().get(2).getNumberOfRepetitions());
+        assertEquals("5 reps at 62.500 KG", squats.getSets().get(1).toString());
+    }
+
+    /**
+     * Tests the behaviour of GymStation objects with the same name, and whether they share one entry in the
+     * exercise dictionary.
+     *
+     * @throws CustomExceptions.InvalidInput If the input does not have the right format.
+     * @throws CustomExceptions.InsufficientInput If the name is empty.
+     */
+    @Test
+    void getExerciseId_sameAndDifferentNames_sharesIdOfSameName() throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput {
+        // Arrange
+        GymStation firstSquats = new GymStation("squats", "1", "5", "60.0");
+        GymStation secondSquats = new GymStation("squats", 1, 5, new double[]{62.5});
+        GymStation deadlift = new GymStation("deadlift", "1", "5", "100.0");
+
+        // Act
+        int squatsId = firstSquats.getExerciseId();
+
+        // Assert
+        assertEquals(squatsId, secondSquats.getExerciseId());
+        assertNotEquals(squatsId, deadlift.getExerciseId());
+        assertEquals(squatsId, ExerciseDictionary.findId("squats"));
+        assertSame(firstSquats.getStationName(), secondSquats.getStationName());
+        assertEquals(WorkoutConstant.NO_EXERCISE_ID, ExerciseDictionary.findId("not an exercise"));
+    }
 }
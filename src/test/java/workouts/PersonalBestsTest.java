@@ -0,0 +1,178 @@
+package workouts;
+
+import constants.WorkoutConstant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import utility.CustomExceptions;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PersonalBestsTest {
+
+    @AfterEach
+    void cleanup() {
+        WorkoutLists.clearWorkoutsRunGym();
+    }
+
+    /**
+     * Tests the behaviour of adding runs of different distances, and whether each personal best and distance
+     * bracket holds the right run.
+     *
+     * @throws CustomExceptions.InvalidInput If there are invalid run input parameters.
+     */
+    @Test
+    void getFastestInBracket_runsOfDifferentDistances_returnsFastestRunOfEachBracket()
+            throws CustomExceptions.InvalidInput {
+        // Arrange
+        Run slowFiveK = new Run("30:00", "5.00");
+        Run fastFiveK = new Run("24:00", "5.50");
+        Run tenK = new Run("50:00", "10.00");
+        Run halfMarathon = new Run("02:00:00", "21.10");
+        new Run("25:00", "4.00");
+
+        // Act
+        Run fastestPace = PersonalBests.getFastestPace();
+        Run longestRun = PersonalBests.getLongestRun();
+
+        // Assert
+        assertSame(fastFiveK, fastestPace);
+        assertSame(halfMarathon, longestRun);
+        assertSame(fastFiveK, PersonalBests.getFastestInBracket(0));
+        assertSame(tenK, PersonalBests.getFastestInBracket(1));
+        assertSame(halfMarathon, PersonalBests.getFastestInBracket(2));
+        assertNull(PersonalBests.getFastestInBracket(3));
+        assertEquals(5, WorkoutLists.getRuns().size());
+    }
+
+    /**
+     * Tests the behaviour of deleting personal best runs, and whether the next best run is promoted.
+     *
+     * @throws CustomExceptions.InvalidInput If there are invalid run input parameters.
+     * @throws CustomExceptions.OutOfBounds  If the index of a run is invalid.
+     */
+    @Test
+    void deleteRun_personalBestDeleted_promotesNextBestRun() throws CustomExceptions.InvalidInput,
+            CustomExceptions.OutOfBounds {
+        // Arrange
+        Run slowFiveK = new Run("30:00", "5.00");
+        new Run("24:00", "5.50");
+        Run tenK = new Run("50:00", "10.00");
+
+        // Act
+        WorkoutLists.deleteRun(1);
+
+        // Assert
+        assertSame(tenK, PersonalBests.getFastestPace());
+        assertSame(slowFiveK, PersonalBests.getFastestInBracket(0));
+        assertSame(tenK, PersonalBests.getLongestRun());
+
+        // Act
+        WorkoutLists.deleteRun(1);
+        WorkoutLists.deleteRun(0);
+
+        // Assert
+        assertNull(PersonalBests.getFastestPace());
+        assertNull(PersonalBests.getLongestRun());
+        assertNull(PersonalBests.getFastestInBracket(0));
+    }
+
+    /**
+     * Tests the behaviour of getting the top lifts of an exercise, and whether they are ordered by estimated one-rep
+     * max and limited in number.
+     *
+     * @throws CustomExceptions.InvalidInput      If there are invalid gym input parameters.
+     * @throws CustomExceptions.InsufficientInput If there are missing gym input parameters.
+     */
+    @Test
+    void getTopLifts_manySets_returnsBestSetsByEstimatedOneRepMax() throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput {
+        // Arrange
+        Gym firstGym = new Gym("15-03-2024");
+        firstGym.addStation("squats", "2", "5", "60.0,62.5");
+        firstGym.addStation("bench press", "1", "40", "20.0");
+        Gym secondGym = new Gym();
+        secondGym.addStation("squats", "5", "1", "70.0,65.0,72.5,50.0,40.0");
+
+        // Act
+        List<Lift> topLifts = PersonalBests.getTopLifts("squats");
+        List<Lift> benchLifts = PersonalBests.getTopLifts("bench press");
+
+        // Assert
+        assertEquals(WorkoutConstant.TOP_LIFTS_COUNT, topLifts.size());
+        assertEquals(62.5, topLifts.get(0).getSet().getWeight());
+        assertEquals(62.5 * (1 + 5.0 / 30), topLifts.get(0).getEpleyMax(), 1e-9);
+        assertEquals(62.5 * 36 / 32, topLifts.get(0).getSet().getBrzyckiMax(), 1e-9);
+        assertSame(firstGym, topLifts.get(0).getGym());
+        assertEquals(72.5, topLifts.get(1).getEpleyMax());
+        assertSame(secondGym, topLifts.get(1).getGym());
+        assertEquals(65.0, topLifts.get(4).getSet().getWeight());
+        assertEquals(WorkoutConstant.NO_ONE_REP_MAX, benchLifts.get(0).getSet().getBrzyckiMax());
+        assertTrue(PersonalBests.getTopLifts("deadlift").isEmpty());
+    }
+
+    /**
+     * Tests the behaviour of deleting a gym session with top lifts, and whether the next best lifts are promoted.
+     *
+     * @throws CustomExceptions.InvalidInput      If there are invalid gym input parameters.
+     * @throws CustomExceptions.InsufficientInput If there are missing gym input parameters.
+     * @throws CustomExceptions.OutOfBounds       If the index of a gym is invalid.
+     */
+    @Test
+    void deleteGym_gymWithTopLifts_promotesNextBestLifts() throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput, CustomExceptions.OutOfBounds {
+        // Arrange
+        Gym firstGym = new Gym();
+        firstGym.addStation("squats", "1", "5", "60.0");
+        Gym secondGym = new Gym();
+        secondGym.addStation("squats", "1", "5", "100.0");
+        secondGym.addStation("squats", "1", "3", "100.0");
+
+        // Act
+        WorkoutLists.deleteGym(1);
+        List<Lift> topLifts = PersonalBests.getTopLifts("squats");
+
+        // Assert
+        assertEquals(1, topLifts.size());
+        assertSame(firstGym, topLifts.get(0).getGym());
+    }
+
+    /**
+     * Tests the behaviour of deleting gym sessions when more sets than the number of top lifts were logged, and
+     * whether the top lifts are only changed when a deleted gym held one of them.
+     *
+     * @throws CustomExceptions.InvalidInput      If there are invalid gym input parameters.
+     * @throws CustomExceptions.InsufficientInput If there are missing gym input parameters.
+     * @throws CustomExceptions.OutOfBounds       If the index of a gym is invalid.
+     */
+    @Test
+    void deleteGym_moreSetsThanTopLifts_rebuildsFromRemainingGyms() throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput, CustomExceptions.OutOfBounds {
+        // Arrange
+        Gym firstGym = new Gym();
+        firstGym.addStation("squats", "5", "1", "100.0,90.0,80.0,70.0,60.0");
+        Gym secondGym = new Gym();
+        secondGym.addStation("squats", "2", "1", "50.0,40.0");
+        Gym thirdGym = new Gym();
+        thirdGym.addStation("squats", "1", "1", "110.0");
+
+        // Act
+        WorkoutLists.deleteGym(1);
+        List<Lift> liftsAfterFirstDelete = PersonalBests.getTopLifts("squats");
+        WorkoutLists.deleteGym(1);
+        List<Lift> liftsAfterSecondDelete = PersonalBests.getTopLifts("squats");
+
+        // Assert
+        assertEquals(110.0, liftsAfterFirstDelete.get(0).getEpleyMax());
+        assertSame(thirdGym, liftsAfterFirstDelete.get(0).getGym());
+        assertEquals(70.0, liftsAfterFirstDelete.get(4).getEpleyMax());
+        assertEquals(WorkoutConstant.TOP_LIFTS_COUNT, liftsAfterSecondDelete.size());
+        assertEquals(100.0, liftsAfterSecondDelete.get(0).getEpleyMax());
+        assertEquals(60.0, liftsAfterSecondDelete.get(4).getEpleyMax());
+        assertSame(firstGym, liftsAfterSecondDelete.get(4).getGym());
+    }
+}
@@ -2,6 +2,7 @@ package workouts;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import constants.WorkoutConstant;
 import utility.CustomExceptions;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
@@ -142,4 +143,30 @@ class RunTest {
         // below min pace of 1:00/km
         assertThrows(CustomExceptions.InvalidInput.class, () -> new Run("02:00", "10.00"));
     }
+
+    /**
+     * Tests the behaviour of toString and getFormatForAllHistory, and whether they are laid out the same way as
+     * the run and history formats.
+     */
+    @Test
+    void toString_runsWithAndWithoutDates_matchesDataFormats() throws CustomExceptions.InvalidInput {
+        // Arrange
+        Run runWithHours = new Run("01:02:03", "10.25", "15-03-2024");
+        Run runWithoutDate = new Run("25:07", "5.10");
+
+        // Act
+        String withHours = runWithHours.toString();
+        String withoutDate = runWithoutDate.toString();
+        String history = runWithHours.getFormatForAllHistory();
+
+        // Assert
+        assertEquals(String.format(WorkoutConstant.RUN_DATA_FORMAT, "run", "01:02:03", "10.25", "6:03/km",
+                "2024-03-15"), withHours);
+        assertEquals(String.format(WorkoutConstant.RUN_DATA_FORMAT, "run", "25:07", "5.10", "4:55/km",
+                "NA"), withoutDate);
+        assertEquals(String.format(WorkoutConstant.HISTORY_WORKOUTS_DATA_FORMAT, "run", "2024-03-15", "10.25",
+                "01:02:03", "6:03/km"), history);
+        assertEquals(10.25, runWithHours.getDistanceValue());
+        assertEquals(3723, runWithHours.getTotalSeconds());
+    }
 }
@@ -0,0 +1,79 @@
+package workouts;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import utility.CustomExceptions;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrainingLoadTest {
+
+    @AfterEach
+    void cleanup() {
+        WorkoutLists.clearWorkoutsRunGym();
+    }
+
+    /**
+     * Tests the behaviour of getting the run load, and whether the acute and chronic windows only count dated runs
+     * within them, weighted by pace.
+     *
+     * @throws CustomExceptions.InvalidInput If there are invalid run input parameters.
+     */
+    @Test
+    void getRunLoad_runsInAndOutOfWindows_returnsSpikeInAcuteLoad() throws CustomExceptions.InvalidInput {
+        // Arrange
+        new Run("30:00", "5.00", "01-01-2024");
+        new Run("30:00", "5.00", "10-02-2024");
+        new Run("30:00", "5.00", "20-02-2024");
+        new Run("01:15:00", "15.00", "01-03-2024");
+        new Run("30:00", "5.00");
+
+        // Act
+        WorkloadRatio load = TrainingLoad.getRunLoad(LocalDate.of(2024, 3, 2));
+
+        // Assert
+        assertEquals(18.0, load.getAcuteLoad(), 1e-9);
+        assertEquals(28.0 / 4, load.getChronicWeeklyLoad(), 1e-9);
+        assertEquals(18.0 / 7, load.getRatio(), 1e-9);
+        assertTrue(load.isSpike());
+    }
+
+    /**
+     * Tests the behaviour of moving the windows forward and adding or deleting workouts between queries, and
+     * whether the loads match those of the windows summed from scratch.
+     *
+     * @throws CustomExceptions.InvalidInput      If there are invalid workout input parameters.
+     * @throws CustomExceptions.InsufficientInput If there are missing gym input parameters.
+     * @throws CustomExceptions.OutOfBounds       If the index of a workout is invalid.
+     */
+    @Test
+    void getGymLoad_windowsMovedForward_matchesLoadOfWindows() throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput, CustomExceptions.OutOfBounds {
+        // Arrange
+        Gym firstGym = new Gym("01-02-2024");
+        firstGym.addStation("squats", "2", "5", "60.0,62.5");
+        TrainingLoad.getGymLoad(LocalDate.of(2024, 2, 5));
+        Gym secondGym = new Gym("10-02-2024");
+        secondGym.addStation("bench press", "1", "10", "40.125");
+
+        // Act
+        WorkloadRatio firstLoad = TrainingLoad.getGymLoad(LocalDate.of(2024, 2, 12));
+        WorkoutLists.deleteGym(0);
+        WorkloadRatio secondLoad = TrainingLoad.getGymLoad(LocalDate.of(2024, 3, 1));
+        WorkloadRatio thirdLoad = TrainingLoad.getGymLoad(LocalDate.of(2024, 3, 20));
+
+        // Assert
+        assertEquals(401.25, firstLoad.getAcuteLoad(), 1e-9);
+        assertEquals((612.5 + 401.25) / 4, firstLoad.getChronicWeeklyLoad(), 1e-9);
+        assertEquals(401.25 / ((612.5 + 401.25) / 4), firstLoad.getRatio(), 1e-9);
+        assertEquals(0.0, secondLoad.getAcuteLoad(), 1e-9);
+        assertEquals(401.25 / 4, secondLoad.getChronicWeeklyLoad(), 1e-9);
+        assertTrue(secondLoad.isLow());
+        assertEquals(0.0, thirdLoad.getChronicWeeklyLoad(), 1e-9);
+        assertFalse(thirdLoad.hasRatio());
+    }
+}
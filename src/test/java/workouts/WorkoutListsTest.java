@@ -3,13 +3,20 @@ package workouts;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import storage.SegmentStore;
 import utility.CustomExceptions;
+import utility.Filters.DataType;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 class WorkoutListsTest {
@@ -206,4 +213,173 @@ class WorkoutListsTest {
                 WorkoutLists.deleteGym(invalidIndex));
 
     }
+
+    /**
+     * Tests the behaviour of removing a run between other workouts.
+     * Verifies whether only that run is removed from the workout list, and the others can still be found by id.
+     *
+     * @throws CustomExceptions.InvalidInput If there are invalid Run input parameters.
+     * @throws CustomExceptions.OutOfBounds  If the index of the run is invalid.
+     */
+    @Test
+    void removeRun_betweenOtherWorkouts_removesOnlyThatRun() throws CustomExceptions.InvalidInput,
+            CustomExceptions.OutOfBounds {
+        // Arrange
+        Run firstRun = new Run("40:10", "10.3", "15-03-2024");
+        Gym gym = new Gym();
+        Run secondRun = new Run("30:10", "5.3", "16-03-2024");
+        Run thirdRun = new Run("20:10", "3.3", "17-03-2024");
+
+        // Act
+        WorkoutLists.removeRun(1);
+
+        // Assert
+        assertEquals(Arrays.asList(firstRun, gym, thirdRun), WorkoutLists.getWorkouts());
+        assertEquals(gym, WorkoutLists.getWorkoutById(gym.getId()));
+        assertEquals(thirdRun, WorkoutLists.getWorkoutById(thirdRun.getId()));
+        assertNull(WorkoutLists.getWorkoutById(secondRun.getId()));
+    }
+
+    /**
+     * Tests the behaviour of getting the workouts within a date range.
+     * Verifies whether only dated workouts within the range are returned, from the earliest date, and that deleted
+     * workouts are no longer returned.
+     *
+     * @throws CustomExceptions.InvalidInput If there are invalid Run input parameters.
+     * @throws CustomExceptions.OutOfBounds  If the index of the run is invalid.
+     */
+    @Test
+    void getWorkoutsBetween_workoutsInAndOutOfRange_returnsWorkoutsInRange() throws CustomExceptions.InvalidInput,
+            CustomExceptions.OutOfBounds {
+        // Arrange
+        Run lateRun = new Run("40:10", "10.3", "20-03-2024");
+        Gym gym = new Gym("10-03-2024");
+        new Run("30:10", "5.3");
+        Run earlyRun = new Run("20:10", "3.3", "01-03-2024");
+        new Run("20:10", "3.3", "01-04-2024");
+        Run deletedRun = new Run("20:10", "3.3", "10-03-2024");
+        WorkoutLists.removeRun(4);
+
+        // Act
+        List<Workout> workouts = WorkoutLists.getWorkoutsBetween(LocalDate.of(2024, 3, 1),
+                LocalDate.of(2024, 3, 31));
+
+        // Assert
+        assertEquals(Arrays.asList(earlyRun, gym, lateRun), workouts);
+        assertEquals(3, WorkoutLists.getWorkoutIndex(earlyRun));
+        assertEquals(-1, WorkoutLists.getRunIndex(deletedRun));
+    }
+
+    /**
+     * Tests the behaviour of getting the gyms with an exercise.
+     * Verifies whether each gym with the exercise is returned once in the order it was added, and that deleted gyms
+     * are no longer returned.
+     *
+     * @throws CustomExceptions.InvalidInput      If there are invalid Gym input parameters.
+     * @throws CustomExceptions.InsufficientInput If there are missing Gym input parameters.
+     * @throws CustomExceptions.OutOfBounds       If the index of the gym is invalid.
+     */
+    @Test
+    void getGymsWithExercise_gymsAddedAndRemoved_returnsGymsWithExercise() throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput, CustomExceptions.OutOfBounds {
+        // Arrange
+        Gym deletedGym = new Gym();
+        deletedGym.addStation("squats", "1", "5", "60.0");
+        Gym firstGym = new Gym();
+        firstGym.addStation("squats", "1", "5", "60.0");
+        firstGym.addStation("bench press", "1", "5", "40.0");
+        firstGym.addStation("squats", "1", "3", "70.0");
+        Gym otherGym = new Gym();
+        otherGym.addStation("deadlift", "1", "5", "100.0");
+        Gym secondGym = new Gym();
+        secondGym.addStation("squats", "1", "5", "62.5");
+        WorkoutLists.removeGym(0);
+
+        // Act
+        List<Gym> squatGyms = WorkoutLists.getGymsWithExercise("squats");
+
+        // Assert
+        assertEquals(Arrays.asList(firstGym, secondGym), squatGyms);
+        assertEquals(Arrays.asList(otherGym), WorkoutLists.getGymsWithExercise("deadlift"));
+        assertTrue(WorkoutLists.getGymsWithExercise("not an exercise").isEmpty());
+    }
+
+    /**
+     * Tests the behaviour of adding a run created before the stored runs are loaded from the data file, and whether
+     * the lists stay in id order so the runs can be deleted.
+     *
+     * @throws CustomExceptions.InvalidInput If there are invalid run input parameters.
+     * @throws CustomExceptions.OutOfBounds  If the index of a run is invalid.
+     */
+    @Test
+    void addRun_afterLazyLoad_keepsListsInIdOrder() throws CustomExceptions.InvalidInput,
+            CustomExceptions.OutOfBounds {
+        // Arrange
+        List<Run> storedRuns = new ArrayList<>();
+        SegmentStore.register(EnumSet.of(DataType.RUN, DataType.GYM), () -> {
+            try {
+                storedRuns.add(new Run("25:00", "5.00", "01-03-2024"));
+                storedRuns.add(new Run("50:00", "10.00", "02-03-2024"));
+            } catch (CustomExceptions.InvalidInput e) {
+                fail("Should not have thrown error here");
+            }
+        });
+
+        // Act
+        Run newRun = new Run("30:00", "6.00", "03-03-2024");
+
+        // Assert
+        assertEquals(Arrays.asList(storedRuns.get(0), storedRuns.get(1), newRun), WorkoutLists.getRuns());
+        assertTrue(storedRuns.get(1).getId() < newRun.getId());
+        assertEquals(2, WorkoutLists.getRunIndex(newRun));
+
+        // Act
+        WorkoutLists.deleteRun(2);
+        WorkoutLists.deleteRun(0);
+
+        // Assert
+        assertEquals(Arrays.asList(storedRuns.get(1)), WorkoutLists.getRuns());
+        assertEquals(Arrays.asList(storedRuns.get(1)), WorkoutLists.getWorkouts());
+    }
+
+    /**
+     * Tests the behaviour of adding a gym created before the stored gyms are loaded from the data file, and whether
+     * the index of gyms by exercise keeps it after the stored gyms.
+     *
+     * @throws CustomExceptions.InvalidInput      If there are invalid Gym input parameters.
+     * @throws CustomExceptions.InsufficientInput If there are missing Gym input parameters.
+     * @throws CustomExceptions.OutOfBounds       If the index of the gym is invalid.
+     */
+    @Test
+    void getGymsWithExercise_gymAddedAfterLazyLoad_keepsGymsInIdOrder() throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput, CustomExceptions.OutOfBounds {
+        // Arrange
+        List<Gym> storedGyms = new ArrayList<>();
+        SegmentStore.register(EnumSet.of(DataType.RUN, DataType.GYM), () -> {
+            try {
+                for (int i = 0; i < 2; i++) {
+                    Gym storedGym = new Gym();
+                    storedGym.addStation("squats", "1", "5", "60.0");
+                    storedGyms.add(storedGym);
+                }
+            } catch (CustomExceptions.InvalidInput | CustomExceptions.InsufficientInput e) {
+                fail("Should not have thrown error here");
+            }
+        });
+
+        // Act
+        Gym newGym = new Gym();
+        newGym.addStation("squats", "1", "5", "62.5");
+
+        // Assert
+        assertEquals(Arrays.asList(storedGyms.get(0), storedGyms.get(1), newGym),
+                WorkoutLists.getGymsWithExercise("squats"));
+
+        // Act
+        WorkoutLists.deleteGym(0);
+
+        // Assert
+        assertEquals(Arrays.asList(storedGyms.get(1), newGym), WorkoutLists.getGymsWithExercise("squats"));
+        assertEquals(Arrays.asList(storedGyms.get(1), newGym), WorkoutLists.getWorkouts());
+    }
 }
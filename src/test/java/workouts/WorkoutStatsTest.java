@@ -0,0 +1,79 @@
+package workouts;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import utility.CustomExceptions;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class WorkoutStatsTest {
+
+    @AfterEach
+    void cleanup() {
+        WorkoutLists.clearWorkoutsRunGym();
+    }
+
+    /**
+     * Tests the behaviour of getting the totals of a date range, and whether only dated workouts within the range
+     * are counted.
+     *
+     * @throws CustomExceptions.InvalidInput      If there are invalid workout input parameters.
+     * @throws CustomExceptions.InsufficientInput If there are missing Gym input parameters.
+     */
+    @Test
+    void getStats_workoutsInAndOutOfRange_returnsTotalsInRange() throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput {
+        // Arrange
+        new Run("25:00", "5.00", "01-03-2024");
+        new Run("01:02:03", "10.25", "31-03-2024");
+        new Run("20:00", "4.00", "01-04-2024");
+        new Run("30:00", "6.00");
+        Gym gym = new Gym("15-03-2024");
+        gym.addStation("squats", "2", "5", "60.0,62.5");
+        gym.addStation("bench press", "1", "10", "40.125");
+
+        // Act
+        StatsSummary march = WorkoutStats.getStats(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31));
+        StatsSummary allTime = WorkoutStats.getStats();
+
+        // Assert
+        assertEquals(2, march.getRunCount());
+        assertEquals(15.25, march.getTotalDistance());
+        assertEquals(1500 + 3723, march.getTotalRunSeconds());
+        assertEquals(1, march.getGymCount());
+        assertEquals(5 * 60.0 + 5 * 62.5 + 10 * 40.125, march.getTotalVolume());
+        assertEquals(4, allTime.getRunCount());
+        assertEquals(25.25, allTime.getTotalDistance());
+    }
+
+    /**
+     * Tests the behaviour of deleting workouts, and whether they are removed from the totals.
+     *
+     * @throws CustomExceptions.InvalidInput      If there are invalid workout input parameters.
+     * @throws CustomExceptions.InsufficientInput If there are missing Gym input parameters.
+     * @throws CustomExceptions.OutOfBounds       If the index of a workout is invalid.
+     */
+    @Test
+    void getStats_workoutsDeleted_removesThemFromTotals() throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput, CustomExceptions.OutOfBounds {
+        // Arrange
+        new Run("25:00", "5.00", "01-03-2024");
+        new Run("30:00", "6.00");
+        Gym gym = new Gym();
+        gym.addStation("squats", "1", "5", "60.0");
+
+        // Act
+        WorkoutLists.removeRun(0);
+        WorkoutLists.removeGym(0);
+        StatsSummary allTime = WorkoutStats.getStats();
+
+        // Assert
+        assertEquals(1, allTime.getRunCount());
+        assertEquals(6.0, allTime.getTotalDistance());
+        assertEquals(0, allTime.getGymCount());
+        assertEquals(0, allTime.getTotalVolume());
+        assertEquals(0, WorkoutStats.getStats(LocalDate.MIN, LocalDate.MAX).getRunCount());
+    }
+}